@@ -0,0 +1,36 @@
+package com.satch_navida.myapplication;
+
+import android.util.Log;
+
+import com.satch_navida.myapplication.logging.Logger;
+
+/**
+ * Reports everything from the core through {@link Log}, for it to show on Logcat.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class AndroidLogger implements Logger {
+	// PUBLIC VARIABLES
+	/**
+	 * The shared instance, as this holds no state.
+	 */
+	public static final AndroidLogger INSTANCE = new AndroidLogger();
+
+	// CONSTRUCTORS
+
+	private AndroidLogger() {
+	}
+
+	// PUBLIC METHODS
+
+	@Override
+	public void debug(String tag, String message) {
+		Log.d(tag, message);
+	}
+
+	@Override
+	public void error(String tag, String message, Throwable throwable) {
+		Log.e(tag, message, throwable);
+	}
+}
@@ -0,0 +1,46 @@
+package com.satch_navida.myapplication;
+
+import android.app.Application;
+
+import com.satch_navida.myapplication.history.HistoryRecorder;
+import com.satch_navida.myapplication.logging.Logging;
+
+import java.io.File;
+
+/**
+ * Holds what lives as long as the process rather than as long as a screen. The history is opened
+ * and loaded into its statistics only once here, in the background, instead of again on every
+ * re-creation of the {@link MainActivity}, such as on a rotation.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class BmiApplication extends Application {
+	// PRIVATE OBJECTS
+	/**
+	 * The measurements taken so far, along with their statistics.
+	 */
+	private HistoryRecorder history;
+
+	@Override
+	public void onCreate() {
+		super.onCreate();
+
+		// Reports the problems found by the core on Logcat.
+		Logging.setLogger(AndroidLogger.INSTANCE);
+
+		// Stored within the app's private files, and loaded on the recorder's own thread.
+		this.history = HistoryRecorder.open(new File(getFilesDir(), "history.bin").toPath());
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the history of measurements, shared by every screen of the process.
+	 *
+	 * @return HistoryRecorder The history, possibly still loading.
+	 */
+	public HistoryRecorder getHistory() {
+		return this.history;
+	}
+}
@@ -0,0 +1,104 @@
+package com.satch_navida.myapplication;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.text.Editable;
+import android.text.TextWatcher;
+
+/**
+ * Runs an action once the text of a field stopped changing for a given delay, instead of on every
+ * keystroke. Every change pushes the action back; thus, typing a whole number only runs it once,
+ * after the last digit.<br>
+ * <br>
+ * The action runs on the main thread. A pending action could be run right away through
+ * {@link #flush()}, such as before submitting the form.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class DebouncedTextWatcher implements TextWatcher {
+	// PUBLIC VARIABLES
+	/**
+	 * The delay used when none is given, in milliseconds.
+	 */
+	public static final long DEFAULT_DELAY = 300;
+
+	// PRIVATE VARIABLES
+	/**
+	 * Posts the action on the main thread.
+	 */
+	private final Handler handler = new Handler(Looper.getMainLooper());
+	/**
+	 * The action to run once the text settled.
+	 */
+	private final Runnable action;
+	/**
+	 * How long the text should stay the same before running the action, in milliseconds.
+	 */
+	private final long delay;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code DebouncedTextWatcher} with the {@link #DEFAULT_DELAY}.
+	 *
+	 * @param action The action to run once the text settled.
+	 */
+	public DebouncedTextWatcher(Runnable action) {
+		this(action, DEFAULT_DELAY);
+	}
+
+	/**
+	 * Creates an instance of {@code DebouncedTextWatcher}.
+	 *
+	 * @param action The action to run once the text settled.
+	 * @param delay How long the text should stay the same before running the action, in milliseconds.
+	 */
+	public DebouncedTextWatcher(Runnable action, long delay) {
+		if (action == null)
+			throw new NullPointerException("\"action\" should not be null.");
+		if (delay < 0)
+			throw new IllegalArgumentException("\"delay\" should not be negative.");
+
+		this.action = action;
+		this.delay = delay;
+	}
+
+	// PUBLIC METHODS
+
+	@Override
+	public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+	}
+
+	@Override
+	public void onTextChanged(CharSequence s, int start, int before, int count) {
+	}
+
+	@Override
+	public void afterTextChanged(Editable s) {
+		this.handler.removeCallbacks(this.action);
+		this.handler.postDelayed(this.action, this.delay);
+	}
+
+	/**
+	 * Runs the pending action right away, if there is one.
+	 *
+	 * @return boolean Returns {@code true} if an action was pending; {@code false} otherwise.
+	 */
+	public boolean flush() {
+		if (!this.handler.hasCallbacks(this.action))
+			return false;
+
+		this.handler.removeCallbacks(this.action);
+		this.action.run();
+
+		return true;
+	}
+
+	/**
+	 * Drops the pending action, if there is one.
+	 */
+	public void cancel() {
+		this.handler.removeCallbacks(this.action);
+	}
+}
@@ -7,12 +7,22 @@ import android.app.AlertDialog.Builder;
 import android.os.Bundle;
 import android.util.Log;
 import android.view.View;
+import android.widget.AdapterView;
 import android.widget.Button;
 import android.widget.EditText;
 import android.widget.Spinner;
 import android.widget.TextView;
 
-import com.satch_navida.myapplication.validation.Validator;
+import com.satch_navida.myapplication.bmi.BmiClassifier;
+import com.satch_navida.myapplication.bmi.BmiEngine;
+import com.satch_navida.myapplication.bmi.BmiForm;
+import com.satch_navida.myapplication.history.HistoryRecorder;
+import com.satch_navida.myapplication.history.HistoryStore;
+import com.satch_navida.myapplication.stats.BmiStatistics;
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+import com.satch_navida.myapplication.validation.IncrementalValidator;
+import com.satch_navida.myapplication.validation.rules.NumberScanner;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,6 +35,30 @@ public class MainActivity extends AppCompatActivity {
 	public Map<String, TextView> validationErrMsg;
 
 	// PRIVATE OBJECTS
+	/**
+	 * The units selected on the spinners, resolved once per selection. Either could be {@code null}
+	 * when nothing is selected.
+	 */
+	private WeightUnit weightUnit;
+	private HeightUnit heightUnit;
+	/**
+	 * The table of cutoffs the BMI is classified with.
+	 */
+	private BmiClassifier classifier = BmiClassifier.WHO;
+	/**
+	 * The measurements taken so far, along with their statistics. Both are only accessed on the
+	 * background thread of the recorder, never on the UI thread, and are kept by the
+	 * {@link BmiApplication} across re-creations of this activity.
+	 */
+	private HistoryRecorder history;
+	/**
+	 * Validates the form one field at a time as it changes, keeping the result of every field.
+	 */
+	private final IncrementalValidator validator = BmiForm.schema().incremental();
+	/**
+	 * Validates the inputs once the user stopped typing on them.
+	 */
+	private DebouncedTextWatcher weightWatcher, heightWatcher;
 
 	@Override
 	protected void onCreate(Bundle savedInstanceState) {
@@ -34,6 +68,15 @@ public class MainActivity extends AppCompatActivity {
 		// CODE START
 		this.initializeObjects();
 		this.initializeValues();
+		this.openHistory();
+	}
+
+	@Override
+	protected void onDestroy() {
+		this.weightWatcher.cancel();
+		this.heightWatcher.cancel();
+
+		super.onDestroy();
 	}
 
 	// PRIVATE METHODS
@@ -67,6 +110,49 @@ public class MainActivity extends AppCompatActivity {
 		this.weightSpinner.setSelection(0);
 		this.heightSpinner.setSelection(0);
 
+		// Resolves the units only when the selection changes, instead of on every submit.
+		this.weightUnit = WeightUnit.find(this.weightSpinner.getSelectedItem().toString());
+		this.heightUnit = HeightUnit.find(this.heightSpinner.getSelectedItem().toString());
+		this.weightSpinner.setOnItemSelectedListener(new AdapterView.OnItemSelectedListener() {
+			@Override
+			public void onItemSelected(AdapterView<?> parent, View view, int position, long id) {
+				weightUnit = WeightUnit.find(parent.getItemAtPosition(position).toString());
+				validateField(BmiForm.WEIGHT_UNIT, parent.getItemAtPosition(position).toString());
+			}
+
+			@Override
+			public void onNothingSelected(AdapterView<?> parent) {
+				weightUnit = null;
+				validateField(BmiForm.WEIGHT_UNIT, "");
+			}
+		});
+		this.heightSpinner.setOnItemSelectedListener(new AdapterView.OnItemSelectedListener() {
+			@Override
+			public void onItemSelected(AdapterView<?> parent, View view, int position, long id) {
+				heightUnit = HeightUnit.find(parent.getItemAtPosition(position).toString());
+				validateField(BmiForm.HEIGHT_UNIT, parent.getItemAtPosition(position).toString());
+
+				// The height is read differently per unit, but is not shown as missing before it is typed.
+				if (validator.isChecked(BmiForm.HEIGHT_VALUE))
+					validateHeight();
+			}
+
+			@Override
+			public void onNothingSelected(AdapterView<?> parent) {
+				heightUnit = null;
+				validateField(BmiForm.HEIGHT_UNIT, "");
+
+				if (validator.isChecked(BmiForm.HEIGHT_VALUE))
+					validateHeight();
+			}
+		});
+
+		// Validates each input as the user types, once the typing settles.
+		this.weightWatcher = new DebouncedTextWatcher(this::validateWeight);
+		this.heightWatcher = new DebouncedTextWatcher(this::validateHeight);
+		this.weightInput.addTextChangedListener(this.weightWatcher);
+		this.heightInput.addTextChangedListener(this.heightWatcher);
+
 		this.submitBtn.setOnClickListener((e) -> {
 			onSubmit();
 		});
@@ -82,104 +168,55 @@ public class MainActivity extends AppCompatActivity {
 	 * Actions to be done when the submit button is clicked.
 	 */
 	private void onSubmit() {
-		String[] ids = new String[] {
-				getElementId(weightInput),
-				getElementId(heightInput),
-				getElementId(weightSpinner),
-				getElementId(heightSpinner)
-		};
-		/**
-		 * The values from the form. They'll be identified using their respective IDs.
-		 */
-		Map<String, Object> values = new HashMap<String, Object>() {
-			{
-				this.put(ids[0], weightInput.getText());
-				this.put(ids[1], heightInput.getText());
-				this.put(ids[2], weightSpinner.getSelectedItem().toString());
-				this.put(ids[3], heightSpinner.getSelectedItem().toString());
-			}
-		};
-
-		/**
-		 * Validation rules for the weight and height input fields.
-		 */
-		Map<String, String[]> rules = new HashMap<String, String[]>() {
-			{
-				this.put(ids[0], new String[] {"Required", "Numeric", "Min:1"});
-				this.put(ids[1], new String[] {"Required", "Numeric", "Min:1"});
-				this.put(ids[2], new String[] {"Required"});
-				this.put(ids[3], new String[] {"Required"});
-			}
-		};
-
-		/**
-		 * Custom validation messages for each rule. This will only be shown if the rules failed.
-		 */
-		Map<String, String> messages = new HashMap<String, String>() {
-			{
-				// Weight Validation Messages
-				this.put(String.format("%1$s.%2$s", ids[0], "Required"), "The weight is required.");
-				this.put(String.format("%1$s.%2$s", ids[0], "Numeric"), "Weight should be a number.");
-				this.put(String.format("%1$s.%2$s", ids[0], "Min"), "The value should be no less than :min.");
-
-				// Height Validation Messages
-				this.put(String.format("%1$s.%2$s", ids[1], "Required"), "The height is required.");
-				this.put(String.format("%1$s.%2$s", ids[1], "Numeric"), "Height should be a number.");
-				this.put(String.format("%1$s.%2$s", ids[1], "Min"), "The value should be no less than :min.");
+		// Validates the inputs still waiting on their delay, along with those never touched.
+		this.weightWatcher.flush();
+		this.heightWatcher.flush();
+
+		if (!this.validator.isChecked(BmiForm.WEIGHT_VALUE))
+			this.validateWeight();
+		if (!this.validator.isChecked(BmiForm.HEIGHT_VALUE))
+			this.validateHeight();
+		if (!this.validator.isChecked(BmiForm.WEIGHT_UNIT))
+			this.validateField(BmiForm.WEIGHT_UNIT, this.weightSpinner.getSelectedItem().toString());
+		if (!this.validator.isChecked(BmiForm.HEIGHT_UNIT))
+			this.validateField(BmiForm.HEIGHT_UNIT, this.heightSpinner.getSelectedItem().toString());
+
+		// Every field is already validated; thus, the whole form is only read from their results.
+		if (this.validator.fails())
+			return;
 
-				// Weight Spinner Validation Message
-				this.put(String.format("%1$s.%2$s", ids[2], "Required"), "The weight type is required.");
+		// If the validation succeeded, convert the values to kilogram and meter first. A height such
+		// as 5'11" was already parsed into decimal feet when it was validated.
+		Object heightValue = this.validator.value(BmiForm.HEIGHT_VALUE);
+		double weight = this.weightUnit.toKilograms(NumberScanner.parse((CharSequence) this.validator.value(BmiForm.WEIGHT_VALUE))),
+				height = this.heightUnit.toMeters(heightValue instanceof Double ? (Double) heightValue : NumberScanner.parse((CharSequence) heightValue));
 
-				// Height Spinner Validation Message
-				this.put(String.format("%1$s.%2$s", ids[3], "Required"), "The height type is required.");
-			}
-		};
-		Validator validator = new Validator(values, rules, messages);
-
-		// If the validation failed...
-		Map<String, Object> validatedFields = validator.validate();
+		// Then pass them here
+		double bmi = this.computeBMI(weight, height);
 
-		if (validator.fails()) {
-			// Iterate through the invalid fields...
-			for (String field : validator.invalidFields())
-				this.validationErrMsg.get(field + "_error_msg").setText(validator.errors().first(field));
+		// Every BMI falls into exactly one category of the table.
+		byte categoryIndex = this.classifier.classify(bmi);
+		String category = this.classifier.nameOf(categoryIndex);
+		String alertMsg = "Your BMI is " + String.format("%.2f", (float) bmi) + " which means you're " + category + ".";
 
-			// Iterate through the valid fields and remove their error message
-			for (String field : validator.validFields())
-				this.validationErrMsg.get(field + "_error_msg").setText("");
+		// The measurement is saved on the recorder's thread; the alert is shown back on the UI thread.
+		this.history.record(HistoryStore.DEFAULT_PROFILE, System.currentTimeMillis(), weight, height, bmi, categoryIndex, this.weightUnit, this.heightUnit)
+				.thenAcceptAsync((snapshot) -> this.showResult(alertMsg, snapshot), getMainExecutor());
+	}
 
-			// Then stop all process from this function.
+	/**
+	 * Shows the BMI along with the average of the measurements, if there are any other.
+	 *
+	 * @param alertMsg The message of the BMI and its category.
+	 * @param snapshot The statistics of the measurements, including this one.
+	 */
+	private void showResult(String alertMsg, BmiStatistics.Snapshot snapshot) {
+		// The activity could be gone by the time the measurement is saved.
+		if (isFinishing() || isDestroyed())
 			return;
-		}
-		// Iterate through the valid fields and remove their error message
-		else {
-			for (String field : validator.validFields())
-				this.validationErrMsg.get(field + "_error_msg").setText("");
-		}
-
-		// If the validation succeeded, convert the values to kilogram and meter first...
-		double weight = Double.parseDouble(validatedFields.get(ids[0]).toString()),
-				height = Double.parseDouble(validatedFields.get(ids[1]).toString());
-
-		if (validatedFields.get(ids[2]).toString().equalsIgnoreCase("lbs"))
-			weight /= 2.205;
 
-		if (validatedFields.get(ids[3]).toString().equalsIgnoreCase("ft/in"))
-			height *= 30.48;
-		height /= 100;
-
-		// Then pass them here
-		double bmi = this.computeBMI(weight, height);
-
-		String alertMsg = "Your BMI is " + String.format("%.2f", (float) bmi) + " which means you're %1$s.";
-		if (bmi < 18.5)
-			alertMsg = String.format(alertMsg, "Underweight");
-		else if (bmi >= 18.5 && bmi <= 24.9)
-			alertMsg = String.format(alertMsg, "Healthy Weight");
-		else if (bmi >= 25.0 && bmi <= 29.9)
-			alertMsg = String.format(alertMsg, "Overweight");
-		else if (bmi > 30)
-			alertMsg = String.format(alertMsg, "Obese");
+		if (snapshot.getCount() > 1)
+			alertMsg += " Your average BMI is " + String.format("%.2f", snapshot.getMean()) + " over " + snapshot.getCount() + " measurements.";
 
 		// Build the alert dialog
 		Builder alert = new AlertDialog.Builder(MainActivity.this);
@@ -191,6 +228,48 @@ public class MainActivity extends AppCompatActivity {
 			.show();
 	}
 
+	/**
+	 * Validates the weight input against its rules.
+	 */
+	private void validateWeight() {
+		this.validateField(BmiForm.WEIGHT_VALUE, this.weightInput.getText().toString());
+	}
+
+	/**
+	 * Validates the height input against its rules. Heights such as 5'11" are validated through
+	 * their decimal value, which depends on the selected unit.
+	 */
+	private void validateHeight() {
+		this.validateField(BmiForm.HEIGHT_VALUE, BmiForm.heightOf(this.heightInput.getText().toString(), this.heightUnit));
+	}
+
+	/**
+	 * Validates a single field, then shows its first error message, or clears it if it passed. Only
+	 * the fields whose rules read this field are validated again and updated along with it.
+	 *
+	 * @param field The name of the field.
+	 * @param value The new value of the field.
+	 */
+	private void validateField(String field, Object value) {
+		this.validator.validate(field, value);
+		this.validationErrMsg.get(field + "_error_msg").setText(this.validator.first(field));
+
+		for (String dependent : BmiForm.schema().dependentsOf(field))
+			this.validationErrMsg.get(dependent + "_error_msg").setText(this.validator.first(dependent));
+	}
+
+	/**
+	 * Fetches the history of measurements, opened once per process. The submit button is only
+	 * enabled once the history is loaded, so that the average shown includes every measurement.
+	 */
+	private void openHistory() {
+		this.history = ((BmiApplication) getApplication()).getHistory();
+
+		this.submitBtn.setEnabled(false);
+		this.history.whenLoaded()
+				.thenRunAsync(() -> this.submitBtn.setEnabled(true), getMainExecutor());
+	}
+
 	/**
 	 * Fetches the provided string ID of an element.
 	 *
@@ -216,8 +295,10 @@ public class MainActivity extends AppCompatActivity {
 	 *
 	 * @return float The expected BMI of the body, based on what the given {@code weight} and
 	 * {@code height} is.
+	 *
+	 * @see BmiEngine
 	 */
 	public double computeBMI(double weight, double height) {
-		return weight / Math.pow(height, 2);
+		return BmiEngine.compute(weight, height);
 	}
 }
\ No newline at end of file
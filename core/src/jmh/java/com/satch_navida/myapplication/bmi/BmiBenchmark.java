@@ -0,0 +1,66 @@
+package com.satch_navida.myapplication.bmi;
+
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single BMI, as computed by {@code MainActivity.computeBMI} through {@link BmiEngine},
+ * along with the unit conversion and the category found on every submit.<br>
+ * <br>
+ * Run it through {@code ./gradlew :core:jmh -Pjmh.include=BmiBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BmiBenchmark {
+	private double[] weights;
+	private double[] heights;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+
+		// Several distinct bodies, so that the computation is not folded into a constant.
+		this.weights = new double[1024];
+		this.heights = new double[1024];
+		for (int i = 0; i < this.weights.length; i++) {
+			this.weights[i] = 40 + random.nextDouble() * 80;
+			this.heights[i] = 140 + random.nextDouble() * 60;
+		}
+	}
+
+	@Benchmark
+	public double computeBMI() {
+		int i = this.next++ & (this.weights.length - 1);
+
+		return BmiEngine.compute(this.weights[i], this.heights[i] / 100);
+	}
+
+	@Benchmark
+	public byte computeAndClassify() {
+		int i = this.next++ & (this.weights.length - 1);
+
+		return BmiEngine.classify(BmiEngine.compute(
+				WeightUnit.KILOGRAM.toKilograms(this.weights[i]),
+				HeightUnit.CENTIMETER.toMeters(this.heights[i])
+		));
+	}
+}
@@ -0,0 +1,98 @@
+package com.satch_navida.myapplication.bmi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the batch {@link BmiEngine} against calling the original scalar formula of
+ * {@code MainActivity.computeBMI} once per body, along with the {@link BmiClassifier} tables.<br>
+ * <br>
+ * Run it through {@code ./gradlew :core:jmh -Pjmh.include=BmiEngineBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BmiEngineBenchmark {
+	@Param({"1024", "1048576"})
+	public int size;
+
+	private double[] weights;
+	private double[] heights;
+	private double[] bmi;
+	private byte[] categories;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+
+		this.weights = new double[this.size];
+		this.heights = new double[this.size];
+		this.bmi = new double[this.size];
+		this.categories = new byte[this.size];
+
+		for (int i = 0; i < this.size; i++) {
+			this.weights[i] = 40 + random.nextDouble() * 80;
+			this.heights[i] = 1.4 + random.nextDouble() * 0.6;
+		}
+
+		BmiEngine.compute(this.weights, this.heights, this.bmi, 0, this.size);
+	}
+
+	@Benchmark
+	public double[] scalar() {
+		for (int i = 0; i < this.size; i++)
+			this.bmi[i] = computeBMI(this.weights[i], this.heights[i]);
+
+		return this.bmi;
+	}
+
+	@Benchmark
+	public double[] batch() {
+		BmiEngine.compute(this.weights, this.heights, this.bmi, 0, this.size);
+
+		return this.bmi;
+	}
+
+	@Benchmark
+	public byte[] batchWithCategories() {
+		BmiEngine.compute(this.weights, this.heights, this.bmi, this.categories, 0, this.size);
+
+		return this.categories;
+	}
+
+	@Benchmark
+	public byte[] classifyWho() {
+		BmiClassifier.WHO.classify(this.bmi, this.categories, 0, this.size);
+
+		return this.categories;
+	}
+
+	@Benchmark
+	public byte[] classifyAsiaPacific() {
+		BmiClassifier.ASIA_PACIFIC.classify(this.bmi, this.categories, 0, this.size);
+
+		return this.categories;
+	}
+
+	/**
+	 * The original formula of {@code MainActivity.computeBMI}, kept as the baseline.
+	 */
+	private static double computeBMI(double weight, double height) {
+		return weight / Math.pow(height, 2);
+	}
+}
@@ -0,0 +1,87 @@
+package com.satch_navida.myapplication.history;
+
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures appending a batch of measurements to a {@link HistoryStore}, and scanning the
+ * measurements of a single profile out of a history shared by several.<br>
+ * <br>
+ * Run it through {@code ./gradlew :core:jmh -Pjmh.include=HistoryStoreBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@org.openjdk.jmh.annotations.Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HistoryStoreBenchmark {
+	private static final int BATCH = 4096;
+	private static final int RECORDS = 100_000;
+	private static final int PROFILES = 8;
+
+	private Path appendFile;
+	private Path scanFile;
+	private HistoryStore appendStore;
+	private HistoryStore scanStore;
+	private long timestamp;
+
+	@Setup(Level.Iteration)
+	public void setUp() throws IOException {
+		this.appendFile = Files.createTempFile("history", ".bin");
+		Files.delete(this.appendFile);
+		this.appendStore = HistoryStore.open(this.appendFile);
+
+		this.scanFile = Files.createTempFile("history", ".bin");
+		Files.delete(this.scanFile);
+		this.scanStore = HistoryStore.open(this.scanFile);
+		for (int i = 0; i < RECORDS; i++)
+			this.scanStore.append(i % PROFILES, i, 70, 1.75, 22.86, (byte) 1, WeightUnit.KILOGRAM, HeightUnit.METER);
+		this.scanStore.flush();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() throws IOException {
+		this.appendStore.close();
+		this.scanStore.close();
+		Files.deleteIfExists(this.appendFile);
+		Files.deleteIfExists(this.scanFile);
+	}
+
+	@Benchmark
+	public long append() throws IOException {
+		for (int i = 0; i < BATCH; i++)
+			this.appendStore.append(HistoryStore.DEFAULT_PROFILE, this.timestamp++, 70, 1.75, 22.86, (byte) 1, WeightUnit.KILOGRAM, HeightUnit.METER);
+		this.appendStore.flush();
+
+		return this.appendStore.size();
+	}
+
+	@Benchmark
+	public double scanProfile() throws IOException {
+		HistoryStore.Cursor cursor = this.scanStore.scan(3, RECORDS / 4, RECORDS / 2);
+		double total = 0;
+
+		while (cursor.next())
+			total += cursor.getBmi();
+
+		return total;
+	}
+}
@@ -0,0 +1,73 @@
+package com.satch_navida.myapplication.pediatric;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scoring a cohort through {@link PediatricBmi}. The table is a synthetic one of the same
+ * shape as the CDC table, a row every half month from 24 to 240.5 months, as only its size matters
+ * here.<br>
+ * <br>
+ * Run it through {@code ./gradlew :core:jmh -Pjmh.include=PediatricBmiBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PediatricBmiBenchmark {
+	private static final int SIZE = 4096;
+
+	private LmsTable table;
+	private double[] ages;
+	private byte[] sexes;
+	private double[] bmi;
+	private double[] zScores;
+	private double[] percentiles;
+	private byte[] categories;
+
+	@Setup
+	public void setUp() throws IOException {
+		StringBuilder csv = new StringBuilder("Sex,Agemos,L,M,S\n");
+		for (int sex = 1; sex <= 2; sex++) {
+			for (double age = 24; age <= 240.5; age += 0.5)
+				csv.append(sex).append(',').append(age).append(',').append(-2 + age / 240).append(',').append(15 + age / 40).append(',').append(0.08 + age / 4000).append('\n');
+		}
+		this.table = LmsTable.parse(new StringReader(csv.toString()));
+
+		Random random = new Random(42);
+		this.ages = new double[SIZE];
+		this.sexes = new byte[SIZE];
+		this.bmi = new double[SIZE];
+		this.zScores = new double[SIZE];
+		this.percentiles = new double[SIZE];
+		this.categories = new byte[SIZE];
+
+		for (int i = 0; i < SIZE; i++) {
+			this.ages[i] = 24 + random.nextDouble() * 216;
+			this.sexes[i] = (byte) (1 + random.nextInt(2));
+			this.bmi[i] = 13 + random.nextDouble() * 15;
+		}
+	}
+
+	@Benchmark
+	public byte[] score() {
+		PediatricBmi.score(this.table, this.ages, this.sexes, this.bmi, this.zScores, this.percentiles, this.categories, 0, SIZE);
+
+		return this.categories;
+	}
+}
@@ -0,0 +1,78 @@
+package com.satch_navida.myapplication.stats;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures updating the statistics with a single BMI, both through {@link BmiStatistics} and
+ * through the {@link TDigest} alone, along with querying a snapshot and a quantile. Each
+ * statistic keeps growing across the iterations, as it would over the life of the app.<br>
+ * <br>
+ * Run it through {@code ./gradlew :core:jmh -Pjmh.include=BmiStatisticsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BmiStatisticsBenchmark {
+	private static final int SIZE = 4096;
+	private static final int PROFILES = 8;
+
+	private BmiStatistics statistics;
+	private TDigest digest;
+	private double[] bmi;
+	private int next;
+	private long timestamp;
+
+	@Setup
+	public void setUp() {
+		this.statistics = new BmiStatistics();
+		this.digest = new TDigest();
+
+		Random random = new Random(42);
+		this.bmi = new double[SIZE];
+		for (int i = 0; i < SIZE; i++)
+			this.bmi[i] = 24 + random.nextGaussian() * 4;
+
+		for (int i = 0; i < 100_000; i++) {
+			this.statistics.add(i % PROFILES, i * 60_000L, this.bmi[i % SIZE]);
+			this.digest.add(this.bmi[i % SIZE]);
+		}
+		this.timestamp = 100_000 * 60_000L;
+	}
+
+	@Benchmark
+	public BmiStatistics add() {
+		int i = this.next++ & (SIZE - 1);
+
+		return this.statistics.add(i % PROFILES, this.timestamp++, this.bmi[i]);
+	}
+
+	@Benchmark
+	public TDigest addDigest() {
+		return this.digest.add(this.bmi[this.next++ & (SIZE - 1)]);
+	}
+
+	@Benchmark
+	public BmiStatistics.Snapshot snapshot() {
+		return this.statistics.snapshot(3);
+	}
+
+	@Benchmark
+	public double quantile() {
+		return this.statistics.quantile(0.95);
+	}
+}
@@ -0,0 +1,84 @@
+package com.satch_navida.myapplication.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the bulk validation of a large set of {@code MainActivity}-like records scales with
+ * the number of threads, against the sequential {@link ValidationSchema#validateAll(List)}. A
+ * {@code threads} of {@code 0} uses every available processor.<br>
+ * <br>
+ * Run it through {@code ./gradlew :core:jmh -Pjmh.include=BulkValidationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkValidationBenchmark {
+	private static final int RECORDS = 200_000;
+
+	@Param({"1", "2", "4", "0"})
+	public int threads;
+
+	private List<Map<String, Object>> records;
+	private ValidationSchema schema;
+	private ForkJoinPool pool;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.records = new ArrayList<Map<String, Object>>(RECORDS);
+		for (int i = 0; i < RECORDS; i++) {
+			Map<String, Object> values = new HashMap<String, Object>();
+			// Every 10th record has an invalid weight, every 25th a missing height.
+			values.put("weight_value", i % 10 == 0 ? "abc" : String.valueOf(40 + i % 80));
+			values.put("height_value", i % 25 == 0 ? "" : String.valueOf(140 + i % 60));
+			values.put("weight_spinner", "kg");
+			values.put("height_spinner", "cm");
+			this.records.add(values);
+		}
+
+		Map<String, String[]> rules = new HashMap<String, String[]>();
+		rules.put("weight_value", new String[] {"Required", "Numeric", "Min:1"});
+		rules.put("height_value", new String[] {"Required", "Numeric", "Min:1"});
+		rules.put("weight_spinner", new String[] {"Required"});
+		rules.put("height_spinner", new String[] {"Required"});
+
+		this.schema = ValidationSchema.compile(rules, null);
+		this.pool = new ForkJoinPool(this.threads > 0 ? this.threads : Runtime.getRuntime().availableProcessors());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.pool.shutdown();
+	}
+
+	@Benchmark
+	public int sequential() {
+		return this.schema.validateAll(this.records).failedCount();
+	}
+
+	@Benchmark
+	public int parallel() {
+		return this.schema.validateAll(this.records, this.pool).failedCount();
+	}
+}
@@ -0,0 +1,89 @@
+package com.satch_navida.myapplication.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations of a {@link MessageBag} holding as many messages as a fully failed
+ * {@code MainActivity} form does.<br>
+ * <br>
+ * Run it through {@code ./gradlew :core:jmh -Pjmh.include=MessageBagBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageBagBenchmark {
+	private static final String[] KEYS = {
+			"weight_value.Required", "weight_value.Numeric", "weight_value.Min",
+			"height_value.Required", "height_value.Numeric", "height_value.Min",
+			"weight_spinner.Required", "height_spinner.Required"
+	};
+
+	private MessageBag bag;
+	private MessageBag other;
+
+	@Setup
+	public void setUp() {
+		this.bag = fill(new MessageBag(), "The value is incorrect.");
+		this.other = fill(new MessageBag(), "The value is still incorrect.");
+	}
+
+	@Benchmark
+	public MessageBag add() {
+		return fill(new MessageBag(), "The value is incorrect.");
+	}
+
+	@Benchmark
+	public String first() {
+		return this.bag.first("height_value");
+	}
+
+	@Benchmark
+	public String getByIndex() {
+		return this.bag.get("height_value", 2);
+	}
+
+	@Benchmark
+	public String[] keys() {
+		return this.bag.keys();
+	}
+
+	@Benchmark
+	public int keysByIndex() {
+		int length = 0;
+		for (int i = 0; i < this.bag.size(); i++)
+			length += this.bag.key(i).length();
+
+		return length;
+	}
+
+	@Benchmark
+	public MessageBag merge() {
+		return new MessageBag().merge(this.bag, this.other);
+	}
+
+	@Benchmark
+	public String toStringAll() {
+		return this.bag.toString();
+	}
+
+	private static MessageBag fill(MessageBag bag, String message) {
+		for (String key : KEYS)
+			bag.add(key, message);
+
+		return bag;
+	}
+}
@@ -0,0 +1,71 @@
+package com.satch_navida.myapplication.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a single validation of the {@code MainActivity} form, comparing a
+ * {@link Validator} that compiles its rules on every run against one bound from a shared
+ * {@link ValidationSchema}.<br>
+ * <br>
+ * Run it through {@code ./gradlew :core:jmh -Pjmh.include=ValidationSchemaBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationSchemaBenchmark {
+	private Map<String, Object> values;
+	private Map<String, String[]> rules;
+	private Map<String, String> messages;
+	private ValidationSchema schema;
+
+	@Setup
+	public void setUp() {
+		this.values = new HashMap<String, Object>();
+		this.values.put("weight_value", "70");
+		this.values.put("height_value", "175");
+		this.values.put("weight_spinner", "kg");
+		this.values.put("height_spinner", "cm");
+
+		this.rules = new HashMap<String, String[]>();
+		this.rules.put("weight_value", new String[] {"Required", "Numeric", "Min:1"});
+		this.rules.put("height_value", new String[] {"Required", "Numeric", "Min:1"});
+		this.rules.put("weight_spinner", new String[] {"Required"});
+		this.rules.put("height_spinner", new String[] {"Required"});
+
+		this.messages = new HashMap<String, String>();
+		this.messages.put("weight_value.Required", "The weight is required.");
+		this.messages.put("weight_value.Numeric", "Weight should be a number.");
+		this.messages.put("weight_value.Min", "The value should be no less than :min.");
+		this.messages.put("height_value.Required", "The height is required.");
+		this.messages.put("height_value.Numeric", "Height should be a number.");
+		this.messages.put("height_value.Min", "The value should be no less than :min.");
+
+		this.schema = ValidationSchema.compile(this.rules, this.messages);
+	}
+
+	@Benchmark
+	public boolean compilePerRun() {
+		return new Validator(this.values, this.rules, this.messages).fails();
+	}
+
+	@Benchmark
+	public boolean sharedSchema() {
+		return this.schema.bind(this.values).fails();
+	}
+}
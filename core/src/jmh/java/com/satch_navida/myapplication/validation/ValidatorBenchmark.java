@@ -0,0 +1,138 @@
+package com.satch_navida.myapplication.validation;
+
+import com.satch_navida.myapplication.bmi.BmiForm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full run of the {@link Validator} over the exact rules and messages of the
+ * {@code MainActivity} form, on inputs that all pass, that all fail, or that alternate between
+ * both. The runs of a whole form are compared against validating a single changed field through
+ * an {@link IncrementalValidator}, as the form does while the user types, and against the same
+ * run while recording into {@link ValidationMetrics}.<br>
+ * <br>
+ * Run it through {@code ./gradlew :core:jmh -Pjmh.include=ValidatorBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+	@Param({"valid", "invalid", "mixed"})
+	public String input;
+
+	private List<Map<String, Object>> values;
+	private Map<String, String[]> rules;
+	private Map<String, String> messages;
+	private ValidationSchema schema;
+	private IncrementalValidator incremental;
+	private ValidationSchema measured;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		this.rules = BmiForm.rules();
+		this.messages = BmiForm.messages();
+		this.schema = BmiForm.schema();
+		this.incremental = this.schema.incremental();
+		this.measured = this.schema.withMetrics(new ValidationMetrics());
+
+		// Several distinct inputs, so that the branches taken are not always the same.
+		this.values = new ArrayList<Map<String, Object>>(16);
+		for (int i = 0; i < 16; i++) {
+			boolean valid = this.input.equals("valid") || (this.input.equals("mixed") && i % 2 == 0);
+
+			this.values.add(valid
+					? valuesOf(String.valueOf(50 + i), "kg", String.valueOf(150 + i), "cm")
+					: valuesOf(i % 3 == 0 ? "" : "abc", "kg", i % 3 == 1 ? "0" : "-" + i, ""));
+		}
+	}
+
+	/**
+	 * The same run as {@code MainActivity.onSubmit} did before the schema was shared: compiling the
+	 * rules, validating, then reading the first message of every field.
+	 */
+	@Benchmark
+	public int runValidation() {
+		return firstMessages(new Validator(this.nextValues(), this.rules, this.messages));
+	}
+
+	/**
+	 * The same run as {@code MainActivity.onSubmit} does now, through the shared schema.
+	 */
+	@Benchmark
+	public int runValidationShared() {
+		return firstMessages(this.schema.bind(this.nextValues()));
+	}
+
+	/**
+	 * Validating through the shared schema, without reading the messages.
+	 */
+	@Benchmark
+	public boolean fails() {
+		return this.schema.bind(this.nextValues()).fails();
+	}
+
+	/**
+	 * The same as {@link #fails()}, while counting and timing every rule and field.
+	 */
+	@Benchmark
+	public boolean failsMeasured() {
+		return this.measured.bind(this.nextValues()).fails();
+	}
+
+	/**
+	 * The same work as {@code MainActivity} does once the weight input settled: validating only the
+	 * weight, reading its first message, then the state of the whole form from the kept results.
+	 */
+	@Benchmark
+	public int validateChangedField() {
+		Object weight = this.nextValues().get(BmiForm.WEIGHT_VALUE);
+
+		this.incremental.validate(BmiForm.WEIGHT_VALUE, weight);
+		return this.incremental.first(BmiForm.WEIGHT_VALUE).length() + (this.incremental.passes() ? 1 : 0);
+	}
+
+	private Map<String, Object> nextValues() {
+		return this.values.get(this.next++ & (this.values.size() - 1));
+	}
+
+	private static int firstMessages(Validator validator) {
+		if (!validator.fails())
+			return 0;
+
+		int length = 0;
+		for (String field : validator.invalidFields())
+			length += validator.first(field).length();
+
+		return length;
+	}
+
+	private static Map<String, Object> valuesOf(String weight, String weightUnit, String height, String heightUnit) {
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put(BmiForm.WEIGHT_VALUE, weight);
+		values.put(BmiForm.WEIGHT_UNIT, weightUnit);
+		values.put(BmiForm.HEIGHT_VALUE, height);
+		values.put(BmiForm.HEIGHT_UNIT, heightUnit);
+
+		return values;
+	}
+}
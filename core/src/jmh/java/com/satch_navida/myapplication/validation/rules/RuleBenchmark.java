@@ -0,0 +1,71 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import com.satch_navida.myapplication.validation.RuleRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every built-in rule on its own, from creating it as the {@link RuleRegistry} does to
+ * getting its outcome, through both the deprecated {@link Rule#validate()} and {@link Rule#check()}.<br>
+ * <br>
+ * Run it through {@code ./gradlew :core:jmh -Pjmh.include=RuleBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleBenchmark {
+	@Param({"Required", "Nullable", "Sometimes", "Boolean", "Numeric", "Min", "Max", "Between"})
+	public String rule;
+
+	@Param({"70", "abc"})
+	public String value;
+
+	private RuleFactory factory;
+	private Object[] validatorValues;
+
+	@Setup
+	public void setUp() {
+		this.factory = RuleRegistry.defaults().resolve(this.rule);
+
+		switch (this.rule) {
+			case "Min":
+				this.validatorValues = new Object[] {"1"};
+				break;
+			case "Max":
+				this.validatorValues = new Object[] {"300"};
+				break;
+			case "Between":
+				this.validatorValues = new Object[] {"1", "300"};
+				break;
+			default:
+				this.validatorValues = null;
+		}
+	}
+
+	@Benchmark
+	@SuppressWarnings("deprecation")
+	public HashMap<String, Object> validate() throws Exception {
+		return this.factory.create("weight_value", this.value, null, this.validatorValues).validate();
+	}
+
+	@Benchmark
+	public int check() throws Exception {
+		return this.factory.create("weight_value", this.value, null, this.validatorValues).check();
+	}
+}
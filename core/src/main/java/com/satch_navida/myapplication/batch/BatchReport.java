@@ -0,0 +1,87 @@
+package com.satch_navida.myapplication.batch;
+
+import java.util.Locale;
+
+/**
+ * The summary of a batch run, as returned by {@link CsvBatchProcessor#process}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class BatchReport {
+	// PRIVATE VARIABLES
+	/**
+	 * The number of rows processed.
+	 */
+	private final long rows;
+	/**
+	 * The number of rows that failed the validation.
+	 */
+	private final long failedRows;
+	/**
+	 * The time the run took, in nanoseconds.
+	 */
+	private final long elapsedNanos;
+
+	// CONSTRUCTORS
+
+	BatchReport(long rows, long failedRows, long elapsedNanos) {
+		this.rows = rows;
+		this.failedRows = failedRows;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the number of rows processed, excluding the header and the blank lines.
+	 *
+	 * @return long The number of rows.
+	 */
+	public long rows() {
+		return this.rows;
+	}
+
+	/**
+	 * Fetches the number of rows that failed the validation.
+	 *
+	 * @return long The number of failed rows.
+	 */
+	public long failedRows() {
+		return this.failedRows;
+	}
+
+	/**
+	 * Fetches the time the run took.
+	 *
+	 * @return long The elapsed time, in nanoseconds.
+	 */
+	public long elapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	/**
+	 * Computes the throughput of the run.
+	 *
+	 * @return double The number of rows processed per second.
+	 */
+	public double rowsPerSecond() {
+		return this.elapsedNanos == 0 ? 0 : this.rows * 1e9 / this.elapsedNanos;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"[%1$s]: {rows: %2$d, failedRows: %3$d, elapsed: %4$.3fs, rowsPerSecond: %5$.0f}",
+				this.getClass().getSimpleName(),
+				this.rows,
+				this.failedRows,
+				this.elapsedNanos / 1e9,
+				this.rowsPerSecond()
+		);
+	}
+}
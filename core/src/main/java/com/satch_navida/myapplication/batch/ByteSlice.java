@@ -0,0 +1,78 @@
+package com.satch_navida.myapplication.batch;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable view over a range of bytes of a {@link ByteBuffer}, read as single-byte characters.
+ * Used to hand the cells of a file to the rules without creating a {@link String} per cell; only
+ * {@link #toString()} copies the bytes.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+final class ByteSlice implements CharSequence {
+	// PRIVATE VARIABLES
+	/**
+	 * The buffer the bytes are read from.
+	 */
+	private ByteBuffer buffer;
+	/**
+	 * The index of the first byte, inclusive.
+	 */
+	private int start;
+	/**
+	 * The index of the last byte, exclusive.
+	 */
+	private int end;
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Points this slice to another range of bytes.
+	 *
+	 * @param buffer The buffer the bytes are read from.
+	 * @param start The index of the first byte, inclusive.
+	 * @param end The index of the last byte, exclusive.
+	 *
+	 * @return ByteSlice This instance of {@code ByteSlice}.
+	 */
+	ByteSlice set(ByteBuffer buffer, int start, int end) {
+		this.buffer = buffer;
+		this.start = start;
+		this.end = end;
+
+		return this;
+	}
+
+	// PUBLIC METHODS
+
+	@Override
+	public int length() {
+		return this.end - this.start;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= this.length())
+			throw new IndexOutOfBoundsException("Provided index (" + index + ") is out of bounds for length " + this.length() + ".");
+
+		return (char) (this.buffer.get(this.start + index) & 0xFF);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		if (start < 0 || end > this.length() || start > end)
+			throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is out of bounds for length " + this.length() + ".");
+
+		return new ByteSlice().set(this.buffer, this.start + start, this.start + end);
+	}
+
+	@Override
+	public String toString() {
+		char[] chars = new char[this.length()];
+		for (int i = 0; i < chars.length; i++)
+			chars[i] = (char) (this.buffer.get(this.start + i) & 0xFF);
+
+		return new String(chars);
+	}
+}
@@ -0,0 +1,589 @@
+package com.satch_navida.myapplication.batch;
+
+import com.satch_navida.myapplication.bmi.BmiClassifier;
+import com.satch_navida.myapplication.bmi.BmiEngine;
+import com.satch_navida.myapplication.bmi.BmiForm;
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+import com.satch_navida.myapplication.validation.BulkValidationResult;
+import com.satch_navida.myapplication.validation.MessageBag;
+import com.satch_navida.myapplication.validation.ValidationSchema;
+import com.satch_navida.myapplication.validation.rules.NumberScanner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Runs a CSV file of {@code weight,weightUnit,height,heightUnit} rows through the same validation,
+ * unit conversion, BMI and category as the {@code MainActivity} form, writing a
+ * {@code line,bmi,category,errors} row for each of them.<br>
+ * <br>
+ * The input is read through memory-mapped windows of the file, and every cell is handed to the rules
+ * as a view over the mapped bytes instead of a {@link String}. The rows are validated in chunks of a
+ * fixed size, reusing the same arrays for every chunk, and the output is written through a single
+ * buffer; thus, the memory used stays the same however large the file is.<br>
+ * <br>
+ * The cells are expected to be plain ASCII without any quoting, which is all a number or a unit
+ * ever needs. The units are any symbol known to {@link WeightUnit} and {@link HeightUnit}, such as
+ * {@code kg} or {@code ft/in}; the latter also accepting heights such as {@code 5'11"}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class CsvBatchProcessor {
+	// PUBLIC VARIABLES
+	/**
+	 * The default size of each memory-mapped window of the input, in bytes.
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 32 << 20;
+
+	// PRIVATE VARIABLES
+	/**
+	 * The number of rows validated at once.
+	 */
+	private static final int CHUNK_ROWS = 4096;
+	/**
+	 * The size of the output buffer, in bytes.
+	 */
+	private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+	/**
+	 * The number of cells of a row.
+	 */
+	private static final int CELLS = 4;
+	/**
+	 * The fields of the cells of a row, in the order they are written on the file.
+	 */
+	private static final String[] FIELDS = {BmiForm.WEIGHT_VALUE, BmiForm.WEIGHT_UNIT, BmiForm.HEIGHT_VALUE, BmiForm.HEIGHT_UNIT};
+
+	/**
+	 * The compiled rules and messages the rows are validated against.
+	 */
+	private final ValidationSchema schema;
+	/**
+	 * The size of each memory-mapped window of the input, in bytes. A single line must fit in it.
+	 */
+	private final int windowSize;
+	/**
+	 * The table of cutoffs the BMI are classified with.
+	 */
+	private final BmiClassifier classifier;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code CsvBatchProcessor} using the rules of the {@link BmiForm} and
+	 * the {@link BmiClassifier#WHO} cutoffs.
+	 */
+	public CsvBatchProcessor() {
+		this(BmiForm.schema(), DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Creates an instance of {@code CsvBatchProcessor} using the {@link BmiClassifier#WHO} cutoffs.
+	 *
+	 * @param schema The compiled rules and messages the rows are validated against.
+	 * @param windowSize The size of each memory-mapped window of the input, in bytes. A single line must fit in it.
+	 */
+	public CsvBatchProcessor(ValidationSchema schema, int windowSize) {
+		this(schema, windowSize, BmiClassifier.WHO);
+	}
+
+	/**
+	 * Creates an instance of {@code CsvBatchProcessor}.
+	 *
+	 * @param schema The compiled rules and messages the rows are validated against.
+	 * @param windowSize The size of each memory-mapped window of the input, in bytes. A single line must fit in it.
+	 * @param classifier The table of cutoffs the BMI are classified with.
+	 */
+	public CsvBatchProcessor(ValidationSchema schema, int windowSize, BmiClassifier classifier) {
+		if (schema == null)
+			throw new NullPointerException("\"schema\" should not be null.");
+		if (windowSize <= 0)
+			throw new IllegalArgumentException("\"windowSize\" should be positive.");
+		if (classifier == null)
+			throw new NullPointerException("\"classifier\" should not be null.");
+
+		this.schema = schema;
+		this.windowSize = windowSize;
+		this.classifier = classifier;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Processes every row of the input file, writing the results to the output file. The output
+	 * file is created, or overwritten if it already exists.
+	 *
+	 * @param input The CSV file to read.
+	 * @param output The CSV file to write.
+	 * @param header Whether the first line of the input is a header, which is then skipped.
+	 *
+	 * @return BatchReport The number of rows processed and failed, along with the throughput.
+	 *
+	 * @throws IOException When a file could not be read or written, or a line does not fit in a window.
+	 */
+	public BatchReport process(Path input, Path output, boolean header) throws IOException {
+		long start = System.nanoTime();
+
+		try (
+				FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+		) {
+			Run run = new Run(new Output(out), header);
+			run.output.put("line,bmi,category,errors\n");
+
+			long size = in.size();
+			long position = 0;
+
+			while (position < size) {
+				long length = Math.min(this.windowSize, size - position);
+				boolean last = position + length == size;
+				MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+				int consumed = run.readLines(window, (int) length, last);
+				if (consumed == 0)
+					throw new IOException("Line " + (run.line + 1) + " does not fit in a window of " + this.windowSize + " bytes.");
+
+				// The cells point to this window, thus they are processed before the next one is mapped.
+				run.flush();
+				position += consumed;
+			}
+
+			run.flush();
+			run.output.flush();
+
+			return new BatchReport(run.rows, run.failedRows, System.nanoTime() - start);
+		}
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The state of a single run, holding the arrays reused by every chunk of rows.
+	 */
+	private final class Run {
+		/**
+		 * Where the results are written on.
+		 */
+		final Output output;
+		/**
+		 * Whether the first line is a header.
+		 */
+		final boolean header;
+		/**
+		 * The cells of the current chunk, one column per field.
+		 */
+		final ByteSlice[][] cells = new ByteSlice[CELLS][CHUNK_ROWS];
+		/**
+		 * The heights of the current chunk to validate, as given by {@link BmiForm#heightOf(CharSequence, HeightUnit)}.
+		 */
+		final Object[] heightValues = new Object[CHUNK_ROWS];
+		/**
+		 * The cells to validate, keyed by their field.
+		 */
+		final Map<String, Object[]> columns = new HashMap<String, Object[]>();
+		/**
+		 * The unit of the weight of each row of the current chunk. Could be {@code null}.
+		 */
+		final WeightUnit[] weightUnits = new WeightUnit[CHUNK_ROWS];
+		/**
+		 * The unit of the height of each row of the current chunk. Could be {@code null}.
+		 */
+		final HeightUnit[] heightUnits = new HeightUnit[CHUNK_ROWS];
+		/**
+		 * The line number of each row of the current chunk.
+		 */
+		final long[] lines = new long[CHUNK_ROWS];
+		/**
+		 * The number of cells of each row of the current chunk.
+		 */
+		final int[] cellCounts = new int[CHUNK_ROWS];
+		/**
+		 * The weight of each row of the current chunk, in kilograms.
+		 */
+		final double[] weights = new double[CHUNK_ROWS];
+		/**
+		 * The height of each row of the current chunk, in meters.
+		 */
+		final double[] heights = new double[CHUNK_ROWS];
+		/**
+		 * The BMI of each row of the current chunk.
+		 */
+		final double[] bmi = new double[CHUNK_ROWS];
+		/**
+		 * The category of each row of the current chunk.
+		 */
+		final byte[] categories = new byte[CHUNK_ROWS];
+
+		/**
+		 * The number of rows within the current chunk.
+		 */
+		int count = 0;
+		/**
+		 * The number of lines read so far.
+		 */
+		long line = 0;
+		/**
+		 * The number of rows processed so far.
+		 */
+		long rows = 0;
+		/**
+		 * The number of rows that failed so far.
+		 */
+		long failedRows = 0;
+
+		Run(Output output, boolean header) {
+			this.output = output;
+			this.header = header;
+
+			for (int cell = 0; cell < CELLS; cell++) {
+				for (int row = 0; row < CHUNK_ROWS; row++)
+					this.cells[cell][row] = new ByteSlice();
+
+				this.columns.put(FIELDS[cell], this.cells[cell]);
+			}
+
+			this.columns.put(BmiForm.HEIGHT_VALUE, this.heightValues);
+		}
+
+		/**
+		 * Reads the complete lines of a window.
+		 *
+		 * @param window The window of the file.
+		 * @param length The number of bytes of the window.
+		 * @param last Whether this is the last window, where the last line need not end with a line break.
+		 *
+		 * @return int The number of bytes consumed, up to the end of the last complete line.
+		 *
+		 * @throws IOException When the results could not be written.
+		 */
+		int readLines(ByteBuffer window, int length, boolean last) throws IOException {
+			int lineStart = 0;
+
+			for (int i = 0; i < length; i++) {
+				if (window.get(i) == '\n') {
+					this.readLine(window, lineStart, i);
+					lineStart = i + 1;
+				}
+			}
+
+			if (last && lineStart < length) {
+				this.readLine(window, lineStart, length);
+				lineStart = length;
+			}
+
+			return lineStart;
+		}
+
+		/**
+		 * Splits a line into its cells, adding it as a row of the current chunk.
+		 *
+		 * @param window The window of the file.
+		 * @param start The index of the first byte of the line.
+		 * @param end The index of the line break, or the end of the window.
+		 *
+		 * @throws IOException When the results could not be written.
+		 */
+		void readLine(ByteBuffer window, int start, int end) throws IOException {
+			this.line++;
+
+			if (this.header && this.line == 1)
+				return;
+
+			// Skips the blank lines, which are often found at the end of a file.
+			int trimmed = start;
+			while (trimmed < end && window.get(trimmed) <= ' ')
+				trimmed++;
+			if (trimmed == end)
+				return;
+
+			int row = this.count;
+			int cell = 0;
+			int cellStart = start;
+
+			for (int i = start; i <= end; i++) {
+				if (i < end && window.get(i) != ',')
+					continue;
+
+				if (cell < CELLS)
+					this.slice(this.cells[cell][row], window, cellStart, i);
+
+				cell++;
+				cellStart = i + 1;
+			}
+
+			// Rows with missing cells are still validated, with those cells left empty.
+			for (int empty = cell; empty < CELLS; empty++)
+				this.cells[empty][row].set(window, start, start);
+
+			this.lines[row] = this.line;
+			this.cellCounts[row] = cell;
+
+			if (++this.count == CHUNK_ROWS)
+				this.flush();
+		}
+
+		/**
+		 * Validates the rows of the current chunk, then writes their results.
+		 *
+		 * @throws IOException When the results could not be written.
+		 */
+		void flush() throws IOException {
+			if (this.count == 0)
+				return;
+
+			// The units are resolved once per row, then reused for both the validation and the conversion.
+			for (int row = 0; row < this.count; row++) {
+				this.weightUnits[row] = WeightUnit.find(this.cells[1][row]);
+				this.heightUnits[row] = HeightUnit.find(this.cells[3][row]);
+				this.heightValues[row] = BmiForm.heightOf(this.cells[2][row], this.heightUnits[row]);
+			}
+
+			BulkValidationResult result = schema.validateColumns(this.columns, this.count);
+
+			for (int row = 0; row < this.count; row++) {
+				if (this.cellCounts[row] != CELLS || result.fails(row)) {
+					this.weights[row] = Double.NaN;
+					this.heights[row] = Double.NaN;
+				}
+				else {
+					this.weights[row] = this.weightUnits[row].toKilograms(NumberScanner.parse(this.cells[0][row]));
+					// A height written in parts was already parsed for the validation.
+					Object height = this.heightValues[row];
+					this.heights[row] = this.heightUnits[row].toMeters(height instanceof Double ? (Double) height : NumberScanner.parse(this.cells[2][row]));
+				}
+			}
+
+			BmiEngine.compute(this.weights, this.heights, this.bmi, 0, this.count);
+			classifier.classify(this.bmi, this.categories, 0, this.count);
+
+			for (int row = 0; row < this.count; row++) {
+				this.output.putLong(this.lines[row]);
+
+				if (this.cellCounts[row] != CELLS) {
+					this.failedRows++;
+					this.output.put(",,,\"Expected " + CELLS + " cells, found " + this.cellCounts[row] + ".\"\n");
+				}
+				else if (result.fails(row)) {
+					this.failedRows++;
+					this.output.put(",,,");
+					this.output.putQuoted(result.errors(row));
+					this.output.put('\n');
+				}
+				else if (!Double.isFinite(this.bmi[row])) {
+					// Valid values could still be extreme enough to overflow once converted or divided.
+					this.failedRows++;
+					this.output.put(",,,\"The BMI is out of range.\"\n");
+				}
+				else {
+					this.output.put(',');
+					this.output.putDecimal(this.bmi[row]);
+					this.output.put(',');
+					this.output.put(classifier.nameOf(this.categories[row]));
+					this.output.put(",\n");
+				}
+			}
+
+			this.rows += this.count;
+			this.count = 0;
+		}
+
+		/**
+		 * Points a cell to the given range of bytes, without the surrounding whitespace.
+		 *
+		 * @param slice The cell.
+		 * @param window The window of the file.
+		 * @param start The index of the first byte.
+		 * @param end The index of the last byte, exclusive.
+		 */
+		void slice(ByteSlice slice, ByteBuffer window, int start, int end) {
+			while (start < end && window.get(start) <= ' ')
+				start++;
+			while (end > start && window.get(end - 1) <= ' ')
+				end--;
+
+			slice.set(window, start, end);
+		}
+	}
+
+	/**
+	 * Writes the results through a single reused buffer, encoding the text as UTF-8.
+	 */
+	private static final class Output {
+		/**
+		 * The file the results are written to.
+		 */
+		private final FileChannel channel;
+		/**
+		 * The buffer the results are written on before being written to the file.
+		 */
+		private final ByteBuffer buffer = ByteBuffer.allocate(OUTPUT_BUFFER_SIZE);
+		/**
+		 * The digits of a number, written backwards.
+		 */
+		private final byte[] digits = new byte[20];
+
+		Output(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		/**
+		 * Writes a single ASCII character.
+		 *
+		 * @param c The character.
+		 *
+		 * @throws IOException When the buffer could not be written to the file.
+		 */
+		void put(char c) throws IOException {
+			this.ensure(1);
+			this.buffer.put((byte) c);
+		}
+
+		/**
+		 * Writes a text.
+		 *
+		 * @param text The text.
+		 *
+		 * @throws IOException When the buffer could not be written to the file.
+		 */
+		void put(CharSequence text) throws IOException {
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				this.ensure(4);
+
+				if (c < 0x80) {
+					this.buffer.put((byte) c);
+				}
+				else if (c < 0x800) {
+					this.buffer.put((byte) (0xC0 | c >> 6));
+					this.buffer.put((byte) (0x80 | c & 0x3F));
+				}
+				else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+					int codePoint = Character.toCodePoint(c, text.charAt(++i));
+
+					this.buffer.put((byte) (0xF0 | codePoint >> 18));
+					this.buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+					this.buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+					this.buffer.put((byte) (0x80 | codePoint & 0x3F));
+				}
+				else {
+					this.buffer.put((byte) (0xE0 | c >> 12));
+					this.buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+					this.buffer.put((byte) (0x80 | c & 0x3F));
+				}
+			}
+		}
+
+		/**
+		 * Writes every message of the given bag as a single quoted cell, such as
+		 * {@code "weight_value: The weight is required."}.
+		 *
+		 * @param errors The messages.
+		 *
+		 * @throws IOException When the buffer could not be written to the file.
+		 */
+		void putQuoted(MessageBag errors) throws IOException {
+			this.put('"');
+
+			boolean first = true;
+			for (String field : FIELDS) {
+				Map<String, String> messages = errors.get(field);
+				if (messages == null)
+					continue;
+
+				for (String message : messages.values()) {
+					if (!first)
+						this.put("; ");
+					first = false;
+
+					this.put(field);
+					this.put(": ");
+					// Quotes within a quoted cell are escaped by doubling them.
+					this.put(message.indexOf('"') < 0 ? message : message.replace("\"", "\"\""));
+				}
+			}
+
+			this.put('"');
+		}
+
+		/**
+		 * Writes a whole number.
+		 *
+		 * @param value The number.
+		 *
+		 * @throws IOException When the buffer could not be written to the file.
+		 */
+		void putLong(long value) throws IOException {
+			if (value < 0) {
+				this.put('-');
+				value = -value;
+			}
+
+			int length = 0;
+			do {
+				this.digits[length++] = (byte) ('0' + value % 10);
+				value /= 10;
+			} while (value > 0);
+
+			this.ensure(length);
+			while (length > 0)
+				this.buffer.put(this.digits[--length]);
+		}
+
+		/**
+		 * Writes a number rounded to two decimal places, the same as the {@code MainActivity} shows.
+		 *
+		 * @param value The number.
+		 *
+		 * @throws IOException When the buffer could not be written to the file.
+		 */
+		void putDecimal(double value) throws IOException {
+			// Beyond this, the value scaled by 100 no longer fits in a long.
+			if (Double.isNaN(value) || Double.isInfinite(value) || Math.abs(value) >= 1e15) {
+				this.put(Double.toString(value));
+				return;
+			}
+
+			long scaled = Math.round(value * 100);
+			if (scaled < 0) {
+				this.put('-');
+				scaled = -scaled;
+			}
+
+			this.putLong(scaled / 100);
+			this.put('.');
+			this.put((char) ('0' + scaled / 10 % 10));
+			this.put((char) ('0' + scaled % 10));
+		}
+
+		/**
+		 * Writes the buffer to the file.
+		 *
+		 * @throws IOException When the buffer could not be written to the file.
+		 */
+		void flush() throws IOException {
+			this.buffer.flip();
+			while (this.buffer.hasRemaining())
+				this.channel.write(this.buffer);
+			this.buffer.clear();
+		}
+
+		/**
+		 * Makes room for the given number of bytes, writing the buffer to the file if needed.
+		 *
+		 * @param bytes The number of bytes needed.
+		 *
+		 * @throws IOException When the buffer could not be written to the file.
+		 */
+		private void ensure(int bytes) throws IOException {
+			if (this.buffer.remaining() < bytes)
+				this.flush();
+		}
+	}
+}
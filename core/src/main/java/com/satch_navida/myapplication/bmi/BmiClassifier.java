@@ -0,0 +1,198 @@
+package com.satch_navida.myapplication.bmi;
+
+import java.util.Arrays;
+
+/**
+ * Finds the category of a BMI from a table of cutoffs, wherein the category is the number of
+ * cutoffs the BMI reached. Thus, every BMI falls into exactly one category, without any gap between
+ * two of them.<br>
+ * <br>
+ * The cutoffs are searched through a binary search of a fixed number of steps, where each step
+ * picks its half through a conditional move instead of a branch; thus, finding a category neither
+ * allocates nor depends on how predictable the BMIs are. A {@link Double#NaN} reaches no cutoff and
+ * falls into the first category, thus should be filtered out beforehand.<br>
+ * <br>
+ * A {@code BmiClassifier} is immutable and thus, can be shared freely across threads.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class BmiClassifier {
+	// PUBLIC VARIABLES
+	/**
+	 * The cutoffs of the World Health Organization for adults, the same ones used by {@link BmiEngine#classify(double)}.
+	 */
+	public static final BmiClassifier WHO = new BmiClassifier(
+			"WHO",
+			new double[] {18.5, 25.0, 30.0},
+			new String[] {"Underweight", "Healthy Weight", "Overweight", "Obese"}
+	);
+	/**
+	 * The cutoffs proposed by the World Health Organization for adults of the Asia-Pacific region,
+	 * which are lower than the general ones.
+	 */
+	public static final BmiClassifier ASIA_PACIFIC = new BmiClassifier(
+			"Asia-Pacific",
+			new double[] {18.5, 23.0, 25.0, 30.0},
+			new String[] {"Underweight", "Healthy Weight", "Overweight", "Obese I", "Obese II"}
+	);
+
+	// PRIVATE VARIABLES
+	/**
+	 * The name of this table, such as {@code "WHO"}.
+	 */
+	private final String name;
+	/**
+	 * The cutoffs, in ascending order.
+	 */
+	private final double[] cutoffs;
+	/**
+	 * The cutoffs padded with {@link Double#POSITIVE_INFINITY} up to one less than a power of two,
+	 * so that the search always takes the same number of steps without going out of bounds.
+	 */
+	private final double[] search;
+	/**
+	 * The first step of the search; half of the padded size.
+	 */
+	private final int firstStep;
+	/**
+	 * The names of the categories, one more than the cutoffs.
+	 */
+	private final String[] categories;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code BmiClassifier}.
+	 *
+	 * @param name The name of the table, such as {@code "WHO"}.
+	 * @param cutoffs The lowest BMI of every category but the first, in strictly ascending order.
+	 * @param categories The names of the categories, one more than the cutoffs.
+	 *
+	 * @throws IllegalArgumentException When the cutoffs are not finite and strictly ascending, or
+	 * the number of categories does not match.
+	 */
+	public BmiClassifier(String name, double[] cutoffs, String[] categories) {
+		if (name == null)
+			throw new NullPointerException("\"name\" should not be null.");
+		if (cutoffs == null)
+			throw new NullPointerException("\"cutoffs\" should not be null.");
+		if (categories == null)
+			throw new NullPointerException("\"categories\" should not be null.");
+		if (categories.length != cutoffs.length + 1)
+			throw new IllegalArgumentException("There should be exactly one more category than there are cutoffs.");
+		if (categories.length > Byte.MAX_VALUE)
+			throw new IllegalArgumentException("There should be no more than " + Byte.MAX_VALUE + " categories.");
+
+		for (int i = 0; i < cutoffs.length; i++) {
+			if (Double.isNaN(cutoffs[i]) || Double.isInfinite(cutoffs[i]))
+				throw new IllegalArgumentException("The cutoffs should be finite.");
+			if (i > 0 && cutoffs[i] <= cutoffs[i - 1])
+				throw new IllegalArgumentException("The cutoffs should be in strictly ascending order.");
+		}
+
+		this.name = name;
+		this.cutoffs = cutoffs.clone();
+		this.categories = categories.clone();
+
+		int size = cutoffs.length == 0 ? 1 : Integer.highestOneBit(cutoffs.length) << 1;
+		this.search = Arrays.copyOf(this.cutoffs, size - 1);
+		Arrays.fill(this.search, cutoffs.length, size - 1, Double.POSITIVE_INFINITY);
+		this.firstStep = size >>> 1;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the category of a single BMI.
+	 *
+	 * @param bmi The BMI.
+	 *
+	 * @return byte The category, as the index of its name within {@link #getCategories()}.
+	 */
+	public byte classify(double bmi) {
+		double[] search = this.search;
+		int index = 0;
+
+		for (int step = this.firstStep; step > 0; step >>>= 1)
+			index = search[index + step - 1] <= bmi ? index + step : index;
+
+		// Only an infinite BMI goes past the padding.
+		return (byte) Math.min(index, this.cutoffs.length);
+	}
+
+	/**
+	 * Fetches the category of every BMI within the given range.
+	 *
+	 * @param bmi The BMI of the bodies.
+	 * @param categories Where the category of each body is written on, at the same index.
+	 * @param offset The index of the first body.
+	 * @param length The number of bodies.
+	 *
+	 * @throws IndexOutOfBoundsException When the range is out of bounds of any of the arrays.
+	 */
+	public void classify(double[] bmi, byte[] categories, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > bmi.length || offset + length > categories.length)
+			throw new IndexOutOfBoundsException("The range [" + offset + ", " + (offset + length) + ") is out of bounds.");
+
+		for (int i = offset, end = offset + length; i < end; i++)
+			categories[i] = this.classify(bmi[i]);
+	}
+
+	/**
+	 * Fetches the display name of the given category.
+	 *
+	 * @param category The category, as returned by {@link #classify(double)}.
+	 *
+	 * @return String The name of the category, such as {@code "Healthy Weight"}.
+	 *
+	 * @throws IllegalArgumentException When the category is unknown.
+	 */
+	public String nameOf(byte category) {
+		if (category < 0 || category >= this.categories.length)
+			throw new IllegalArgumentException("Unknown category: " + category);
+
+		return this.categories[category];
+	}
+
+	/**
+	 * Fetches the name of this table.
+	 *
+	 * @return String The name, such as {@code "WHO"}.
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Fetches the lowest BMI of every category but the first.
+	 *
+	 * @return double[] A copy of the cutoffs, in ascending order.
+	 */
+	public double[] getCutoffs() {
+		return this.cutoffs.clone();
+	}
+
+	/**
+	 * Fetches the names of the categories.
+	 *
+	 * @return String[] A copy of the names, in the order of their category.
+	 */
+	public String[] getCategories() {
+		return this.categories.clone();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {name: \"%2$s\", cutoffs: %3$s, categories: %4$s}",
+				this.getClass().getSimpleName(),
+				this.name,
+				Arrays.toString(this.cutoffs),
+				Arrays.toString(this.categories)
+		);
+	}
+}
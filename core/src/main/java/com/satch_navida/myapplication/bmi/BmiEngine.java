@@ -0,0 +1,206 @@
+package com.satch_navida.myapplication.bmi;
+
+/**
+ * Computes the BMI of many bodies at once. The input is given as a structure of arrays, one array
+ * for the weights and another for the heights, and the results are written on output arrays at the
+ * same indices; thus, nothing is boxed and the loops are simple enough for the JIT to vectorize.
+ * A range can be given to process a large input in chunks.<br>
+ * <br>
+ * The formula used is <b><u>{@code BMI = kg/m²}</u></b>, and thus, all Imperial measurements needs
+ * to be converted before being passed to the engine.<br>
+ * <br>
+ * The categories found here are those of {@link BmiClassifier#WHO}, whose cutoffs and names are
+ * read from it rather than written again, and whose search is unrolled for speed. Use a
+ * {@link BmiClassifier} for any other table of cutoffs.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class BmiEngine {
+	// PUBLIC VARIABLES
+	/**
+	 * The category of a BMI below {@code 18.5}.
+	 */
+	public static final byte UNDERWEIGHT = 0;
+	/**
+	 * The category of a BMI from {@code 18.5} up to, but not including, {@code 25}.
+	 */
+	public static final byte HEALTHY_WEIGHT = 1;
+	/**
+	 * The category of a BMI from {@code 25} up to, but not including, {@code 30}.
+	 */
+	public static final byte OVERWEIGHT = 2;
+	/**
+	 * The category of a BMI of {@code 30} and above.
+	 */
+	public static final byte OBESE = 3;
+
+	// PRIVATE VARIABLES
+	/**
+	 * The cutoffs of {@link BmiClassifier#WHO}, the only source of them.
+	 */
+	private static final double[] CUTOFFS = BmiClassifier.WHO.getCutoffs();
+	/**
+	 * The lowest BMI of a healthy weight.
+	 */
+	private static final double HEALTHY_WEIGHT_CUTOFF = CUTOFFS[HEALTHY_WEIGHT - 1];
+	/**
+	 * The lowest BMI of an overweight.
+	 */
+	private static final double OVERWEIGHT_CUTOFF = CUTOFFS[OVERWEIGHT - 1];
+	/**
+	 * The lowest BMI of an obese.
+	 */
+	private static final double OBESE_CUTOFF = CUTOFFS[OBESE - 1];
+
+	// CONSTRUCTORS
+
+	private BmiEngine() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Calculates the BMI of a single body.
+	 *
+	 * @param weightKg The weight of the body, in kilograms.
+	 * @param heightM The height of the body, in meters.
+	 *
+	 * @return double The BMI of the body.
+	 */
+	public static double compute(double weightKg, double heightM) {
+		return weightKg / (heightM * heightM);
+	}
+
+	/**
+	 * Calculates the BMI of every body within the given range.
+	 *
+	 * @param weightKg The weights of the bodies, in kilograms.
+	 * @param heightM The heights of the bodies, in meters.
+	 * @param bmi Where the BMI of each body is written on, at the same index.
+	 * @param offset The index of the first body.
+	 * @param length The number of bodies.
+	 *
+	 * @throws IndexOutOfBoundsException When the range is out of bounds of any of the arrays.
+	 */
+	public static void compute(double[] weightKg, double[] heightM, double[] bmi, int offset, int length) {
+		checkRange(offset, length, weightKg.length, heightM.length, bmi.length);
+
+		for (int i = offset, end = offset + length; i < end; i++)
+			bmi[i] = weightKg[i] / (heightM[i] * heightM[i]);
+	}
+
+	/**
+	 * Calculates the BMI of every body within the given range.
+	 *
+	 * @param weightKg The weights of the bodies, in kilograms.
+	 * @param heightM The heights of the bodies, in meters.
+	 * @param bmi Where the BMI of each body is written on, at the same index.
+	 * @param offset The index of the first body.
+	 * @param length The number of bodies.
+	 *
+	 * @throws IndexOutOfBoundsException When the range is out of bounds of any of the arrays.
+	 */
+	public static void compute(float[] weightKg, float[] heightM, float[] bmi, int offset, int length) {
+		checkRange(offset, length, weightKg.length, heightM.length, bmi.length);
+
+		for (int i = offset, end = offset + length; i < end; i++)
+			bmi[i] = weightKg[i] / (heightM[i] * heightM[i]);
+	}
+
+	/**
+	 * Calculates the BMI of every body.
+	 *
+	 * @param weightKg The weights of the bodies, in kilograms.
+	 * @param heightM The heights of the bodies, in meters.
+	 * @param bmi Where the BMI of each body is written on, at the same index.
+	 *
+	 * @throws IndexOutOfBoundsException When the arrays do not have the same length.
+	 */
+	public static void compute(double[] weightKg, double[] heightM, double[] bmi) {
+		compute(weightKg, heightM, bmi, 0, weightKg.length);
+	}
+
+	/**
+	 * Calculates the BMI of every body within the given range, along with their category.
+	 *
+	 * @param weightKg The weights of the bodies, in kilograms.
+	 * @param heightM The heights of the bodies, in meters.
+	 * @param bmi Where the BMI of each body is written on, at the same index.
+	 * @param categories Where the category of each body is written on, at the same index.
+	 * @param offset The index of the first body.
+	 * @param length The number of bodies.
+	 *
+	 * @throws IndexOutOfBoundsException When the range is out of bounds of any of the arrays.
+	 */
+	public static void compute(double[] weightKg, double[] heightM, double[] bmi, byte[] categories, int offset, int length) {
+		compute(weightKg, heightM, bmi, offset, length);
+		classify(bmi, categories, offset, length);
+	}
+
+	/**
+	 * Fetches the category of a single BMI.
+	 *
+	 * @param bmi The BMI.
+	 *
+	 * @return byte The category; one of {@link #UNDERWEIGHT}, {@link #HEALTHY_WEIGHT},
+	 * {@link #OVERWEIGHT} or {@link #OBESE}.
+	 */
+	public static byte classify(double bmi) {
+		// Counts the cutoffs reached instead of branching, which is also what the batch loop does.
+		return (byte) ((bmi >= HEALTHY_WEIGHT_CUTOFF ? 1 : 0)
+				+ (bmi >= OVERWEIGHT_CUTOFF ? 1 : 0)
+				+ (bmi >= OBESE_CUTOFF ? 1 : 0));
+	}
+
+	/**
+	 * Fetches the category of every BMI within the given range.
+	 *
+	 * @param bmi The BMI of the bodies.
+	 * @param categories Where the category of each body is written on, at the same index.
+	 * @param offset The index of the first body.
+	 * @param length The number of bodies.
+	 *
+	 * @throws IndexOutOfBoundsException When the range is out of bounds of any of the arrays.
+	 */
+	public static void classify(double[] bmi, byte[] categories, int offset, int length) {
+		checkRange(offset, length, bmi.length, categories.length, categories.length);
+
+		for (int i = offset, end = offset + length; i < end; i++)
+			categories[i] = classify(bmi[i]);
+	}
+
+	/**
+	 * Fetches the display name of the given category.
+	 *
+	 * @param category The category; one of {@link #UNDERWEIGHT}, {@link #HEALTHY_WEIGHT},
+	 *                 {@link #OVERWEIGHT} or {@link #OBESE}.
+	 *
+	 * @return String The name of the category, such as {@code "Healthy Weight"}.
+	 *
+	 * @throws IllegalArgumentException When the category is unknown.
+	 */
+	public static String nameOf(byte category) {
+		return BmiClassifier.WHO.nameOf(category);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Checks whether the given range is within the bounds of the arrays.
+	 *
+	 * @param offset The index of the first element.
+	 * @param length The number of elements.
+	 * @param a The length of the first array.
+	 * @param b The length of the second array.
+	 * @param c The length of the third array.
+	 *
+	 * @throws IndexOutOfBoundsException When the range is out of bounds.
+	 */
+	private static void checkRange(int offset, int length, int a, int b, int c) {
+		int size = Math.min(a, Math.min(b, c));
+
+		if (offset < 0 || length < 0 || offset > size - length)
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") is out of bounds for length " + size + ".");
+	}
+}
@@ -0,0 +1,176 @@
+package com.satch_navida.myapplication.bmi;
+
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+import com.satch_navida.myapplication.validation.RuleRegistry;
+import com.satch_navida.myapplication.validation.ValidationSchema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The fields, rules and messages of the BMI form. Shared by the {@code MainActivity} and the batch
+ * processing, so that both validate the values the same way. The values are then converted to the
+ * Metric System through {@link WeightUnit} and {@link HeightUnit}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class BmiForm {
+	// PUBLIC VARIABLES
+	/**
+	 * The field of the weight.
+	 */
+	public static final String WEIGHT_VALUE = "weight_value";
+	/**
+	 * The field of the height.
+	 */
+	public static final String HEIGHT_VALUE = "height_value";
+	/**
+	 * The field of the measurement unit of the weight.
+	 */
+	public static final String WEIGHT_UNIT = "weight_spinner";
+	/**
+	 * The field of the measurement unit of the height.
+	 */
+	public static final String HEIGHT_UNIT = "height_spinner";
+
+	// PRIVATE VARIABLES
+	/**
+	 * The rules of the form, compiled only once.
+	 */
+	private static final ValidationSchema SCHEMA = ValidationSchema.compile(rules(), messages(), registry());
+
+	// CONSTRUCTORS
+
+	private BmiForm() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the validation rules of the form.
+	 *
+	 * @return Map<String, String[]> An unmodifiable key-value pair of the fields and their rules.
+	 */
+	public static Map<String, String[]> rules() {
+		Map<String, String[]> rules = new HashMap<String, String[]>();
+		rules.put(WEIGHT_VALUE, new String[] {"Required", "Numeric", "MinWeight:" + WEIGHT_UNIT + ":1:kg"});
+		rules.put(HEIGHT_VALUE, new String[] {"Required", "Numeric", "MinHeight:" + HEIGHT_UNIT + ":1:cm"});
+		rules.put(WEIGHT_UNIT, new String[] {"Required", "WeightUnit"});
+		rules.put(HEIGHT_UNIT, new String[] {"Required", "HeightUnit"});
+
+		return Collections.unmodifiableMap(rules);
+	}
+
+	/**
+	 * Fetches the custom validation messages of the form. These will only be shown if the rules failed.
+	 *
+	 * @return Map<String, String> An unmodifiable key-value pair of the messages, keyed as {@code field.rule}.
+	 */
+	public static Map<String, String> messages() {
+		Map<String, String> messages = new HashMap<String, String>();
+
+		// Weight Validation Messages
+		messages.put(WEIGHT_VALUE + ".Required", "The weight is required.");
+		messages.put(WEIGHT_VALUE + ".Numeric", "Weight should be a number.");
+		messages.put(WEIGHT_VALUE + ".MinWeight", "The value should be no less than :min :unit.");
+
+		// Height Validation Messages
+		messages.put(HEIGHT_VALUE + ".Required", "The height is required.");
+		messages.put(HEIGHT_VALUE + ".Numeric", "Height should be a number.");
+		messages.put(HEIGHT_VALUE + ".MinHeight", "The value should be no less than :min :unit.");
+
+		// Weight Spinner Validation Message
+		messages.put(WEIGHT_UNIT + ".Required", "The weight type is required.");
+		messages.put(WEIGHT_UNIT + ".WeightUnit", "The weight type is not supported.");
+
+		// Height Spinner Validation Message
+		messages.put(HEIGHT_UNIT + ".Required", "The height type is required.");
+		messages.put(HEIGHT_UNIT + ".HeightUnit", "The height type is not supported.");
+
+		return Collections.unmodifiableMap(messages);
+	}
+
+	/**
+	 * Fetches the compiled rules and messages of the form.
+	 *
+	 * @return ValidationSchema The shared schema of the form.
+	 */
+	public static ValidationSchema schema() {
+		return SCHEMA;
+	}
+
+	/**
+	 * Fetches the registry of the rules of the form, which adds the {@code WeightUnit} and
+	 * {@code HeightUnit} rules on top of the default ones. Both pass an empty value, leaving it to
+	 * the {@code Required} rule. The {@code MinWeight} and {@code MinHeight} rules are added as well,
+	 * as the minimum of a value depends on the unit it is written in; both are a
+	 * {@link MinMeasurement}, only differing by their unit.
+	 *
+	 * @return RuleRegistry A frozen registry of the rules.
+	 */
+	public static RuleRegistry registry() {
+		return RuleRegistry.withDefaults()
+				.register("WeightUnit", (value, validatorValues) -> isEmpty(value) || WeightUnit.find(textOf(value)) != null)
+				.register("HeightUnit", (value, validatorValues) -> isEmpty(value) || HeightUnit.find(textOf(value)) != null)
+				.register("MinWeight", (key, value, message, validatorValues) -> new MinMeasurement(key, value, message, validatorValues, MinMeasurement.WEIGHT), MinMeasurement.WEIGHT)
+				.register("MinHeight", (key, value, message, validatorValues) -> new MinMeasurement(key, value, message, validatorValues, MinMeasurement.HEIGHT), MinMeasurement.HEIGHT)
+				.freeze();
+	}
+
+	/**
+	 * Fetches the value of the height to validate. A height written in parts, such as {@code 5'11"}
+	 * for {@link HeightUnit#FEET_AND_INCHES}, is replaced by its decimal value so that the numeric
+	 * rules apply to it; any other height is kept as it is.
+	 *
+	 * @param height The height, as written.
+	 * @param unit The unit of the height. Could be {@code null}.
+	 *
+	 * @return Object The height to validate.
+	 */
+	public static Object heightOf(CharSequence height, HeightUnit unit) {
+		if (unit != null && unit.isComposite()) {
+			double value = unit.parseValue(height);
+
+			if (!Double.isNaN(value))
+				return value;
+		}
+
+		return height;
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Identifies whether the given value is missing or empty.
+	 *
+	 * @param value The value.
+	 *
+	 * @return boolean Returns {@code true} if the value is empty; {@code false} otherwise.
+	 */
+	private static boolean isEmpty(Object value) {
+		if (value == null)
+			return true;
+
+		CharSequence text = textOf(value);
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) > ' ')
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Fetches the given value as a text, without copying it if it already is one.
+	 *
+	 * @param value The value.
+	 *
+	 * @return CharSequence The value as a text.
+	 */
+	private static CharSequence textOf(Object value) {
+		return value instanceof CharSequence ? (CharSequence) value : String.valueOf(value);
+	}
+}
@@ -0,0 +1,185 @@
+package com.satch_navida.myapplication.bmi;
+
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+import com.satch_navida.myapplication.validation.rules.CrossFieldRule;
+import com.satch_navida.myapplication.validation.rules.MessageTemplate;
+import com.satch_navida.myapplication.validation.rules.NumberScanner;
+import com.satch_navida.myapplication.validation.rules.Rule;
+import com.satch_navida.myapplication.validation.rules.RuleContext;
+import com.satch_navida.myapplication.validation.rules.RuleInterface;
+import com.satch_navida.myapplication.validation.rules.StatelessRule;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.MessageFormat;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+/**
+ * Tests whether the measurement provided is no less than the given minimum, once both are converted
+ * to the same unit; such as {@code MinWeight:weight_spinner:1:kg}, which reads the unit of the
+ * weight from the {@code weight_spinner} field. Thus, {@code 500 g} fails while {@code 2.5 lb}
+ * passes, unlike a plain {@code Min:1} on the number as written.<br>
+ * <br>
+ * The same rule is registered once per kind of measurement, only differing by how a unit is looked
+ * up and converted: {@link #WEIGHT} converts to kilograms through {@link WeightUnit}, while
+ * {@link #HEIGHT} converts to meters through {@link HeightUnit}. A height in feet and inches is
+ * validated as the decimal feet given by {@link BmiForm#heightOf(CharSequence, HeightUnit)}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+class MinMeasurement extends Rule implements RuleInterface {
+	// PACKAGE-PRIVATE VARIABLES
+	/**
+	 * The stateless rule of a minimum weight, converted to kilograms.
+	 */
+	static final StatelessRule WEIGHT = new Stateless(symbol -> {
+		WeightUnit unit = WeightUnit.find(symbol);
+		return unit == null ? null : unit::toKilograms;
+	});
+	/**
+	 * The stateless rule of a minimum height, converted to meters.
+	 */
+	static final StatelessRule HEIGHT = new Stateless(symbol -> {
+		HeightUnit unit = HeightUnit.find(symbol);
+		return unit == null ? null : unit::toMeters;
+	});
+
+	// PRIVATE VARIABLES
+	/**
+	 * The names of the placeholders of the validator values.
+	 */
+	private static final String[] PLACEHOLDERS = {"other", "min", "unit"};
+	/**
+	 * The stateless counterpart of this rule; either {@link #WEIGHT} or {@link #HEIGHT}.
+	 */
+	private final StatelessRule stateless;
+
+	// OVERRIDE VARIABLES
+	protected String message = "The :key must be at least :min :unit";
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link Rule}, containing all the necessary parameters: the
+	 * {@code key}, {@code value} and {@code stateless}, and optional parameters: {@code message} and {@code validatorValues}.<br>
+	 *
+	 * @param key A unique identifier (ID) of value being tested.
+	 * @param value The value that will be tested.
+	 * @param message A message that will be displayed when the test fails.
+	 * @param validatorValues An array of {@link Object}s that will be used to test against the {@code value}.
+	 * @param stateless The kind of measurement tested; either {@link #WEIGHT} or {@link #HEIGHT}.
+	 */
+	MinMeasurement(@NotNull String key, @NotNull Object value, @Nullable String message, @Nullable Object[] validatorValues, @NotNull StatelessRule stateless) {
+		super(key, value, message, validatorValues);
+
+		if (stateless == null)
+			throw new NullPointerException("\"stateless\" should not be null.");
+
+		this.stateless = stateless;
+	}
+
+	// PUBLIC METHOD
+
+	@Override
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * As this rule reads another field, it can only be run through a {@code ValidationSchema}.
+	 *
+	 * @throws IllegalStateException When run on its own.
+	 */
+	public int check() throws Exception {
+		return this.check(this.stateless);
+	}
+
+	// PROTECTED
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getFinalMessage() {
+		return MessageTemplate.compile(this.message, PLACEHOLDERS).render(this.key, this.value, this.validatorValues);
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The shared, stateless counterpart of a minimum measurement.
+	 */
+	private static final class Stateless implements CrossFieldRule {
+		/**
+		 * Looks up the conversion from the unit of the given symbol; or {@code null} if no unit has such
+		 * symbol.
+		 */
+		private final Function<CharSequence, DoubleUnaryOperator> conversionOf;
+
+		Stateless(Function<CharSequence, DoubleUnaryOperator> conversionOf) {
+			this.conversionOf = conversionOf;
+		}
+
+		@Override
+		public void evaluate(String field, Object value, Object[] params, RuleContext context) {
+			Object symbol = context.getReference(0);
+			DoubleUnaryOperator conversion = symbol == null ? null : this.conversionOf.apply(symbol.toString());
+
+			// Nothing to convert from; an unknown unit is already reported on its own field.
+			if (conversion == null || !context.isReferenceValid(0)) {
+				context.setValid(true);
+				return;
+			}
+
+			if (context.isNumeric(value))
+				context.setValid(conversion.applyAsDouble(context.toDouble(value)) >= ((Number) params[3]).doubleValue());
+		}
+
+		@Override
+		public Object[] compileValidatorValues(Object[] validatorValues) {
+			this.getReferencedFields(validatorValues);
+
+			String symbol = validatorValues[2].toString().trim();
+			DoubleUnaryOperator conversion = this.conversionOf.apply(symbol);
+			if (conversion == null)
+				throw new IllegalArgumentException(MessageFormat.format("Incorrect validator value type:\tThe provided validator value ({0}) is not a unit", validatorValues[2]));
+
+			double min = NumberScanner.parse(validatorValues[1].toString());
+			if (!Double.isFinite(min))
+				throw new IllegalArgumentException(MessageFormat.format("Incorrect validator value type:\tThe provided validator value ({0}) is not a number", validatorValues[1]));
+
+			// The minimum is converted only once, and kept after the validator values as written.
+			return new Object[] {validatorValues[0], validatorValues[1], symbol, conversion.applyAsDouble(min)};
+		}
+
+		@Override
+		public String[] getReferencedFields(Object[] validatorValues) {
+			if (validatorValues == null || validatorValues.length < 3)
+				throw new IllegalArgumentException(MessageFormat.format("Not enough validator value passed:\tNeeds 3, only {0} is passed.", validatorValues == null ? 0 : validatorValues.length));
+
+			return new String[] {validatorValues[0].toString()};
+		}
+
+		@Override
+		public String[] getPlaceholders() {
+			return PLACEHOLDERS;
+		}
+
+		@Override
+		public int getCost() {
+			return COST_MODERATE;
+		}
+
+		@Override
+		public boolean canStopValidation() {
+			return false;
+		}
+
+		@Override
+		public String getDefaultMessage() {
+			return "The :key must be at least :min :unit";
+		}
+	}
+}
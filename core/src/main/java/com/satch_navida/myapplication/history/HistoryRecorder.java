@@ -0,0 +1,189 @@
+package com.satch_navida.myapplication.history;
+
+import com.satch_navida.myapplication.logging.Logging;
+import com.satch_navida.myapplication.stats.BmiStatistics;
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Owns a {@link HistoryStore} along with the {@link BmiStatistics} loaded from it, both confined to
+ * a single background thread. Neither of them is thread-safe, nor should they be read or written on
+ * the UI thread; thus, every access goes through that thread, in the order it was asked, and the
+ * results are handed back through a {@link CompletableFuture}.<br>
+ * <br>
+ * It is meant to live as long as the process, rather than as long as a screen, so that the history
+ * is only opened and replayed into the statistics once. The history is loaded as soon as it is
+ * opened; any measurement recorded before that is done simply waits for it.<br>
+ * <br>
+ * A {@code HistoryRecorder} is thread-safe.
+ *
+ * <pre>{@code
+ * HistoryRecorder history = HistoryRecorder.open(file);
+ * history.whenLoaded().thenRunAsync(() -> submit.setEnabled(true), mainExecutor);
+ * history.record(profile, timestamp, weight, height, bmi, category, weightUnit, heightUnit)
+ *     .thenAcceptAsync(snapshot -> show(snapshot), mainExecutor);
+ * }</pre>
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class HistoryRecorder implements Closeable {
+	// PRIVATE VARIABLES
+	/**
+	 * The only thread the store and the statistics are accessed on.
+	 */
+	private final ExecutorService executor;
+	/**
+	 * Completes once the history was loaded into the statistics, whether it could be opened or not.
+	 */
+	private final CompletableFuture<Void> loaded;
+	/**
+	 * The statistics of the measurements, loaded from the history once then kept up to date. Only
+	 * accessed on the {@link #executor}.
+	 */
+	private final BmiStatistics statistics = new BmiStatistics();
+	/**
+	 * The measurements taken so far. Only accessed on the {@link #executor}, and {@code null} when the
+	 * file could not be opened.
+	 */
+	private HistoryStore store;
+
+	// CONSTRUCTORS
+
+	private HistoryRecorder(Path file) {
+		this.executor = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "HistoryRecorder");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.loaded = CompletableFuture.runAsync(() -> this.load(file), this.executor);
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Opens the history file, then loads it into the statistics in the background. A file that
+	 * could not be opened is only logged; the measurements are then kept in the statistics alone.
+	 *
+	 * @param file The history file.
+	 *
+	 * @return HistoryRecorder The recorder, possibly still loading.
+	 */
+	public static HistoryRecorder open(Path file) {
+		if (file == null)
+			throw new NullPointerException("\"file\" should not be null.");
+
+		return new HistoryRecorder(file);
+	}
+
+	/**
+	 * Fetches the state of the loading of the history.
+	 *
+	 * @return CompletableFuture<Void> A future completing once the history was loaded.
+	 */
+	public CompletableFuture<Void> whenLoaded() {
+		// A dependent future, so that callers cannot complete the loading themselves.
+		return this.loaded.thenApply(Function.identity());
+	}
+
+	/**
+	 * Appends a measurement to the history and its statistics. A measurement that could not be saved
+	 * is only logged, and is still counted in the statistics.
+	 *
+	 * @param profile The profile the measurement belongs to.
+	 * @param timestamp When the measurement was taken, in milliseconds since the epoch.
+	 * @param weightKg The weight, in kilograms.
+	 * @param heightM The height, in meters.
+	 * @param bmi The BMI.
+	 * @param category The category of the BMI.
+	 * @param weightUnit The unit the weight was written in.
+	 * @param heightUnit The unit the height was written in.
+	 *
+	 * @return CompletableFuture<BmiStatistics.Snapshot> A future of the statistics of the profile,
+	 * including the new measurement.
+	 */
+	public CompletableFuture<BmiStatistics.Snapshot> record(int profile, long timestamp, double weightKg, double heightM, double bmi, byte category, WeightUnit weightUnit, HeightUnit heightUnit) {
+		return CompletableFuture.supplyAsync(() -> {
+			this.statistics.add(profile, timestamp, bmi);
+
+			if (this.store != null) {
+				try {
+					this.store.append(profile, timestamp, weightKg, heightM, bmi, category, weightUnit, heightUnit)
+							.flush();
+				} catch (IOException e) {
+					Logging.error("HistoryRecorder", "Could not save the measurement.", e);
+				}
+			}
+
+			return this.statistics.snapshot(profile);
+		}, this.executor);
+	}
+
+	/**
+	 * Takes a snapshot of the statistics of a profile, once every measurement recorded before it was
+	 * added.
+	 *
+	 * @param profile The profile.
+	 *
+	 * @return CompletableFuture<BmiStatistics.Snapshot> A future of the statistics of the profile.
+	 */
+	public CompletableFuture<BmiStatistics.Snapshot> snapshot(int profile) {
+		return CompletableFuture.supplyAsync(() -> this.statistics.snapshot(profile), this.executor);
+	}
+
+	/**
+	 * Writes the pending measurements, closes the history, then stops the background thread. Nothing
+	 * could be recorded afterwards.
+	 */
+	@Override
+	public void close() {
+		synchronized (this.executor) {
+			if (this.executor.isShutdown())
+				return;
+
+			CompletableFuture<Void> closed = CompletableFuture.runAsync(this::closeStore, this.executor);
+			this.executor.shutdown();
+			closed.join();
+		}
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Opens the history, then replays it into the statistics. Only run on the {@link #executor}.
+	 *
+	 * @param file The history file.
+	 */
+	private void load(Path file) {
+		try {
+			this.store = HistoryStore.open(file);
+			this.statistics.addAll(this.store.scan(Long.MIN_VALUE, Long.MAX_VALUE));
+		} catch (IOException e) {
+			Logging.error("HistoryRecorder", "Could not open the history.", e);
+			this.closeStore();
+		}
+	}
+
+	/**
+	 * Closes the history, if it was opened. Only run on the {@link #executor}.
+	 */
+	private void closeStore() {
+		if (this.store == null)
+			return;
+
+		try {
+			this.store.close();
+		} catch (IOException e) {
+			Logging.error("HistoryRecorder", "Could not close the history.", e);
+		}
+		this.store = null;
+	}
+}
@@ -0,0 +1,606 @@
+package com.satch_navida.myapplication.history;
+
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only file of {@link Measurement}s. The file starts with a small header, followed by
+ * records of a fixed width; thus, the position of any record is known without reading the ones
+ * before it.<br>
+ * <br>
+ * Appended records are buffered, then written at once through the {@link FileChannel} when the
+ * buffer fills up, on {@link #flush()}, or on {@link #close()}. Records are read back through a
+ * {@link Cursor} over memory-mapped windows of the file, which never loads the whole file into the
+ * heap nor allocates per record.<br>
+ * <br>
+ * Every record ends with a checksum. If the app dies while writing, the file could end with a
+ * partial record, or with a record that never got its bytes; both are dropped when the file is
+ * opened again, leaving every whole record before them.<br>
+ * <br>
+ * A {@code HistoryStore} is not thread-safe.
+ *
+ * <pre>{@code
+ * Header (16 bytes)         Record (48 bytes)
+ *   0  int    magic           0  long   timestamp
+ *   4  short  version         8  int    profile
+ *   6  short  record size    12  double weight, in kilograms
+ *   8  long   reserved       20  double height, in meters
+ *                            28  double BMI
+ *                            36  byte   category
+ *                            37  byte   weight unit
+ *                            38  byte   height unit
+ *                            39  byte   reserved
+ *                            40  int    reserved
+ *                            44  int    CRC-32 of the bytes before it
+ * }</pre>
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class HistoryStore implements Closeable {
+	// PUBLIC VARIABLES
+	/**
+	 * The profile of a store with a single user.
+	 */
+	public static final int DEFAULT_PROFILE = 0;
+	/**
+	 * Matches every profile when scanning.
+	 */
+	public static final int ANY_PROFILE = -1;
+
+	// PRIVATE VARIABLES
+	/**
+	 * The first bytes of every history file, {@code "BMIH"}.
+	 */
+	private static final int MAGIC = 0x424D4948;
+	/**
+	 * The version of the layout of the file.
+	 */
+	private static final short VERSION = 1;
+	/**
+	 * The size of the header, in bytes.
+	 */
+	private static final int HEADER_SIZE = 16;
+	/**
+	 * The size of a record, in bytes.
+	 */
+	private static final int RECORD_SIZE = 48;
+	/**
+	 * The number of bytes of a record covered by its checksum.
+	 */
+	private static final int CHECKED_SIZE = 44;
+	/**
+	 * The number of records buffered before being written.
+	 */
+	private static final int BUFFERED_RECORDS = 64;
+	/**
+	 * The number of records mapped at once when reading.
+	 */
+	private static final int WINDOW_RECORDS = 1 << 18;
+
+	/**
+	 * A cached copy of {@link WeightUnit#values()}, indexed by the stored ordinal.
+	 */
+	private static final WeightUnit[] WEIGHT_UNITS = WeightUnit.values();
+	/**
+	 * A cached copy of {@link HeightUnit#values()}, indexed by the stored ordinal.
+	 */
+	private static final HeightUnit[] HEIGHT_UNITS = HeightUnit.values();
+
+	/**
+	 * The file.
+	 */
+	private final FileChannel channel;
+	/**
+	 * The records appended but not written yet.
+	 */
+	private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * BUFFERED_RECORDS).order(ByteOrder.LITTLE_ENDIAN);
+	/**
+	 * Computes the checksums of the records.
+	 */
+	private final CRC32 crc = new CRC32();
+	/**
+	 * The number of records written to the file.
+	 */
+	private long written;
+
+	// CONSTRUCTORS
+
+	private HistoryStore(FileChannel channel, long written) {
+		this.channel = channel;
+		this.written = written;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Opens the history file, creating it if it does not exist yet. A partial or corrupted record at
+	 * the end of the file is dropped.
+	 *
+	 * @param file The history file.
+	 *
+	 * @return HistoryStore The opened store.
+	 *
+	 * @throws IOException When the file could not be opened, or is not a history file.
+	 */
+	public static HistoryStore open(Path file) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		try {
+			return new HistoryStore(channel, recover(channel));
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Appends a measurement. It is only written to the file once the buffer fills up, or on
+	 * {@link #flush()} or {@link #close()}.
+	 *
+	 * @param measurement The measurement.
+	 *
+	 * @return HistoryStore This instance of {@code HistoryStore}.
+	 *
+	 * @throws IOException When the buffer could not be written to the file.
+	 */
+	public HistoryStore append(Measurement measurement) throws IOException {
+		return this.append(
+				measurement.getProfile(),
+				measurement.getTimestamp(),
+				measurement.getWeightKg(),
+				measurement.getHeightM(),
+				measurement.getBmi(),
+				measurement.getCategory(),
+				measurement.getWeightUnit(),
+				measurement.getHeightUnit()
+		);
+	}
+
+	/**
+	 * Appends a measurement, without creating a {@link Measurement} for it. It is only written to the
+	 * file once the buffer fills up, or on {@link #flush()} or {@link #close()}.
+	 *
+	 * @param profile The profile the measurement belongs to. Should not be negative.
+	 * @param timestamp When the measurement was taken, in milliseconds since the epoch.
+	 * @param weightKg The weight, in kilograms.
+	 * @param heightM The height, in meters.
+	 * @param bmi The BMI.
+	 * @param category The category of the BMI, as given by the classifier used.
+	 * @param weightUnit The unit the weight was entered in.
+	 * @param heightUnit The unit the height was entered in.
+	 *
+	 * @return HistoryStore This instance of {@code HistoryStore}.
+	 *
+	 * @throws IOException When the buffer could not be written to the file.
+	 */
+	public HistoryStore append(int profile, long timestamp, double weightKg, double heightM, double bmi, byte category, WeightUnit weightUnit, HeightUnit heightUnit) throws IOException {
+		if (profile < 0)
+			throw new IllegalArgumentException("\"profile\" should not be negative.");
+		if (weightUnit == null)
+			throw new NullPointerException("\"weightUnit\" should not be null.");
+		if (heightUnit == null)
+			throw new NullPointerException("\"heightUnit\" should not be null.");
+
+		if (!this.buffer.hasRemaining())
+			this.flush();
+
+		int start = this.buffer.position();
+		this.buffer.putLong(timestamp)
+				.putInt(profile)
+				.putDouble(weightKg)
+				.putDouble(heightM)
+				.putDouble(bmi)
+				.put(category)
+				.put((byte) weightUnit.ordinal())
+				.put((byte) heightUnit.ordinal())
+				.put((byte) 0)
+				.putInt(0);
+
+		this.crc.reset();
+		this.crc.update(this.buffer.array(), this.buffer.arrayOffset() + start, CHECKED_SIZE);
+		this.buffer.putInt((int) this.crc.getValue());
+
+		return this;
+	}
+
+	/**
+	 * Writes the appended measurements to the file.
+	 *
+	 * @throws IOException When the file could not be written.
+	 */
+	public void flush() throws IOException {
+		if (this.buffer.position() == 0)
+			return;
+
+		this.buffer.flip();
+		long position = HEADER_SIZE + this.written * RECORD_SIZE;
+		long records = this.buffer.remaining() / RECORD_SIZE;
+
+		while (this.buffer.hasRemaining())
+			position += this.channel.write(this.buffer, position);
+
+		this.buffer.clear();
+		this.written += records;
+	}
+
+	/**
+	 * Writes the appended measurements to the file, then waits until they reach the storage.
+	 *
+	 * @throws IOException When the file could not be written.
+	 */
+	public void sync() throws IOException {
+		this.flush();
+		this.channel.force(false);
+	}
+
+	/**
+	 * Fetches the number of measurements, including those not written yet.
+	 *
+	 * @return long The number of measurements.
+	 */
+	public long size() {
+		return this.written + this.buffer.position() / RECORD_SIZE;
+	}
+
+	/**
+	 * Scans the measurements of every profile taken within the given time range, in the order they
+	 * were appended. The pending measurements are written first.
+	 *
+	 * @param from The earliest timestamp, inclusive.
+	 * @param to The latest timestamp, exclusive.
+	 *
+	 * @return Cursor A cursor over the matching measurements.
+	 *
+	 * @throws IOException When the pending measurements could not be written.
+	 */
+	public Cursor scan(long from, long to) throws IOException {
+		return this.scan(ANY_PROFILE, from, to);
+	}
+
+	/**
+	 * Scans the measurements of a profile taken within the given time range, in the order they were
+	 * appended. The pending measurements are written first.
+	 *
+	 * @param profile The profile; or {@link #ANY_PROFILE} for every profile.
+	 * @param from The earliest timestamp, inclusive.
+	 * @param to The latest timestamp, exclusive.
+	 *
+	 * @return Cursor A cursor over the matching measurements.
+	 *
+	 * @throws IOException When the pending measurements could not be written.
+	 */
+	public Cursor scan(int profile, long from, long to) throws IOException {
+		this.flush();
+
+		return new Cursor(profile, from, to, this.written);
+	}
+
+	/**
+	 * Writes the appended measurements to the file, then closes it.
+	 *
+	 * @throws IOException When the file could not be written or closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			this.sync();
+		} finally {
+			this.channel.close();
+		}
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Prepares the file for appending: writing the header of a new file, checking the header of an
+	 * existing one, and dropping any partial or corrupted record at its end.
+	 *
+	 * @param channel The file.
+	 *
+	 * @return long The number of whole records within the file.
+	 *
+	 * @throws IOException When the file could not be read or written, or is not a history file.
+	 */
+	private static long recover(FileChannel channel) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		long size = channel.size();
+
+		// A new file, or one that died while its header was being written; thus, whatever bytes it
+		// has are the start of the header. Any other short file is left as it is.
+		if (size < HEADER_SIZE) {
+			ByteBuffer present = ByteBuffer.allocate((int) size);
+			while (present.hasRemaining() && channel.read(present, present.position()) >= 0)
+				;
+
+			header.putInt(MAGIC)
+					.putShort(VERSION)
+					.putShort((short) RECORD_SIZE)
+					.putLong(0)
+					.flip();
+
+			for (int i = 0; i < present.position(); i++) {
+				if (present.get(i) != header.get(i))
+					throw new IOException("Not a history file.");
+			}
+
+			channel.truncate(0);
+			while (header.hasRemaining())
+				channel.write(header, header.position());
+			channel.force(true);
+
+			return 0;
+		}
+
+		while (header.hasRemaining() && channel.read(header, header.position()) >= 0)
+			;
+		header.flip();
+
+		if (header.getInt() != MAGIC)
+			throw new IOException("Not a history file.");
+		if (header.getShort() != VERSION || header.getShort() != RECORD_SIZE)
+			throw new IOException("Unsupported version of the history file.");
+
+		long records = (size - HEADER_SIZE) / RECORD_SIZE;
+
+		// Drops the records at the end whose checksum does not match, such as one whose bytes never
+		// made it to the storage.
+		ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		CRC32 crc = new CRC32();
+		while (records > 0) {
+			record.clear();
+			long position = HEADER_SIZE + (records - 1) * RECORD_SIZE;
+			while (record.hasRemaining() && channel.read(record, position + record.position()) >= 0)
+				;
+
+			crc.reset();
+			crc.update(record.array(), 0, CHECKED_SIZE);
+			if (record.getInt(CHECKED_SIZE) == (int) crc.getValue())
+				break;
+
+			records--;
+		}
+
+		long whole = HEADER_SIZE + records * RECORD_SIZE;
+		if (whole != size) {
+			channel.truncate(whole);
+			channel.force(true);
+		}
+
+		return records;
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * Moves through the matching measurements of a scan, reading every value straight from the
+	 * mapped file. The values are only valid until the next call to {@link #next()}.
+	 *
+	 * <pre>{@code
+	 * HistoryStore.Cursor cursor = store.scan(profile, from, to);
+	 * while (cursor.next())
+	 *     total += cursor.getBmi();
+	 * }</pre>
+	 */
+	public final class Cursor {
+		/**
+		 * The profile to match; or {@link #ANY_PROFILE}.
+		 */
+		private final int profile;
+		/**
+		 * The earliest timestamp, inclusive.
+		 */
+		private final long from;
+		/**
+		 * The latest timestamp, exclusive.
+		 */
+		private final long to;
+		/**
+		 * The number of records written when the scan started. Later records are not scanned.
+		 */
+		private final long end;
+
+		/**
+		 * The mapped window of the file.
+		 */
+		private MappedByteBuffer window;
+		/**
+		 * The index of the first record of the window.
+		 */
+		private long windowStart = 0;
+		/**
+		 * The number of records within the window.
+		 */
+		private int windowRecords = 0;
+		/**
+		 * The index of the next record to read.
+		 */
+		private long next = 0;
+		/**
+		 * The offset of the current record within the window.
+		 */
+		private int offset = -1;
+
+		private Cursor(int profile, long from, long to, long end) {
+			this.profile = profile;
+			this.from = from;
+			this.to = to;
+			this.end = end;
+		}
+
+		/**
+		 * Moves to the next matching measurement.
+		 *
+		 * @return boolean Returns {@code true} if there is one; {@code false} if the scan is done.
+		 *
+		 * @throws IOException When the file could not be mapped.
+		 */
+		public boolean next() throws IOException {
+			while (this.next < this.end) {
+				if (this.next >= this.windowStart + this.windowRecords)
+					this.map(this.next);
+
+				int offset = (int) (this.next - this.windowStart) * RECORD_SIZE;
+				this.next++;
+
+				long timestamp = this.window.getLong(offset);
+				if (timestamp < this.from || timestamp >= this.to)
+					continue;
+				if (this.profile != ANY_PROFILE && this.window.getInt(offset + 8) != this.profile)
+					continue;
+
+				this.offset = offset;
+				return true;
+			}
+
+			this.offset = -1;
+			return false;
+		}
+
+		/**
+		 * Fetches when the current measurement was taken.
+		 *
+		 * @return long When the current measurement was taken, in milliseconds since the epoch.
+		 *
+		 * @throws IllegalStateException When the cursor is not on a measurement.
+		 */
+		public long getTimestamp() {
+			return this.window.getLong(this.current());
+		}
+
+		/**
+		 * Fetches the profile the current measurement belongs to.
+		 *
+		 * @return int The profile of the current measurement.
+		 *
+		 * @throws IllegalStateException When the cursor is not on a measurement.
+		 */
+		public int getProfile() {
+			return this.window.getInt(this.current() + 8);
+		}
+
+		/**
+		 * Fetches the weight of the current measurement.
+		 *
+		 * @return double The weight, in kilograms.
+		 *
+		 * @throws IllegalStateException When the cursor is not on a measurement.
+		 */
+		public double getWeightKg() {
+			return this.window.getDouble(this.current() + 12);
+		}
+
+		/**
+		 * Fetches the height of the current measurement.
+		 *
+		 * @return double The height, in meters.
+		 *
+		 * @throws IllegalStateException When the cursor is not on a measurement.
+		 */
+		public double getHeightM() {
+			return this.window.getDouble(this.current() + 20);
+		}
+
+		/**
+		 * Fetches the BMI of the current measurement.
+		 *
+		 * @return double The BMI.
+		 *
+		 * @throws IllegalStateException When the cursor is not on a measurement.
+		 */
+		public double getBmi() {
+			return this.window.getDouble(this.current() + 28);
+		}
+
+		/**
+		 * Fetches the category of the BMI of the current measurement.
+		 *
+		 * @return byte The category of the BMI, as given by the classifier used.
+		 *
+		 * @throws IllegalStateException When the cursor is not on a measurement.
+		 */
+		public byte getCategory() {
+			return this.window.get(this.current() + 36);
+		}
+
+		/**
+		 * Fetches the unit the weight of the current measurement was entered in.
+		 *
+		 * @return WeightUnit The unit the weight was entered in.
+		 *
+		 * @throws IllegalStateException When the cursor is not on a measurement.
+		 */
+		public WeightUnit getWeightUnit() {
+			return WEIGHT_UNITS[this.window.get(this.current() + 37)];
+		}
+
+		/**
+		 * Fetches the unit the height of the current measurement was entered in.
+		 *
+		 * @return HeightUnit The unit the height was entered in.
+		 *
+		 * @throws IllegalStateException When the cursor is not on a measurement.
+		 */
+		public HeightUnit getHeightUnit() {
+			return HEIGHT_UNITS[this.window.get(this.current() + 38)];
+		}
+
+		/**
+		 * Copies the current measurement out of the file.
+		 *
+		 * @return Measurement The current measurement.
+		 */
+		public Measurement toMeasurement() {
+			return new Measurement(
+					this.getProfile(),
+					this.getTimestamp(),
+					this.getWeightKg(),
+					this.getHeightM(),
+					this.getBmi(),
+					this.getCategory(),
+					this.getWeightUnit(),
+					this.getHeightUnit()
+			);
+		}
+
+		/**
+		 * Maps the window starting at the given record.
+		 *
+		 * @param record The index of the first record of the window.
+		 *
+		 * @throws IOException When the file could not be mapped.
+		 */
+		private void map(long record) throws IOException {
+			int records = (int) Math.min(WINDOW_RECORDS, this.end - record);
+
+			this.window = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + record * RECORD_SIZE, (long) records * RECORD_SIZE);
+			this.window.order(ByteOrder.LITTLE_ENDIAN);
+			this.windowStart = record;
+			this.windowRecords = records;
+		}
+
+		/**
+		 * Fetches the offset of the current record.
+		 *
+		 * @return int The offset within the window.
+		 *
+		 * @throws IllegalStateException When the cursor is not on a measurement.
+		 */
+		private int current() {
+			if (this.offset < 0)
+				throw new IllegalStateException("The cursor is not on a measurement.");
+
+			return this.offset;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.satch_navida.myapplication.history;
+
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+
+/**
+ * A single measurement of a profile, as kept by the {@link HistoryStore}. The weight and the height
+ * are kept in the Metric System, along with the units they were entered in.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class Measurement {
+	// PRIVATE VARIABLES
+	/**
+	 * The profile the measurement belongs to.
+	 */
+	private final int profile;
+	/**
+	 * When the measurement was taken, in milliseconds since the epoch.
+	 */
+	private final long timestamp;
+	/**
+	 * The weight, in kilograms.
+	 */
+	private final double weightKg;
+	/**
+	 * The height, in meters.
+	 */
+	private final double heightM;
+	/**
+	 * The BMI.
+	 */
+	private final double bmi;
+	/**
+	 * The category of the BMI, as given by the classifier used.
+	 */
+	private final byte category;
+	/**
+	 * The unit the weight was entered in.
+	 */
+	private final WeightUnit weightUnit;
+	/**
+	 * The unit the height was entered in.
+	 */
+	private final HeightUnit heightUnit;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code Measurement}.
+	 *
+	 * @param profile The profile the measurement belongs to.
+	 * @param timestamp When the measurement was taken, in milliseconds since the epoch.
+	 * @param weightKg The weight, in kilograms.
+	 * @param heightM The height, in meters.
+	 * @param bmi The BMI.
+	 * @param category The category of the BMI, as given by the classifier used.
+	 * @param weightUnit The unit the weight was entered in.
+	 * @param heightUnit The unit the height was entered in.
+	 */
+	public Measurement(int profile, long timestamp, double weightKg, double heightM, double bmi, byte category, WeightUnit weightUnit, HeightUnit heightUnit) {
+		if (weightUnit == null)
+			throw new NullPointerException("\"weightUnit\" should not be null.");
+		if (heightUnit == null)
+			throw new NullPointerException("\"heightUnit\" should not be null.");
+
+		this.profile = profile;
+		this.timestamp = timestamp;
+		this.weightKg = weightKg;
+		this.heightM = heightM;
+		this.bmi = bmi;
+		this.category = category;
+		this.weightUnit = weightUnit;
+		this.heightUnit = heightUnit;
+	}
+
+	// PUBLIC METHODS
+
+	public int getProfile() {
+		return this.profile;
+	}
+
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	public double getWeightKg() {
+		return this.weightKg;
+	}
+
+	public double getHeightM() {
+		return this.heightM;
+	}
+
+	public double getBmi() {
+		return this.bmi;
+	}
+
+	public byte getCategory() {
+		return this.category;
+	}
+
+	public WeightUnit getWeightUnit() {
+		return this.weightUnit;
+	}
+
+	public HeightUnit getHeightUnit() {
+		return this.heightUnit;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {profile: %2$d, timestamp: %3$d, weightKg: %4$s, heightM: %5$s, bmi: %6$s, category: %7$d, weightUnit: %8$s, heightUnit: %9$s}",
+				this.getClass().getSimpleName(),
+				this.profile,
+				this.timestamp,
+				this.weightKg,
+				this.heightM,
+				this.bmi,
+				this.category,
+				this.weightUnit,
+				this.heightUnit
+		);
+	}
+}
@@ -0,0 +1,31 @@
+package com.satch_navida.myapplication.logging;
+
+/**
+ * Where the core reports what it could not throw, such as a rule that failed while being checked.
+ * The Android app writes these to {@code android.util.Log}; a server could hand them to its own
+ * logging library instead.<br>
+ * <br>
+ * Implementations are called from whichever thread found the problem, thus must be thread-safe.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ * @see Logging
+ */
+public interface Logger {
+	/**
+	 * Reports a debugging message.
+	 *
+	 * @param tag Identifies where the message came from.
+	 * @param message The message.
+	 */
+	void debug(String tag, String message);
+
+	/**
+	 * Reports an error.
+	 *
+	 * @param tag Identifies where the error came from.
+	 * @param message The message.
+	 * @param throwable The cause of the error. Could be {@code null}.
+	 */
+	void error(String tag, String message, Throwable throwable);
+}
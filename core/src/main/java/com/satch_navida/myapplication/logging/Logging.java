@@ -0,0 +1,94 @@
+package com.satch_navida.myapplication.logging;
+
+import java.util.logging.Level;
+
+/**
+ * The {@link Logger} used all throughout the core. Unless replaced through {@link #setLogger(Logger)},
+ * everything is reported through {@code java.util.logging}, which every JVM has.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class Logging {
+	// PRIVATE VARIABLES
+	/**
+	 * The logger in use.
+	 */
+	private static volatile Logger logger = new JavaLogger();
+
+	// CONSTRUCTORS
+
+	private Logging() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the logger in use.
+	 *
+	 * @return Logger The logger in use.
+	 */
+	public static Logger getLogger() {
+		return logger;
+	}
+
+	/**
+	 * Replaces the logger in use.
+	 *
+	 * @param logger The new logger.
+	 */
+	public static void setLogger(Logger logger) {
+		if (logger == null)
+			throw new NullPointerException("\"logger\" should not be null.");
+
+		Logging.logger = logger;
+	}
+
+	/**
+	 * Reports a debugging message through the logger in use.
+	 *
+	 * @param tag Identifies where the message came from.
+	 * @param message The message.
+	 */
+	public static void debug(String tag, String message) {
+		logger.debug(tag, message);
+	}
+
+	/**
+	 * Reports an error through the logger in use.
+	 *
+	 * @param tag Identifies where the error came from.
+	 * @param message The message.
+	 */
+	public static void error(String tag, String message) {
+		logger.error(tag, message, null);
+	}
+
+	/**
+	 * Reports an error through the logger in use.
+	 *
+	 * @param tag Identifies where the error came from.
+	 * @param message The message.
+	 * @param throwable The cause of the error. Could be {@code null}.
+	 */
+	public static void error(String tag, String message, Throwable throwable) {
+		logger.error(tag, message, throwable);
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * Reports everything through {@code java.util.logging}, using the tag as the name of the logger.
+	 */
+	private static final class JavaLogger implements Logger {
+		@Override
+		public void debug(String tag, String message) {
+			java.util.logging.Logger.getLogger(tag).log(Level.FINE, message);
+		}
+
+		@Override
+		public void error(String tag, String message, Throwable throwable) {
+			java.util.logging.Logger.getLogger(tag).log(Level.SEVERE, message, throwable);
+		}
+	}
+}
@@ -0,0 +1,347 @@
+package com.satch_navida.myapplication.pediatric;
+
+import com.satch_navida.myapplication.validation.rules.NumberScanner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A BMI-for-age reference table of the LMS method, wherein the distribution of the BMI at every
+ * age is described by its Box-Cox power ({@code L}), median ({@code M}), and coefficient of
+ * variation ({@code S}). The table is held as primitive arrays, one set per sex sorted by age, and
+ * the values between two ages are linearly interpolated.<br>
+ * <br>
+ * A table is read from a CSV file with a header naming at least the {@code Sex}, {@code Agemos},
+ * {@code L}, {@code M} and {@code S} columns, in any order and case; which is the layout of the
+ * {@code bmiagerev.csv} file published by the CDC. The sex is {@code 1} for male and {@code 2} for
+ * female; any other column, and any repeated header, is ignored.<br>
+ * <br>
+ * No reference table is bundled yet; the published file is meant to be read once through
+ * {@link #parse(Reader)}, then the table kept and shared.<br>
+ * <br>
+ * An {@code LmsTable} is immutable and thus, can be shared freely across threads.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class LmsTable {
+	// PUBLIC VARIABLES
+	/**
+	 * The sex of a male, as coded by the CDC.
+	 */
+	public static final byte MALE = 1;
+	/**
+	 * The sex of a female, as coded by the CDC.
+	 */
+	public static final byte FEMALE = 2;
+
+	// PRIVATE VARIABLES
+	/**
+	 * The ages of each sex, in months and in ascending order, indexed by {@code sex - 1}.
+	 */
+	private final double[][] ages;
+	/**
+	 * The Box-Cox power at each age.
+	 */
+	private final double[][] l;
+	/**
+	 * The median at each age.
+	 */
+	private final double[][] m;
+	/**
+	 * The coefficient of variation at each age.
+	 */
+	private final double[][] s;
+
+	// CONSTRUCTORS
+
+	private LmsTable(double[][] ages, double[][] l, double[][] m, double[][] s) {
+		this.ages = ages;
+		this.l = l;
+		this.m = m;
+		this.s = s;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Reads a table from the given CSV.
+	 *
+	 * @param reader The CSV, which is read until its end but not closed.
+	 *
+	 * @return LmsTable The table.
+	 *
+	 * @throws IOException When the CSV could not be read.
+	 * @throws IllegalArgumentException When a column is missing, a value is not a number, or a sex has no rows.
+	 */
+	public static LmsTable parse(Reader reader) throws IOException {
+		BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+
+		String line = lines.readLine();
+		if (line == null)
+			throw new IllegalArgumentException("The table is empty.");
+
+		String[] header = line.split(",");
+		int sexColumn = columnOf(header, "sex");
+		int ageColumn = columnOf(header, "agemos");
+		int lColumn = columnOf(header, "l");
+		int mColumn = columnOf(header, "m");
+		int sColumn = columnOf(header, "s");
+
+		Column[] columns = {new Column(), new Column()};
+		int number = 1;
+
+		while ((line = lines.readLine()) != null) {
+			number++;
+
+			if (line.trim().isEmpty())
+				continue;
+
+			// Some files repeat their header between the sexes.
+			String[] cells = line.split(",");
+			if (sexColumn < cells.length && unquote(cells[sexColumn]).equalsIgnoreCase(unquote(header[sexColumn])))
+				continue;
+
+			int sex = (int) valueOf(cells, sexColumn, number);
+			if (sex != MALE && sex != FEMALE)
+				throw new IllegalArgumentException("Line " + number + " has an unknown sex: " + sex);
+
+			columns[sex - 1].add(
+					valueOf(cells, ageColumn, number),
+					valueOf(cells, lColumn, number),
+					valueOf(cells, mColumn, number),
+					valueOf(cells, sColumn, number)
+			);
+		}
+
+		double[][] ages = new double[2][];
+		double[][] l = new double[2][];
+		double[][] m = new double[2][];
+		double[][] s = new double[2][];
+
+		for (int sex = 0; sex < 2; sex++) {
+			Column column = columns[sex];
+			if (column.size == 0)
+				throw new IllegalArgumentException("The table has no rows for the sex " + (sex + 1) + ".");
+
+			column.sort();
+			ages[sex] = Arrays.copyOf(column.ages, column.size);
+			l[sex] = Arrays.copyOf(column.l, column.size);
+			m[sex] = Arrays.copyOf(column.m, column.size);
+			s[sex] = Arrays.copyOf(column.s, column.size);
+		}
+
+		return new LmsTable(ages, l, m, s);
+	}
+
+	/**
+	 * Computes the z-score of a BMI, interpolating the {@code L}, {@code M} and {@code S} between the
+	 * two nearest ages of the table.
+	 *
+	 * @param sex The sex; either {@link #MALE} or {@link #FEMALE}.
+	 * @param ageMonths The age, in months.
+	 * @param bmi The BMI.
+	 *
+	 * @return double The z-score; or {@link Double#NaN} if the sex is unknown, the age is outside the
+	 * table, or the BMI is not positive.
+	 */
+	public double zScore(byte sex, double ageMonths, double bmi) {
+		if ((sex != MALE && sex != FEMALE) || !(bmi > 0))
+			return Double.NaN;
+
+		double[] ages = this.ages[sex - 1];
+		int index = Arrays.binarySearch(ages, ageMonths);
+
+		double l;
+		double m;
+		double s;
+		if (index >= 0) {
+			l = this.l[sex - 1][index];
+			m = this.m[sex - 1][index];
+			s = this.s[sex - 1][index];
+		}
+		else {
+			int upper = -index - 1;
+			// Also rejects a NaN age, which is sorted after every other age.
+			if (upper == 0 || upper == ages.length)
+				return Double.NaN;
+
+			int lower = upper - 1;
+			double t = (ageMonths - ages[lower]) / (ages[upper] - ages[lower]);
+
+			l = interpolate(this.l[sex - 1], lower, t);
+			m = interpolate(this.m[sex - 1], lower, t);
+			s = interpolate(this.s[sex - 1], lower, t);
+		}
+
+		// The Box-Cox transformation, which becomes a logarithm as L nears zero.
+		if (Math.abs(l) < 1e-12)
+			return Math.log(bmi / m) / s;
+
+		return (Math.pow(bmi / m, l) - 1) / (l * s);
+	}
+
+	/**
+	 * Fetches the lowest age of the table for the given sex.
+	 *
+	 * @param sex The sex; either {@link #MALE} or {@link #FEMALE}.
+	 *
+	 * @return double The lowest age, in months.
+	 *
+	 * @throws IllegalArgumentException When the sex is unknown.
+	 */
+	public double getMinimumAge(byte sex) {
+		return this.ages[indexOf(sex)][0];
+	}
+
+	/**
+	 * Fetches the highest age of the table for the given sex.
+	 *
+	 * @param sex The sex; either {@link #MALE} or {@link #FEMALE}.
+	 *
+	 * @return double The highest age, in months.
+	 *
+	 * @throws IllegalArgumentException When the sex is unknown.
+	 */
+	public double getMaximumAge(byte sex) {
+		double[] ages = this.ages[indexOf(sex)];
+
+		return ages[ages.length - 1];
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Fetches the index of the arrays of the given sex.
+	 *
+	 * @param sex The sex; either {@link #MALE} or {@link #FEMALE}.
+	 *
+	 * @return int The index.
+	 *
+	 * @throws IllegalArgumentException When the sex is unknown.
+	 */
+	private static int indexOf(byte sex) {
+		if (sex != MALE && sex != FEMALE)
+			throw new IllegalArgumentException("Unknown sex: " + sex);
+
+		return sex - 1;
+	}
+
+	/**
+	 * Linearly interpolates between a value and the next one.
+	 *
+	 * @param values The values.
+	 * @param lower The index of the first value.
+	 * @param t How far between both values, from {@code 0} to {@code 1}.
+	 *
+	 * @return double The interpolated value.
+	 */
+	private static double interpolate(double[] values, int lower, double t) {
+		return values[lower] + (values[lower + 1] - values[lower]) * t;
+	}
+
+	/**
+	 * Finds a column within the header, ignoring the case and the quotes.
+	 *
+	 * @param header The cells of the header.
+	 * @param name The name of the column, in lowercase.
+	 *
+	 * @return int The index of the column.
+	 *
+	 * @throws IllegalArgumentException When the header has no such column.
+	 */
+	private static int columnOf(String[] header, String name) {
+		for (int i = 0; i < header.length; i++) {
+			if (unquote(header[i]).toLowerCase(Locale.ROOT).equals(name))
+				return i;
+		}
+
+		throw new IllegalArgumentException("The table has no \"" + name + "\" column.");
+	}
+
+	/**
+	 * Parses the number of a cell.
+	 *
+	 * @param cells The cells of the line.
+	 * @param column The index of the cell.
+	 * @param line The number of the line, for the error message.
+	 *
+	 * @return double The number.
+	 *
+	 * @throws IllegalArgumentException When the cell is missing or not a number.
+	 */
+	private static double valueOf(String[] cells, int column, int line) {
+		double value = column < cells.length ? NumberScanner.parse(unquote(cells[column])) : Double.NaN;
+		if (Double.isNaN(value))
+			throw new IllegalArgumentException("Line " + line + " has no number at column " + (column + 1) + ".");
+
+		return value;
+	}
+
+	/**
+	 * Removes the surrounding whitespace and the quotes of a cell.
+	 *
+	 * @param cell The cell.
+	 *
+	 * @return String The bare cell.
+	 */
+	private static String unquote(String cell) {
+		return cell.trim().replace("\"", "");
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The rows of a single sex, while the table is being read.
+	 */
+	private static final class Column {
+		double[] ages = new double[256];
+		double[] l = new double[256];
+		double[] m = new double[256];
+		double[] s = new double[256];
+		int size = 0;
+
+		void add(double age, double l, double m, double s) {
+			if (this.size == this.ages.length) {
+				this.ages = Arrays.copyOf(this.ages, this.size * 2);
+				this.l = Arrays.copyOf(this.l, this.size * 2);
+				this.m = Arrays.copyOf(this.m, this.size * 2);
+				this.s = Arrays.copyOf(this.s, this.size * 2);
+			}
+
+			this.ages[this.size] = age;
+			this.l[this.size] = l;
+			this.m[this.size] = m;
+			this.s[this.size] = s;
+			this.size++;
+		}
+
+		/**
+		 * Sorts the rows by their age, which the files usually already are.
+		 */
+		void sort() {
+			for (int i = 1; i < this.size; i++) {
+				for (int j = i; j > 0 && this.ages[j - 1] > this.ages[j]; j--) {
+					swap(this.ages, j);
+					swap(this.l, j);
+					swap(this.m, j);
+					swap(this.s, j);
+				}
+			}
+
+			for (int i = 1; i < this.size; i++) {
+				if (this.ages[i] == this.ages[i - 1])
+					throw new IllegalArgumentException("The table has the age " + this.ages[i] + " more than once.");
+			}
+		}
+
+		private static void swap(double[] values, int j) {
+			double value = values[j];
+			values[j] = values[j - 1];
+			values[j - 1] = value;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package com.satch_navida.myapplication.pediatric;
+
+import com.satch_navida.myapplication.bmi.BmiClassifier;
+import com.satch_navida.myapplication.bmi.BmiEngine;
+
+/**
+ * Scores the BMI of children and teens against a BMI-for-age {@link LmsTable}, as the adult cutoffs
+ * do not apply to them. A BMI is scored into its z-score, its percentile among the children of the
+ * same age and sex, and the same categories as {@link BmiEngine}, taken from the percentile
+ * instead.<br>
+ * <br>
+ * Like {@link BmiEngine}, many children can be scored at once from a structure of arrays, one per
+ * column, so that a whole cohort is scored in a single pass without allocating anything.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class PediatricBmi {
+	// PUBLIC VARIABLES
+	/**
+	 * The category of a child that could not be scored, such as when the age is outside the table.
+	 */
+	public static final byte UNCLASSIFIED = -1;
+	/**
+	 * The categories of the CDC by percentile: below the 5th is {@link BmiEngine#UNDERWEIGHT}, below
+	 * the 85th is {@link BmiEngine#HEALTHY_WEIGHT}, below the 95th is {@link BmiEngine#OVERWEIGHT},
+	 * and anything above is {@link BmiEngine#OBESE}.
+	 */
+	public static final BmiClassifier PERCENTILES = new BmiClassifier(
+			"CDC BMI-for-age",
+			new double[] {5.0, 85.0, 95.0},
+			new String[] {"Underweight", "Healthy Weight", "Overweight", "Obese"}
+	);
+
+	// CONSTRUCTORS
+
+	private PediatricBmi() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Computes the percentile of a z-score; that is, the share of the reference population below it.
+	 *
+	 * @param zScore The z-score.
+	 *
+	 * @return double The percentile, from {@code 0} to {@code 100}; or {@link Double#NaN} if the
+	 * z-score is {@code NaN}.
+	 */
+	public static double percentile(double zScore) {
+		return 100 * cumulativeProbability(zScore);
+	}
+
+	/**
+	 * Fetches the category of a percentile.
+	 *
+	 * @param percentile The percentile.
+	 *
+	 * @return byte The category; one of the categories of {@link BmiEngine}, or {@link #UNCLASSIFIED}
+	 * if the percentile is {@code NaN}.
+	 */
+	public static byte classify(double percentile) {
+		return Double.isNaN(percentile) ? UNCLASSIFIED : PERCENTILES.classify(percentile);
+	}
+
+	/**
+	 * Scores every child within the given range.
+	 *
+	 * @param table The reference table.
+	 * @param ageMonths The ages of the children, in months.
+	 * @param sexes The sexes of the children; either {@link LmsTable#MALE} or {@link LmsTable#FEMALE}.
+	 * @param bmi The BMI of the children.
+	 * @param zScores Where the z-score of each child is written on, at the same index.
+	 * @param percentiles Where the percentile of each child is written on, at the same index.
+	 * @param categories Where the category of each child is written on, at the same index.
+	 * @param offset The index of the first child.
+	 * @param length The number of children.
+	 *
+	 * @throws IndexOutOfBoundsException When the range is out of bounds of any of the arrays.
+	 */
+	public static void score(LmsTable table, double[] ageMonths, byte[] sexes, double[] bmi, double[] zScores, double[] percentiles, byte[] categories, int offset, int length) {
+		if (table == null)
+			throw new NullPointerException("\"table\" should not be null.");
+
+		int end = offset + length;
+		if (offset < 0 || length < 0
+				|| end > ageMonths.length || end > sexes.length || end > bmi.length
+				|| end > zScores.length || end > percentiles.length || end > categories.length)
+			throw new IndexOutOfBoundsException("The range [" + offset + ", " + end + ") is out of bounds.");
+
+		for (int i = offset; i < end; i++) {
+			double zScore = table.zScore(sexes[i], ageMonths[i], bmi[i]);
+			double percentile = percentile(zScore);
+
+			zScores[i] = zScore;
+			percentiles[i] = percentile;
+			categories[i] = classify(percentile);
+		}
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Computes the cumulative probability of the standard normal distribution, through the
+	 * algorithm of Hart (1968) as given by West (2005), which is accurate to about {@code 1e-15}.
+	 *
+	 * @param z The z-score.
+	 *
+	 * @return double The probability of a value below the z-score.
+	 */
+	private static double cumulativeProbability(double z) {
+		if (Double.isNaN(z))
+			return Double.NaN;
+
+		double x = Math.abs(z);
+		double tail;
+
+		if (x > 37) {
+			tail = 0;
+		}
+		else if (x < 7.07106781186547) {
+			double numerator = 3.52624965998911E-02 * x + 0.700383064443688;
+			numerator = numerator * x + 6.37396220353165;
+			numerator = numerator * x + 33.912866078383;
+			numerator = numerator * x + 112.079291497871;
+			numerator = numerator * x + 221.213596169931;
+			numerator = numerator * x + 220.206867912376;
+
+			double denominator = 8.83883476483184E-02 * x + 1.75566716318264;
+			denominator = denominator * x + 16.064177579207;
+			denominator = denominator * x + 86.7807322029461;
+			denominator = denominator * x + 296.564248779674;
+			denominator = denominator * x + 637.333633378831;
+			denominator = denominator * x + 793.826512519948;
+			denominator = denominator * x + 440.413735824752;
+
+			tail = Math.exp(-x * x / 2) * numerator / denominator;
+		}
+		else {
+			double fraction = x + 0.65;
+			fraction = x + 4 / fraction;
+			fraction = x + 3 / fraction;
+			fraction = x + 2 / fraction;
+			fraction = x + 1 / fraction;
+
+			tail = Math.exp(-x * x / 2) / fraction / 2.506628274631;
+		}
+
+		return z > 0 ? 1 - tail : tail;
+	}
+}
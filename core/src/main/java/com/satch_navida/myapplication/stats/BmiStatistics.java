@@ -0,0 +1,317 @@
+package com.satch_navida.myapplication.stats;
+
+import com.satch_navida.myapplication.history.HistoryStore;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the statistics of the BMIs computed so far, updated as each one is computed: the mean,
+ * variance, moving average and trend of every profile, along with the quantiles across every
+ * profile. Each of them takes constant memory and constant amortized time per BMI; thus, the
+ * history never has to be scanned again after it is loaded once through
+ * {@link #addAll(HistoryStore.Cursor)}.<br>
+ * <br>
+ * A {@code BmiStatistics} is not thread-safe.
+ *
+ * <pre>{@code
+ * statistics.add(profile, System.currentTimeMillis(), bmi);
+ * BmiStatistics.Snapshot snapshot = statistics.snapshot(profile);
+ * double median = statistics.quantile(0.5);
+ * }</pre>
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class BmiStatistics {
+	// PUBLIC VARIABLES
+	/**
+	 * The number of readings the moving average is centered on when none is given.
+	 */
+	public static final int DEFAULT_SPAN = 7;
+
+	// PRIVATE VARIABLES
+	/**
+	 * The number of milliseconds in a day, the unit of time of the trend.
+	 */
+	private static final double DAY = 24 * 60 * 60 * 1000.0;
+
+	/**
+	 * The number of readings the moving average is centered on.
+	 */
+	private final int span;
+	/**
+	 * The statistics of every profile, by its number.
+	 */
+	private final Map<Integer, ProfileStatistics> profiles = new HashMap<>();
+	/**
+	 * The statistics across every profile.
+	 */
+	private final RunningStats population = new RunningStats();
+	/**
+	 * The quantiles across every profile.
+	 */
+	private final TDigest quantiles;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code BmiStatistics} with the {@link #DEFAULT_SPAN} and the
+	 * {@link TDigest#DEFAULT_COMPRESSION}.
+	 */
+	public BmiStatistics() {
+		this(DEFAULT_SPAN, TDigest.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * Creates an instance of {@code BmiStatistics}.
+	 *
+	 * @param span The number of readings the moving average of a profile is centered on.
+	 * @param compression The compression of the quantiles; see {@link TDigest#TDigest(double)}.
+	 *
+	 * @throws IllegalArgumentException When {@code span} is less than one, or {@code compression}
+	 * is less than {@code 10}.
+	 */
+	public BmiStatistics(int span, double compression) {
+		if (span < 1)
+			throw new IllegalArgumentException("\"span\" should be at least 1.");
+
+		this.span = span;
+		this.quantiles = new TDigest(compression);
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Adds a BMI. A {@link Double#NaN} is ignored.
+	 *
+	 * @param profile The profile the BMI belongs to.
+	 * @param timestamp When the BMI was computed, in milliseconds since the epoch.
+	 * @param bmi The BMI.
+	 *
+	 * @return BmiStatistics This instance of {@code BmiStatistics}.
+	 */
+	public BmiStatistics add(int profile, long timestamp, double bmi) {
+		if (Double.isNaN(bmi))
+			return this;
+
+		ProfileStatistics statistics = this.profiles.get(profile);
+		if (statistics == null)
+			this.profiles.put(profile, statistics = new ProfileStatistics(this.span));
+
+		statistics.add(timestamp, bmi);
+		this.population.add(bmi);
+		this.quantiles.add(bmi);
+
+		return this;
+	}
+
+	/**
+	 * Adds every BMI the cursor moves through, such as the whole history when the app starts.
+	 *
+	 * @param cursor The cursor, at the start of a scan.
+	 *
+	 * @return BmiStatistics This instance of {@code BmiStatistics}.
+	 *
+	 * @throws IOException When the history could not be read.
+	 */
+	public BmiStatistics addAll(HistoryStore.Cursor cursor) throws IOException {
+		if (cursor == null)
+			throw new NullPointerException("\"cursor\" should not be null.");
+
+		while (cursor.next())
+			this.add(cursor.getProfile(), cursor.getTimestamp(), cursor.getBmi());
+
+		return this;
+	}
+
+	/**
+	 * Takes a snapshot of the statistics of a profile.
+	 *
+	 * @param profile The profile.
+	 *
+	 * @return Snapshot The statistics of the profile as of now; empty if it has no BMI yet.
+	 */
+	public Snapshot snapshot(int profile) {
+		ProfileStatistics statistics = this.profiles.get(profile);
+
+		if (statistics == null)
+			return Snapshot.EMPTY;
+
+		return statistics.snapshot();
+	}
+
+	/**
+	 * Takes a snapshot of the statistics across every profile. It has neither a moving average nor a
+	 * trend, as the BMIs of different profiles do not form a single series.
+	 *
+	 * @return Snapshot The statistics across every profile as of now.
+	 */
+	public Snapshot population() {
+		return new Snapshot(this.population, Double.NaN, Double.NaN);
+	}
+
+	/**
+	 * Estimates the BMI below which the given fraction of the BMIs across every profile fall.
+	 *
+	 * @param q The fraction, within {@code [0, 1]}, such as {@code 0.5} for the median.
+	 *
+	 * @return double The estimated BMI; or {@link Double#NaN} if there is no BMI yet.
+	 *
+	 * @throws IllegalArgumentException When {@code q} is out of range.
+	 */
+	public double quantile(double q) {
+		return this.quantiles.quantile(q);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {profiles: %2$d, population: %3$s, quantiles: %4$s}",
+				this.getClass().getSimpleName(),
+				this.profiles.size(),
+				this.population,
+				this.quantiles
+		);
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The statistics of a single profile.
+	 */
+	private static final class ProfileStatistics {
+		private final RunningStats stats = new RunningStats();
+		private final ExponentialMovingAverage average;
+		private final LinearTrend trend = new LinearTrend();
+
+		private ProfileStatistics(int span) {
+			this.average = ExponentialMovingAverage.ofSpan(span);
+		}
+
+		private void add(long timestamp, double bmi) {
+			this.stats.add(bmi);
+			this.average.add(bmi);
+			this.trend.add(timestamp / DAY, bmi);
+		}
+
+		private Snapshot snapshot() {
+			return new Snapshot(this.stats, this.average.getValue(), this.trend.getSlope());
+		}
+	}
+
+	/**
+	 * The statistics as of when the snapshot was taken. A {@code Snapshot} is immutable and thus, can
+	 * be shared freely across threads.
+	 */
+	public static final class Snapshot {
+		/**
+		 * The snapshot of a profile with no BMI yet.
+		 */
+		public static final Snapshot EMPTY = new Snapshot(new RunningStats(), Double.NaN, Double.NaN);
+
+		private final long count;
+		private final double mean;
+		private final double standardDeviation;
+		private final double min;
+		private final double max;
+		private final double movingAverage;
+		private final double trendPerDay;
+
+		private Snapshot(RunningStats stats, double movingAverage, double trendPerDay) {
+			this.count = stats.getCount();
+			this.mean = stats.getMean();
+			this.standardDeviation = stats.getStandardDeviation();
+			this.min = stats.getMin();
+			this.max = stats.getMax();
+			this.movingAverage = movingAverage;
+			this.trendPerDay = trendPerDay;
+		}
+
+		/**
+		 * Fetches the number of BMIs.
+		 *
+		 * @return long The number of BMIs.
+		 */
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * Fetches the mean of the BMIs.
+		 *
+		 * @return double The mean; or {@link Double#NaN} if there is none.
+		 */
+		public double getMean() {
+			return this.mean;
+		}
+
+		/**
+		 * Fetches the sample standard deviation of the BMIs.
+		 *
+		 * @return double The standard deviation; or {@link Double#NaN} if there are less than two.
+		 */
+		public double getStandardDeviation() {
+			return this.standardDeviation;
+		}
+
+		/**
+		 * Fetches the smallest BMI.
+		 *
+		 * @return double The smallest BMI; or {@link Double#NaN} if there is none.
+		 */
+		public double getMin() {
+			return this.min;
+		}
+
+		/**
+		 * Fetches the largest BMI.
+		 *
+		 * @return double The largest BMI; or {@link Double#NaN} if there is none.
+		 */
+		public double getMax() {
+			return this.max;
+		}
+
+		/**
+		 * Fetches the exponential moving average of the BMIs, following the recent ones.
+		 *
+		 * @return double The moving average; or {@link Double#NaN} if there is none.
+		 */
+		public double getMovingAverage() {
+			return this.movingAverage;
+		}
+
+		/**
+		 * Fetches the slope of the least-squares line through the BMIs over time.
+		 *
+		 * @return double The change of BMI per day; or {@link Double#NaN} if the BMIs were not
+		 * computed at two distinct times yet.
+		 */
+		public double getTrendPerDay() {
+			return this.trendPerDay;
+		}
+
+		/**
+		 * @inheritDoc
+		 */
+		@Override
+		public String toString() {
+			return String.format(
+					"[%1$s]: {count: %2$d, mean: %3$s, standardDeviation: %4$s, min: %5$s, max: %6$s, movingAverage: %7$s, trendPerDay: %8$s}",
+					this.getClass().getSimpleName(),
+					this.count,
+					this.mean,
+					this.standardDeviation,
+					this.min,
+					this.max,
+					this.movingAverage,
+					this.trendPerDay
+			);
+		}
+	}
+}
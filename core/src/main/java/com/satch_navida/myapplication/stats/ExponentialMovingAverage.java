@@ -0,0 +1,105 @@
+package com.satch_navida.myapplication.stats;
+
+/**
+ * Keeps an exponential moving average of a stream of values, wherein every new value weighs
+ * {@code alpha} and all of the ones before it weigh the rest. Thus, the average follows the recent
+ * values without keeping any of them.<br>
+ * <br>
+ * An {@code ExponentialMovingAverage} is not thread-safe.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ExponentialMovingAverage {
+	// PRIVATE VARIABLES
+	/**
+	 * The weight of every new value, within {@code (0, 1]}.
+	 */
+	private final double alpha;
+	/**
+	 * The current average; or {@link Double#NaN} until the first value.
+	 */
+	private double value = Double.NaN;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code ExponentialMovingAverage}.
+	 *
+	 * @param alpha The weight of every new value, within {@code (0, 1]}.
+	 *
+	 * @throws IllegalArgumentException When {@code alpha} is out of range.
+	 */
+	public ExponentialMovingAverage(double alpha) {
+		if (!(alpha > 0 && alpha <= 1))
+			throw new IllegalArgumentException("\"alpha\" should be within (0, 1].");
+
+		this.alpha = alpha;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Creates an {@code ExponentialMovingAverage} whose weights are as centered as a simple moving
+	 * average over the given number of values, being {@code alpha = 2 / (span + 1)}.
+	 *
+	 * @param span The number of values, at least one.
+	 *
+	 * @return ExponentialMovingAverage The average.
+	 *
+	 * @throws IllegalArgumentException When {@code span} is less than one.
+	 */
+	public static ExponentialMovingAverage ofSpan(int span) {
+		if (span < 1)
+			throw new IllegalArgumentException("\"span\" should be at least 1.");
+
+		return new ExponentialMovingAverage(2.0 / (span + 1));
+	}
+
+	/**
+	 * Adds a value. The first value becomes the average as is. A {@link Double#NaN} is ignored.
+	 *
+	 * @param value The value.
+	 *
+	 * @return ExponentialMovingAverage This instance of {@code ExponentialMovingAverage}.
+	 */
+	public ExponentialMovingAverage add(double value) {
+		if (Double.isNaN(value))
+			return this;
+
+		this.value = Double.isNaN(this.value) ? value : this.value + this.alpha * (value - this.value);
+
+		return this;
+	}
+
+	/**
+	 * Fetches the weight of every new value.
+	 *
+	 * @return double The weight, within {@code (0, 1]}.
+	 */
+	public double getAlpha() {
+		return this.alpha;
+	}
+
+	/**
+	 * Fetches the current average.
+	 *
+	 * @return double The average; or {@link Double#NaN} if there is no value yet.
+	 */
+	public double getValue() {
+		return this.value;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {alpha: %2$s, value: %3$s}",
+				this.getClass().getSimpleName(),
+				this.alpha,
+				this.value
+		);
+	}
+}
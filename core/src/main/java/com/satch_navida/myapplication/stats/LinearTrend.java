@@ -0,0 +1,104 @@
+package com.satch_navida.myapplication.stats;
+
+/**
+ * Keeps the least-squares line through a stream of points, updated one point at a time. The
+ * co-moments are updated the same way as the variance of {@link RunningStats}, around the running
+ * means instead of zero; thus, large {@code x} values such as timestamps do not lose the precision
+ * of the slope.<br>
+ * <br>
+ * A {@code LinearTrend} is not thread-safe.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class LinearTrend {
+	// PRIVATE VARIABLES
+	/**
+	 * The number of points added.
+	 */
+	private long count;
+	/**
+	 * The mean of the {@code x} of the points.
+	 */
+	private double meanX;
+	/**
+	 * The mean of the {@code y} of the points.
+	 */
+	private double meanY;
+	/**
+	 * The sum of the squared distances of the {@code x} from their mean.
+	 */
+	private double m2X;
+	/**
+	 * The sum of the products of the distances of {@code x} and {@code y} from their means.
+	 */
+	private double cXY;
+
+	// PUBLIC METHODS
+
+	/**
+	 * Adds a point. A point with a {@link Double#NaN} is ignored.
+	 *
+	 * @param x The {@code x} of the point, such as its time.
+	 * @param y The {@code y} of the point, such as its BMI.
+	 *
+	 * @return LinearTrend This instance of {@code LinearTrend}.
+	 */
+	public LinearTrend add(double x, double y) {
+		if (Double.isNaN(x) || Double.isNaN(y))
+			return this;
+
+		this.count++;
+		double deltaX = x - this.meanX;
+		this.meanX += deltaX / this.count;
+		this.meanY += (y - this.meanY) / this.count;
+		this.m2X += deltaX * (x - this.meanX);
+		this.cXY += deltaX * (y - this.meanY);
+
+		return this;
+	}
+
+	/**
+	 * Fetches the number of points added.
+	 *
+	 * @return long The number of points.
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Fetches the slope of the line, being the change of {@code y} per unit of {@code x}.
+	 *
+	 * @return double The slope; or {@link Double#NaN} if the points do not have two distinct
+	 * {@code x} yet.
+	 */
+	public double getSlope() {
+		return this.m2X == 0 ? Double.NaN : this.cXY / this.m2X;
+	}
+
+	/**
+	 * Fetches the {@code y} of the line at the given {@code x}.
+	 *
+	 * @param x The {@code x}.
+	 *
+	 * @return double The {@code y} of the line; or {@link Double#NaN} if the points do not have two
+	 * distinct {@code x} yet.
+	 */
+	public double predict(double x) {
+		return this.meanY + this.getSlope() * (x - this.meanX);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {count: %2$d, slope: %3$s}",
+				this.getClass().getSimpleName(),
+				this.count,
+				this.getSlope()
+		);
+	}
+}
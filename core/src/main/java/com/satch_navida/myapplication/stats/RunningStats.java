@@ -0,0 +1,169 @@
+package com.satch_navida.myapplication.stats;
+
+/**
+ * Keeps the count, mean, variance, minimum and maximum of a stream of values, updated one value at
+ * a time through Welford's method. Thus, adding a value takes constant time and memory, and the
+ * variance stays accurate even when the values are large and close to each other, unlike when
+ * subtracting the square of the sum from the sum of the squares.<br>
+ * <br>
+ * A {@code RunningStats} is not thread-safe.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class RunningStats {
+	// PRIVATE VARIABLES
+	/**
+	 * The number of values added.
+	 */
+	private long count;
+	/**
+	 * The mean of the values added.
+	 */
+	private double mean;
+	/**
+	 * The sum of the squared distances of the values from their mean.
+	 */
+	private double m2;
+	/**
+	 * The smallest value added.
+	 */
+	private double min = Double.NaN;
+	/**
+	 * The largest value added.
+	 */
+	private double max = Double.NaN;
+
+	// PUBLIC METHODS
+
+	/**
+	 * Adds a value. A {@link Double#NaN} is ignored.
+	 *
+	 * @param value The value.
+	 *
+	 * @return RunningStats This instance of {@code RunningStats}.
+	 */
+	public RunningStats add(double value) {
+		if (Double.isNaN(value))
+			return this;
+
+		this.count++;
+		double delta = value - this.mean;
+		this.mean += delta / this.count;
+		this.m2 += delta * (value - this.mean);
+
+		if (this.count == 1) {
+			this.min = value;
+			this.max = value;
+		}
+		else {
+			this.min = Math.min(this.min, value);
+			this.max = Math.max(this.max, value);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds every value of another {@code RunningStats}, as if they were added to this one.
+	 *
+	 * @param other The other {@code RunningStats}.
+	 *
+	 * @return RunningStats This instance of {@code RunningStats}.
+	 */
+	public RunningStats merge(RunningStats other) {
+		if (other == null)
+			throw new NullPointerException("\"other\" should not be null.");
+		if (other.count == 0)
+			return this;
+		if (this.count == 0) {
+			this.count = other.count;
+			this.mean = other.mean;
+			this.m2 = other.m2;
+			this.min = other.min;
+			this.max = other.max;
+			return this;
+		}
+
+		long count = this.count + other.count;
+		double delta = other.mean - this.mean;
+
+		this.m2 += other.m2 + delta * delta * ((double) this.count * other.count / count);
+		this.mean += delta * other.count / count;
+		this.count = count;
+		this.min = Math.min(this.min, other.min);
+		this.max = Math.max(this.max, other.max);
+
+		return this;
+	}
+
+	/**
+	 * Fetches the number of values added.
+	 *
+	 * @return long The number of values.
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Fetches the mean of the values added.
+	 *
+	 * @return double The mean; or {@link Double#NaN} if there is none.
+	 */
+	public double getMean() {
+		return this.count == 0 ? Double.NaN : this.mean;
+	}
+
+	/**
+	 * Fetches the sample variance of the values added.
+	 *
+	 * @return double The variance; or {@link Double#NaN} if there are less than two values.
+	 */
+	public double getVariance() {
+		return this.count < 2 ? Double.NaN : this.m2 / (this.count - 1);
+	}
+
+	/**
+	 * Fetches the sample standard deviation of the values added.
+	 *
+	 * @return double The standard deviation; or {@link Double#NaN} if there are less than two values.
+	 */
+	public double getStandardDeviation() {
+		return Math.sqrt(this.getVariance());
+	}
+
+	/**
+	 * Fetches the smallest value added.
+	 *
+	 * @return double The smallest value; or {@link Double#NaN} if there is none.
+	 */
+	public double getMin() {
+		return this.min;
+	}
+
+	/**
+	 * Fetches the largest value added.
+	 *
+	 * @return double The largest value; or {@link Double#NaN} if there is none.
+	 */
+	public double getMax() {
+		return this.max;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {count: %2$d, mean: %3$s, variance: %4$s, min: %5$s, max: %6$s}",
+				this.getClass().getSimpleName(),
+				this.count,
+				this.getMean(),
+				this.getVariance(),
+				this.min,
+				this.max
+		);
+	}
+}
@@ -0,0 +1,314 @@
+package com.satch_navida.myapplication.stats;
+
+import java.util.Arrays;
+
+/**
+ * Estimates the quantiles of a stream of values within a bounded memory, through a merging
+ * t-digest. The values are summarized into centroids, each being a mean and the number of values
+ * it stands for, wherein the centroids near either end of the distribution are kept small and the
+ * ones near the median are allowed to grow; thus, the estimates are the most accurate at the
+ * extreme quantiles, such as the 5th and the 95th.<br>
+ * <br>
+ * New values are only written into a buffer, then merged into the centroids once it is full, or
+ * once a quantile is queried. Merging sorts the buffer and walks it alongside the centroids, which
+ * are already sorted, into a second set of arrays; thus, adding a value takes constant amortized
+ * time, and no array is allocated after construction.<br>
+ * <br>
+ * A {@code TDigest} is not thread-safe.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class TDigest {
+	// PUBLIC VARIABLES
+	/**
+	 * The compression used when none is given, keeping about a hundred centroids.
+	 */
+	public static final double DEFAULT_COMPRESSION = 100;
+
+	// PRIVATE VARIABLES
+	/**
+	 * Bounds the number of centroids to about this value.
+	 */
+	private final double compression;
+	/**
+	 * The means of the centroids, in ascending order.
+	 */
+	private double[] means;
+	/**
+	 * The number of values each centroid stands for.
+	 */
+	private double[] weights;
+	/**
+	 * Where the centroids are merged into, then swapped with {@link #means}.
+	 */
+	private double[] mergedMeans;
+	/**
+	 * Where the weights are merged into, then swapped with {@link #weights}.
+	 */
+	private double[] mergedWeights;
+	/**
+	 * The number of centroids.
+	 */
+	private int centroids;
+	/**
+	 * The values not merged yet.
+	 */
+	private final double[] buffer;
+	/**
+	 * The number of values within the buffer.
+	 */
+	private int buffered;
+	/**
+	 * The number of values within the centroids.
+	 */
+	private double merged;
+	/**
+	 * The smallest value added.
+	 */
+	private double min = Double.POSITIVE_INFINITY;
+	/**
+	 * The largest value added.
+	 */
+	private double max = Double.NEGATIVE_INFINITY;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code TDigest} with the {@link #DEFAULT_COMPRESSION}.
+	 */
+	public TDigest() {
+		this(DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * Creates an instance of {@code TDigest}.
+	 *
+	 * @param compression Bounds the number of centroids to about this value; higher is more
+	 * accurate, but takes more memory. Should be at least {@code 10}.
+	 *
+	 * @throws IllegalArgumentException When {@code compression} is less than {@code 10}.
+	 */
+	public TDigest(double compression) {
+		if (!(compression >= 10) || Double.isInfinite(compression))
+			throw new IllegalArgumentException("\"compression\" should be at least 10.");
+
+		// Two neighbouring centroids always span more than one unit of the scale, which spans half of
+		// the compression; thus, there could be no more centroids than this.
+		int capacity = (int) Math.ceil(compression) + 2;
+
+		this.compression = compression;
+		this.means = new double[capacity];
+		this.weights = new double[capacity];
+		this.mergedMeans = new double[capacity];
+		this.mergedWeights = new double[capacity];
+		this.buffer = new double[capacity * 5];
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Adds a value. A {@link Double#NaN} is ignored.
+	 *
+	 * @param value The value.
+	 *
+	 * @return TDigest This instance of {@code TDigest}.
+	 */
+	public TDigest add(double value) {
+		if (Double.isNaN(value))
+			return this;
+
+		if (this.buffered == this.buffer.length)
+			this.merge();
+
+		this.buffer[this.buffered++] = value;
+		this.min = Math.min(this.min, value);
+		this.max = Math.max(this.max, value);
+
+		return this;
+	}
+
+	/**
+	 * Estimates the value below which the given fraction of the values fall.
+	 *
+	 * @param q The fraction, within {@code [0, 1]}.
+	 *
+	 * @return double The estimated value; or {@link Double#NaN} if there is no value yet.
+	 *
+	 * @throws IllegalArgumentException When {@code q} is out of range.
+	 */
+	public double quantile(double q) {
+		if (!(q >= 0 && q <= 1))
+			throw new IllegalArgumentException("\"q\" should be within [0, 1].");
+
+		this.merge();
+		if (this.centroids == 0)
+			return Double.NaN;
+		if (this.centroids == 1)
+			return this.means[0];
+
+		double[] means = this.means, weights = this.weights;
+		int last = this.centroids - 1;
+		double index = q * this.merged;
+
+		// Between the smallest value and the middle of the first centroid.
+		if (index < weights[0] / 2)
+			return this.min + (index / (weights[0] / 2)) * (means[0] - this.min);
+
+		// Between the middles of two neighbouring centroids.
+		double cumulative = weights[0] / 2;
+		for (int i = 0; i < last; i++) {
+			double step = (weights[i] + weights[i + 1]) / 2;
+
+			if (cumulative + step > index)
+				return means[i] + ((index - cumulative) / step) * (means[i + 1] - means[i]);
+
+			cumulative += step;
+		}
+
+		// Between the middle of the last centroid and the largest value.
+		double tail = weights[last] / 2;
+		return means[last] + (Math.min(index - cumulative, tail) / tail) * (this.max - means[last]);
+	}
+
+	/**
+	 * Fetches the number of values added.
+	 *
+	 * @return long The number of values.
+	 */
+	public long getCount() {
+		return (long) this.merged + this.buffered;
+	}
+
+	/**
+	 * Fetches the smallest value added.
+	 *
+	 * @return double The smallest value; or {@link Double#NaN} if there is none.
+	 */
+	public double getMin() {
+		return this.getCount() == 0 ? Double.NaN : this.min;
+	}
+
+	/**
+	 * Fetches the largest value added.
+	 *
+	 * @return double The largest value; or {@link Double#NaN} if there is none.
+	 */
+	public double getMax() {
+		return this.getCount() == 0 ? Double.NaN : this.max;
+	}
+
+	/**
+	 * Fetches the compression of this digest.
+	 *
+	 * @return double The compression.
+	 */
+	public double getCompression() {
+		return this.compression;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		this.merge();
+
+		return String.format(
+				"[%1$s]: {compression: %2$s, count: %3$d, centroids: %4$d}",
+				this.getClass().getSimpleName(),
+				this.compression,
+				this.getCount(),
+				this.centroids
+		);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Merges the buffer into the centroids.
+	 */
+	private void merge() {
+		if (this.buffered == 0)
+			return;
+
+		Arrays.sort(this.buffer, 0, this.buffered);
+
+		double[] means = this.means, weights = this.weights, buffer = this.buffer;
+		double[] mergedMeans = this.mergedMeans, mergedWeights = this.mergedWeights;
+		double total = this.merged + this.buffered;
+		int i = 0, j = 0, count = 0;
+
+		// The values before the current centroid, and the most it could hold before spanning one
+		// unit of the scale.
+		double before = 0;
+		double limit = total * this.quantileOf(this.scaleOf(0) + 1);
+		double mean = 0, weight = 0;
+
+		while (i < this.centroids || j < this.buffered) {
+			double nextMean, nextWeight;
+
+			if (j == this.buffered || (i < this.centroids && means[i] < buffer[j])) {
+				nextMean = means[i];
+				nextWeight = weights[i++];
+			}
+			else {
+				nextMean = buffer[j++];
+				nextWeight = 1;
+			}
+
+			if (weight > 0 && before + weight + nextWeight <= limit) {
+				weight += nextWeight;
+				mean += (nextMean - mean) * (nextWeight / weight);
+				continue;
+			}
+
+			if (weight > 0) {
+				mergedMeans[count] = mean;
+				mergedWeights[count++] = weight;
+				before += weight;
+				limit = total * this.quantileOf(this.scaleOf(before / total) + 1);
+			}
+
+			mean = nextMean;
+			weight = nextWeight;
+		}
+
+		mergedMeans[count] = mean;
+		mergedWeights[count++] = weight;
+
+		this.mergedMeans = means;
+		this.mergedWeights = weights;
+		this.means = mergedMeans;
+		this.weights = mergedWeights;
+		this.centroids = count;
+		this.merged = total;
+		this.buffered = 0;
+	}
+
+	/**
+	 * Maps a quantile onto the scale that bounds the size of the centroids, which is steep near
+	 * either end and flat near the median.
+	 *
+	 * @param q The quantile.
+	 *
+	 * @return double The position on the scale, within {@code [-compression / 4, compression / 4]}.
+	 */
+	private double scaleOf(double q) {
+		return this.compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+	}
+
+	/**
+	 * Maps a position on the scale back onto its quantile.
+	 *
+	 * @param k The position on the scale.
+	 *
+	 * @return double The quantile, within {@code [0, 1]}.
+	 */
+	private double quantileOf(double k) {
+		if (k >= this.compression / 4)
+			return 1;
+
+		return (Math.sin(2 * Math.PI * k / this.compression) + 1) / 2;
+	}
+}
@@ -0,0 +1,234 @@
+package com.satch_navida.myapplication.units;
+
+import com.satch_navida.myapplication.validation.rules.NumberScanner;
+
+/**
+ * The units a height could be measured in, each knowing its exact ratio to a meter. A unit is
+ * meant to be resolved once from its symbol, through {@link #find(CharSequence)}, then reused for
+ * every value measured in it; thus, converting a value never compares a string.<br>
+ * <br>
+ * Every ratio is kept as two whole numbers, such as {@code 3048 / 10000} for the foot, so that
+ * converting from the units of the Metric System is as exact as a single division.<br>
+ * <br>
+ * The {@link com.satch_navida.myapplication.history.HistoryStore} saves a unit by its ordinal, so new
+ * units should only be added last.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public enum HeightUnit {
+	METER(1, 1, "m"),
+	CENTIMETER(1, 100, "cm"),
+	MILLIMETER(1, 1_000, "mm"),
+	/**
+	 * The international inch, defined as exactly {@code 0.0254} meters.
+	 */
+	INCH(254, 10_000, "in"),
+	/**
+	 * The international foot, defined as exactly {@code 0.3048} meters. Its values are decimal feet,
+	 * such as {@code 5.5}.
+	 */
+	FOOT(3_048, 10_000, "ft"),
+	/**
+	 * Feet and inches, written as {@code 5'11"}, {@code 5' 11}, or {@code 5ft 11in}. A plain number is
+	 * still read as decimal feet. Once parsed through {@link #parse(CharSequence)}, its values are
+	 * decimal feet.
+	 */
+	FEET_AND_INCHES(3_048, 10_000, "ft/in", "ft+in");
+
+	// PRIVATE VARIABLES
+	/**
+	 * A cached copy of {@link #values()}, which would otherwise be cloned on every call.
+	 */
+	private static final HeightUnit[] UNITS = values();
+	/**
+	 * The number of inches in a foot.
+	 */
+	private static final int INCHES_PER_FOOT = 12;
+
+	/**
+	 * The numerator of the ratio to a meter.
+	 */
+	private final double multiplier;
+	/**
+	 * The denominator of the ratio to a meter.
+	 */
+	private final double divisor;
+	/**
+	 * The symbols of this unit, in lowercase. The first one is the main symbol.
+	 */
+	private final String[] symbols;
+
+	// CONSTRUCTORS
+
+	HeightUnit(double multiplier, double divisor, String... symbols) {
+		this.multiplier = multiplier;
+		this.divisor = divisor;
+		this.symbols = symbols;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Finds the unit of the given symbol, ignoring the case and the surrounding whitespace; such as
+	 * the {@code "ft/in"} of the height spinner.
+	 *
+	 * @param symbol The symbol of the unit.
+	 *
+	 * @return HeightUnit The unit; or {@code null} if no unit has such symbol.
+	 */
+	public static HeightUnit find(CharSequence symbol) {
+		if (symbol == null)
+			return null;
+
+		for (HeightUnit unit : UNITS) {
+			if (Symbols.matches(symbol, unit.symbols))
+				return unit;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Finds the unit of the given symbol, ignoring the case and the surrounding whitespace.
+	 *
+	 * @param symbol The symbol of the unit.
+	 *
+	 * @return HeightUnit The unit.
+	 *
+	 * @throws IllegalArgumentException When no unit has such symbol.
+	 */
+	public static HeightUnit parse(CharSequence symbol) {
+		HeightUnit unit = find(symbol);
+		if (unit == null)
+			throw new IllegalArgumentException("\"" + symbol + "\" is not a unit of height.");
+
+		return unit;
+	}
+
+	/**
+	 * Fetches the main symbol of this unit.
+	 *
+	 * @return String The symbol; such as {@code "cm"}.
+	 */
+	public String getSymbol() {
+		return this.symbols[0];
+	}
+
+	/**
+	 * Identifies whether the values of this unit are written in more than one part, such as
+	 * {@code 5'11"}, and thus are not plain numbers.
+	 *
+	 * @return boolean Returns {@code true} if this unit is composite; {@code false} otherwise.
+	 */
+	public boolean isComposite() {
+		return this == FEET_AND_INCHES;
+	}
+
+	/**
+	 * Parses a height written in this unit.
+	 *
+	 * @param text The height, such as {@code "175"}, or {@code "5'11\""} for {@link #FEET_AND_INCHES}.
+	 *
+	 * @return double The height, in this unit; or {@link Double#NaN} if it is not a valid height.
+	 */
+	public double parseValue(CharSequence text) {
+		return this.isComposite() ? parseFeetAndInches(text) : NumberScanner.parse(text);
+	}
+
+	/**
+	 * Converts a height measured in this unit to meters.
+	 *
+	 * @param height The height.
+	 *
+	 * @return double The height, in meters.
+	 */
+	public double toMeters(double height) {
+		return height * this.multiplier / this.divisor;
+	}
+
+	/**
+	 * Converts many heights measured in this unit to meters, in place.
+	 *
+	 * @param heights The heights, replaced by their value in meters.
+	 * @param offset The index of the first height.
+	 * @param length The number of heights.
+	 *
+	 * @throws IndexOutOfBoundsException When the range is outside the array.
+	 */
+	public void toMeters(double[] heights, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > heights.length)
+			throw new IndexOutOfBoundsException("The range [" + offset + ", " + (offset + length) + ") is outside the array of length " + heights.length + ".");
+
+		if (this == METER)
+			return;
+
+		double multiplier = this.multiplier;
+		double divisor = this.divisor;
+		for (int i = offset, end = offset + length; i < end; i++)
+			heights[i] = heights[i] * multiplier / divisor;
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Parses feet and inches, such as {@code 5'11"}, {@code 5' 11}, or {@code 5ft 11in}, into decimal
+	 * feet. A plain number is read as decimal feet.
+	 *
+	 * @param text The height.
+	 *
+	 * @return double The height, in decimal feet; or {@link Double#NaN} if it is not a valid height.
+	 */
+	private static double parseFeetAndInches(CharSequence text) {
+		int start = 0;
+		int end = text.length();
+		while (start < end && text.charAt(start) <= ' ')
+			start++;
+		while (end > start && text.charAt(end - 1) <= ' ')
+			end--;
+
+		// Finds the mark of the feet, either an apostrophe, a prime, or "ft".
+		int mark = -1;
+		int markLength = 0;
+		for (int i = start; i < end && mark < 0; i++) {
+			char c = text.charAt(i);
+
+			if (c == '\'' || c == '\u2019' || c == '\u2032') {
+				mark = i;
+				markLength = 1;
+			}
+			else if (Symbols.regionMatches(text, i, Math.min(i + 2, end), "ft")) {
+				mark = i;
+				markLength = 2;
+			}
+		}
+
+		if (mark < 0)
+			return NumberScanner.parse(text);
+
+		double feet = NumberScanner.parse(text.subSequence(start, mark));
+
+		// Drops the mark of the inches, either a quote, a double prime, or "in".
+		int inchStart = mark + markLength;
+		int inchEnd = end;
+		if (inchEnd > inchStart) {
+			char c = text.charAt(inchEnd - 1);
+
+			if (c == '"' || c == '\u201D' || c == '\u2033')
+				inchEnd--;
+			else if (inchEnd - inchStart >= 2 && Symbols.regionMatches(text, inchEnd - 2, inchEnd, "in"))
+				inchEnd -= 2;
+		}
+
+		while (inchStart < inchEnd && text.charAt(inchStart) <= ' ')
+			inchStart++;
+
+		double inches = inchStart == inchEnd ? 0 : NumberScanner.parse(text.subSequence(inchStart, inchEnd));
+
+		// Also rejects the NaN of an invalid part.
+		if (!(feet >= 0 && inches >= 0 && inches < INCHES_PER_FOOT))
+			return Double.NaN;
+
+		return feet + inches / INCHES_PER_FOOT;
+	}
+}
@@ -0,0 +1,64 @@
+package com.satch_navida.myapplication.units;
+
+/**
+ * Matches the symbols of the units against a text, such as the selected item of a spinner or a cell
+ * of a file, without converting the text to a {@link String}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+final class Symbols {
+	// CONSTRUCTORS
+
+	private Symbols() {
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Compares the given text against any of the symbols, ignoring the case and the surrounding
+	 * whitespace of the text.
+	 *
+	 * @param text The text to compare.
+	 * @param symbols The symbols to compare against, all in lowercase.
+	 *
+	 * @return boolean Returns {@code true} if the text is one of the symbols; {@code false} otherwise.
+	 */
+	static boolean matches(CharSequence text, String[] symbols) {
+		int start = 0;
+		int end = text.length();
+		while (start < end && text.charAt(start) <= ' ')
+			start++;
+		while (end > start && text.charAt(end - 1) <= ' ')
+			end--;
+
+		for (String symbol : symbols) {
+			if (regionMatches(text, start, end, symbol))
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Compares a region of the given text against a symbol, ignoring the case.
+	 *
+	 * @param text The text to compare.
+	 * @param start The index of the first character of the region.
+	 * @param end The index of the last character of the region, exclusive.
+	 * @param symbol The symbol to compare against, in lowercase.
+	 *
+	 * @return boolean Returns {@code true} if the region is the symbol; {@code false} otherwise.
+	 */
+	static boolean regionMatches(CharSequence text, int start, int end, String symbol) {
+		if (end - start != symbol.length())
+			return false;
+
+		for (int i = 0; i < symbol.length(); i++) {
+			if (Character.toLowerCase(text.charAt(start + i)) != symbol.charAt(i))
+				return false;
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,136 @@
+package com.satch_navida.myapplication.units;
+
+/**
+ * The units a weight could be measured in, each knowing its exact ratio to a kilogram. A unit is
+ * meant to be resolved once from its symbol, through {@link #find(CharSequence)}, then reused for
+ * every value measured in it; thus, converting a value never compares a string.<br>
+ * <br>
+ * Every ratio is kept as two whole numbers, such as {@code 45359237 / 100000000} for the pound, so
+ * that converting from the units of the Metric System is as exact as a single division.<br>
+ * <br>
+ * The {@link com.satch_navida.myapplication.history.HistoryStore} saves a unit by its ordinal, so new
+ * units should only be added last.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public enum WeightUnit {
+	KILOGRAM(1, 1, "kg"),
+	GRAM(1, 1_000, "g"),
+	/**
+	 * The international avoirdupois pound, defined as exactly {@code 0.45359237} kilograms.
+	 */
+	POUND(45_359_237, 100_000_000, "lb", "lbs"),
+	/**
+	 * The stone, defined as exactly {@code 14} pounds.
+	 */
+	STONE(635_029_318, 100_000_000, "st");
+
+	// PRIVATE VARIABLES
+	/**
+	 * A cached copy of {@link #values()}, which would otherwise be cloned on every call.
+	 */
+	private static final WeightUnit[] UNITS = values();
+
+	/**
+	 * The numerator of the ratio to a kilogram.
+	 */
+	private final double multiplier;
+	/**
+	 * The denominator of the ratio to a kilogram.
+	 */
+	private final double divisor;
+	/**
+	 * The symbols of this unit, in lowercase. The first one is the main symbol.
+	 */
+	private final String[] symbols;
+
+	// CONSTRUCTORS
+
+	WeightUnit(double multiplier, double divisor, String... symbols) {
+		this.multiplier = multiplier;
+		this.divisor = divisor;
+		this.symbols = symbols;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Finds the unit of the given symbol, ignoring the case and the surrounding whitespace; such as
+	 * the {@code "lbs"} of the weight spinner.
+	 *
+	 * @param symbol The symbol of the unit.
+	 *
+	 * @return WeightUnit The unit; or {@code null} if no unit has such symbol.
+	 */
+	public static WeightUnit find(CharSequence symbol) {
+		if (symbol == null)
+			return null;
+
+		for (WeightUnit unit : UNITS) {
+			if (Symbols.matches(symbol, unit.symbols))
+				return unit;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Finds the unit of the given symbol, ignoring the case and the surrounding whitespace.
+	 *
+	 * @param symbol The symbol of the unit.
+	 *
+	 * @return WeightUnit The unit.
+	 *
+	 * @throws IllegalArgumentException When no unit has such symbol.
+	 */
+	public static WeightUnit parse(CharSequence symbol) {
+		WeightUnit unit = find(symbol);
+		if (unit == null)
+			throw new IllegalArgumentException("\"" + symbol + "\" is not a unit of weight.");
+
+		return unit;
+	}
+
+	/**
+	 * Fetches the main symbol of this unit.
+	 *
+	 * @return String The symbol; such as {@code "kg"}.
+	 */
+	public String getSymbol() {
+		return this.symbols[0];
+	}
+
+	/**
+	 * Converts a weight measured in this unit to kilograms.
+	 *
+	 * @param weight The weight.
+	 *
+	 * @return double The weight, in kilograms.
+	 */
+	public double toKilograms(double weight) {
+		return weight * this.multiplier / this.divisor;
+	}
+
+	/**
+	 * Converts many weights measured in this unit to kilograms, in place.
+	 *
+	 * @param weights The weights, replaced by their value in kilograms.
+	 * @param offset The index of the first weight.
+	 * @param length The number of weights.
+	 *
+	 * @throws IndexOutOfBoundsException When the range is outside the array.
+	 */
+	public void toKilograms(double[] weights, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > weights.length)
+			throw new IndexOutOfBoundsException("The range [" + offset + ", " + (offset + length) + ") is outside the array of length " + weights.length + ".");
+
+		if (this == KILOGRAM)
+			return;
+
+		double multiplier = this.multiplier;
+		double divisor = this.divisor;
+		for (int i = offset, end = offset + length; i < end; i++)
+			weights[i] = weights[i] * multiplier / divisor;
+	}
+}
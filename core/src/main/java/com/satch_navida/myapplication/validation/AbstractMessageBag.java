@@ -0,0 +1,207 @@
+package com.satch_navida.myapplication.validation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The operations shared by every message bag, leaving how the messages are stored to the
+ * subclasses: the {@link MessageBag}, kept in insertion order for a single thread, and the
+ * {@link ConcurrentMessageBag}, filled by many threads at once.<br>
+ * <br>
+ * Each message is keyed by a pair of a field and a rule, and is either a {@link String} or a
+ * {@link PendingMessage} that is only rendered once read.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public abstract class AbstractMessageBag {
+	// CONSTRUCTORS
+
+	AbstractMessageBag() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches all the available keys in this bag, in a new array.
+	 *
+	 * @return String[] An array of keys.
+	 */
+	public abstract String[] keys();
+
+	/**
+	 * Adds a new message to the array of messages from a key. If the key isn't present yet,
+	 * a new instance of array will be created wherein the new message will be placed.
+	 *
+	 * @param key Key identifier of the message, formatted as {@code field.rule}.
+	 * @param message The new message to put for the key.
+	 *
+	 * @return AbstractMessageBag This instance of {@code AbstractMessageBag}.
+	 *
+	 * @throws IllegalArgumentException When the key has no rule.
+	 */
+	public AbstractMessageBag add(String key, String message) {
+		int dot = key.indexOf('.');
+		if (dot < 0)
+			throw new IllegalArgumentException("The key \"" + key + "\" should be formatted as \"field.rule\".");
+
+		return this.add(key.substring(0, dot), key.substring(dot + 1), message);
+	}
+
+	/**
+	 * Adds a new message to the messages of a field. The first message of a rule is kept, unless it
+	 * is empty.
+	 *
+	 * @param field The field of the message.
+	 * @param rule The rule of the message.
+	 * @param message The new message to put for the rule.
+	 *
+	 * @return AbstractMessageBag This instance of {@code AbstractMessageBag}.
+	 */
+	public AbstractMessageBag add(String field, String rule, String message) {
+		if (field == null)
+			throw new NullPointerException("\"field\" should not be null.");
+		if (rule == null)
+			throw new NullPointerException("\"rule\" should not be null.");
+		if (message == null)
+			throw new NullPointerException("\"message\" should not be null.");
+
+		return this.put(field, rule, message);
+	}
+
+	/**
+	 * Merge a new array of messages into this message bag.
+	 *
+	 * @param messages An instance of {@link HashMap} containing a key-value pair whereas the {@code key} is the identifier while
+	 *                  {@code value} is a {@link Map} containing the messages keyed by their rule.
+	 *
+	 * @return AbstractMessageBag This instance of {@code AbstractMessageBag}.
+	 */
+	public AbstractMessageBag merge(HashMap<String, Map<String, String>> messages) {
+		return this.merge(new MessageBag(messages));
+	}
+
+	/**
+	 * Merge all message bags into this single instance. The last parameter supplied to
+	 * {@code messages} will overwrite all messages before it if they have the same key and rule.
+	 *
+	 * @param messages The message bags containing all the messages that will be merged with this
+	 *                 {@code AbstractMessageBag}.
+	 *
+	 * @return AbstractMessageBag This instance of {@code AbstractMessageBag}.
+	 */
+	public AbstractMessageBag merge(AbstractMessageBag... messages) {
+		// Pending messages are kept as they are, and are only rendered once read.
+		for (AbstractMessageBag m : messages)
+			m.copyTo(this, true);
+
+		return this;
+	}
+
+	/**
+	 * Fetches the first message within the given {@code key}. If no such {@code key} is present, a
+	 * empty string will be returned. Likewise, if a {@code key} is present but has no existing values,
+	 * an empty string will also be returned.
+	 *
+	 * @param key Key identifier of the message.
+	 *
+	 * @return String the very first message in the list of the given key.
+	 */
+	public abstract String first(String key);
+
+	/**
+	 * Fetches the message at the given position within the given {@code key}, in the order they were
+	 * added.
+	 *
+	 * @param key Key identifier of the message.
+	 * @param index The position of the message.
+	 *
+	 * @return String The message; or an empty string if no such {@code key} is present.
+	 *
+	 * @throws IndexOutOfBoundsException When the index is greater than the number of messages present.
+	 */
+	public abstract String get(String key, int index);
+
+	/**
+	 * Fetches a list of messages based on the provided key.
+	 *
+	 * @param key The key used to fetch the messages.
+	 *
+	 * @return Map<String, String> The messages keyed by their rule, in the order they were added; or
+	 * {@code null} if no such key is present.
+	 */
+	public abstract Map<String, String> get(String key);
+
+	/**
+	 * Fetches the message of the given rule of a key.
+	 *
+	 * @param key The key used to fetch the message.
+	 * @param subkey The rule used to fetch the message.
+	 *
+	 * @return String The message; or {@code null} if no such key or rule is present.
+	 */
+	public abstract String get(String key, String subkey);
+
+	// PROTECTED METHODS
+
+	/**
+	 * Fetches and clone the message's raw form (a {@link HashMap}), with every message rendered.
+	 *
+	 * @return HashMap<String, Map<String, String>> A copy of the messages, keyed by their field.
+	 */
+	protected HashMap<String, Map<String, String>> get() {
+		MessageBag copy = new MessageBag();
+		this.copyTo(copy, true);
+
+		return copy.get();
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Adds a new message to the messages of a field, keeping the first message of a rule unless it
+	 * is empty.
+	 *
+	 * @param field The field of the message.
+	 * @param rule The rule of the message.
+	 * @param message The message; either a {@link String} or a {@link PendingMessage}.
+	 *
+	 * @return AbstractMessageBag This instance of {@code AbstractMessageBag}.
+	 */
+	AbstractMessageBag put(String field, String rule, Object message) {
+		return this.put(field, rule, message, false);
+	}
+
+	/**
+	 * Adds a new message to the messages of a field.
+	 *
+	 * @param field The field of the message.
+	 * @param rule The rule of the message.
+	 * @param message The message; either a {@link String} or a {@link PendingMessage}.
+	 * @param overwrite Whether an existing message of the same rule is overwritten. If not, it is
+	 *                  only overwritten when it is empty.
+	 *
+	 * @return AbstractMessageBag This instance of {@code AbstractMessageBag}.
+	 */
+	abstract AbstractMessageBag put(String field, String rule, Object message, boolean overwrite);
+
+	/**
+	 * Copies every message of this bag into the given bag, as they are stored, without rendering the
+	 * pending ones.
+	 *
+	 * @param target The bag where the messages are copied into.
+	 * @param overwrite Whether the messages already within {@code target} are overwritten.
+	 */
+	abstract void copyTo(AbstractMessageBag target, boolean overwrite);
+
+	/**
+	 * Identifies whether the given message is empty, without rendering it.
+	 *
+	 * @param message The message; either a {@link String} or a {@link PendingMessage}.
+	 *
+	 * @return boolean Returns {@code true} if the message is empty; {@code false} otherwise.
+	 */
+	static boolean isEmpty(Object message) {
+		return message instanceof PendingMessage ? ((PendingMessage) message).isEmpty() : message.toString().isEmpty();
+	}
+}
@@ -0,0 +1,120 @@
+package com.satch_navida.myapplication.validation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Validates a stream of inputs against the same {@link ValidationSchema} on an {@link Executor},
+ * wherein only the latest input matters. Submitting a newer input cancels the run of the older one,
+ * which is then abandoned at its next rule boundary instead of being finished for nothing.<br>
+ * <br>
+ * An {@code AsyncValidator} is thread-safe; inputs could be submitted from any thread.
+ *
+ * <pre>{@code
+ * AsyncValidator validator = new AsyncValidator(schema, executor);
+ * validator.submit(values).thenAccept(result -> show(result));
+ * }</pre>
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class AsyncValidator {
+	// PRIVATE VARIABLES
+	/**
+	 * The compiled rules and messages.
+	 */
+	private final ValidationSchema schema;
+	/**
+	 * Where the validations run.
+	 */
+	private final Executor executor;
+	/**
+	 * The policy used when running the validations.
+	 */
+	private final ValidationPolicy policy;
+	/**
+	 * The run of the latest input. Could be {@code null} before the first input.
+	 */
+	private final AtomicReference<CompletableFuture<ValidationResult>> latest = new AtomicReference<CompletableFuture<ValidationResult>>();
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code AsyncValidator} using the {@link ValidationPolicy#FULL full}
+	 * policy.
+	 *
+	 * @param schema The compiled rules and messages.
+	 * @param executor Where the validations run.
+	 */
+	public AsyncValidator(ValidationSchema schema, Executor executor) {
+		this(schema, executor, ValidationPolicy.FULL);
+	}
+
+	/**
+	 * Creates an instance of {@code AsyncValidator}.
+	 *
+	 * @param schema The compiled rules and messages.
+	 * @param executor Where the validations run, such as a pool or a virtual-thread-per-task executor.
+	 * @param policy Dictates whether to stop at the first failed rule.
+	 */
+	public AsyncValidator(ValidationSchema schema, Executor executor, ValidationPolicy policy) {
+		if (schema == null)
+			throw new NullPointerException("\"schema\" should not be null.");
+		if (executor == null)
+			throw new NullPointerException("\"executor\" should not be null.");
+		if (policy == null)
+			throw new NullPointerException("\"policy\" should not be null.");
+
+		this.schema = schema;
+		this.executor = executor;
+		this.policy = policy;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Validates a newer input, cancelling the run of the older one if it is not done yet. The
+	 * future of the older input completes as cancelled.
+	 *
+	 * @param values A {@link Map} object containing a key-value pair for the keys and its value.
+	 *
+	 * @return CompletableFuture<ValidationResult> Completes with the result of this input; or as
+	 * cancelled once a newer input is submitted before it is done.
+	 */
+	public CompletableFuture<ValidationResult> submit(Map<String, Object> values) {
+		CompletableFuture<ValidationResult> run = this.schema.validateAsync(values, this.policy, this.executor);
+		CompletableFuture<ValidationResult> older = this.latest.getAndSet(run);
+
+		if (older != null)
+			older.cancel(false);
+
+		return run;
+	}
+
+	/**
+	 * Cancels the run of the latest input, if it is not done yet.
+	 *
+	 * @return boolean Returns {@code true} if a run was cancelled; {@code false} otherwise.
+	 */
+	public boolean cancel() {
+		CompletableFuture<ValidationResult> run = this.latest.getAndSet(null);
+
+		return run != null && run.cancel(false);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {policy: %2$s, fields: %3$s}",
+				this.getClass().getSimpleName(),
+				this.policy,
+				Arrays.toString(this.schema.fields())
+		);
+	}
+}
@@ -0,0 +1,340 @@
+package com.satch_navida.myapplication.validation;
+
+import java.util.Arrays;
+
+/**
+ * The result of validating many records at once through {@link ValidationSchema#validateAll(java.util.List)}
+ * or {@link ValidationSchema#validateColumns(java.util.Map)}, and their parallel counterparts.<br>
+ * <br>
+ * Instead of keeping a {@link MessageBag} per record, only a bit per record and the failed rules
+ * of the failing fields are kept. The messages of a record are only built when asked through
+ * {@link #errors(int)}, using the values still held by the original input.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class BulkValidationResult {
+	// PRIVATE VARIABLES
+	/**
+	 * The schema the records were validated against.
+	 */
+	private final ValidationSchema schema;
+	/**
+	 * The number of records validated.
+	 */
+	private final int size;
+	/**
+	 * The failed records, wherein the bit {@code record % 64} of the {@code record / 64}-th element
+	 * is set when the record failed.
+	 */
+	private final long[] failedRecords;
+	/**
+	 * The source of the values, used when building the messages of a record.
+	 */
+	private final ValueSource values;
+	/**
+	 * The failed rules of every failing field, in ascending order of their position.
+	 */
+	private final Failures failures;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code BulkValidationResult} from the failures found.
+	 *
+	 * @param schema The schema the records were validated against.
+	 * @param size The number of records.
+	 * @param values The source of the values, used when building the messages of a record.
+	 * @param failures The failed rules of every failing field, in ascending order of their position.
+	 */
+	BulkValidationResult(ValidationSchema schema, int size, ValueSource values, Failures failures) {
+		this.schema = schema;
+		this.size = size;
+		this.failedRecords = new long[(size + Long.SIZE - 1) / Long.SIZE];
+		this.values = values;
+		this.failures = failures;
+
+		int fields = schema.size();
+		for (int entry = 0; entry < failures.count; entry++) {
+			int record = (int) (failures.positions[entry] / fields);
+
+			this.failedRecords[record / Long.SIZE] |= 1L << record;
+		}
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the number of records validated.
+	 *
+	 * @return int The number of records.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Identifies whether at least one of the records failed.
+	 *
+	 * @return boolean Returns {@code true} if a record failed; {@code false} otherwise.
+	 */
+	public boolean fails() {
+		return this.failures.count > 0;
+	}
+
+	/**
+	 * Identifies whether the given record failed.
+	 *
+	 * @param record The index of the record.
+	 *
+	 * @return boolean Returns {@code true} if the record failed; {@code false} otherwise.
+	 */
+	public boolean fails(int record) {
+		this.checkIndex(record);
+
+		return (this.failedRecords[record / Long.SIZE] & (1L << record)) != 0;
+	}
+
+	/**
+	 * Identifies whether the given record passed.
+	 *
+	 * @param record The index of the record.
+	 *
+	 * @return boolean Returns {@code true} if the record passed; {@code false} otherwise.
+	 */
+	public boolean passes(int record) {
+		return !this.fails(record);
+	}
+
+	/**
+	 * Identifies whether a field of the given record failed.
+	 *
+	 * @param record The index of the record.
+	 * @param field The name of the field.
+	 *
+	 * @return boolean Returns {@code true} if the field failed; {@code false} otherwise, or if the field has no rules.
+	 */
+	public boolean fails(int record, String field) {
+		int index = this.schema.indexOf(field);
+		if (index < 0 || !this.fails(record))
+			return false;
+
+		return Arrays.binarySearch(this.failures.positions, 0, this.failures.count, this.position(record, index)) >= 0;
+	}
+
+	/**
+	 * Counts the records that failed.
+	 *
+	 * @return int The number of failed records.
+	 */
+	public int failedCount() {
+		int failed = 0;
+
+		for (long bits : this.failedRecords)
+			failed += Long.bitCount(bits);
+
+		return failed;
+	}
+
+	/**
+	 * Finds the first failed record at or after the given index. Use it to iterate over the failed
+	 * records:
+	 * <pre>{@code
+	 * for (int i = result.nextFailed(0); i >= 0; i = result.nextFailed(i + 1))
+	 *     ...
+	 * }</pre>
+	 *
+	 * @param from The index to start searching from.
+	 *
+	 * @return int The index of the failed record; or {@code -1} if there are none.
+	 */
+	public int nextFailed(int from) {
+		if (from < 0)
+			from = 0;
+		if (from >= this.size)
+			return -1;
+
+		int word = from / Long.SIZE;
+		long bits = this.failedRecords[word] & (-1L << from);
+
+		while (bits == 0) {
+			if (++word == this.failedRecords.length)
+				return -1;
+
+			bits = this.failedRecords[word];
+		}
+
+		return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+	}
+
+	/**
+	 * Builds the error messages of the given record, the same way {@link Validator#errors()} would
+	 * for that record alone.
+	 *
+	 * @param record The index of the record.
+	 *
+	 * @return MessageBag An instance of {@link MessageBag} containing the error messages of the record.
+	 */
+	public MessageBag errors(int record) {
+		MessageBag errors = new MessageBag();
+		if (!this.fails(record))
+			return errors;
+
+		this.addErrors(errors, record, "");
+
+		return errors;
+	}
+
+	/**
+	 * Builds the error messages of every failed record into a single {@link MessageBag}. To keep the
+	 * records apart, the fields are keyed as {@code field[record]}, such as {@code weight_value[3]},
+	 * and are inserted in ascending order of the records.
+	 *
+	 * @return MessageBag An instance of {@link MessageBag} containing the error messages of every record.
+	 */
+	public MessageBag errors() {
+		MessageBag errors = new MessageBag();
+
+		for (int record = this.nextFailed(0); record >= 0; record = this.nextFailed(record + 1))
+			this.addErrors(errors, record, "[" + record + "]");
+
+		return errors;
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Computes the position of a field within the failure entries.
+	 *
+	 * @param record The index of the record.
+	 * @param field The index of the field.
+	 *
+	 * @return long The position of the field.
+	 */
+	private long position(int record, int field) {
+		return (long) record * this.schema.size() + field;
+	}
+
+	/**
+	 * Inserts the error messages of the given record to a {@link MessageBag}.
+	 *
+	 * @param errors The {@code MessageBag} where the messages are inserted.
+	 * @param record The index of the record.
+	 * @param suffix The suffix appended to the name of each field.
+	 */
+	private void addErrors(MessageBag errors, int record, String suffix) {
+		int fields = this.schema.size();
+		int entry = Arrays.binarySearch(this.failures.positions, 0, this.failures.count, this.position(record, 0));
+
+		for (entry = entry >= 0 ? entry : -entry - 1; entry < this.failures.count && this.failures.positions[entry] / fields == record; entry++) {
+			int field = (int) (this.failures.positions[entry] % fields);
+
+			this.schema.addErrors(errors, field, suffix, this.values.get(record, field), this.failures.masks[entry]);
+		}
+	}
+
+	/**
+	 * Checks whether the given record index is within the bounds of this result.
+	 *
+	 * @param record The index of the record.
+	 *
+	 * @throws IndexOutOfBoundsException When the index is out of bounds.
+	 */
+	private void checkIndex(int record) {
+		if (record < 0 || record >= this.size)
+			throw new IndexOutOfBoundsException("Provided index (" + record + ") is out of bounds for " + this.size + " records.");
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * Fetches the value of a field of a record from the original input.
+	 */
+	@FunctionalInterface
+	interface ValueSource {
+		/**
+		 * Returned in place of a value when the field is not present on the record.
+		 */
+		Object ABSENT = new Object();
+
+		/**
+		 * Fetches the value of a field of a record.
+		 *
+		 * @param record The index of the record.
+		 * @param field The index of the field.
+		 *
+		 * @return Object The value of the field; or {@link #ABSENT} if the field is not present.
+		 */
+		Object get(int record, int field);
+	}
+
+	/**
+	 * The failed rules of the failing fields of a range of records, kept as growable arrays. Each
+	 * worker validating a range owns its {@code Failures}, which are then appended in record order.
+	 */
+	static final class Failures {
+		/**
+		 * The initial capacity of the arrays.
+		 */
+		private static final int INITIAL_CAPACITY = 16;
+
+		/**
+		 * The position of each failing field, computed as {@code record * fields + field}.
+		 */
+		long[] positions = new long[INITIAL_CAPACITY];
+		/**
+		 * The failed rules of each failing field, indexed the same way as {@link #positions}.
+		 */
+		long[] masks = new long[INITIAL_CAPACITY];
+		/**
+		 * The number of entries.
+		 */
+		int count = 0;
+
+		/**
+		 * Records the failed rules of a field. Fields must be recorded in ascending order of their position.
+		 *
+		 * @param position The position of the field.
+		 * @param mask The failed rules of the field. Nothing is recorded for a {@code 0}.
+		 */
+		void add(long position, long mask) {
+			if (mask == 0)
+				return;
+
+			this.ensureCapacity(this.count + 1);
+			this.positions[this.count] = position;
+			this.masks[this.count++] = mask;
+		}
+
+		/**
+		 * Appends all the entries of another {@code Failures}, whose positions must all come after
+		 * the positions of this one.
+		 *
+		 * @param other The entries to append.
+		 *
+		 * @return Failures This instance of {@code Failures}.
+		 */
+		Failures addAll(Failures other) {
+			this.ensureCapacity(this.count + other.count);
+			System.arraycopy(other.positions, 0, this.positions, this.count, other.count);
+			System.arraycopy(other.masks, 0, this.masks, this.count, other.count);
+			this.count += other.count;
+
+			return this;
+		}
+
+		/**
+		 * Grows the arrays to hold at least the given number of entries.
+		 *
+		 * @param capacity The number of entries needed.
+		 */
+		private void ensureCapacity(int capacity) {
+			if (capacity > this.positions.length) {
+				int length = Math.max(capacity, this.positions.length * 2);
+
+				this.positions = Arrays.copyOf(this.positions, length);
+				this.masks = Arrays.copyOf(this.masks, length);
+			}
+		}
+	}
+}
@@ -0,0 +1,404 @@
+package com.satch_navida.myapplication.validation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A message bag that can be filled by many threads at once, such as the workers of a bulk
+ * validation, without any locking. Unlike a {@link MessageBag}, its keys are in no particular
+ * order.<br>
+ * <br>
+ * The messages of each key are kept in insertion order within an immutable array that is replaced
+ * through a compare-and-set on every insert. Thus, readers never see a partially inserted message,
+ * and {@link #first(String)} is always the first message inserted for that key. A {@link #snapshot()}
+ * only copies the references to those arrays, one key after another; thus, it is consistent within
+ * each key, but not across keys, as a message inserted while it is taken could be seen on one key
+ * and missed on another.<br>
+ * <br>
+ * The code of this {@code ConcurrentMessageBag} is designed to allow chain-calling, the same way as
+ * {@code MessageBag}:
+ * <pre>{@code
+ * ConcurrentMessageBag errors = new ConcurrentMessageBag();
+ * records.parallelStream().forEach(record -> errors.merge(schema.bind(record).errors()));
+ * AbstractMessageBag view = errors.snapshot();
+ * }</pre>
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class ConcurrentMessageBag extends AbstractMessageBag {
+	// PRIVATE VARIABLES
+	/**
+	 * The messages, keyed by their identifier.
+	 */
+	private final ConcurrentHashMap<String, Messages> messages = new ConcurrentHashMap<String, Messages>();
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an empty instance of {@code ConcurrentMessageBag}.
+	 */
+	public ConcurrentMessageBag() {
+		super();
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches all the available keys in the {@code ConcurrentMessageBag}, in a new array on every
+	 * call. The keys are in the order of the underlying {@link ConcurrentHashMap} rather than the
+	 * order they were added, and a key added while the array is built may or may not be within it.
+	 *
+	 * @return String[] An array of keys.
+	 */
+	@Override
+	public String[] keys() {
+		return this.messages.keySet().toArray(new String[0]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String first(String key) {
+		return first(this.pairsOf(key));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String get(String key, int index) {
+		return get(this.pairsOf(key), index);
+	}
+
+	/**
+	 * Fetches the messages of the given key, in the order they were inserted.
+	 *
+	 * @param key The key used to fetch the messages.
+	 *
+	 * @return Map<String, String> An unmodifiable copy of the messages, keyed by their rule; or
+	 * {@code null} if no such key is present.
+	 */
+	@Override
+	public Map<String, String> get(String key) {
+		return toMap(this.pairsOf(key));
+	}
+
+	/**
+	 * Fetches the message of the given rule of a key.
+	 *
+	 * @param key The key used to fetch the message.
+	 * @param subkey The rule used to fetch the message.
+	 *
+	 * @return String The message; or {@code null} if no such key or rule is present.
+	 */
+	@Override
+	public String get(String key, String subkey) {
+		return get(this.pairsOf(key), subkey);
+	}
+
+	/**
+	 * Takes an immutable view of all the messages inserted so far. Only the references to the
+	 * messages of each key are copied, one key after another, and messages inserted afterwards are not
+	 * seen by it. The messages of each key are as they were at a single point in time, though not
+	 * necessarily the same point for every key.
+	 *
+	 * @return AbstractMessageBag An immutable message bag.
+	 */
+	public AbstractMessageBag snapshot() {
+		HashMap<String, Object[]> pairs = new HashMap<String, Object[]>(this.messages.size() * 2);
+
+		for (Map.Entry<String, Messages> entry : this.messages.entrySet())
+			pairs.put(entry.getKey(), entry.getValue().pairs);
+
+		return new Snapshot(pairs);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return this.snapshot().toString();
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	AbstractMessageBag put(String field, String rule, Object message, boolean overwrite) {
+		this.messagesOf(field).put(rule, message, overwrite);
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	void copyTo(AbstractMessageBag target, boolean overwrite) {
+		for (Map.Entry<String, Messages> entry : this.messages.entrySet())
+			copyTo(target, entry.getKey(), entry.getValue().pairs, overwrite);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Fetches the messages of the given key, creating it if it isn't present yet.
+	 *
+	 * @param key Key identifier of the messages.
+	 *
+	 * @return Messages The messages of the key.
+	 */
+	private Messages messagesOf(String key) {
+		Messages current = this.messages.get(key);
+
+		// Only goes through the locking computeIfAbsent when the key is actually new.
+		return current != null ? current : this.messages.computeIfAbsent(key, k -> new Messages());
+	}
+
+	/**
+	 * Fetches the current messages of the given key.
+	 *
+	 * @param key Key identifier of the messages.
+	 *
+	 * @return Object[] The rules and messages, interleaved; or {@code null} if no such key is present.
+	 */
+	private Object[] pairsOf(String key) {
+		Messages current = this.messages.get(key);
+
+		return current == null ? null : current.pairs;
+	}
+
+	/**
+	 * Copies the messages of a key into the given bag, as they are stored.
+	 *
+	 * @param target The bag where the messages are copied into.
+	 * @param key Key identifier of the messages.
+	 * @param pairs The rules and messages, interleaved.
+	 * @param overwrite Whether the messages already within {@code target} are overwritten.
+	 */
+	private static void copyTo(AbstractMessageBag target, String key, Object[] pairs, boolean overwrite) {
+		for (int i = 0; i < pairs.length; i += 2)
+			target.put(key, (String) pairs[i], pairs[i + 1], overwrite);
+	}
+
+	/**
+	 * Fetches the first message of the given pairs.
+	 *
+	 * @param pairs The rules and messages, interleaved. Could be {@code null}.
+	 *
+	 * @return String The first message; or an empty string if there are none.
+	 */
+	private static String first(Object[] pairs) {
+		return pairs == null || pairs.length == 0 ? "" : pairs[1].toString();
+	}
+
+	/**
+	 * Fetches the message at the given index of the given pairs.
+	 *
+	 * @param pairs The rules and messages, interleaved. Could be {@code null}.
+	 * @param index The index of the message.
+	 *
+	 * @return String The message; or an empty string if there are no pairs.
+	 *
+	 * @throws IndexOutOfBoundsException When the index is greater than the number of messages present.
+	 */
+	private static String get(Object[] pairs, int index) {
+		if (pairs == null)
+			return "";
+		if (index < 0 || index >= pairs.length / 2)
+			throw new IndexOutOfBoundsException("Provided index is greater than the number of messages present.");
+
+		return pairs[index * 2 + 1].toString();
+	}
+
+	/**
+	 * Fetches the message of the given rule from the given pairs.
+	 *
+	 * @param pairs The rules and messages, interleaved. Could be {@code null}.
+	 * @param rule The rule of the message.
+	 *
+	 * @return String The message; or {@code null} if there is no such rule.
+	 */
+	private static String get(Object[] pairs, String rule) {
+		if (pairs == null)
+			return null;
+
+		int index = indexOf(pairs, rule);
+		return index < 0 ? null : pairs[index + 1].toString();
+	}
+
+	/**
+	 * Converts the given pairs into an unmodifiable map, keeping their order.
+	 *
+	 * @param pairs The rules and messages, interleaved. Could be {@code null}.
+	 *
+	 * @return Map<String, String> The messages keyed by their rule; or {@code null} if there are no pairs.
+	 */
+	private static Map<String, String> toMap(Object[] pairs) {
+		if (pairs == null)
+			return null;
+
+		Map<String, String> map = new LinkedHashMap<String, String>(pairs.length);
+		for (int i = 0; i < pairs.length; i += 2)
+			map.put((String) pairs[i], pairs[i + 1].toString());
+
+		return Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * Finds the given rule within the given pairs.
+	 *
+	 * @param pairs The rules and messages, interleaved.
+	 * @param rule The rule to find.
+	 *
+	 * @return int The index of the rule within the pairs; or {@code -1} if there is no such rule.
+	 */
+	private static int indexOf(Object[] pairs, String rule) {
+		for (int i = 0; i < pairs.length; i += 2) {
+			if (pairs[i].equals(rule))
+				return i;
+		}
+
+		return -1;
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The append-only messages of a single key. The pairs are never modified once published, and are
+	 * instead replaced as a whole through a compare-and-set.
+	 */
+	private static final class Messages {
+		/**
+		 * Replaces the pairs atomically, without the extra object of an {@code AtomicReference} per key.
+		 */
+		private static final AtomicReferenceFieldUpdater<Messages, Object[]> PAIRS =
+				AtomicReferenceFieldUpdater.newUpdater(Messages.class, Object[].class, "pairs");
+		/**
+		 * The shared pairs of a key without any messages yet.
+		 */
+		private static final Object[] EMPTY = new Object[0];
+
+		/**
+		 * The rules and their messages, interleaved as {@code [rule, message, rule, message, ...]}.
+		 */
+		volatile Object[] pairs = EMPTY;
+
+		/**
+		 * Inserts the message of a rule.
+		 *
+		 * @param rule The rule of the message.
+		 * @param message The message; either a {@link String} or a {@link PendingMessage}.
+		 * @param overwrite Whether an existing message of the same rule is overwritten. If not, it is
+		 *                  only overwritten when it is empty.
+		 */
+		void put(String rule, Object message, boolean overwrite) {
+			while (true) {
+				Object[] current = this.pairs;
+				int index = indexOf(current, rule);
+				Object[] next;
+
+				if (index >= 0) {
+					if (!overwrite && !isEmpty(current[index + 1]))
+						return;
+
+					next = current.clone();
+					next[index + 1] = message;
+				}
+				else {
+					next = Arrays.copyOf(current, current.length + 2);
+					next[current.length] = rule;
+					next[current.length + 1] = message;
+				}
+
+				if (PAIRS.compareAndSet(this, current, next))
+					return;
+			}
+		}
+	}
+
+	/**
+	 * An immutable view of a {@code ConcurrentMessageBag}, taken through {@link #snapshot()}.
+	 */
+	private static final class Snapshot extends AbstractMessageBag {
+		/**
+		 * The rules and messages of each key, interleaved.
+		 */
+		private final Map<String, Object[]> pairs;
+
+		Snapshot(Map<String, Object[]> pairs) {
+			super();
+			this.pairs = pairs;
+		}
+
+		@Override
+		public String[] keys() {
+			return this.pairs.keySet().toArray(new String[0]);
+		}
+
+		@Override
+		public AbstractMessageBag add(String key, String message) {
+			throw new UnsupportedOperationException("A snapshot of a ConcurrentMessageBag cannot be modified.");
+		}
+
+		@Override
+		public AbstractMessageBag merge(AbstractMessageBag... messages) {
+			throw new UnsupportedOperationException("A snapshot of a ConcurrentMessageBag cannot be modified.");
+		}
+
+		@Override
+		public String first(String key) {
+			return ConcurrentMessageBag.first(this.pairs.get(key));
+		}
+
+		@Override
+		public String get(String key, int index) {
+			return ConcurrentMessageBag.get(this.pairs.get(key), index);
+		}
+
+		@Override
+		public Map<String, String> get(String key) {
+			return toMap(this.pairs.get(key));
+		}
+
+		@Override
+		public String get(String key, String subkey) {
+			return ConcurrentMessageBag.get(this.pairs.get(key), subkey);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder toRet = new StringBuilder("{");
+
+			for (Map.Entry<String, Object[]> entry : this.pairs.entrySet()) {
+				if (toRet.length() > 1)
+					toRet.append(", ");
+
+				toRet.append(entry.getKey()).append(": \"").append(toMap(entry.getValue())).append('"');
+			}
+
+			return toRet.append('}').toString();
+		}
+
+		@Override
+		AbstractMessageBag put(String field, String rule, Object message, boolean overwrite) {
+			throw new UnsupportedOperationException("A snapshot of a ConcurrentMessageBag cannot be modified.");
+		}
+
+		@Override
+		void copyTo(AbstractMessageBag target, boolean overwrite) {
+			for (Map.Entry<String, Object[]> entry : this.pairs.entrySet())
+				ConcurrentMessageBag.copyTo(target, entry.getKey(), entry.getValue(), overwrite);
+		}
+	}
+}
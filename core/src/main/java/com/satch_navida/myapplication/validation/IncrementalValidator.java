@@ -0,0 +1,287 @@
+package com.satch_navida.myapplication.validation;
+
+import com.satch_navida.myapplication.validation.rules.RuleContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates a form one field at a time, such as while the user types, against an already compiled
+ * {@link ValidationSchema}. Only the field that changed is validated again; the result of every
+ * other field is kept from the last time it was validated. Thus, the state of the whole form is
+ * assembled from the results of its fields, and a change to a single field only costs the rules of
+ * that field, along with the fields whose cross-field rules read it.<br>
+ * <br>
+ * A field is unchecked until it is validated for the first time, and an unchecked field never
+ * passes. Before submitting, {@link #isChecked(String)} tells which fields still need validating.
+ * The message of a failed field is only built once it is read, then kept until the field is
+ * validated again.<br>
+ * <br>
+ * An {@code IncrementalValidator} is not thread-safe; it is meant to be used from the thread its
+ * form is updated on.
+ *
+ * <pre>{@code
+ * IncrementalValidator validator = schema.incremental();
+ * validator.validate("weight_value", text);
+ * errorView.setText(validator.first("weight_value"));
+ * }</pre>
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ * @see ValidationSchema#incremental()
+ */
+public final class IncrementalValidator {
+	// PRIVATE VARIABLES
+	/**
+	 * The compiled rules and messages.
+	 */
+	private final ValidationSchema schema;
+	/**
+	 * The context reused by every stateless rule.
+	 */
+	private final RuleContext context = new RuleContext();
+	/**
+	 * The last value of each field, indexed by the fields of the schema, including the fields only
+	 * read by the cross-field rules of the others.
+	 */
+	private final Object[] values;
+	/**
+	 * The failed rules of each field, as returned by {@link ValidationSchema#evaluate(int, Object, RuleContext)}.
+	 */
+	private final long[] failures;
+	/**
+	 * The first message of each failed field, once read. Either a {@link String} or a
+	 * {@link PendingMessage}.
+	 */
+	private final Object[] messages;
+	/**
+	 * Identifies whether each field was validated at least once.
+	 */
+	private final boolean[] checked;
+	/**
+	 * The number of fields not validated yet.
+	 */
+	private int unchecked;
+	/**
+	 * The number of fields that failed the last time they were validated.
+	 */
+	private int failing;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code IncrementalValidator}, with no field validated yet.
+	 *
+	 * @param schema The compiled rules and messages.
+	 */
+	IncrementalValidator(ValidationSchema schema) {
+		this.schema = schema;
+		this.values = new Object[schema.slotCount()];
+		this.failures = new long[schema.size()];
+		this.messages = new Object[schema.size()];
+		this.checked = new boolean[schema.size()];
+		this.unchecked = schema.size();
+		this.context.bind(this.values, this.failures);
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Validates a single field against its rules, keeping the result until the field is validated
+	 * again. A field without rules always passes.<br>
+	 * <br>
+	 * The fields whose cross-field rules read the given field are validated again as well, against
+	 * their last value, though only those already validated; see {@link ValidationSchema#dependentsOf(String)}.
+	 *
+	 * @param field The name of the field.
+	 * @param value The new value of the field.
+	 *
+	 * @return boolean Returns {@code true} if the field passed; {@code false} otherwise.
+	 */
+	public boolean validate(String field, Object value) {
+		int slot = this.schema.slotOf(field);
+		if (slot < 0)
+			return true;
+
+		this.values[slot] = value;
+
+		// A field only read by the rules of the others has none of its own.
+		boolean passed = slot >= this.failures.length || this.check(slot);
+
+		for (int dependent : this.schema.dependentsOf(slot)) {
+			if (this.checked[dependent])
+				this.check(dependent);
+		}
+
+		return passed;
+	}
+
+	/**
+	 * Identifies whether the given field was validated at least once. A field without rules is
+	 * always checked.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return boolean Returns {@code true} if the field was validated; {@code false} otherwise.
+	 */
+	public boolean isChecked(String field) {
+		int index = this.schema.indexOf(field);
+
+		return index < 0 || this.checked[index];
+	}
+
+	/**
+	 * Identifies whether the given field passed the last time it was validated.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return boolean Returns {@code true} if the field passed, or has no rules; {@code false} if
+	 * it failed or was not validated yet.
+	 */
+	public boolean passes(String field) {
+		int index = this.schema.indexOf(field);
+
+		return index < 0 || (this.checked[index] && this.failures[index] == 0);
+	}
+
+	/**
+	 * Identifies whether every field of the form was validated and passed, without validating any of
+	 * them again.
+	 *
+	 * @return boolean Returns {@code true} if the whole form passed; {@code false} otherwise.
+	 */
+	public boolean passes() {
+		return this.unchecked == 0 && this.failing == 0;
+	}
+
+	/**
+	 * Identifies whether a field of the form failed, or was not validated yet.
+	 *
+	 * @return boolean Returns {@code true} if the whole form did not pass; {@code false} otherwise.
+	 */
+	public boolean fails() {
+		return !this.passes();
+	}
+
+	/**
+	 * Fetches the message of the first failed rule of the given field, in the declared order of its
+	 * rules.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return String The message; or an empty string if the field passed, or was not validated yet.
+	 */
+	public String first(String field) {
+		int index = this.schema.indexOf(field);
+		if (index < 0 || this.failures[index] == 0)
+			return "";
+
+		if (this.messages[index] == null) {
+			long failures = this.failures[index];
+			Object message = "";
+
+			// Skips the empty messages, the same way a MessageBag keeps the first non-empty one.
+			while (failures != 0) {
+				int rule = Long.numberOfTrailingZeros(failures);
+				message = this.schema.messageOf(index, rule, this.values[index]);
+
+				if (!MessageBag.isEmpty(message))
+					break;
+
+				failures &= failures - 1;
+			}
+
+			this.messages[index] = message;
+		}
+
+		return this.messages[index].toString();
+	}
+
+	/**
+	 * Fetches the last validated value of the given field.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return Object The value; or {@code null} if no rule uses the field, or it was not validated yet.
+	 */
+	public Object value(String field) {
+		int slot = this.schema.slotOf(field);
+
+		return slot < 0 ? null : this.values[slot];
+	}
+
+	/**
+	 * Retrieves the fields that failed the last time they were validated.
+	 *
+	 * @return String[] An array of the field names, in the order of the schema.
+	 */
+	public String[] invalidFields() {
+		List<String> invalid = new ArrayList<String>(this.failing);
+
+		for (int i = 0; i < this.failures.length; i++) {
+			if (this.failures[i] != 0)
+				invalid.add(this.schema.fieldAt(i));
+		}
+
+		return invalid.toArray(new String[0]);
+	}
+
+	/**
+	 * Fetches every message of the failed fields, assembled from the result of each field.
+	 *
+	 * @return MessageBag A new {@link MessageBag} containing the messages.
+	 */
+	public MessageBag errors() {
+		MessageBag errors = new MessageBag();
+
+		for (int i = 0; i < this.failures.length; i++) {
+			if (this.failures[i] != 0)
+				this.schema.addErrors(errors, i, this.values[i], this.failures[i]);
+		}
+
+		return errors;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {fields: %2$d, unchecked: %3$d, failing: %4$d}",
+				this.getClass().getSimpleName(),
+				this.failures.length,
+				this.unchecked,
+				this.failing
+		);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Runs the rules of a field against its last value, then keeps the result.
+	 *
+	 * @param index The index of the field.
+	 *
+	 * @return boolean Returns {@code true} if the field passed; {@code false} otherwise.
+	 */
+	private boolean check(int index) {
+		long failures = this.schema.evaluate(index, this.values[index], this.context);
+
+		if (!this.checked[index]) {
+			this.checked[index] = true;
+			this.unchecked--;
+		}
+		else if (this.failures[index] != 0) {
+			this.failing--;
+		}
+
+		if (failures != 0)
+			this.failing++;
+
+		this.failures[index] = failures;
+		this.messages[index] = null;
+
+		return failures == 0;
+	}
+}
@@ -0,0 +1,366 @@
+package com.satch_navida.myapplication.validation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A message bag is an instance of object containing various messages for different keys. It is
+ * similar to a JSON object wherein you can provide an array of messages for a single key, with
+ * multiple keys in a single instance of the object.<br>
+ * <br>
+ * Each message is keyed by a pair of a field and a rule. The fields, and the rules within each
+ * field, are kept in the order their first message was added; thus, {@link #first(String)} is
+ * always the first message added for that field. The messages of a field are held in compact
+ * arrays, so that {@link #first(String)} and {@link #get(String, int)} neither copy nor search
+ * through them, while {@link #size()} and {@link #key(int)} go through the keys without the copy
+ * made by {@link #keys()}.<br>
+ * <br>
+ * The code of this {@code MessageBag} is designed to allow chain-calling and only stops when using
+ * {@code getters} or calling {@code variables} (if there are any).<br>
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class MessageBag extends AbstractMessageBag {
+	// PRIVATE VARIABLES
+	/**
+	 * The number of rules a field has room for when its first message is added.
+	 */
+	private static final int INITIAL_CAPACITY = 4;
+	/**
+	 * The keys of an empty bag.
+	 */
+	private static final String[] NO_KEYS = new String[0];
+
+	/**
+	 * The messages of each field, keyed by the field.
+	 */
+	private final Map<String, Messages> messages = new HashMap<String, Messages>();
+	/**
+	 * The messages of each field, in the order their first message was added.
+	 */
+	private Messages[] order = new Messages[INITIAL_CAPACITY];
+	/**
+	 * The number of fields within {@link #order}.
+	 */
+	private int size = 0;
+	/**
+	 * The fields, built once after a field is added and kept until another one is. Could be
+	 * {@code null}.
+	 */
+	private String[] keys = NO_KEYS;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link MessageBag}, containing messages given through {@code messages}
+	 * parameter.<br>
+	 *
+	 * @param messages A map containing key-value pair whereas the {@code key} is the identifier while
+	 *                 {@code value} is a {@link Map} containing a key-value pair of {@code String}s where in this
+	 *                 context, the {@code key} is the rule while the {@code value} is the message.
+	 */
+	public MessageBag(HashMap<String, Map<String, String>> messages) {
+		this();
+
+		for (Map.Entry<String, Map<String, String>> pair : messages.entrySet()) {
+			for (Map.Entry<String, String> message : pair.getValue().entrySet())
+				this.put(pair.getKey(), message.getKey(), message.getValue(), true);
+		}
+	}
+
+	/**
+	 * Creates an empty instance of {@link MessageBag}.
+	 */
+	public MessageBag() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches all the available keys in the {@link MessageBag}, in the order their first message was
+	 * added. The returned array is a copy and thus, could be modified freely; go through
+	 * {@link #size()} and {@link #key(int)} instead to read the keys without copying them.
+	 *
+	 * @return String[] An array of keys.
+	 */
+	@Override
+	public String[] keys() {
+		if (this.keys == null) {
+			this.keys = new String[this.size];
+
+			for (int i = 0; i < this.size; i++)
+				this.keys[i] = this.order[i].field;
+		}
+
+		return this.keys.clone();
+	}
+
+	/**
+	 * Fetches the number of keys in the {@link MessageBag}.
+	 *
+	 * @return int The number of keys.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Fetches the key at the given position, in the order their first message was added.
+	 *
+	 * @param index The position of the key.
+	 *
+	 * @return String The key.
+	 *
+	 * @throws IndexOutOfBoundsException When the index is not lower than {@link #size()}.
+	 */
+	public String key(int index) {
+		if (index < 0 || index >= this.size)
+			throw new IndexOutOfBoundsException("Provided index is greater than the number of keys present.");
+
+		return this.order[index].field;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public MessageBag add(String key, String message) {
+		super.add(key, message);
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public MessageBag add(String field, String rule, String message) {
+		super.add(field, rule, message);
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public MessageBag merge(HashMap<String, Map<String, String>> messages) {
+		super.merge(messages);
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public MessageBag merge(AbstractMessageBag... messages) {
+		super.merge(messages);
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String first(String key) {
+		Messages keyMessages = this.messages.get(key);
+
+		return keyMessages == null ? "" : keyMessages.messages[0].toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String get(String key, int index) {
+		Messages keyMessages = this.messages.get(key);
+		if (keyMessages == null)
+			return "";
+
+		if (index < 0 || index >= keyMessages.count)
+			throw new IndexOutOfBoundsException("Provided index is greater than the number of messages present.");
+
+		return keyMessages.messages[index].toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<String, String> get(String key) {
+		Messages keyMessages = this.messages.get(key);
+
+		return keyMessages == null ? null : keyMessages.render();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String get(String key, String subkey) {
+		Messages keyMessages = this.messages.get(key);
+		int index = keyMessages == null ? -1 : keyMessages.indexOf(subkey);
+
+		return index < 0 ? null : keyMessages.messages[index].toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder toRet = new StringBuilder("{");
+
+		for (int i = 0; i < this.size; i++) {
+			if (i > 0)
+				toRet.append(", ");
+
+			toRet.append(this.order[i].field).append(": \"").append(this.order[i].render()).append('"');
+		}
+
+		return toRet.append('}').toString();
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected HashMap<String, Map<String, String>> get() {
+		HashMap<String, Map<String, String>> rendered = new HashMap<String, Map<String, String>>(this.size * 2);
+		for (int i = 0; i < this.size; i++)
+			rendered.put(this.order[i].field, this.order[i].render());
+
+		return rendered;
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	MessageBag put(String field, String rule, Object message, boolean overwrite) {
+		Messages fieldMessages = this.messages.get(field);
+
+		// If no such key exists in the current message
+		if (fieldMessages == null) {
+			fieldMessages = new Messages(field);
+			this.messages.put(field, fieldMessages);
+
+			if (this.size == this.order.length)
+				this.order = Arrays.copyOf(this.order, this.size * 2);
+			this.order[this.size++] = fieldMessages;
+			this.keys = null;
+		}
+
+		fieldMessages.put(rule, message, overwrite);
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	void copyTo(AbstractMessageBag target, boolean overwrite) {
+		for (int i = 0; i < this.size; i++) {
+			Messages fieldMessages = this.order[i];
+
+			for (int j = 0; j < fieldMessages.count; j++)
+				target.put(fieldMessages.field, fieldMessages.rules[j], fieldMessages.messages[j], overwrite);
+		}
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The messages of a single field, with its rules and their messages held side by side in the
+	 * order they were added.
+	 */
+	private static final class Messages {
+		/**
+		 * The field of the messages.
+		 */
+		final String field;
+		/**
+		 * The rules, indexed the same way as {@link #messages}.
+		 */
+		String[] rules = new String[INITIAL_CAPACITY];
+		/**
+		 * The messages; either a {@link String} or a {@link PendingMessage}.
+		 */
+		Object[] messages = new Object[INITIAL_CAPACITY];
+		/**
+		 * The number of rules with a message.
+		 */
+		int count = 0;
+
+		Messages(String field) {
+			this.field = field;
+		}
+
+		/**
+		 * Inserts the message of a rule.
+		 *
+		 * @param rule The rule of the message.
+		 * @param message The message; either a {@link String} or a {@link PendingMessage}.
+		 * @param overwrite Whether an existing message of the same rule is overwritten. If not, it is
+		 *                  only overwritten when it is empty.
+		 */
+		void put(String rule, Object message, boolean overwrite) {
+			int index = this.indexOf(rule);
+
+			if (index >= 0) {
+				if (overwrite || isEmpty(this.messages[index]))
+					this.messages[index] = message;
+
+				return;
+			}
+
+			if (this.count == this.rules.length) {
+				this.rules = Arrays.copyOf(this.rules, this.count * 2);
+				this.messages = Arrays.copyOf(this.messages, this.count * 2);
+			}
+
+			this.rules[this.count] = rule;
+			this.messages[this.count++] = message;
+		}
+
+		/**
+		 * Finds the given rule. A field only has a handful of rules, thus a scan is cheaper than a map.
+		 *
+		 * @param rule The rule to find.
+		 *
+		 * @return int The index of the rule; or {@code -1} if there is no such rule.
+		 */
+		int indexOf(String rule) {
+			for (int i = 0; i < this.count; i++) {
+				if (this.rules[i].equals(rule))
+					return i;
+			}
+
+			return -1;
+		}
+
+		/**
+		 * Renders every message, keyed by its rule.
+		 *
+		 * @return Map<String, String> The rendered messages, in the order they were added.
+		 */
+		Map<String, String> render() {
+			Map<String, String> rendered = new LinkedHashMap<String, String>(this.count * 2);
+
+			for (int i = 0; i < this.count; i++)
+				rendered.put(this.rules[i], this.messages[i].toString());
+
+			return rendered;
+		}
+	}
+}
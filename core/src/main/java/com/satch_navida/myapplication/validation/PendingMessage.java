@@ -0,0 +1,83 @@
+package com.satch_navida.myapplication.validation;
+
+import com.satch_navida.myapplication.validation.rules.MessageTemplate;
+
+/**
+ * A failure message that is not rendered yet, kept as its compiled {@link MessageTemplate} and the
+ * values to inject. A {@link MessageBag} holds these in place of their text and only renders one
+ * once it is read, thus failures that are never read cost no rendering at all.<br>
+ * <br>
+ * The rendered text is kept after the first read. Rendering twice from two threads is harmless, as
+ * both produce the same text.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+final class PendingMessage {
+	// PRIVATE VARIABLES
+	/**
+	 * The compiled message.
+	 */
+	private final MessageTemplate template;
+	/**
+	 * The name of the field that failed.
+	 */
+	private final String field;
+	/**
+	 * The value that failed.
+	 */
+	private final Object value;
+	/**
+	 * The validator values of the rule that failed. Could be {@code null}.
+	 */
+	private final Object[] params;
+	/**
+	 * The rendered message, once read.
+	 */
+	private volatile String text;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code PendingMessage}.
+	 *
+	 * @param template The compiled message.
+	 * @param field The name of the field that failed.
+	 * @param value The value that failed.
+	 * @param params The validator values of the rule that failed. Could be {@code null}.
+	 */
+	PendingMessage(MessageTemplate template, String field, Object value, Object[] params) {
+		this.template = template;
+		this.field = field;
+		// A mutable value, such as the Editable of an EditText, could change before the message is
+		// read; hence, it is copied, but only when it is actually shown.
+		this.value = template.usesValue() && value instanceof CharSequence && !(value instanceof String) ? value.toString() : value;
+		this.params = params;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Identifies whether the message is empty, without rendering it.
+	 *
+	 * @return boolean Returns {@code true} if the message is empty; {@code false} otherwise.
+	 */
+	boolean isEmpty() {
+		return this.template.isEmpty();
+	}
+
+	/**
+	 * Renders the message, or fetches it if it was already rendered.
+	 *
+	 * @return String The rendered message.
+	 */
+	@Override
+	public String toString() {
+		String text = this.text;
+
+		if (text == null)
+			this.text = text = this.template.render(this.field, this.value, this.params);
+
+		return text;
+	}
+}
@@ -0,0 +1,282 @@
+package com.satch_navida.myapplication.validation;
+
+import com.satch_navida.myapplication.validation.rules.Between;
+import com.satch_navida.myapplication.validation.rules.Boolean;
+import com.satch_navida.myapplication.validation.rules.LessThanField;
+import com.satch_navida.myapplication.validation.rules.Max;
+import com.satch_navida.myapplication.validation.rules.Min;
+import com.satch_navida.myapplication.validation.rules.Nullable;
+import com.satch_navida.myapplication.validation.rules.Numeric;
+import com.satch_navida.myapplication.validation.rules.PredicateRule;
+import com.satch_navida.myapplication.validation.rules.Required;
+import com.satch_navida.myapplication.validation.rules.RequiredIf;
+import com.satch_navida.myapplication.validation.rules.Rule;
+import com.satch_navida.myapplication.validation.rules.RuleFactory;
+import com.satch_navida.myapplication.validation.rules.RulePredicate;
+import com.satch_navida.myapplication.validation.rules.Same;
+import com.satch_navida.myapplication.validation.rules.Sometimes;
+import com.satch_navida.myapplication.validation.rules.StatelessRule;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A registry of all the rules a {@link ValidationSchema} can resolve, keyed by their rule name.
+ * Rule names are case-insensitive, thus {@code "Required"} and {@code "required"} resolves to the
+ * same rule.<br>
+ * <br>
+ * Rules are registered up front, either as a {@link RuleFactory} (such as the constructor reference
+ * of a {@link Rule} subclass) or as a plain {@link RulePredicate}, and the registry is then frozen
+ * before being used. A frozen registry can no longer be modified and can be shared freely across
+ * threads.<br>
+ * <br>
+ * The code of this {@code RuleRegistry} is designed to allow chain-calling:
+ * <pre>{@code
+ * RuleRegistry registry = RuleRegistry.withDefaults()
+ *         .register("PlausibleHeight", (value, params) -> {
+ *             double height = Double.parseDouble(value.toString());
+ *             return height >= 30 && height <= 275;
+ *         }, "The :key is not a plausible height.")
+ *         .freeze();
+ * }</pre>
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class RuleRegistry {
+	// PRIVATE VARIABLES
+	/**
+	 * The shared, frozen registry containing only the rules shipped within the {@code rules} package.
+	 */
+	private static final RuleRegistry DEFAULTS = withDefaults().freeze();
+
+	/**
+	 * The registered rules, keyed by their lower-cased rule name.
+	 */
+	private Map<String, Registration> rules = new HashMap<String, Registration>();
+	/**
+	 * Identifies whether this registry is already frozen.
+	 */
+	private boolean frozen = false;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an empty instance of {@code RuleRegistry}.
+	 */
+	public RuleRegistry() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the shared registry of the rules shipped within the {@code rules} package. The
+	 * returned registry is already frozen.
+	 *
+	 * @return RuleRegistry The default registry.
+	 */
+	public static RuleRegistry defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Creates a new, modifiable registry that already contains the rules shipped within the
+	 * {@code rules} package. Use this to add custom rules on top of the default ones.
+	 *
+	 * @return RuleRegistry A new instance of {@code RuleRegistry}.
+	 */
+	public static RuleRegistry withDefaults() {
+		return new RuleRegistry()
+				.register("Required", Required::new, Required.STATELESS)
+				.register("Numeric", Numeric::new, Numeric.STATELESS)
+				.register("Min", Min::new, Min.STATELESS)
+				.register("Max", Max::new, Max.STATELESS)
+				.register("Between", Between::new, Between.STATELESS)
+				.register("Boolean", Boolean::new, Boolean.STATELESS)
+				.register("Nullable", Nullable::new, Nullable.STATELESS)
+				.register("Sometimes", Sometimes::new, Sometimes.STATELESS)
+				.register("RequiredIf", RequiredIf::new, RequiredIf.STATELESS)
+				.register("Same", Same::new, Same.STATELESS)
+				.register("LessThanField", LessThanField::new, LessThanField.STATELESS);
+	}
+
+	/**
+	 * Registers a rule through its factory. A rule with the same name will be overwritten.
+	 *
+	 * @param name The name of the rule, as it will be written on the rules.
+	 * @param factory The factory that creates the rule, such as {@code Required::new}.
+	 *
+	 * @return RuleRegistry This instance of {@code RuleRegistry}.
+	 *
+	 * @throws IllegalStateException When this registry is already frozen.
+	 */
+	public RuleRegistry register(String name, RuleFactory factory) {
+		return this.register(name, factory, null);
+	}
+
+	/**
+	 * Registers a rule through its factory, along with its shared {@link StatelessRule} counterpart.
+	 * When present, the stateless counterpart is preferred by the {@link Validator} as it requires
+	 * no new instance per validation. A rule with the same name will be overwritten.
+	 *
+	 * @param name The name of the rule, as it will be written on the rules.
+	 * @param factory The factory that creates the rule, such as {@code Min::new}.
+	 * @param stateless The stateless counterpart of the rule, such as {@code Min.STATELESS}. Could be {@code null}.
+	 *
+	 * @return RuleRegistry This instance of {@code RuleRegistry}.
+	 *
+	 * @throws IllegalStateException When this registry is already frozen.
+	 */
+	public RuleRegistry register(String name, RuleFactory factory, StatelessRule stateless) {
+		if (this.frozen)
+			throw new IllegalStateException("Cannot register the rule \"" + name + "\" on a frozen registry.");
+		if (factory == null)
+			throw new NullPointerException("\"factory\" should not be null.");
+
+		this.rules.put(normalize(name), new Registration(factory, stateless));
+
+		return this;
+	}
+
+	/**
+	 * Registers a rule backed by a plain {@link RulePredicate}, using the given default message.
+	 *
+	 * @param name The name of the rule, as it will be written on the rules.
+	 * @param predicate The test that will be run against the value.
+	 * @param message The message used when no custom message is provided. Could be {@code null}.
+	 *
+	 * @return RuleRegistry This instance of {@code RuleRegistry}.
+	 *
+	 * @throws IllegalStateException When this registry is already frozen.
+	 */
+	public RuleRegistry register(String name, RulePredicate predicate, String message) {
+		if (predicate == null)
+			throw new NullPointerException("\"predicate\" should not be null.");
+
+		return this.register(
+				name,
+				(key, value, customMessage, validatorValues) -> new PredicateRule(
+						key,
+						value,
+						customMessage == null ? message : customMessage,
+						validatorValues,
+						predicate
+				),
+				PredicateRule.stateless(predicate, message)
+		);
+	}
+
+	/**
+	 * Registers a rule backed by a plain {@link RulePredicate}.
+	 *
+	 * @param name The name of the rule, as it will be written on the rules.
+	 * @param predicate The test that will be run against the value.
+	 *
+	 * @return RuleRegistry This instance of {@code RuleRegistry}.
+	 *
+	 * @throws IllegalStateException When this registry is already frozen.
+	 */
+	public RuleRegistry register(String name, RulePredicate predicate) {
+		return this.register(name, predicate, null);
+	}
+
+	/**
+	 * Freezes this registry, preventing any more rules from being registered.
+	 *
+	 * @return RuleRegistry This instance of {@code RuleRegistry}.
+	 */
+	public RuleRegistry freeze() {
+		if (!this.frozen) {
+			this.rules = Collections.unmodifiableMap(new HashMap<String, Registration>(this.rules));
+			this.frozen = true;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Identifies whether this registry is already frozen.
+	 *
+	 * @return boolean Returns {@code true} if this registry is frozen; {@code false} otherwise.
+	 */
+	public boolean isFrozen() {
+		return this.frozen;
+	}
+
+	/**
+	 * Determine if a rule is registered under the given name.
+	 *
+	 * @param name The name of the rule.
+	 *
+	 * @return boolean Returns {@code true} if the rule exists; {@code false} otherwise.
+	 */
+	public boolean has(String name) {
+		return this.rules.containsKey(normalize(name));
+	}
+
+	/**
+	 * Fetches the factory of the given rule.
+	 *
+	 * @param name The name of the rule.
+	 *
+	 * @return RuleFactory The factory of the rule; or {@code null} if no such rule is registered.
+	 */
+	public RuleFactory resolve(String name) {
+		Registration registration = this.rules.get(normalize(name));
+
+		return registration == null ? null : registration.factory;
+	}
+
+	/**
+	 * Fetches the shared stateless counterpart of the given rule.
+	 *
+	 * @param name The name of the rule.
+	 *
+	 * @return StatelessRule The stateless counterpart of the rule; or {@code null} if no such rule is
+	 * registered, or if the rule has no stateless counterpart.
+	 */
+	public StatelessRule resolveStateless(String name) {
+		Registration registration = this.rules.get(normalize(name));
+
+		return registration == null ? null : registration.stateless;
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Normalizes the rule name into its case-insensitive key.
+	 *
+	 * @param name The name of the rule.
+	 *
+	 * @return String The lower-cased name.
+	 */
+	private static String normalize(String name) {
+		if (name == null)
+			throw new NullPointerException("\"name\" should not be null.");
+
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * A single registered rule, pairing its factory with its stateless counterpart.
+	 */
+	private static final class Registration {
+		/**
+		 * The factory that creates the rule.
+		 */
+		final RuleFactory factory;
+		/**
+		 * The stateless counterpart of the rule. Could be {@code null}.
+		 */
+		final StatelessRule stateless;
+
+		Registration(RuleFactory factory, StatelessRule stateless) {
+			this.factory = factory;
+			this.stateless = stateless;
+		}
+	}
+}
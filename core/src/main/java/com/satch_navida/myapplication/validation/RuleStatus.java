@@ -0,0 +1,23 @@
+package com.satch_navida.myapplication.validation;
+
+/**
+ * The outcome of a single rule of a field, as reported by {@link Validator#status(String, String)}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public enum RuleStatus {
+	/**
+	 * The rule was run and passed.
+	 */
+	PASSED,
+	/**
+	 * The rule was run and failed.
+	 */
+	FAILED,
+	/**
+	 * The rule was not run; either the field is not present, a previous rule stopped the field, or
+	 * the {@link ValidationPolicy} stopped the validation early. Nothing is known about its outcome.
+	 */
+	NOT_EVALUATED
+}
@@ -0,0 +1,409 @@
+package com.satch_navida.myapplication.validation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts and times the validations run through a {@link ValidationSchema} bound to it through
+ * {@link ValidationSchema#withMetrics(ValidationMetrics)}: per rule name and per field, the number
+ * of runs, the number of failures, and a histogram of their latencies. The time spent resolving the
+ * rules, while compiling the schema or creating a rule without a stateless counterpart, is kept
+ * apart from the time spent running them.<br>
+ * <br>
+ * Every latency falls into one of {@link #BUCKETS} buckets by its power of two, wherein the bucket
+ * {@code i} holds the latencies within {@code [2^(i-1), 2^i)} nanoseconds; thus, recording a
+ * latency is a few striped {@link LongAdder} increments, without allocating, and parallel
+ * validations do not contend on a single counter. The recorders of a schema are resolved once when
+ * it is bound, never while validating.<br>
+ * <br>
+ * A schema without metrics, the default, only checks a single field per validated field; thus,
+ * the disabled path costs nothing measurable.<br>
+ * <br>
+ * A {@code ValidationMetrics} is thread-safe, and could be shared by several schemas.
+ *
+ * <pre>{@code
+ * ValidationMetrics metrics = new ValidationMetrics();
+ * ValidationSchema schema = ValidationSchema.compile(rules, messages, registry, metrics);
+ * ...
+ * Logging.debug("Validation", metrics.dump());
+ * }</pre>
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ValidationMetrics {
+	// PUBLIC VARIABLES
+	/**
+	 * The number of buckets of every latency histogram, one per power of two of nanoseconds.
+	 */
+	public static final int BUCKETS = Long.SIZE;
+
+	// PRIVATE VARIABLES
+	/**
+	 * The recorders of every rule, by the name of the rule.
+	 */
+	private final ConcurrentHashMap<String, Recorder> rules = new ConcurrentHashMap<String, Recorder>();
+	/**
+	 * The recorders of every field, by the name of the field.
+	 */
+	private final ConcurrentHashMap<String, Recorder> fields = new ConcurrentHashMap<String, Recorder>();
+	/**
+	 * The recorders of the resolution of every rule, by the name of the rule.
+	 */
+	private final ConcurrentHashMap<String, Recorder> resolutions = new ConcurrentHashMap<String, Recorder>();
+
+	// PUBLIC METHODS
+
+	/**
+	 * Takes a snapshot of every metric. The metrics keep being recorded while the snapshot is taken;
+	 * thus, the counts of a single recorder could be off by the validations that ran meanwhile.
+	 *
+	 * @return Snapshot The metrics as of now.
+	 */
+	public Snapshot snapshot() {
+		return new Snapshot(statsOf(this.rules), statsOf(this.fields), statsOf(this.resolutions));
+	}
+
+	/**
+	 * Writes every metric as a plain text table, meant to be read from the logs.
+	 *
+	 * @return String The metrics as of now.
+	 */
+	public String dump() {
+		return this.snapshot().toString();
+	}
+
+	/**
+	 * Clears every metric. The schemas bound to this keep recording into it.
+	 */
+	public void reset() {
+		for (Recorder recorder : this.rules.values())
+			recorder.reset();
+		for (Recorder recorder : this.fields.values())
+			recorder.reset();
+		for (Recorder recorder : this.resolutions.values())
+			recorder.reset();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {rules: %2$d, fields: %3$d}",
+				this.getClass().getSimpleName(),
+				this.rules.size(),
+				this.fields.size()
+		);
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Fetches the recorder of a rule, creating it if needed.
+	 *
+	 * @param name The name of the rule.
+	 *
+	 * @return Recorder The recorder.
+	 */
+	Recorder rule(String name) {
+		return this.rules.computeIfAbsent(name, key -> new Recorder());
+	}
+
+	/**
+	 * Fetches the recorder of a field, creating it if needed.
+	 *
+	 * @param name The name of the field.
+	 *
+	 * @return Recorder The recorder.
+	 */
+	Recorder field(String name) {
+		return this.fields.computeIfAbsent(name, key -> new Recorder());
+	}
+
+	/**
+	 * Fetches the recorder of the resolution of a rule, creating it if needed.
+	 *
+	 * @param name The name of the rule.
+	 *
+	 * @return Recorder The recorder.
+	 */
+	Recorder resolution(String name) {
+		return this.resolutions.computeIfAbsent(name, key -> new Recorder());
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Takes a snapshot of every recorder of the given map.
+	 *
+	 * @param recorders The recorders, by name.
+	 *
+	 * @return Map<String, Stats> The snapshots, sorted by name.
+	 */
+	private static Map<String, Stats> statsOf(Map<String, Recorder> recorders) {
+		Map<String, Stats> stats = new TreeMap<String, Stats>();
+
+		for (Map.Entry<String, Recorder> entry : recorders.entrySet())
+			stats.put(entry.getKey(), entry.getValue().snapshot());
+
+		return Collections.unmodifiableMap(stats);
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * Records the runs of a single rule, field or resolution.
+	 */
+	static final class Recorder {
+		// The number of runs is the sum of the buckets; thus, it is not counted on its own.
+		private final LongAdder failures = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+		Recorder() {
+			for (int i = 0; i < BUCKETS; i++)
+				this.buckets[i] = new LongAdder();
+		}
+
+		/**
+		 * Records a single run.
+		 *
+		 * @param nanos How long the run took, in nanoseconds.
+		 * @param failed Whether the run failed.
+		 */
+		void record(long nanos, boolean failed) {
+			// A clock that went backwards is counted as instant.
+			nanos = Math.max(nanos, 0);
+
+			if (failed)
+				this.failures.increment();
+			this.totalNanos.add(nanos);
+			this.maxNanos.accumulate(nanos);
+			this.buckets[Math.min(Long.SIZE - Long.numberOfLeadingZeros(nanos), BUCKETS - 1)].increment();
+		}
+
+		void reset() {
+			this.failures.reset();
+			this.totalNanos.reset();
+			this.maxNanos.reset();
+			for (LongAdder bucket : this.buckets)
+				bucket.reset();
+		}
+
+		Stats snapshot() {
+			long[] buckets = new long[BUCKETS];
+			long invocations = 0;
+			for (int i = 0; i < BUCKETS; i++)
+				invocations += buckets[i] = this.buckets[i].sum();
+
+			return new Stats(invocations, this.failures.sum(), this.totalNanos.sum(), this.maxNanos.get(), buckets);
+		}
+	}
+
+	/**
+	 * The metrics of a single rule, field or resolution, as of when the snapshot was taken. A
+	 * {@code Stats} is immutable.
+	 */
+	public static final class Stats {
+		private final long invocations;
+		private final long failures;
+		private final long totalNanos;
+		private final long maxNanos;
+		private final long[] buckets;
+
+		private Stats(long invocations, long failures, long totalNanos, long maxNanos, long[] buckets) {
+			this.invocations = invocations;
+			this.failures = failures;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+			this.buckets = buckets;
+		}
+
+		/**
+		 * Fetches the number of runs.
+		 *
+		 * @return long The number of runs.
+		 */
+		public long getInvocations() {
+			return this.invocations;
+		}
+
+		/**
+		 * Fetches the number of failed runs. A resolution never fails.
+		 *
+		 * @return long The number of failed runs.
+		 */
+		public long getFailures() {
+			return this.failures;
+		}
+
+		/**
+		 * Fetches the time spent on every run.
+		 *
+		 * @return long The total time, in nanoseconds.
+		 */
+		public long getTotalNanos() {
+			return this.totalNanos;
+		}
+
+		/**
+		 * Fetches the time spent on the longest run.
+		 *
+		 * @return long The longest time, in nanoseconds.
+		 */
+		public long getMaxNanos() {
+			return this.maxNanos;
+		}
+
+		/**
+		 * Fetches the mean time spent on a run.
+		 *
+		 * @return double The mean time, in nanoseconds; or {@link Double#NaN} if there is no run.
+		 */
+		public double getMeanNanos() {
+			return this.invocations == 0 ? Double.NaN : (double) this.totalNanos / this.invocations;
+		}
+
+		/**
+		 * Estimates the time below which the given fraction of the runs took, as the upper bound of
+		 * the bucket it falls into; thus, it is off by less than a factor of two, and never more
+		 * than the longest run.
+		 *
+		 * @param q The fraction, within {@code [0, 1]}, such as {@code 0.99}.
+		 *
+		 * @return long The estimated time, in nanoseconds; or {@code 0} if there is no run.
+		 *
+		 * @throws IllegalArgumentException When {@code q} is out of range.
+		 */
+		public long getPercentileNanos(double q) {
+			if (!(q >= 0 && q <= 1))
+				throw new IllegalArgumentException("\"q\" should be within [0, 1].");
+
+			if (this.invocations == 0)
+				return 0;
+
+			long rank = Math.max(1, (long) Math.ceil(q * this.invocations));
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += this.buckets[i];
+
+				if (seen >= rank)
+					return i == 0 ? 0 : Math.min(i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << i, this.maxNanos);
+			}
+
+			return this.maxNanos;
+		}
+
+		/**
+		 * Fetches the number of runs within every bucket.
+		 *
+		 * @return long[] A copy of the counts, indexed by bucket.
+		 */
+		public long[] getBuckets() {
+			return this.buckets.clone();
+		}
+
+		/**
+		 * @inheritDoc
+		 */
+		@Override
+		public String toString() {
+			return String.format(
+					"[%1$s]: {invocations: %2$d, failures: %3$d, meanNanos: %4$.1f, p50Nanos: %5$d, p99Nanos: %6$d, maxNanos: %7$d}",
+					this.getClass().getSimpleName(),
+					this.invocations,
+					this.failures,
+					this.getMeanNanos(),
+					this.getPercentileNanos(0.5),
+					this.getPercentileNanos(0.99),
+					this.maxNanos
+			);
+		}
+	}
+
+	/**
+	 * Every metric as of when the snapshot was taken, sorted by name. A {@code Snapshot} is
+	 * immutable.
+	 */
+	public static final class Snapshot {
+		private final Map<String, Stats> rules;
+		private final Map<String, Stats> fields;
+		private final Map<String, Stats> resolutions;
+
+		private Snapshot(Map<String, Stats> rules, Map<String, Stats> fields, Map<String, Stats> resolutions) {
+			this.rules = rules;
+			this.fields = fields;
+			this.resolutions = resolutions;
+		}
+
+		/**
+		 * Fetches the metrics of running every rule.
+		 *
+		 * @return Map<String, Stats> An unmodifiable map of the rule names and their metrics.
+		 */
+		public Map<String, Stats> getRules() {
+			return this.rules;
+		}
+
+		/**
+		 * Fetches the metrics of validating every field, being all of its rules at once.
+		 *
+		 * @return Map<String, Stats> An unmodifiable map of the field names and their metrics.
+		 */
+		public Map<String, Stats> getFields() {
+			return this.fields;
+		}
+
+		/**
+		 * Fetches the metrics of resolving every rule.
+		 *
+		 * @return Map<String, Stats> An unmodifiable map of the rule names and their metrics.
+		 */
+		public Map<String, Stats> getResolutions() {
+			return this.resolutions;
+		}
+
+		/**
+		 * Writes every metric as a plain text table, one line per rule, field and resolution.
+		 *
+		 * @return String The table.
+		 */
+		@Override
+		public String toString() {
+			StringBuilder text = new StringBuilder();
+
+			append(text, "rule", this.rules);
+			append(text, "field", this.fields);
+			append(text, "resolution", this.resolutions);
+
+			return text.toString();
+		}
+
+		private static void append(StringBuilder text, String kind, Map<String, Stats> stats) {
+			text.append(String.format("%-10s %-24s %12s %12s %12s %10s %10s %12s%n", kind, "name", "invocations", "failures", "mean (ns)", "p50 (ns)", "p99 (ns)", "max (ns)"));
+
+			for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+				Stats value = entry.getValue();
+
+				text.append(String.format(
+						"%-10s %-24s %12d %12d %12.1f %10d %10d %12d%n",
+						kind,
+						entry.getKey(),
+						value.getInvocations(),
+						value.getFailures(),
+						value.getMeanNanos(),
+						value.getPercentileNanos(0.5),
+						value.getPercentileNanos(0.99),
+						value.getMaxNanos()
+				));
+			}
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.satch_navida.myapplication.validation;
+
+/**
+ * Dictates how much of the rules a {@link Validator} runs once a rule failed. Rules that are not
+ * run because of the policy are reported as {@link RuleStatus#NOT_EVALUATED not evaluated}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public enum ValidationPolicy {
+	/**
+	 * Runs every rule of every field, only stopping a field when a failed rule does not allow the
+	 * other validations to run. This is the default, and collects every error message.
+	 */
+	FULL,
+	/**
+	 * Stops a field at its first failed rule, but still validates the other fields. Every invalid
+	 * field is still reported, with a single message each.
+	 */
+	BAIL,
+	/**
+	 * Stops the whole validation at the first failed rule. Only meant for callers that need nothing
+	 * but whether the values pass or fail.
+	 */
+	FAIL_FAST
+}
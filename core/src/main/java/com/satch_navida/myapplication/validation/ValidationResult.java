@@ -0,0 +1,221 @@
+package com.satch_navida.myapplication.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of validating a single set of values, as completed by
+ * {@link Validator#validateAsync(java.util.concurrent.Executor)}. Unlike a {@link Validator}, a
+ * {@code ValidationResult} is immutable once created and thus, can be read from any thread, such
+ * as the UI thread once the validation completed on a background one.<br>
+ * <br>
+ * Only the failed rules of each field are kept. The messages are built when asked, into a new
+ * {@link MessageBag} every time, so that no caller could change what another one reads.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ValidationResult {
+	// PRIVATE VARIABLES
+	/**
+	 * The schema the values were validated against.
+	 */
+	private final ValidationSchema schema;
+	/**
+	 * The values that were validated, as they were when the validation started.
+	 */
+	private final Map<String, Object> values;
+	/**
+	 * The values of the fields that passed.
+	 */
+	private final Map<String, Object> validated;
+	/**
+	 * The rules that were run, indexed by the fields of the schema.
+	 */
+	private final long[] evaluated;
+	/**
+	 * The rules that failed, indexed by the fields of the schema.
+	 */
+	private final long[] failures;
+	/**
+	 * Identifies whether at least one field failed.
+	 */
+	private final boolean failed;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code ValidationResult}. The arrays and maps are owned by the result
+	 * from then on, and must not be changed by the caller.
+	 *
+	 * @param schema The schema the values were validated against.
+	 * @param values The values that were validated.
+	 * @param validated The values of the fields that passed.
+	 * @param evaluated The rules that were run, indexed by the fields of the schema.
+	 * @param failures The rules that failed, indexed by the fields of the schema.
+	 * @param failed Whether at least one field failed.
+	 */
+	ValidationResult(ValidationSchema schema, Map<String, Object> values, Map<String, Object> validated, long[] evaluated, long[] failures, boolean failed) {
+		this.schema = schema;
+		this.values = Collections.unmodifiableMap(values);
+		this.validated = Collections.unmodifiableMap(validated);
+		this.evaluated = evaluated;
+		this.failures = failures;
+		this.failed = failed;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Identifies whether the validation failed or not. A single rule that fail will result in a
+	 * total fail of the validation.
+	 *
+	 * @return boolean Returns {@code true} if the validation fails; {@code false} otherwise.
+	 */
+	public boolean fails() {
+		return this.failed;
+	}
+
+	/**
+	 * Identifies whether every field passed.
+	 *
+	 * @return boolean Returns {@code true} if the validation passed; {@code false} otherwise.
+	 */
+	public boolean passes() {
+		return !this.failed;
+	}
+
+	/**
+	 * Fetches the values of the fields that passed.
+	 *
+	 * @return Map<String, Object> An unmodifiable {@link Map} of the fields that passed and their values.
+	 */
+	public Map<String, Object> validated() {
+		return this.validated;
+	}
+
+	/**
+	 * Fetches every error message, in a new {@link MessageBag}.
+	 *
+	 * @return MessageBag A new {@code MessageBag} containing all error messages.
+	 */
+	public MessageBag errors() {
+		MessageBag errors = new MessageBag();
+
+		for (int field = 0; field < this.failures.length; field++) {
+			if (this.failures[field] != 0)
+				this.schema.addErrors(errors, field, this.values.get(this.schema.fieldAt(field)), this.failures[field]);
+		}
+
+		return errors;
+	}
+
+	/**
+	 * Fetches the message of the first failed rule of the given field, in the declared order of its
+	 * rules.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return String The message; or an empty string if the field did not fail.
+	 */
+	public String first(String field) {
+		int index = this.schema.indexOf(field);
+		if (index < 0)
+			return "";
+
+		Object value = this.values.get(field);
+		for (long failures = this.failures[index]; failures != 0; failures &= failures - 1) {
+			Object message = this.schema.messageOf(index, Long.numberOfTrailingZeros(failures), value);
+
+			if (!MessageBag.isEmpty(message))
+				return message.toString();
+		}
+
+		return "";
+	}
+
+	/**
+	 * Fetches the outcome of a single rule of a field.
+	 *
+	 * @param field The name of the field.
+	 * @param rule The name of the rule, case-insensitive.
+	 *
+	 * @return RuleStatus Whether the rule passed, failed, or was not evaluated at all.
+	 *
+	 * @see Validator#status(String, String)
+	 */
+	public RuleStatus status(String field, String rule) {
+		int index = this.schema.indexOf(field);
+		int ruleIndex = index < 0 ? -1 : this.schema.indexOfRule(index, rule);
+		if (ruleIndex < 0 || (this.evaluated[index] & (1L << ruleIndex)) == 0)
+			return RuleStatus.NOT_EVALUATED;
+
+		return (this.failures[index] & (1L << ruleIndex)) == 0 ? RuleStatus.PASSED : RuleStatus.FAILED;
+	}
+
+	/**
+	 * Retrieves an array of field names that are invalid.
+	 *
+	 * @return String[] An array of field names that failed the validation, in the order of the schema.
+	 */
+	public String[] invalidFields() {
+		List<String> invalid = new ArrayList<String>();
+
+		for (int field = 0; field < this.failures.length; field++) {
+			if (this.failures[field] != 0)
+				invalid.add(this.schema.fieldAt(field));
+		}
+
+		return invalid.toArray(new String[0]);
+	}
+
+	/**
+	 * Retrieves an array of field names that are valid.
+	 *
+	 * @return String[] An array of field names that passed the validation.
+	 */
+	public String[] validFields() {
+		return this.validated.keySet().toArray(new String[0]);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {failed: %2$s, validated: %3$s, invalid: %4$s}",
+				this.getClass().getSimpleName(),
+				this.failed,
+				this.validated.keySet(),
+				Arrays.toString(this.invalidFields())
+		);
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Copies the given values as they are now, so that they could be read from another thread. A
+	 * mutable text, such as the {@code Editable} of an {@code EditText}, is copied as a
+	 * {@link String}, as it should only be read from the thread that changes it.
+	 *
+	 * @param values The values.
+	 *
+	 * @return Map<String, Object> A copy of the values, in the same order.
+	 */
+	static Map<String, Object> snapshotOf(Map<String, Object> values) {
+		Map<String, Object> snapshot = new LinkedHashMap<String, Object>(values.size() * 2);
+
+		for (Map.Entry<String, Object> entry : values.entrySet()) {
+			Object value = entry.getValue();
+
+			snapshot.put(entry.getKey(), value instanceof CharSequence && !(value instanceof String) ? value.toString() : value);
+		}
+
+		return snapshot;
+	}
+}
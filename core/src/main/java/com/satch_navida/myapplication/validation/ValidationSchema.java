@@ -0,0 +1,1437 @@
+package com.satch_navida.myapplication.validation;
+
+import com.satch_navida.myapplication.logging.Logging;
+import com.satch_navida.myapplication.validation.BulkValidationResult.Failures;
+import com.satch_navida.myapplication.validation.BulkValidationResult.ValueSource;
+import com.satch_navida.myapplication.validation.rules.CrossFieldRule;
+import com.satch_navida.myapplication.validation.rules.MessageTemplate;
+import com.satch_navida.myapplication.validation.rules.Rule;
+import com.satch_navida.myapplication.validation.rules.RuleContext;
+import com.satch_navida.myapplication.validation.rules.RuleFactory;
+import com.satch_navida.myapplication.validation.rules.RuleResult;
+import com.satch_navida.myapplication.validation.rules.StatelessRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A compiled form of the rules and messages given to a {@link Validator}. Compiling splits every
+ * rule string, resolves the rule's factory and builds the message keys only once, so that a single
+ * schema can then be bound to as many sets of values as needed without doing the same work again.<br>
+ * <br>
+ * The fields read by a {@link CrossFieldRule} are resolved while compiling, into a graph of which
+ * field depends on which. The fields are then validated in the order of their dependencies, with
+ * the value of every field looked up only once per run and shared by every rule that reads it.
+ * Through {@link #dependentsOf(String)}, a caller that validates a single field as it changes
+ * knows which other fields need validating again.<br>
+ * <br>
+ * A {@code ValidationSchema} is immutable once compiled and thus, can be shared freely across
+ * threads.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ValidationSchema {
+	// PUBLIC VARIABLES
+	/**
+	 * The maximum number of rules a single field could have. The failed rules of a field are
+	 * tracked as the bits of a {@code long}, hence the limit.
+	 */
+	public static final int MAX_RULES_PER_FIELD = Long.SIZE;
+
+	// PRIVATE VARIABLES
+	/**
+	 * The smallest number of records a single parallel task validates.
+	 */
+	private static final int MIN_PARALLEL_CHUNK = 1024;
+
+	/**
+	 * The names of the fields that have rules, in the order they were compiled.
+	 */
+	private final String[] fields;
+	/**
+	 * The compiled rules of each field, indexed the same way as {@link #fields}.
+	 */
+	private final CompiledRule[][] rules;
+	/**
+	 * The order the rules of each field are run in, as indices within {@link #rules}.
+	 */
+	private final int[][] orders;
+	/**
+	 * The index of each field within {@link #slots}, keyed by the field's name.
+	 */
+	private final Map<String, Integer> indices;
+	/**
+	 * The names of every field whose value is looked up: the {@link #fields} that have rules,
+	 * followed by the fields that are only read by the rules of the others.
+	 */
+	private final String[] slots;
+	/**
+	 * The order the fields are validated in, as indices within {@link #fields}. A field always comes
+	 * after the fields its rules read.
+	 */
+	private final int[] evaluationOrder;
+	/**
+	 * The fields whose rules read each field, directly or through another field, indexed the same
+	 * way as {@link #slots}. Each one is in the {@link #evaluationOrder}.
+	 */
+	private final int[][] dependents;
+	/**
+	 * Where the validations are counted and timed. Could be {@code null}, the default.
+	 */
+	private final ValidationMetrics metrics;
+	/**
+	 * The recorder of each field, indexed the same way as {@link #fields}. Only present along with
+	 * the {@link #metrics}.
+	 */
+	private final ValidationMetrics.Recorder[] fieldRecorders;
+	/**
+	 * The recorder of each rule of each field, indexed the same way as {@link #rules}. Only present
+	 * along with the {@link #metrics}.
+	 */
+	private final ValidationMetrics.Recorder[][] ruleRecorders;
+	/**
+	 * The recorder of the resolution of each rule of each field, indexed the same way as
+	 * {@link #rules}. Only present along with the {@link #metrics}.
+	 */
+	private final ValidationMetrics.Recorder[][] resolutionRecorders;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code ValidationSchema} from an already compiled plan.
+	 *
+	 * @param fields The names of the fields that have rules.
+	 * @param rules The compiled rules of each field.
+	 *
+	 * @throws IllegalArgumentException When the fields read each other in a cycle.
+	 */
+	private ValidationSchema(String[] fields, CompiledRule[][] rules) {
+		this.fields = fields;
+		this.rules = rules;
+		this.orders = new int[rules.length][];
+		this.indices = new HashMap<String, Integer>();
+
+		for (int i = 0; i < fields.length; i++) {
+			this.orders[i] = orderOf(rules[i]);
+			this.indices.put(fields[i], i);
+		}
+
+		// Resolves the fields read by the cross-field rules, adding those without rules of their own.
+		List<String> slots = new ArrayList<String>(Arrays.asList(fields));
+		for (CompiledRule[] fieldRules : rules) {
+			for (CompiledRule rule : fieldRules) {
+				if (rule.referencedFields == null)
+					continue;
+
+				rule.references = new int[rule.referencedFields.length];
+				for (int i = 0; i < rule.referencedFields.length; i++) {
+					Integer slot = this.indices.get(rule.referencedFields[i]);
+
+					if (slot == null) {
+						slot = slots.size();
+						slots.add(rule.referencedFields[i]);
+						this.indices.put(rule.referencedFields[i], slot);
+					}
+
+					rule.references[i] = slot;
+				}
+			}
+		}
+
+		this.slots = slots.toArray(new String[0]);
+		this.evaluationOrder = evaluationOrderOf(fields, rules);
+		this.dependents = dependentsOf(this.slots.length, this.evaluationOrder, rules);
+
+		this.metrics = null;
+		this.fieldRecorders = null;
+		this.ruleRecorders = null;
+		this.resolutionRecorders = null;
+	}
+
+	/**
+	 * Creates a copy of the given {@code ValidationSchema} that records into the given metrics,
+	 * sharing everything else. The recorders are resolved here, once.
+	 *
+	 * @param schema The schema to copy.
+	 * @param metrics Where the validations are counted and timed; or {@code null} to record nothing.
+	 */
+	private ValidationSchema(ValidationSchema schema, ValidationMetrics metrics) {
+		this.fields = schema.fields;
+		this.rules = schema.rules;
+		this.orders = schema.orders;
+		this.indices = schema.indices;
+		this.slots = schema.slots;
+		this.evaluationOrder = schema.evaluationOrder;
+		this.dependents = schema.dependents;
+		this.metrics = metrics;
+
+		if (metrics == null) {
+			this.fieldRecorders = null;
+			this.ruleRecorders = null;
+			this.resolutionRecorders = null;
+			return;
+		}
+
+		this.fieldRecorders = new ValidationMetrics.Recorder[this.fields.length];
+		this.ruleRecorders = new ValidationMetrics.Recorder[this.fields.length][];
+		this.resolutionRecorders = new ValidationMetrics.Recorder[this.fields.length][];
+
+		for (int field = 0; field < this.fields.length; field++) {
+			CompiledRule[] fieldRules = this.rules[field];
+
+			this.fieldRecorders[field] = metrics.field(this.fields[field]);
+			this.ruleRecorders[field] = new ValidationMetrics.Recorder[fieldRules.length];
+			this.resolutionRecorders[field] = new ValidationMetrics.Recorder[fieldRules.length];
+
+			for (int i = 0; i < fieldRules.length; i++) {
+				this.ruleRecorders[field][i] = metrics.rule(fieldRules[i].name);
+				this.resolutionRecorders[field][i] = metrics.resolution(fieldRules[i].name);
+			}
+		}
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Compiles the given {@code rules} and {@code messages} into a {@code ValidationSchema}, resolving
+	 * each rule through the given {@link RuleRegistry}.<br>
+	 * <br>
+	 * A rule that cannot be resolved is logged and left out of the schema, the same way the
+	 * {@link Validator} used to skip it while running the validation.
+	 *
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules. A rule
+	 *                 must be registered within the {@code registry}.
+	 * @param messages A {@link Map} object containing a key-value pair for the keys' messages. Could be {@code null}.
+	 * @param registry The registry where the rules are resolved from.
+	 *
+	 * @return ValidationSchema The compiled schema.
+	 *
+	 * @throws IllegalArgumentException When a field has more than {@link #MAX_RULES_PER_FIELD} rules,
+	 * a cross-field rule does not name the field it reads, or the fields read each other in a cycle.
+	 */
+	public static ValidationSchema compile(Map<String, String[]> rules, Map<String, String> messages, RuleRegistry registry) {
+		return compile(rules, messages, registry, null);
+	}
+
+	/**
+	 * Compiles the given {@code rules} and {@code messages} into a {@code ValidationSchema} that
+	 * records into the given {@link ValidationMetrics}, along with the time spent resolving each rule
+	 * while compiling.
+	 *
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules. A rule
+	 *                 must be registered within the {@code registry}.
+	 * @param messages A {@link Map} object containing a key-value pair for the keys' messages. Could be {@code null}.
+	 * @param registry The registry where the rules are resolved from.
+	 * @param metrics Where the validations are counted and timed. Could be {@code null}.
+	 *
+	 * @return ValidationSchema The compiled schema.
+	 *
+	 * @throws IllegalArgumentException When a field has more than {@link #MAX_RULES_PER_FIELD} rules,
+	 * a cross-field rule does not name the field it reads, or the fields read each other in a cycle.
+	 *
+	 * @see #withMetrics(ValidationMetrics)
+	 */
+	public static ValidationSchema compile(Map<String, String[]> rules, Map<String, String> messages, RuleRegistry registry, ValidationMetrics metrics) {
+		String[] fields = new String[rules.size()];
+		CompiledRule[][] plan = new CompiledRule[rules.size()][];
+		int index = 0;
+
+		for (Map.Entry<String, String[]> entry : rules.entrySet()) {
+			String field = entry.getKey();
+			String[] fieldRules = entry.getValue();
+
+			if (fieldRules.length > MAX_RULES_PER_FIELD)
+				throw new IllegalArgumentException("The field \"" + field + "\" has more than " + MAX_RULES_PER_FIELD + " rules.");
+
+			CompiledRule[] compiled = new CompiledRule[fieldRules.length];
+			int count = 0;
+
+			for (String rule : fieldRules) {
+				long started = metrics == null ? 0 : System.nanoTime();
+				String[] validatorValues = rule.split(":");
+				// Fetches the rule
+				rule = validatorValues[0];
+				// And if there are validator values present, overwrite it to the values variable
+				if (validatorValues.length > 1)
+					validatorValues = Arrays.copyOfRange(validatorValues, 1, validatorValues.length);
+				else
+					validatorValues = null;
+
+				RuleFactory factory = registry.resolve(rule);
+				if (factory == null) {
+					Logging.error("ERROR", "No rule named \"" + rule + "\" is registered.");
+					continue;
+				}
+
+				StatelessRule stateless = registry.resolveStateless(rule);
+
+				// Then build the key for fetching the validation message for the current rule.
+				String msgKey = String.format(
+						"%1$s.%2$s",
+						field,
+						rule
+				);
+
+				compiled[count++] = new CompiledRule(
+						rule,
+						msgKey,
+						messages == null ? null : messages.get(msgKey),
+						stateless == null ? validatorValues : stateless.compileValidatorValues(validatorValues),
+						factory,
+						stateless
+				);
+
+				if (metrics != null)
+					metrics.resolution(rule).record(System.nanoTime() - started, false);
+			}
+
+			fields[index] = field;
+			plan[index++] = Arrays.copyOf(compiled, count);
+		}
+
+		ValidationSchema schema = new ValidationSchema(fields, plan);
+
+		return metrics == null ? schema : schema.withMetrics(metrics);
+	}
+
+	/**
+	 * Compiles the given {@code rules} and {@code messages} into a {@code ValidationSchema}, resolving
+	 * each rule through the {@link RuleRegistry#defaults() default registry}.
+	 *
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules. A rule
+	 *                 must be one of the rules shipped within the {@code rules} package.
+	 * @param messages A {@link Map} object containing a key-value pair for the keys' messages. Could be {@code null}.
+	 *
+	 * @return ValidationSchema The compiled schema.
+	 */
+	public static ValidationSchema compile(Map<String, String[]> rules, Map<String, String> messages) {
+		return compile(rules, messages, RuleRegistry.defaults());
+	}
+
+	/**
+	 * Compiles the given {@code rules} into a {@code ValidationSchema}, using the default message of
+	 * each rule.
+	 *
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules. A rule
+	 *                 must be one of the rules shipped within the {@code rules} package.
+	 *
+	 * @return ValidationSchema The compiled schema.
+	 */
+	public static ValidationSchema compile(Map<String, String[]> rules) {
+		return compile(rules, null);
+	}
+
+	/**
+	 * Binds this schema to a set of values, creating a {@link Validator} for them.
+	 *
+	 * @param values A {@link Map} object containing a key-value pair for the keys and its value.
+	 *
+	 * @return Validator A new {@code Validator} that validates the {@code values} against this schema.
+	 */
+	public Validator bind(Map<String, Object> values) {
+		return new Validator(values, this);
+	}
+
+	/**
+	 * Validates the given values on the given {@link Executor}, instead of the caller's thread. The
+	 * values are copied first, on the caller's thread; thus, they could be changed right after this
+	 * returns.<br>
+	 * <br>
+	 * Cancelling the returned future abandons the validation at the next rule boundary; the rule
+	 * being run at that moment is let to finish, but no other rule is run after it. The validation
+	 * holds no lock while running, and thus could run on virtual threads without pinning their
+	 * carrier.
+	 *
+	 * @param values A {@link Map} object containing a key-value pair for the keys and its value.
+	 * @param policy Dictates whether to stop at the first failed rule.
+	 * @param executor Where the validation runs, such as a pool or a virtual-thread-per-task executor.
+	 *
+	 * @return CompletableFuture<ValidationResult> Completes with the result once the validation is
+	 * done; or exceptionally if the executor rejected it, or a rule could not be run.
+	 */
+	public CompletableFuture<ValidationResult> validateAsync(Map<String, Object> values, ValidationPolicy policy, Executor executor) {
+		if (values == null)
+			throw new NullPointerException("\"values\" should not be null.");
+		if (policy == null)
+			throw new NullPointerException("\"policy\" should not be null.");
+		if (executor == null)
+			throw new NullPointerException("\"executor\" should not be null.");
+
+		Map<String, Object> snapshot = ValidationResult.snapshotOf(values);
+		CompletableFuture<ValidationResult> future = new CompletableFuture<ValidationResult>();
+
+		try {
+			executor.execute(() -> {
+				// Cancelled before it even started.
+				if (future.isDone())
+					return;
+
+				try {
+					future.complete(this.run(snapshot, policy, future));
+				} catch (CancellationException e) {
+					// The future is already cancelled; there is no one left to complete it for.
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+
+		return future;
+	}
+
+	/**
+	 * Creates a copy of this schema that counts and times every validation run through it, per rule
+	 * and per field. This schema is left as it is, recording nothing; thus, the metrics could be
+	 * turned on for a single caller. Binding is meant to be done once, not per validation.
+	 *
+	 * @param metrics Where the validations are counted and timed; or {@code null} to record nothing.
+	 *
+	 * @return ValidationSchema A schema with the same rules that records into {@code metrics}; or
+	 * this schema if it already does.
+	 */
+	public ValidationSchema withMetrics(ValidationMetrics metrics) {
+		if (metrics == this.metrics)
+			return this;
+		return new ValidationSchema(this, metrics);
+	}
+
+	/**
+	 * Fetches where the validations run through this schema are counted and timed.
+	 *
+	 * @return ValidationMetrics The metrics; or {@code null} if nothing is recorded.
+	 */
+	public ValidationMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Creates an {@link IncrementalValidator} over this schema, which validates a form one field at a
+	 * time as its values change.
+	 *
+	 * @return IncrementalValidator A new {@code IncrementalValidator}, with no field validated yet.
+	 */
+	public IncrementalValidator incremental() {
+		return new IncrementalValidator(this);
+	}
+
+	/**
+	 * Validates every record of the given list against this schema in a single pass. Only the
+	 * fields present on a record are validated, the same way a {@link Validator} does.
+	 *
+	 * @param records The records to validate. Each record is a key-value pair of fields and their values.
+	 *
+	 * @return BulkValidationResult The pass or fail state of every record, with their messages built only when asked.
+	 */
+	public BulkValidationResult validateAll(List<Map<String, Object>> records) {
+		ValueSource values = this.valuesOf(records);
+
+		return new BulkValidationResult(this, records.size(), values, this.validateRange(values, 0, records.size()));
+	}
+
+	/**
+	 * Validates every record of the given list in parallel, splitting the records across the
+	 * workers of the given {@link ForkJoinPool}. Each worker keeps the failures of its own range of
+	 * records, which are then merged in record order and thus, the result is identical to
+	 * {@link #validateAll(List)}.<br>
+	 * <br>
+	 * The list is read by many threads at once; a {@link java.util.RandomAccess RandomAccess} list
+	 * such as an {@link java.util.ArrayList ArrayList} is strongly preferred.
+	 *
+	 * @param records The records to validate. Each record is a key-value pair of fields and their values.
+	 * @param pool The pool where the validation runs.
+	 *
+	 * @return BulkValidationResult The pass or fail state of every record, with their messages built only when asked.
+	 */
+	public BulkValidationResult validateAll(List<Map<String, Object>> records, ForkJoinPool pool) {
+		ValueSource values = this.valuesOf(records);
+
+		return new BulkValidationResult(this, records.size(), values, this.validateParallel(values, records.size(), pool));
+	}
+
+	/**
+	 * Validates every record of the given list in parallel using the {@link ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param records The records to validate. Each record is a key-value pair of fields and their values.
+	 *
+	 * @return BulkValidationResult The pass or fail state of every record, with their messages built only when asked.
+	 *
+	 * @see #validateAll(List, ForkJoinPool)
+	 */
+	public BulkValidationResult validateAllParallel(List<Map<String, Object>> records) {
+		return this.validateAll(records, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Validates the values given as columns, wherein each field has an array holding the value of
+	 * every record. Fields without a column are not validated.
+	 *
+	 * @param columns A key-value pair of fields and their values, one element per record.
+	 *
+	 * @return BulkValidationResult The pass or fail state of every record, with their messages built only when asked.
+	 *
+	 * @throws IllegalArgumentException When the columns do not have the same length.
+	 */
+	public BulkValidationResult validateColumns(Map<String, Object[]> columns) {
+		Object[][] values = this.columnsOf(columns);
+
+		return this.validateColumns(values, this.sizeOf(values));
+	}
+
+	/**
+	 * Validates only the first {@code size} values of each column, such as when the same arrays are
+	 * reused for chunks of records of varying size.
+	 *
+	 * @param columns A key-value pair of fields and their values, one element per record.
+	 * @param size The number of records to validate.
+	 *
+	 * @return BulkValidationResult The pass or fail state of every record, with their messages built only when asked.
+	 *
+	 * @throws IllegalArgumentException When the columns do not have the same length.
+	 * @throws IndexOutOfBoundsException When the columns have less than {@code size} values.
+	 */
+	public BulkValidationResult validateColumns(Map<String, Object[]> columns, int size) {
+		Object[][] values = this.columnsOf(columns);
+
+		if (size < 0 || size > this.sizeOf(values))
+			throw new IndexOutOfBoundsException("Provided size (" + size + ") is out of bounds for " + this.sizeOf(values) + " records.");
+
+		return this.validateColumns(values, size);
+	}
+
+	/**
+	 * Validates the values given as columns in parallel, splitting the records across the workers
+	 * of the given {@link ForkJoinPool}. The result is identical to {@link #validateColumns(Map)}.
+	 *
+	 * @param columns A key-value pair of fields and their values, one element per record.
+	 * @param pool The pool where the validation runs.
+	 *
+	 * @return BulkValidationResult The pass or fail state of every record, with their messages built only when asked.
+	 *
+	 * @throws IllegalArgumentException When the columns do not have the same length.
+	 */
+	public BulkValidationResult validateColumns(Map<String, Object[]> columns, ForkJoinPool pool) {
+		Object[][] values = this.columnsOf(columns);
+		int size = this.sizeOf(values);
+		ValueSource source = (record, field) -> values[field] == null ? ValueSource.ABSENT : values[field][record];
+
+		return new BulkValidationResult(this, size, source, this.validateParallel(source, size, pool));
+	}
+
+	/**
+	 * Validates the values given as columns in parallel using the {@link ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param columns A key-value pair of fields and their values, one element per record.
+	 *
+	 * @return BulkValidationResult The pass or fail state of every record, with their messages built only when asked.
+	 *
+	 * @throws IllegalArgumentException When the columns do not have the same length.
+	 *
+	 * @see #validateColumns(Map, ForkJoinPool)
+	 */
+	public BulkValidationResult validateColumnsParallel(Map<String, Object[]> columns) {
+		return this.validateColumns(columns, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Retrieves all the field names that have rules in this schema.
+	 *
+	 * @return String[] An array of the field names, in the order they were compiled.
+	 */
+	public String[] fields() {
+		return this.fields.clone();
+	}
+
+	/**
+	 * Fetches the index of the given field within this schema.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return int The index of the field; or {@code -1} if the field has no rules.
+	 */
+	public int indexOf(String field) {
+		Integer index = this.indices.get(field);
+
+		return index == null || index >= this.fields.length ? -1 : index;
+	}
+
+	/**
+	 * Retrieves the fields whose rules read the given field, directly or through another field.
+	 * These are the only fields that need validating again once the given field changed.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return String[] An array of the field names, in the order they are validated; empty if no
+	 * rule reads the field.
+	 */
+	public String[] dependentsOf(String field) {
+		Integer slot = this.indices.get(field);
+		if (slot == null)
+			return new String[0];
+
+		int[] dependents = this.dependents[slot];
+		String[] names = new String[dependents.length];
+		for (int i = 0; i < dependents.length; i++)
+			names[i] = this.fields[dependents[i]];
+
+		return names;
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Fetches the number of fields that have rules in this schema.
+	 *
+	 * @return int The number of fields.
+	 */
+	int size() {
+		return this.fields.length;
+	}
+
+	/**
+	 * Fetches the number of fields whose value is looked up, which includes the fields only read by
+	 * the cross-field rules of the others. The fields that have rules come first.
+	 *
+	 * @return int The number of fields.
+	 */
+	int slotCount() {
+		return this.slots.length;
+	}
+
+	/**
+	 * Fetches the index of the given field, including the fields only read by the cross-field rules
+	 * of the others.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return int The index of the field; or {@code -1} if no rule uses the field.
+	 */
+	int slotOf(String field) {
+		Integer slot = this.indices.get(field);
+
+		return slot == null ? -1 : slot;
+	}
+
+	/**
+	 * Fetches the order the fields are validated in, wherein a field always comes after the fields
+	 * its rules read. The returned array is shared and must not be changed.
+	 *
+	 * @return int[] The indices of the fields that have rules.
+	 */
+	int[] evaluationOrder() {
+		return this.evaluationOrder;
+	}
+
+	/**
+	 * Fetches the fields whose rules read the given field, directly or through another field. The
+	 * returned array is shared and must not be changed.
+	 *
+	 * @param slot The index of the field, as returned by {@link #slotOf(String)}.
+	 *
+	 * @return int[] The indices of the fields, in the {@link #evaluationOrder() evaluation order}.
+	 */
+	int[] dependentsOf(int slot) {
+		return this.dependents[slot];
+	}
+
+	/**
+	 * Looks up the value of every field once, indexed the same way as {@link #slotOf(String)}, so
+	 * that it could be shared by every rule that reads it.
+	 *
+	 * @param values A {@link Map} object containing a key-value pair for the keys and its value.
+	 * @param present Where the fields present within {@code values} are marked on, as long as {@link #slotCount()}.
+	 *
+	 * @return Object[] The value of every field; {@code null} for an absent field.
+	 */
+	Object[] lookup(Map<String, Object> values, boolean[] present) {
+		Object[] slotValues = new Object[this.slots.length];
+
+		for (int slot = 0; slot < this.slots.length; slot++) {
+			slotValues[slot] = values.get(this.slots[slot]);
+			present[slot] = slotValues[slot] != null || values.containsKey(this.slots[slot]);
+		}
+
+		return slotValues;
+	}
+
+	/**
+	 * Fetches the name of the field at the given index.
+	 *
+	 * @param field The index of the field.
+	 *
+	 * @return String The name of the field.
+	 */
+	String fieldAt(int field) {
+		return this.fields[field];
+	}
+
+	/**
+	 * Fetches the index of a rule of the given field.
+	 *
+	 * @param field The index of the field.
+	 * @param rule The name of the rule, case-insensitive.
+	 *
+	 * @return int The index of the rule within the field; or {@code -1} if the field has no such rule.
+	 */
+	int indexOfRule(int field, String rule) {
+		CompiledRule[] fieldRules = this.rules[field];
+
+		for (int i = 0; i < fieldRules.length; i++) {
+			if (fieldRules[i].name.equalsIgnoreCase(rule))
+				return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Fetches the names of the rules of the given field, in their declared order.
+	 *
+	 * @param field The index of the field.
+	 *
+	 * @return String[] The names of the rules.
+	 */
+	String[] rulesOf(int field) {
+		CompiledRule[] fieldRules = this.rules[field];
+		String[] names = new String[fieldRules.length];
+
+		for (int i = 0; i < fieldRules.length; i++)
+			names[i] = fieldRules[i].name;
+
+		return names;
+	}
+
+	/**
+	 * Runs every rule of a field against the given value, using the {@link ValidationPolicy#FULL
+	 * full} policy.
+	 *
+	 * @param field The index of the field.
+	 * @param value The value of the field.
+	 * @param context The context reused by the stateless rules.
+	 *
+	 * @return long The failed rules of the field, wherein the bit {@code 1 << i} is set when the
+	 * {@code i}-th rule failed. A {@code 0} means the field passed.
+	 *
+	 * @see #evaluate(int, Object, RuleContext, ValidationPolicy, long[])
+	 */
+	long evaluate(int field, Object value, RuleContext context) {
+		return this.evaluate(field, value, context, ValidationPolicy.FULL, null);
+	}
+
+	/**
+	 * Runs the rules of a field against the given value. Cheaper rules are run first, so long as
+	 * that cannot change which rules are run (see {@link StatelessRule#canStopValidation()}). A field
+	 * stops early when a failing rule does not allow the other validations to run, or at its first
+	 * failed rule when the policy is not {@link ValidationPolicy#FULL}. A rule that throws is logged
+	 * and counted as neither passing nor failing.
+	 *
+	 * @param field The index of the field.
+	 * @param value The value of the field.
+	 * @param context The context reused by the stateless rules.
+	 * @param policy Dictates whether to stop at the first failed rule.
+	 * @param evaluated Where the rules that were run are written on, at the index of the field, using
+	 *                  the same bits as the returned failures. Could be {@code null}.
+	 *
+	 * @return long The failed rules of the field, wherein the bit {@code 1 << i} is set when the
+	 * {@code i}-th rule failed. A {@code 0} means the field passed.
+	 */
+	long evaluate(int field, Object value, RuleContext context, ValidationPolicy policy, long[] evaluated) {
+		return this.evaluate(field, value, context, policy, evaluated, null);
+	}
+
+	/**
+	 * Runs the rules of a field against the given value, checking before every rule whether the
+	 * validation was cancelled.
+	 *
+	 * @param field The index of the field.
+	 * @param value The value of the field.
+	 * @param context The context reused by the stateless rules.
+	 * @param policy Dictates whether to stop at the first failed rule.
+	 * @param evaluated Where the rules that were run are written on. Could be {@code null}.
+	 * @param cancellation Abandons the validation once cancelled. Could be {@code null}.
+	 *
+	 * @return long The failed rules of the field.
+	 *
+	 * @throws CancellationException When {@code cancellation} was cancelled.
+	 *
+	 * @see #evaluate(int, Object, RuleContext, ValidationPolicy, long[])
+	 */
+	long evaluate(int field, Object value, RuleContext context, ValidationPolicy policy, long[] evaluated, Future<?> cancellation) {
+		if (this.metrics != null)
+			return this.evaluateMeasured(field, value, context, policy, evaluated, cancellation);
+
+		CompiledRule[] fieldRules = this.rules[field];
+		int[] order = this.orders[field];
+		long failures = 0;
+		long run = 0;
+
+		// The value is converted to a number only once for all the rules of this field.
+		context.clearValue();
+
+		for (int i : order) {
+			if (cancellation != null && cancellation.isCancelled())
+				throw new CancellationException("The validation was cancelled.");
+
+			run |= 1L << i;
+
+			int result;
+			try {
+				context.setReferences(fieldRules[i].references);
+				result = fieldRules[i].evaluate(this.fields[field], value, context);
+			} catch (Exception e) {
+				Logging.error("ERROR", e.getMessage(), e);
+				continue;
+			}
+
+			if (!RuleResult.isValid(result)) {
+				failures |= 1L << i;
+
+				/*
+				If the result does not allow the other validations to run, or the policy does not
+				allow it, skip the entire field and proceed to the next field.
+				 */
+				if (!RuleResult.shouldRunOtherValidations(result) || policy != ValidationPolicy.FULL)
+					break;
+			}
+		}
+
+		if (evaluated != null)
+			evaluated[field] = run;
+
+		return failures;
+	}
+
+	/**
+	 * Inserts the messages of the failed rules of a field to the given {@link MessageBag}, in the
+	 * declared order of the rules.
+	 *
+	 * @param errors The {@code MessageBag} where the messages are inserted.
+	 * @param field The index of the field.
+	 * @param value The value of the field.
+	 * @param failures The failed rules of the field, as returned by {@link #evaluate(int, Object, RuleContext)}.
+	 */
+	void addErrors(MessageBag errors, int field, Object value, long failures) {
+		this.addErrors(errors, field, "", value, failures);
+	}
+
+	/**
+	 * Inserts the messages of the failed rules of a field to the given {@link MessageBag}, in the
+	 * declared order of the rules, appending a suffix to the name of the field.
+	 *
+	 * @param errors The {@code MessageBag} where the messages are inserted.
+	 * @param field The index of the field.
+	 * @param suffix The suffix appended to the name of the field, such as the index of a record.
+	 * @param value The value of the field.
+	 * @param failures The failed rules of the field, as returned by {@link #evaluate(int, Object, RuleContext)}.
+	 */
+	void addErrors(MessageBag errors, int field, String suffix, Object value, long failures) {
+		CompiledRule[] fieldRules = this.rules[field];
+
+		for (int i = 0; i < fieldRules.length; i++) {
+			if ((failures & (1L << i)) == 0)
+				continue;
+
+			errors.put(suffix.isEmpty() ? this.fields[field] : this.fields[field] + suffix, fieldRules[i].name, fieldRules[i].message(this.fields[field], value));
+		}
+	}
+
+	/**
+	 * Fetches the message of a failed rule of a field.
+	 *
+	 * @param field The index of the field.
+	 * @param rule The index of the rule within the field.
+	 * @param value The value of the field.
+	 *
+	 * @return Object The message; either a {@link String} or a {@link PendingMessage}.
+	 */
+	Object messageOf(int field, int rule, Object value) {
+		return this.rules[field][rule].message(this.fields[field], value);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Runs the rules of a field the same way as
+	 * {@link #evaluate(int, Object, RuleContext, ValidationPolicy, long[], Future)}, while recording
+	 * every rule and the whole field into the {@link #metrics}. Kept apart so that the schemas
+	 * without metrics do not pay for reading the clock.
+	 *
+	 * @param field The index of the field.
+	 * @param value The value of the field.
+	 * @param context The context reused by the stateless rules.
+	 * @param policy Dictates whether to stop at the first failed rule.
+	 * @param evaluated Where the rules that were run are written on. Could be {@code null}.
+	 * @param cancellation Abandons the validation once cancelled. Could be {@code null}.
+	 *
+	 * @return long The failed rules of the field.
+	 *
+	 * @throws CancellationException When {@code cancellation} was cancelled.
+	 */
+	private long evaluateMeasured(int field, Object value, RuleContext context, ValidationPolicy policy, long[] evaluated, Future<?> cancellation) {
+		CompiledRule[] fieldRules = this.rules[field];
+		ValidationMetrics.Recorder[] ruleRecorders = this.ruleRecorders[field];
+		ValidationMetrics.Recorder[] resolutionRecorders = this.resolutionRecorders[field];
+		int[] order = this.orders[field];
+		long failures = 0;
+		long run = 0;
+		long fieldStarted = System.nanoTime();
+
+		context.clearValue();
+
+		for (int i : order) {
+			if (cancellation != null && cancellation.isCancelled())
+				throw new CancellationException("The validation was cancelled.");
+
+			run |= 1L << i;
+
+			int result;
+			long started = System.nanoTime();
+			try {
+				// A rule without a stateless counterpart is created first, which is timed apart as
+				// its resolution.
+				if (fieldRules[i].stateless == null) {
+					Rule rule = fieldRules[i].create(this.fields[field], value);
+					long created = System.nanoTime();
+
+					resolutionRecorders[i].record(created - started, false);
+					started = created;
+					result = rule.check();
+				}
+				else {
+					context.setReferences(fieldRules[i].references);
+					result = fieldRules[i].evaluate(this.fields[field], value, context);
+				}
+			} catch (Exception e) {
+				ruleRecorders[i].record(System.nanoTime() - started, false);
+				Logging.error("ERROR", e.getMessage(), e);
+				continue;
+			}
+
+			boolean failed = !RuleResult.isValid(result);
+			ruleRecorders[i].record(System.nanoTime() - started, failed);
+
+			if (failed) {
+				failures |= 1L << i;
+
+				if (!RuleResult.shouldRunOtherValidations(result) || policy != ValidationPolicy.FULL)
+					break;
+			}
+		}
+
+		this.fieldRecorders[field].record(System.nanoTime() - fieldStarted, failures != 0);
+
+		if (evaluated != null)
+			evaluated[field] = run;
+
+		return failures;
+	}
+
+	/**
+	 * Validates a single set of values, the same way {@link Validator} does, but into an immutable
+	 * {@link ValidationResult}.
+	 *
+	 * @param values The values, owned by the result from then on.
+	 * @param policy Dictates whether to stop at the first failed rule.
+	 * @param cancellation Abandons the validation once cancelled. Could be {@code null}.
+	 *
+	 * @return ValidationResult The result.
+	 *
+	 * @throws CancellationException When {@code cancellation} was cancelled.
+	 */
+	private ValidationResult run(Map<String, Object> values, ValidationPolicy policy, Future<?> cancellation) {
+		RuleContext context = new RuleContext();
+		Map<String, Object> validated = new HashMap<String, Object>();
+		long[] evaluated = new long[this.fields.length];
+		long[] failures = new long[this.fields.length];
+		boolean[] present = new boolean[this.slots.length];
+		Object[] slotValues = this.lookup(values, present);
+		boolean failed = false;
+
+		context.bind(slotValues, failures);
+		for (int field : this.evaluationOrder) {
+			if (!present[field])
+				continue;
+
+			failures[field] = this.evaluate(field, slotValues[field], context, policy, evaluated, cancellation);
+
+			if (failures[field] == 0) {
+				validated.put(this.fields[field], slotValues[field]);
+			}
+			else {
+				failed = true;
+
+				if (policy == ValidationPolicy.FAIL_FAST)
+					break;
+			}
+		}
+
+		return new ValidationResult(this, values, validated, evaluated, failures, failed);
+	}
+
+	/**
+	 * Orders the rules of a field by their cost, cheapest first. Rules that could stop the field keep
+	 * their declared position, and no rule is moved across them; thus, only the rules between two
+	 * such rules are sorted. Rules of the same cost keep their declared order.
+	 *
+	 * @param fieldRules The compiled rules of the field.
+	 *
+	 * @return int[] The order the rules are run in, as indices within {@code fieldRules}.
+	 */
+	private static int[] orderOf(CompiledRule[] fieldRules) {
+		Integer[] order = new Integer[fieldRules.length];
+		for (int i = 0; i < order.length; i++)
+			order[i] = i;
+
+		for (int start = 0; start < order.length; start++) {
+			if (fieldRules[start].canStopValidation)
+				continue;
+
+			int end = start;
+			while (end < order.length && !fieldRules[end].canStopValidation)
+				end++;
+
+			// A stable sort, thus rules of the same cost keep their declared order.
+			Arrays.sort(order, start, end, (a, b) -> Integer.compare(fieldRules[a].cost, fieldRules[b].cost));
+			start = end;
+		}
+
+		int[] result = new int[order.length];
+		for (int i = 0; i < order.length; i++)
+			result[i] = order[i];
+
+		return result;
+	}
+
+	/**
+	 * Orders the fields so that every field comes after the fields its rules read. Otherwise, the
+	 * fields keep the order they were compiled in.
+	 *
+	 * @param fields The names of the fields that have rules.
+	 * @param rules The compiled rules of each field, with their references already resolved.
+	 *
+	 * @return int[] The order the fields are validated in, as indices within {@code fields}.
+	 *
+	 * @throws IllegalArgumentException When the fields read each other in a cycle.
+	 */
+	private static int[] evaluationOrderOf(String[] fields, CompiledRule[][] rules) {
+		int[] pending = new int[fields.length];
+		boolean[][] reads = new boolean[fields.length][fields.length];
+
+		for (int field = 0; field < fields.length; field++) {
+			for (CompiledRule rule : rules[field]) {
+				if (rule.references == null)
+					continue;
+
+				// Only the fields with rules have to come first; a field reading itself is ignored.
+				for (int other : rule.references) {
+					if (other < fields.length && other != field && !reads[field][other]) {
+						reads[field][other] = true;
+						pending[field]++;
+					}
+				}
+			}
+		}
+
+		int[] order = new int[fields.length];
+		boolean[] placed = new boolean[fields.length];
+
+		for (int count = 0; count < order.length; count++) {
+			// Places the first field, in the compiled order, whose dependencies are all placed.
+			int next = 0;
+			while (next < fields.length && (placed[next] || pending[next] != 0))
+				next++;
+
+			if (next == fields.length) {
+				List<String> cycle = new ArrayList<String>();
+				for (int field = 0; field < fields.length; field++) {
+					if (!placed[field])
+						cycle.add(fields[field]);
+				}
+
+				throw new IllegalArgumentException("The fields " + cycle + " read each other in a cycle.");
+			}
+
+			order[count] = next;
+			placed[next] = true;
+
+			for (int field = 0; field < fields.length; field++) {
+				if (reads[field][next])
+					pending[field]--;
+			}
+		}
+
+		return order;
+	}
+
+	/**
+	 * Collects the fields whose rules read each field, directly or through another field.
+	 *
+	 * @param slots The number of fields whose value is looked up.
+	 * @param evaluationOrder The order the fields are validated in.
+	 * @param rules The compiled rules of each field, with their references already resolved.
+	 *
+	 * @return int[][] The dependents of each field, in the {@code evaluationOrder}.
+	 */
+	private static int[][] dependentsOf(int slots, int[] evaluationOrder, CompiledRule[][] rules) {
+		boolean[][] readBy = new boolean[slots][rules.length];
+
+		for (int field = 0; field < rules.length; field++) {
+			for (CompiledRule rule : rules[field]) {
+				if (rule.references == null)
+					continue;
+
+				for (int other : rule.references) {
+					if (other != field)
+						readBy[other][field] = true;
+				}
+			}
+		}
+
+		int[][] dependents = new int[slots][];
+		int[] none = new int[0];
+
+		for (int slot = 0; slot < slots; slot++) {
+			boolean[] reached = new boolean[rules.length];
+			int count = 0;
+
+			// Following the evaluation order, a field reading any field reached so far is reached as well.
+			for (int field : evaluationOrder) {
+				boolean reads = readBy[slot][field];
+
+				for (int other = 0; !reads && other < rules.length; other++)
+					reads = reached[other] && readBy[other][field];
+
+				if (reads) {
+					reached[field] = true;
+					count++;
+				}
+			}
+
+			if (count == 0) {
+				dependents[slot] = none;
+				continue;
+			}
+
+			dependents[slot] = new int[count];
+			count = 0;
+			for (int field : evaluationOrder) {
+				if (reached[field])
+					dependents[slot][count++] = field;
+			}
+		}
+
+		return dependents;
+	}
+
+	/**
+	 * Validates the first {@code size} records of the given columns.
+	 *
+	 * @param values The columns, as returned by {@link #columnsOf(Map)}.
+	 * @param size The number of records.
+	 *
+	 * @return BulkValidationResult The pass or fail state of every record.
+	 */
+	private BulkValidationResult validateColumns(Object[][] values, int size) {
+		ValueSource source = (record, field) -> values[field] == null ? ValueSource.ABSENT : values[field][record];
+
+		return new BulkValidationResult(this, size, source, this.validateRange(source, 0, size));
+	}
+
+	/**
+	 * Validates a range of records, reusing a single {@link RuleContext} for all of them.
+	 *
+	 * @param values The source of the values.
+	 * @param from The index of the first record, inclusive.
+	 * @param to The index of the last record, exclusive.
+	 *
+	 * @return Failures The failed rules of the failing fields within the range.
+	 */
+	private Failures validateRange(ValueSource values, int from, int to) {
+		Failures failures = new Failures();
+		RuleContext context = new RuleContext();
+		Object[] recordValues = new Object[this.slots.length];
+		boolean[] present = new boolean[this.slots.length];
+		long[] recordFailures = new long[this.fields.length];
+
+		context.bind(recordValues, recordFailures);
+		for (int record = from; record < to; record++) {
+			// Every value of the record is looked up once, then shared by the rules that read it.
+			for (int slot = 0; slot < this.slots.length; slot++) {
+				Object value = values.get(record, slot);
+
+				present[slot] = value != ValueSource.ABSENT;
+				recordValues[slot] = present[slot] ? value : null;
+			}
+
+			// Fields not present on the record are not validated.
+			for (int field : this.evaluationOrder)
+				recordFailures[field] = present[field] ? this.evaluate(field, recordValues[field], context) : 0;
+
+			// The failures are kept in ascending order of their position, whatever order the fields ran in.
+			for (int field = 0; field < this.fields.length; field++) {
+				if (present[field])
+					failures.add((long) record * this.fields.length + field, recordFailures[field]);
+			}
+		}
+
+		return failures;
+	}
+
+	/**
+	 * Validates the records in parallel through the given {@link ForkJoinPool}.
+	 *
+	 * @param values The source of the values.
+	 * @param size The number of records.
+	 * @param pool The pool where the validation runs.
+	 *
+	 * @return Failures The failed rules of the failing fields, in record order.
+	 */
+	private Failures validateParallel(ValueSource values, int size, ForkJoinPool pool) {
+		// Splits the records into a few chunks per worker, but never into chunks too small to be worth a task.
+		int threshold = Math.max(MIN_PARALLEL_CHUNK, size / (pool.getParallelism() * 4));
+
+		return pool.invoke(new ValidationTask(values, 0, size, threshold));
+	}
+
+	/**
+	 * Wraps a list of records as a {@link ValueSource}.
+	 *
+	 * @param records The records.
+	 *
+	 * @return ValueSource The source of the values.
+	 */
+	private ValueSource valuesOf(List<Map<String, Object>> records) {
+		return (record, field) -> {
+			Map<String, Object> values = records.get(record);
+			Object value = values.get(this.slots[field]);
+
+			return value == null && !values.containsKey(this.slots[field]) ? ValueSource.ABSENT : value;
+		};
+	}
+
+	/**
+	 * Fetches the column of each field, indexed the same way as {@link #slots}.
+	 *
+	 * @param columns A key-value pair of fields and their values.
+	 *
+	 * @return Object[][] The columns; a field without a column is {@code null}.
+	 *
+	 * @throws IllegalArgumentException When the columns do not have the same length.
+	 */
+	private Object[][] columnsOf(Map<String, Object[]> columns) {
+		Object[][] values = new Object[this.slots.length][];
+		int size = -1;
+
+		for (int field = 0; field < this.slots.length; field++) {
+			values[field] = columns.get(this.slots[field]);
+
+			if (values[field] == null)
+				continue;
+			if (size < 0)
+				size = values[field].length;
+			else if (size != values[field].length)
+				throw new IllegalArgumentException("The column \"" + this.slots[field] + "\" has " + values[field].length + " values, expected " + size + ".");
+		}
+
+		return values;
+	}
+
+	/**
+	 * Fetches the number of records held by the given columns.
+	 *
+	 * @param columns The columns, as returned by {@link #columnsOf(Map)}.
+	 *
+	 * @return int The number of records.
+	 */
+	private int sizeOf(Object[][] columns) {
+		for (Object[] column : columns) {
+			if (column != null)
+				return column.length;
+		}
+
+		return 0;
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * Validates a range of records, splitting it in half until it is small enough to be validated
+	 * by a single worker. The failures of both halves are appended in record order.
+	 */
+	private final class ValidationTask extends RecursiveTask<Failures> {
+		private static final long serialVersionUID = 1L;
+
+		private final ValueSource values;
+		private final int from;
+		private final int to;
+		private final int threshold;
+
+		ValidationTask(ValueSource values, int from, int to, int threshold) {
+			this.values = values;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected Failures compute() {
+			if (this.to - this.from <= this.threshold)
+				return validateRange(this.values, this.from, this.to);
+
+			int middle = (this.from + this.to) >>> 1;
+			ValidationTask left = new ValidationTask(this.values, this.from, middle, this.threshold);
+			left.fork();
+
+			Failures right = new ValidationTask(this.values, middle, this.to, this.threshold).compute();
+
+			return left.join().addAll(right);
+		}
+	}
+
+	/**
+	 * A single rule of a field, already split into its name and validator values and paired with
+	 * its message, factory and shared stateless counterpart.
+	 */
+	static final class CompiledRule {
+		/**
+		 * The name of the rule, as written on the rules.
+		 */
+		final String name;
+		/**
+		 * The key used for the messages and the {@link MessageBag}; formatted as {@code field.rule}.
+		 */
+		final String messageKey;
+		/**
+		 * The custom message of the rule. Could be {@code null}.
+		 */
+		final String message;
+		/**
+		 * The validator values of the rule. Could be {@code null}.
+		 */
+		final Object[] validatorValues;
+		/**
+		 * The factory that creates the rule.
+		 */
+		final RuleFactory factory;
+		/**
+		 * The shared stateless counterpart of the rule. Could be {@code null}.
+		 */
+		final StatelessRule stateless;
+		/**
+		 * The message of the stateless counterpart, compiled once. Could be {@code null}.
+		 */
+		final MessageTemplate template;
+		/**
+		 * The relative cost of running the rule.
+		 */
+		final int cost;
+		/**
+		 * Identifies whether the rule could stop the other rules of the field from running.
+		 */
+		final boolean canStopValidation;
+		/**
+		 * The names of the other fields the rule reads, when it is a {@link CrossFieldRule}. Could
+		 * be {@code null}.
+		 */
+		final String[] referencedFields;
+		/**
+		 * The {@link #referencedFields} as indices of the fields of the schema. Set once by the
+		 * schema that compiled the rule, before the schema is used.
+		 */
+		int[] references;
+
+		CompiledRule(String name, String messageKey, String message, Object[] validatorValues, RuleFactory factory, StatelessRule stateless) {
+			this.name = name;
+			this.messageKey = messageKey;
+			this.message = message;
+			this.validatorValues = validatorValues;
+			this.factory = factory;
+			this.stateless = stateless;
+			this.template = stateless == null ? null : MessageTemplate.compile(
+					message == null ? stateless.getDefaultMessage() : message,
+					stateless.getPlaceholders()
+			);
+			// Rules without a stateless counterpart are unknown, thus are never reordered.
+			this.cost = stateless == null ? StatelessRule.COST_MODERATE : stateless.getCost();
+			this.canStopValidation = stateless == null || stateless.canStopValidation();
+			this.referencedFields = stateless instanceof CrossFieldRule ? ((CrossFieldRule) stateless).getReferencedFields(validatorValues) : null;
+		}
+
+		/**
+		 * Runs this rule against the given value. The stateless counterpart is preferred when
+		 * present; otherwise, a new rule is created through the factory.
+		 *
+		 * @param field The name of the field.
+		 * @param value The value of the field.
+		 * @param context The context reused by the stateless rule.
+		 *
+		 * @return int The packed result, as described by {@link RuleResult}.
+		 *
+		 * @throws Exception When the rule could not be evaluated.
+		 */
+		int evaluate(String field, Object value, RuleContext context) throws Exception {
+			if (this.stateless == null)
+				return this.create(field, value).check();
+
+			if (value == null)
+				throw new NullPointerException("\"value\" should not be null.");
+
+			this.stateless.evaluate(field, value, this.validatorValues, context.reset());
+			return context.result();
+		}
+
+		/**
+		 * Creates a new instance of this rule through its factory, for the given value.
+		 *
+		 * @param field The name of the field.
+		 * @param value The value of the field.
+		 *
+		 * @return Rule The rule, not run yet.
+		 *
+		 * @throws Exception When the rule could not be created.
+		 */
+		Rule create(String field, Object value) throws Exception {
+			return this.factory.create(field, value, this.message, this.validatorValues);
+		}
+
+		/**
+		 * Fetches the message of this rule for the given value. Only meant to be called once the
+		 * rule failed for the given value.<br>
+		 * <br>
+		 * The message of a stateless rule is left as a {@link PendingMessage}, which is only
+		 * rendered once read from the {@link MessageBag}.
+		 *
+		 * @param field The name of the field that failed.
+		 * @param value The value that failed.
+		 *
+		 * @return Object The message; either a {@link String} or a {@link PendingMessage}.
+		 */
+		Object message(String field, Object value) {
+			if (this.template != null)
+				return new PendingMessage(this.template, field, value, this.validatorValues);
+
+			// Rules without a stateless counterpart are created and run again to build their message.
+			try {
+				Rule rule = this.factory.create(field, value, this.message, this.validatorValues);
+				rule.check();
+
+				return rule.getMessage();
+			} catch (Exception e) {
+				Logging.error("ERROR", e.getMessage(), e);
+
+				return this.message == null ? Rule.DEFAULT_MESSAGE : this.message;
+			}
+		}
+	}
+}
@@ -0,0 +1,408 @@
+package com.satch_navida.myapplication.validation;
+
+import com.satch_navida.myapplication.validation.rules.Rule;
+import com.satch_navida.myapplication.validation.rules.RuleContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public class Validator {
+	// PRIVATE VARIABLES
+	/**
+	 * A private global variable container for all the values passed to this.
+	 */
+	private Map<String, Object> valueList;
+	/**
+	 * A private global variable container for the compiled rules and messages passed to this.
+	 */
+	private ValidationSchema schema;
+	/**
+	 * A private global variable container for the {@link MessageBag} instance.
+	 */
+	private MessageBag errorList = new MessageBag();
+	/**
+	 * A private global variable container for all the valid key-value pairs.
+	 */
+	private Map<String, Object> validSets = new HashMap<String, Object>();
+	/**
+	 * A private global variable container that determines if the validation has been run already.
+	 */
+	private boolean validationDone = false;
+	/**
+	 * A private global variable container, identifying if this validator's validation has failed.
+	 */
+	private boolean failed = false;
+	/**
+	 * A private global variable container, which will be used as a container for all the already validated keys.
+	 */
+	private ArrayList<String> validated = new ArrayList<String>();
+	/**
+	 * A private global variable container for the context reused by every stateless rule of this validator.
+	 */
+	private final RuleContext context = new RuleContext();
+	/**
+	 * A private global variable container for the policy used when running the validation.
+	 */
+	private ValidationPolicy policy = ValidationPolicy.FULL;
+	/**
+	 * A private global variable container for the rules that were run, indexed by the fields of the schema.
+	 */
+	private long[] evaluated;
+	/**
+	 * A private global variable container for the rules that failed, indexed by the fields of the schema.
+	 */
+	private long[] failures;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code Validator}.<br>
+	 *
+	 * @param values A {@link Map} object containing a key-value pair for the keys and its value.
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules. A rule
+	 *                 must be one of the classes that extends {@link Rule} class.
+	 * @param messages A {@link Map} object containing a key-value pair for the keys' messages
+	 */
+	public Validator(Map<String, Object> values, Map<String, String[]> rules, Map<String, String> messages) {
+		this(values, ValidationSchema.compile(rules, messages));
+	}
+
+	/**
+	 * Creates an instance of {@code Validator}.<br>
+	 *
+	 * @param values A {@link Map} object containing a key-value pair for the keys and its value.
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules. A rule
+	 *                 must be one of the classes that extends {@link Rule} class.
+	 */
+	public Validator (Map<String, Object> values, Map<String, String[]> rules) {
+		this(values, rules, null);
+	}
+
+	/**
+	 * Creates an instance of {@code Validator}, resolving the rules through the given {@link RuleRegistry}.<br>
+	 *
+	 * @param values A {@link Map} object containing a key-value pair for the keys and its value.
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules. A rule
+	 *                 must be registered within the {@code registry}.
+	 * @param messages A {@link Map} object containing a key-value pair for the keys' messages
+	 * @param registry The registry where the rules are resolved from.
+	 */
+	public Validator(Map<String, Object> values, Map<String, String[]> rules, Map<String, String> messages, RuleRegistry registry) {
+		this(values, ValidationSchema.compile(rules, messages, registry));
+	}
+
+	/**
+	 * Creates an instance of {@code Validator} using an already compiled {@link ValidationSchema}.
+	 * This skips compiling the rules and messages again, which makes it the preferred way of
+	 * validating many sets of values against the same rules.<br>
+	 *
+	 * @param values A {@link Map} object containing a key-value pair for the keys and its value.
+	 * @param schema The compiled rules and messages.
+	 *
+	 * @see ValidationSchema#bind(Map)
+	 */
+	public Validator(Map<String, Object> values, ValidationSchema schema) {
+		this.valueList = values;
+		this.schema = schema;
+	}
+
+	// PUBLIC METHODS
+	/**
+	 * Validates many records at once against the same {@code rules} and {@code messages}, compiling
+	 * them only once. Prefer this over creating a {@code Validator} for each record.
+	 *
+	 * @param records The records to validate. Each record is a key-value pair of fields and their values.
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules. A rule
+	 *                 must be one of the classes that extends {@link Rule} class.
+	 * @param messages A {@link Map} object containing a key-value pair for the keys' messages
+	 *
+	 * @return BulkValidationResult The pass or fail state of every record.
+	 *
+	 * @see ValidationSchema#validateAll(List)
+	 */
+	public static BulkValidationResult validateAll(List<Map<String, Object>> records, Map<String, String[]> rules, Map<String, String> messages) {
+		return ValidationSchema.compile(rules, messages).validateAll(records);
+	}
+
+	/**
+	 * Sets the policy used when running the validation, dictating whether to stop early once a rule
+	 * failed. Defaults to {@link ValidationPolicy#FULL}.
+	 *
+	 * @param policy The policy to use.
+	 *
+	 * @return Validator This instance of {@code Validator}.
+	 *
+	 * @throws IllegalStateException When the validation has already been run.
+	 */
+	public Validator policy(ValidationPolicy policy) {
+		if (this.validationDone)
+			throw new IllegalStateException("Cannot change the policy once the validation has been run.");
+		if (policy == null)
+			throw new NullPointerException("\"policy\" should not be null.");
+
+		this.policy = policy;
+
+		return this;
+	}
+
+	/**
+	 * Counts and times the validation of this {@code Validator}, per rule and per field, into the
+	 * given metrics. Off by default. Callers validating many sets of values should rather bind the
+	 * metrics once, through {@link ValidationSchema#withMetrics(ValidationMetrics)}.
+	 *
+	 * @param metrics Where the validation is recorded; or {@code null} to record nothing.
+	 *
+	 * @return Validator This instance of {@code Validator}.
+	 *
+	 * @throws IllegalStateException When the validation has already been run.
+	 */
+	public Validator metrics(ValidationMetrics metrics) {
+		if (this.validationDone)
+			throw new IllegalStateException("Cannot change the metrics once the validation has been run.");
+
+		this.schema = this.schema.withMetrics(metrics);
+
+		return this;
+	}
+
+	/**
+	 * Identifies whether the validation failed or not. A single rule that fail will result in a
+	 * total fail of the validation.
+	 *
+	 * @return boolean Returns {@code true} if the validation fails; {@code false} otherwise.
+	 */
+	public boolean fails() {
+		if (!this.validationDone)
+			this.runValidation();
+
+		return this.failed;
+	}
+
+	/**
+	 * Fetches all the error message.
+	 *
+	 * @return MessageBag An instance of {@link MessageBag} containing all error messages.
+	 *
+	 * @see MessageBag
+	 */
+	public MessageBag errors() {
+		if (!this.validationDone)
+			this.runValidation();
+
+		return this.errorList;
+	}
+
+	/**
+	 * Validates the fields provided and returns a JSON object, containing all the values from the
+	 * fields that passed.
+	 *
+	 * @return Map<String, Object> A {@link Map} object, containing a key-value pair format of keys
+	 * and their values that passed the validation.
+	 */
+	public Map<String, Object> validate() {
+		if (!this.validationDone)
+			this.runValidation();
+
+		return this.validSets;
+	}
+
+	/**
+	 * Validates the fields provided on the given {@link Executor}, leaving the caller's thread free,
+	 * such as the UI thread. The values are copied before this returns, and the run is independent
+	 * of the synchronous methods of this {@code Validator}.<br>
+	 * <br>
+	 * Cancelling the returned future abandons the run at the next rule boundary. A caller that
+	 * replaces older input with newer input should prefer {@link AsyncValidator}, which does so on
+	 * its own.
+	 *
+	 * @param executor Where the validation runs, such as a pool or a virtual-thread-per-task executor.
+	 *
+	 * @return CompletableFuture<ValidationResult> Completes with an immutable {@link ValidationResult}.
+	 *
+	 * @see ValidationSchema#validateAsync(Map, ValidationPolicy, Executor)
+	 */
+	public CompletableFuture<ValidationResult> validateAsync(Executor executor) {
+		return this.schema.validateAsync(this.valueList, this.policy, executor);
+	}
+
+	/**
+	 * Validates the fields provided on the {@link ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @return CompletableFuture<ValidationResult> Completes with an immutable {@link ValidationResult}.
+	 *
+	 * @see #validateAsync(Executor)
+	 */
+	public CompletableFuture<ValidationResult> validateAsync() {
+		return this.validateAsync(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Determine if messages exist for the given field.
+	 *
+	 * @param key field	The name of the key that will be tested.
+	 *
+	 * @return boolean A boolean value; either a {@code true} if the field exists, or {@code false} if it does not.
+	 */
+	public boolean has(String key) {
+		return this.valueList.containsKey(key);
+	}
+
+	/**
+	 * Get the first message from the message bag for a given field.
+	 *
+	 * @param key The name of the key that the message will be fetched upon.
+	 *
+	 * @return String The first message contained within the said field. Returns a {@code null} when the field does not exists.
+	 */
+	public String first(String key) {
+		return this.errorList.first(key);
+	}
+
+	/**
+	 * Get all of the messages from the message bag for a given field. If no value or a {@code null} is
+	 * provided to the field, it returns all the messages contained within the current instance of
+	 * {@link MessageBag}.
+	 *
+	 * @param key The name of the key that the message will be fetched upon.
+	 *
+	 * @return ArrayList<String> An {@link ArrayList} object that contains the key-value pair for all
+	 * the message of the field.
+	 */
+	public ArrayList<String> get(String key) {
+		return new ArrayList<String>(this.errorList.get(key).values());
+	}
+
+	/**
+	 * Fetches the outcome of a single rule of a field.
+	 *
+	 * @param key The name of the field.
+	 * @param rule The name of the rule, case-insensitive.
+	 *
+	 * @return RuleStatus Whether the rule passed, failed, or was not evaluated at all; such as when the
+	 * {@link ValidationPolicy} stopped the validation early, or the field has no such rule.
+	 */
+	public RuleStatus status(String key, String rule) {
+		if (!this.validationDone)
+			this.runValidation();
+
+		int index = this.schema.indexOf(key);
+		int ruleIndex = index < 0 ? -1 : this.schema.indexOfRule(index, rule);
+		if (ruleIndex < 0 || (this.evaluated[index] & (1L << ruleIndex)) == 0)
+			return RuleStatus.NOT_EVALUATED;
+
+		return (this.failures[index] & (1L << ruleIndex)) == 0 ? RuleStatus.PASSED : RuleStatus.FAILED;
+	}
+
+	/**
+	 * Retrieves the rules of the given values that were not evaluated, formatted as
+	 * {@code field.rule}. With the {@link ValidationPolicy#FULL full} policy, only the rules after a
+	 * failing rule that stops its field are listed.
+	 *
+	 * @return String[] An array of the rules that were not evaluated.
+	 */
+	public String[] notEvaluated() {
+		if (!this.validationDone)
+			this.runValidation();
+
+		List<String> skipped = new ArrayList<String>();
+		for (String field : this.valueList.keySet()) {
+			int index = this.schema.indexOf(field);
+			if (index < 0)
+				continue;
+
+			String[] rules = this.schema.rulesOf(index);
+			for (int i = 0; i < rules.length; i++) {
+				if ((this.evaluated[index] & (1L << i)) == 0)
+					skipped.add(field + "." + rules[i]);
+			}
+		}
+
+		return skipped.toArray(new String[0]);
+	}
+
+	/**
+	 * Retrieves an array of field names that are invalid.
+	 *
+	 * @return String[] An array of field names that failed the validation.
+	 */
+	public String[] invalidFields() {
+		return this.errorList.keys();
+	}
+
+	/**
+	 * Retrieves an array of field names that are valid.
+	 *
+	 * @return String[] An array of field names that passed the validation.
+	 */
+	public String[] validFields() {
+		Map<String, Object> vl = new HashMap<String, Object>();
+		vl.putAll(this.valueList);
+
+		vl.keySet().removeAll(new HashSet<String>(Arrays.asList(this.invalidFields())));
+
+		return Arrays.copyOf(vl.keySet().toArray(), vl.keySet().size(), String[].class);
+	}
+
+	/**
+	 * Retrieves all the field names that are used in this validator.
+	 *
+	 * @return String[] An array of all the field names used in this {@code Validator}.
+	 */
+	public String[] fields() {
+		return (String[]) this.valueList.keySet().toArray();
+	}
+
+	// PRIVATE METHODS
+	/**
+	 * Runs the entire validation algorithm.
+	 */
+	private void runValidation() {
+		this.evaluated = new long[this.schema.size()];
+		this.failures = new long[this.schema.size()];
+
+		// Looks up every value once, sharing it with the rules that read other fields.
+		boolean[] present = new boolean[this.schema.slotCount()];
+		Object[] values = this.schema.lookup(this.valueList, present);
+		this.context.bind(values, this.failures);
+
+		// Iterate through the fields with rules, each one after the fields it reads.
+		for (int index : this.schema.evaluationOrder()) {
+			// Skips the fields not provided.
+			if (!present[index])
+				continue;
+
+			String field = this.schema.fieldAt(index);
+			Object value = values[index];
+
+			// Runs the rules, then collect the messages of those that failed.
+			long failures = this.schema.evaluate(index, value, this.context, this.policy, this.evaluated);
+			this.failures[index] = failures;
+
+			if (failures == 0) {
+				// Add the field to the list of validated inputs.
+				this.validSets.put(field, value);
+			}
+			else {
+				// If a rule failed, immediately fail the entire validation.
+				this.failed = true;
+				// Insert the error messages to the message bag.
+				this.schema.addErrors(this.errorList, index, value, failures);
+
+				// And stop validating the other fields if the policy says so.
+				if (this.policy == ValidationPolicy.FAIL_FAST)
+					break;
+			}
+		}
+
+		// Marks this instance as validation done.
+		if (!this.validationDone)
+			this.validationDone = true;
+	}
+}
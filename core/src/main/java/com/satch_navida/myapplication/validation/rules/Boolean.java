@@ -3,9 +3,6 @@ package com.satch_navida.myapplication.validation.rules;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.function.Predicate;
 
 /**
  * Tests whether the value is a boolean or can be converted to a boolean.
@@ -15,6 +12,40 @@ import java.util.function.Predicate;
  */
 public class Boolean extends Rule implements RuleInterface {
 
+	// PRIVATE VARIABLES
+	/**
+	 * The values that can be converted to a boolean.
+	 */
+	private static final String[] MATCHES = new String[]{"0", "1", "true", "false", "on", "off"};
+
+	// PUBLIC VARIABLES
+	/**
+	 * The shared, stateless counterpart of this rule.
+	 */
+	public static final StatelessRule STATELESS = new StatelessRule() {
+		@Override
+		public void evaluate(String field, Object value, Object[] params, RuleContext context) {
+			String string = value.toString();
+
+			for (String match : MATCHES) {
+				if (match.equalsIgnoreCase(string)) {
+					context.setValid(true);
+					break;
+				}
+			}
+		}
+
+		@Override
+		public int getCost() {
+			return COST_CHEAP;
+		}
+
+		@Override
+		public boolean canStopValidation() {
+			return false;
+		}
+	};
+
 	// OVERRIDE VARIABLES
 	protected String message = "The :key must either be true or false";
 
@@ -38,18 +69,7 @@ public class Boolean extends Rule implements RuleInterface {
 	/**
 	 * {@inheritDoc}
 	 */
-	public HashMap<String, Object> validate() {
-		String[] matches = new String[]{"0", "1", "true", "false", "on", "off"};
-
-		if (Arrays.stream(matches).anyMatch(Predicate.isEqual(this.value.toString().toLowerCase())))
-			this.setValid(true);
-
-		return new HashMap<String, Object>() {
-			{
-				this.put(Rule.VALIDATED_KEYS[0], isValid());
-				this.put(Rule.VALIDATED_KEYS[1], isValid() ? "" : getFinalMessage());
-				this.put(Rule.VALIDATED_KEYS[2], getRunOtherValidations());
-			}
-		};
+	public int check() throws Exception {
+		return this.check(STATELESS);
 	}
 }
@@ -0,0 +1,28 @@
+package com.satch_navida.myapplication.validation.rules;
+
+/**
+ * A {@link StatelessRule} that reads the values of other fields along with its own, such as
+ * {@code RequiredIf:height_spinner:cm}. The other fields are named through the validator values,
+ * and are read through {@link RuleContext#getReference(int)} while the rule is evaluated.<br>
+ * <br>
+ * A schema compiling such a rule knows which fields depend on which; thus, the fields are
+ * validated in the order of their dependencies, and a field that changed only needs its dependents
+ * validated again.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public interface CrossFieldRule extends StatelessRule {
+	/**
+	 * Fetches the names of the other fields this rule reads, out of its validator values. The
+	 * index of a field within the returned array is the one given to
+	 * {@link RuleContext#getReference(int)}.
+	 *
+	 * @param validatorValues The validator values, as returned by {@link #compileValidatorValues(Object[])}. Could be {@code null}.
+	 *
+	 * @return String[] The names of the fields.
+	 *
+	 * @throws IllegalArgumentException When the validator values do not name a field.
+	 */
+	public String[] getReferencedFields(Object[] validatorValues);
+}
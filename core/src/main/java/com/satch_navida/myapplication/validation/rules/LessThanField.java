@@ -0,0 +1,111 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tests whether the {@code value} provided is less than the value of another field; such as
+ * {@code LessThanField:height_value} on the waist, which must be less than the height.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class LessThanField extends Rule implements RuleInterface {
+
+	// PRIVATE VARIABLES
+	/**
+	 * The names of the placeholders of the validator values.
+	 */
+	private static final String[] PLACEHOLDERS = {"other"};
+
+	// PUBLIC VARIABLES
+	/**
+	 * The shared, stateless counterpart of this rule.
+	 */
+	public static final StatelessRule STATELESS = new CrossFieldRule() {
+		@Override
+		public void evaluate(String field, Object value, Object[] params, RuleContext context) {
+			Object other = context.getReference(0);
+			double limit = other == null ? Double.NaN : Numeric.parse(other);
+
+			// Nothing to compare against; a field that failed its own rules is already reported there.
+			if (!context.isReferenceValid(0) || !Double.isFinite(limit)) {
+				context.setValid(true);
+				return;
+			}
+
+			if (context.isNumeric(value))
+				context.setValid(context.toDouble(value) < limit);
+		}
+
+		@Override
+		public String[] getReferencedFields(Object[] validatorValues) {
+			if (validatorValues == null || validatorValues.length < 1)
+				throw new IllegalArgumentException("Not enough validator value passed:\tNeeds 1, only 0 is passed.");
+
+			return new String[] {validatorValues[0].toString()};
+		}
+
+		@Override
+		public String[] getPlaceholders() {
+			return PLACEHOLDERS;
+		}
+
+		@Override
+		public int getCost() {
+			return COST_MODERATE;
+		}
+
+		@Override
+		public boolean canStopValidation() {
+			return false;
+		}
+
+		@Override
+		public String getDefaultMessage() {
+			return "The :key must be less than :other";
+		}
+	};
+
+	// OVERRIDE VARIABLES
+	protected String message = "The :key must be less than :other";
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link Rule}, containing all the necessary parameters: the
+	 * {@code key} and {@code value}, and optional parameters: {@code message} and {@code validatorValues}.<br>
+	 *
+	 * @param key A unique identifier (ID) of value being tested.
+	 * @param value The value that will be tested.
+	 * @param message A message that will be displayed when the test fails.
+	 * @param validatorValues An array of {@link Object}s that will be used to test against the {@code value}.
+	 */
+	public LessThanField(@NotNull String key, @NotNull Object value, @Nullable String message, @Nullable Object[] validatorValues) {
+		super(key, value, message, validatorValues);
+	}
+
+	// PUBLIC METHOD
+
+	@Override
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * As this rule reads another field, it can only be run through a {@code ValidationSchema}.
+	 *
+	 * @throws IllegalStateException When run on its own.
+	 */
+	public int check() throws Exception {
+		return this.check(STATELESS);
+	}
+
+	// PROTECTED
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getFinalMessage() {
+		return MessageTemplate.compile(this.message, PLACEHOLDERS).render(this.key, this.value, this.validatorValues);
+	}
+}
@@ -0,0 +1,204 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message compiled once into its literal segments and its placeholder slots, such as
+ * {@code "The :key must be at least :min"}. Rendering a compiled template only appends the segments
+ * and the values of its slots, instead of running a regex pass per placeholder.<br>
+ * <br>
+ * The placeholders {@code :key} and {@code :value} are always known. The validator values of a rule
+ * are known through the names given by {@link StatelessRule#getPlaceholders()}, in the same order as
+ * the validator values. Any other placeholder is kept as it is written.<br>
+ * <br>
+ * A {@code MessageTemplate} is immutable and thus, can be shared freely across threads.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class MessageTemplate {
+	// PRIVATE VARIABLES
+	/**
+	 * The slot of the {@code :key} placeholder.
+	 */
+	private static final int KEY = -1;
+	/**
+	 * The slot of the {@code :value} placeholder.
+	 */
+	private static final int VALUE = -2;
+	/**
+	 * No placeholder names, for rules without named validator values.
+	 */
+	private static final String[] NO_PLACEHOLDERS = new String[0];
+
+	/**
+	 * The original message.
+	 */
+	private final String source;
+	/**
+	 * The literal segments, wherein a slot sits between every two segments. Thus, there is always
+	 * one more segment than there are slots.
+	 */
+	private final String[] segments;
+	/**
+	 * The slots, either {@link #KEY}, {@link #VALUE}, or the index of a validator value.
+	 */
+	private final int[] slots;
+	/**
+	 * Identifies whether the {@code :value} placeholder is used.
+	 */
+	private final boolean usesValue;
+
+	// CONSTRUCTORS
+
+	private MessageTemplate(String source, String[] segments, int[] slots) {
+		this.source = source;
+		this.segments = segments;
+		this.slots = slots;
+
+		boolean usesValue = false;
+		for (int slot : slots)
+			usesValue |= slot == VALUE;
+		this.usesValue = usesValue;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Compiles the given message, knowing only the {@code :key} and {@code :value} placeholders.
+	 *
+	 * @param message The message to compile.
+	 *
+	 * @return MessageTemplate The compiled template.
+	 */
+	public static MessageTemplate compile(String message) {
+		return compile(message, NO_PLACEHOLDERS);
+	}
+
+	/**
+	 * Compiles the given message.
+	 *
+	 * @param message The message to compile.
+	 * @param placeholders The names of the validator values, without the colon, in the same order as
+	 *                     the validator values; such as {@code {"min", "max"}}. Could be {@code null}.
+	 *
+	 * @return MessageTemplate The compiled template.
+	 */
+	public static MessageTemplate compile(String message, String[] placeholders) {
+		if (message == null)
+			throw new NullPointerException("\"message\" should not be null.");
+
+		List<String> segments = new ArrayList<String>();
+		List<Integer> slots = new ArrayList<Integer>();
+		int start = 0;
+
+		for (int colon = message.indexOf(':'); colon >= 0; colon = message.indexOf(':', colon + 1)) {
+			int end = colon + 1;
+			while (end < message.length() && Character.isLetter(message.charAt(end)))
+				end++;
+
+			int slot = slotOf(message.substring(colon + 1, end), placeholders);
+			if (slot == Integer.MIN_VALUE)
+				continue;
+
+			segments.add(message.substring(start, colon));
+			slots.add(slot);
+			start = end;
+			colon = end - 1;
+		}
+		segments.add(message.substring(start));
+
+		int[] slotArray = new int[slots.size()];
+		for (int i = 0; i < slotArray.length; i++)
+			slotArray[i] = slots.get(i);
+
+		return new MessageTemplate(message, segments.toArray(new String[0]), slotArray);
+	}
+
+	/**
+	 * Renders this template with the given values.
+	 *
+	 * @param field The name of the field, injected to {@code :key}.
+	 * @param value The value of the field, injected to {@code :value}.
+	 * @param params The validator values of the rule, injected to their named placeholders. Could be {@code null}.
+	 *
+	 * @return String The rendered message.
+	 */
+	public String render(String field, Object value, Object[] params) {
+		if (this.slots.length == 0)
+			return this.source;
+
+		StringBuilder message = new StringBuilder(this.source.length() + 16);
+		message.append(this.segments[0]);
+
+		for (int i = 0; i < this.slots.length; i++) {
+			int slot = this.slots[i];
+
+			if (slot == KEY)
+				message.append(field);
+			else if (slot == VALUE)
+				message.append(value);
+			else
+				message.append(params == null || slot >= params.length ? null : params[slot]);
+
+			message.append(this.segments[i + 1]);
+		}
+
+		return message.toString();
+	}
+
+	/**
+	 * Identifies whether this template uses the {@code :value} placeholder.
+	 *
+	 * @return boolean Returns {@code true} if the value is injected to the message; {@code false} otherwise.
+	 */
+	public boolean usesValue() {
+		return this.usesValue;
+	}
+
+	/**
+	 * Identifies whether the original message is empty.
+	 *
+	 * @return boolean Returns {@code true} if the message is empty; {@code false} otherwise.
+	 */
+	public boolean isEmpty() {
+		return this.source.isEmpty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return String The original message.
+	 */
+	@Override
+	public String toString() {
+		return this.source;
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Resolves the slot of a placeholder.
+	 *
+	 * @param name The name of the placeholder, without the colon.
+	 * @param placeholders The names of the validator values. Could be {@code null}.
+	 *
+	 * @return int The slot; or {@link Integer#MIN_VALUE} if the placeholder is unknown.
+	 */
+	private static int slotOf(String name, String[] placeholders) {
+		if (name.equals("key"))
+			return KEY;
+		if (name.equals("value"))
+			return VALUE;
+
+		if (placeholders != null) {
+			for (int i = 0; i < placeholders.length; i++) {
+				if (placeholders[i].equals(name))
+					return i;
+			}
+		}
+
+		return Integer.MIN_VALUE;
+	}
+}
@@ -0,0 +1,97 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.MessageFormat;
+import java.util.InvalidPropertiesFormatException;
+
+/**
+ * Tests whether the {@code value} provided is no less than the provided validator value.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Min extends Rule implements RuleInterface {
+
+	// PRIVATE VARIABLES
+	/**
+	 * The names of the placeholders of the validator values.
+	 */
+	private static final String[] PLACEHOLDERS = {"min"};
+
+	// PUBLIC VARIABLES
+	/**
+	 * The shared, stateless counterpart of this rule.
+	 */
+	public static final StatelessRule STATELESS = new StatelessRule() {
+		@Override
+		public void evaluate(String field, Object value, Object[] params, RuleContext context) throws Exception {
+			// Checks whether the values passed (including the validator value) are numeric. If not, then throws an error
+			if (params == null || params.length < 1)
+				throw new IllegalArgumentException(MessageFormat.format("Not enough validator value passed:\tNeeds 1, only {0} is passed.", params == null ? 0 : params.length));
+			else if (!Numeric.isNumeric(params[0]))
+				throw new IllegalArgumentException(MessageFormat.format("Incorrect validator value type:\tThe provided validator value ({0}) is not a number", params[0]));
+
+			if (context.isNumeric(value))
+				context.setValid(context.toDouble(value) >= Numeric.toDouble(params[0]));
+		}
+
+		@Override
+		public Object[] compileValidatorValues(Object[] validatorValues) {
+			return NumberParameter.parseAll(validatorValues);
+		}
+
+		@Override
+		public String[] getPlaceholders() {
+			return PLACEHOLDERS;
+		}
+
+		@Override
+		public int getCost() {
+			return COST_MODERATE;
+		}
+
+		@Override
+		public boolean canStopValidation() {
+			return false;
+		}
+	};
+
+	// OVERRIDE VARIABLES
+	protected String message = "The :key must be at least :val";
+
+	// CONSTRUCTORS
+	/**
+	 * Creates an instance of {@link Rule}, containing all the necessary parameters: the
+	 * {@code key} and {@code value}, and optional parameters: {@code message} and {@code validatorValues}.<br>
+	 *
+	 * @param key A unique identifier (ID) of value being tested.
+	 * @param value The value that will be tested.
+	 * @param message A message that will be displayed when the test fails.
+	 * @param validatorValues An array of {@link Object}s that will be used to test against the {@code value}.
+	 */
+	public Min(@NotNull String key, @NotNull Object value, @Nullable String message, @Nullable Object[] validatorValues) {
+		super(key, value, message, validatorValues);
+	}
+
+	// PUBLIC METHOD
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public int check() throws Exception {
+		return this.check(STATELESS);
+	}
+
+	// PROTECTED
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getFinalMessage() {
+		return MessageTemplate.compile(this.message, PLACEHOLDERS).render(this.key, this.value, this.validatorValues);
+	}
+}
@@ -2,7 +2,6 @@ package com.satch_navida.myapplication.validation.rules;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
 
 /**
  * Tests whether the value is null when no other value is provided.
@@ -12,6 +11,30 @@ import java.util.HashMap;
  */
 public class Nullable extends Rule implements RuleInterface {
 
+	// PUBLIC VARIABLES
+	/**
+	 * The shared, stateless counterpart of this rule.
+	 */
+	public static final StatelessRule STATELESS = new StatelessRule() {
+		@Override
+		public void evaluate(String field, Object value, Object[] params, RuleContext context) {
+			if (value == null)
+				context.setValid(true);
+			else if (isEmpty(value))
+				context.setValid(false);
+		}
+
+		@Override
+		public int getCost() {
+			return COST_CHEAP;
+		}
+
+		@Override
+		public boolean canStopValidation() {
+			return false;
+		}
+	};
+
 	// OVERRIDE VARIABLES
 	protected String message = "The :key field can be null";
 
@@ -35,18 +58,7 @@ public class Nullable extends Rule implements RuleInterface {
 	/**
 	 * {@inheritDoc}
 	 */
-	public HashMap<String, Object> validate() {
-		if (this.value == null)
-			this.setValid(true);
-		else if (this.value.toString().isEmpty())
-			this.setValid(false);
-
-		return new HashMap<String, Object>() {
-			{
-				this.put(Rule.VALIDATED_KEYS[0], isValid());
-				this.put(Rule.VALIDATED_KEYS[1], isValid() ? "" : getFinalMessage());
-				this.put(Rule.VALIDATED_KEYS[2], getRunOtherValidations());
-			}
-		};
+	public int check() throws Exception {
+		return this.check(STATELESS);
 	}
 }
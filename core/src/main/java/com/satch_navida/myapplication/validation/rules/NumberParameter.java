@@ -0,0 +1,92 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import java.util.Arrays;
+
+/**
+ * A numeric validator value, such as the {@code 1} of {@code Min:1}, parsed once when the rules are
+ * compiled. It still prints as it was written, thus a message such as {@code "at least :min"} shows
+ * {@code 1} rather than {@code 1.0}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class NumberParameter extends Number {
+	// PRIVATE VARIABLES
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The validator value, as it was written.
+	 */
+	private final String text;
+	/**
+	 * The parsed validator value.
+	 */
+	private final double value;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@code NumberParameter}.
+	 *
+	 * @param text The validator value, as it was written.
+	 *
+	 * @throws NumberFormatException When the validator value is not a number.
+	 */
+	public NumberParameter(String text) {
+		this.text = text;
+		this.value = Numeric.toDouble(text);
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Parses every numeric validator value of the given array, leaving the others as they are.
+	 * Meant to be used by {@link StatelessRule#compileValidatorValues(Object[])}.
+	 *
+	 * @param validatorValues The validator values. Could be {@code null}.
+	 *
+	 * @return Object[] A new array with the numeric validator values parsed; or {@code null} if there are none.
+	 */
+	public static Object[] parseAll(Object[] validatorValues) {
+		if (validatorValues == null)
+			return null;
+
+		Object[] parsed = Arrays.copyOf(validatorValues, validatorValues.length, Object[].class);
+		for (int i = 0; i < parsed.length; i++) {
+			if (parsed[i] instanceof String && Numeric.isNumeric(parsed[i]))
+				parsed[i] = new NumberParameter((String) parsed[i]);
+		}
+
+		return parsed;
+	}
+
+	@Override
+	public int intValue() {
+		return (int) this.value;
+	}
+
+	@Override
+	public long longValue() {
+		return (long) this.value;
+	}
+
+	@Override
+	public float floatValue() {
+		return (float) this.value;
+	}
+
+	@Override
+	public double doubleValue() {
+		return this.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return String The validator value, as it was written.
+	 */
+	@Override
+	public String toString() {
+		return this.text;
+	}
+}
@@ -0,0 +1,155 @@
+package com.satch_navida.myapplication.validation.rules;
+
+/**
+ * Checks and parses decimal numbers straight from a {@link CharSequence}, such as the
+ * {@code Editable} of an {@code EditText}, without converting it to a {@link String} first and
+ * without throwing an exception for invalid input.<br>
+ * <br>
+ * The accepted format is an optional sign, digits with an optional decimal point, and an optional
+ * exponent; surrounding whitespace is ignored. Unlike {@link Double#parseDouble(String)}, the
+ * {@code NaN} and {@code Infinity} literals, hexadecimal numbers, and the {@code d} and {@code f}
+ * suffixes are not accepted. As such, {@link Double#NaN} is used to flag an invalid input.<br>
+ * <br>
+ * Numbers of up to 15 significant digits with a small exponent (which covers every weight and
+ * height) are converted exactly through a single multiplication or division. Longer numbers are
+ * handed to {@code Double.parseDouble} once known to be valid, to keep the result correctly rounded.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class NumberScanner {
+	// PRIVATE VARIABLES
+	/**
+	 * The powers of ten that are exactly representable as a {@code double}.
+	 */
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+			1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	/**
+	 * The largest mantissa that is exactly representable as a {@code double}.
+	 */
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+	/**
+	 * The most significant digits kept within a {@code long} mantissa.
+	 */
+	private static final int MAX_DIGITS = 18;
+	/**
+	 * The largest exponent read; anything beyond already overflows or underflows a {@code double}.
+	 */
+	private static final int MAX_EXPONENT = 100_000;
+
+	// CONSTRUCTORS
+
+	private NumberScanner() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Identifies whether the given text is a decimal number.
+	 *
+	 * @param text The text to check.
+	 *
+	 * @return boolean Returns {@code true} if the text is a number; {@code false} otherwise.
+	 */
+	public static boolean isNumber(CharSequence text) {
+		return !Double.isNaN(parse(text));
+	}
+
+	/**
+	 * Parses the given text as a decimal number.
+	 *
+	 * @param text The text to parse.
+	 *
+	 * @return double The parsed number; or {@link Double#NaN} if the text is not a number.
+	 */
+	public static double parse(CharSequence text) {
+		int start = 0;
+		int end = text.length();
+
+		// Ignores the surrounding whitespace, the same way String.trim() does.
+		while (start < end && text.charAt(start) <= ' ')
+			start++;
+		while (end > start && text.charAt(end - 1) <= ' ')
+			end--;
+
+		int i = start;
+		boolean negative = false;
+		if (i < end && (text.charAt(i) == '+' || text.charAt(i) == '-'))
+			negative = text.charAt(i++) == '-';
+
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean hasDigits = false;
+		boolean truncated = false;
+
+		// The integer part
+		for (char c; i < end && (c = text.charAt(i)) >= '0' && c <= '9'; i++) {
+			hasDigits = true;
+
+			if (digits < MAX_DIGITS) {
+				mantissa = mantissa * 10 + (c - '0');
+				// Leading zeros are not significant.
+				if (mantissa != 0)
+					digits++;
+			}
+			else {
+				exponent++;
+				truncated |= c != '0';
+			}
+		}
+
+		// The fractional part
+		if (i < end && text.charAt(i) == '.') {
+			for (char c; ++i < end && (c = text.charAt(i)) >= '0' && c <= '9'; ) {
+				hasDigits = true;
+
+				if (digits < MAX_DIGITS) {
+					mantissa = mantissa * 10 + (c - '0');
+					exponent--;
+					if (mantissa != 0)
+						digits++;
+				}
+				else {
+					truncated |= c != '0';
+				}
+			}
+		}
+
+		if (!hasDigits)
+			return Double.NaN;
+
+		// The exponent
+		if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+			boolean negativeExponent = false;
+			if (++i < end && (text.charAt(i) == '+' || text.charAt(i) == '-'))
+				negativeExponent = text.charAt(i++) == '-';
+
+			int value = 0;
+			int start10 = i;
+			for (char c; i < end && (c = text.charAt(i)) >= '0' && c <= '9'; i++)
+				value = Math.min(value * 10 + (c - '0'), MAX_EXPONENT);
+
+			if (i == start10)
+				return Double.NaN;
+
+			exponent += negativeExponent ? -value : value;
+		}
+
+		if (i != end)
+			return Double.NaN;
+
+		double value;
+		if (mantissa == 0)
+			value = 0;
+		else if (!truncated && mantissa < MAX_EXACT_MANTISSA && Math.abs(exponent) < POWERS_OF_TEN.length)
+			value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+		else
+			// Already known to be valid, thus this never throws.
+			return Double.parseDouble(text.subSequence(start, end).toString());
+
+		return negative ? -value : value;
+	}
+}
@@ -0,0 +1,109 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Tests whether the {@code value} provided is a number or can be converted to a number. A number
+ * too large to be held by a {@code double}, such as {@code 1e400}, is not considered a number, as
+ * it would only turn into {@code Infinity} once converted.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Numeric extends Rule implements RuleInterface {
+
+	// PUBLIC VARIABLES
+	/**
+	 * The shared, stateless counterpart of this rule.
+	 */
+	public static final StatelessRule STATELESS = new StatelessRule() {
+		@Override
+		public void evaluate(String field, Object value, Object[] params, RuleContext context) {
+			context.setValid(context.isNumeric(value));
+		}
+
+		@Override
+		public int getCost() {
+			return COST_MODERATE;
+		}
+
+		@Override
+		public boolean canStopValidation() {
+			return false;
+		}
+	};
+
+	// OVERRIDE VARIABLES
+	protected String message = "The :key should be a number";
+	// CONSTRUCTORS
+	/**
+	 * Creates an instance of {@link Rule}, containing all the necessary parameters: the
+	 * {@code key} and {@code value}, and optional parameters: {@code message} and {@code validatorValues}.<br>
+	 *
+	 * @param key A unique identifier (ID) of value being tested.
+	 * @param value The value that will be tested.
+	 * @param message A message that will be displayed when the test fails.
+	 * @param validatorValues An array of {@link Object}s that will be used to test against the {@code value}.
+	 */
+	public Numeric(@NotNull String key, @NotNull Object value, @Nullable String message, @Nullable Object[] validatorValues) {
+		super(key, value, message, validatorValues);
+	}
+
+	// PUBLIC METHOD
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public int check() throws Exception {
+		return this.check(STATELESS);
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Identifies whether the given value is a finite number or can be converted to one.
+	 *
+	 * @param value The value to test.
+	 *
+	 * @return boolean Returns {@code true} if the value is numeric; {@code false} otherwise.
+	 */
+	static boolean isNumeric(Object value) {
+		return Double.isFinite(parse(value));
+	}
+
+	/**
+	 * Converts the given value to a number, without parsing it if it already is one.
+	 *
+	 * @param value The value to convert.
+	 *
+	 * @return double The value as a number.
+	 *
+	 * @throws NumberFormatException When the value is not a finite number.
+	 */
+	static double toDouble(Object value) {
+		double number = parse(value);
+
+		if (!Double.isFinite(number))
+			throw new NumberFormatException("The value \"" + value + "\" is not a number.");
+
+		return number;
+	}
+
+	/**
+	 * Converts the given value to a number through the {@link NumberScanner}, reading a
+	 * {@link CharSequence} (such as an {@code Editable}) directly.
+	 *
+	 * @param value The value to convert.
+	 *
+	 * @return double The value as a number; or {@link Double#NaN} if the value is not numeric.
+	 */
+	static double parse(Object value) {
+		if (value instanceof Number)
+			return ((Number) value).doubleValue();
+
+		return NumberScanner.parse(value instanceof CharSequence ? (CharSequence) value : value.toString());
+	}
+}
@@ -0,0 +1,78 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * A rule backed by a {@link RulePredicate}. This allows rules registered as lambdas to be used the
+ * same way as the other rules within this package.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class PredicateRule extends Rule implements RuleInterface {
+	// PRIVATE VARIABLES
+	/**
+	 * The stateless counterpart of this rule, running its test. Built once along with the rule.
+	 */
+	private final StatelessRule stateless;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link PredicateRule}, containing all the necessary parameters: the
+	 * {@code key}, {@code value} and {@code predicate}, and optional parameters: {@code message} and {@code validatorValues}.<br>
+	 *
+	 * @param key A unique identifier (ID) of value being tested.
+	 * @param value The value that will be tested.
+	 * @param message A message that will be displayed when the test fails.
+	 * @param validatorValues An array of {@link Object}s that will be used to test against the {@code value}.
+	 * @param predicate The test that will be run against the {@code value}.
+	 */
+	public PredicateRule(@NotNull String key, @NotNull Object value, @Nullable String message, @Nullable Object[] validatorValues, @NotNull RulePredicate predicate) {
+		super(key, value, message, validatorValues);
+
+		this.stateless = stateless(predicate, null);
+	}
+
+	// PUBLIC METHOD
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public int check() throws Exception {
+		return this.check(this.stateless);
+	}
+
+	/**
+	 * Creates the stateless counterpart of a rule backed by the given {@link RulePredicate}.
+	 *
+	 * @param predicate The test that will be run against the value.
+	 * @param message The message used when no custom message is provided. Could be {@code null}.
+	 *
+	 * @return StatelessRule The stateless counterpart.
+	 */
+	public static StatelessRule stateless(@NotNull RulePredicate predicate, @Nullable String message) {
+		if (predicate == null)
+			throw new NullPointerException("\"predicate\" should not be null.");
+
+		return new StatelessRule() {
+			@Override
+			public void evaluate(String field, Object value, Object[] params, RuleContext context) {
+				context.setValid(predicate.test(value, params));
+			}
+
+			@Override
+			public String getDefaultMessage() {
+				return message == null ? Rule.DEFAULT_MESSAGE : message;
+			}
+
+			@Override
+			public boolean canStopValidation() {
+				return false;
+			}
+		};
+	}
+}
@@ -3,7 +3,6 @@ package com.satch_navida.myapplication.validation.rules;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 
 /**
  * Tests whether the {@code value} provided is present and a valid value.
@@ -13,6 +12,27 @@ import java.util.HashMap;
  */
 public class Required extends Rule implements RuleInterface {
 
+	// PUBLIC VARIABLES
+	/**
+	 * The shared, stateless counterpart of this rule.
+	 */
+	public static final StatelessRule STATELESS = new StatelessRule() {
+		@Override
+		public void evaluate(String field, Object value, Object[] params, RuleContext context) {
+			context.setValid(!(value == null || isEmpty(value)));
+		}
+
+		@Override
+		public int getCost() {
+			return COST_CHEAP;
+		}
+
+		@Override
+		public boolean canStopValidation() {
+			return false;
+		}
+	};
+
 	// OVERRIDE VARIABLES
 	protected String message = "The :key field is required";
 
@@ -37,18 +57,7 @@ public class Required extends Rule implements RuleInterface {
 	/**
 	 * {@inheritDoc}
 	 */
-	public HashMap<String, Object> validate() {
-		if (this.value == null || this.value.toString().isEmpty())
-			this.setValid(false);
-		else
-			this.setValid(true);
-
-		return new HashMap<String, Object>() {
-			{
-				this.put(Rule.VALIDATED_KEYS[0], isValid());
-				this.put(Rule.VALIDATED_KEYS[1], isValid() ? "" : getFinalMessage());
-				this.put(Rule.VALIDATED_KEYS[2], getRunOtherValidations());
-			}
-		};
+	public int check() throws Exception {
+		return this.check(STATELESS);
 	}
 }
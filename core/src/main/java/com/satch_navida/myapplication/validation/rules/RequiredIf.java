@@ -0,0 +1,113 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.MessageFormat;
+
+/**
+ * Works similar as the {@link Required} rule but only when another field has one of the given
+ * values; such as {@code RequiredIf:height_spinner:cm}, which only requires the value when the
+ * {@code height_spinner} field is {@code cm}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class RequiredIf extends Rule implements RuleInterface {
+
+	// PRIVATE VARIABLES
+	/**
+	 * The names of the placeholders of the validator values.
+	 */
+	private static final String[] PLACEHOLDERS = {"other", "expected"};
+
+	// PUBLIC VARIABLES
+	/**
+	 * The shared, stateless counterpart of this rule.
+	 */
+	public static final StatelessRule STATELESS = new CrossFieldRule() {
+		@Override
+		public void evaluate(String field, Object value, Object[] params, RuleContext context) {
+			Object other = context.getReference(0);
+
+			for (int i = 1; i < params.length; i++) {
+				if (isSameText(params[i], other)) {
+					context.setValid(!(value == null || isEmpty(value)));
+					return;
+				}
+			}
+
+			context.setValid(true);
+		}
+
+		@Override
+		public String[] getReferencedFields(Object[] validatorValues) {
+			if (validatorValues == null || validatorValues.length < 2)
+				throw new IllegalArgumentException(MessageFormat.format("Not enough validator value passed:\tNeeds at least 2, only {0} is passed.", validatorValues == null ? 0 : validatorValues.length));
+
+			return new String[] {validatorValues[0].toString()};
+		}
+
+		@Override
+		public String[] getPlaceholders() {
+			return PLACEHOLDERS;
+		}
+
+		@Override
+		public int getCost() {
+			return COST_CHEAP;
+		}
+
+		@Override
+		public boolean canStopValidation() {
+			return false;
+		}
+
+		@Override
+		public String getDefaultMessage() {
+			return "The :key field is required when :other is :expected";
+		}
+	};
+
+	// OVERRIDE VARIABLES
+	protected String message = "The :key field is required when :other is :expected";
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link Rule}, containing all the necessary parameters: the
+	 * {@code key} and {@code value}, and optional parameters: {@code message} and {@code validatorValues}.<br>
+	 *
+	 * @param key A unique identifier (ID) of value being tested.
+	 * @param value The value that will be tested.
+	 * @param message A message that will be displayed when the test fails.
+	 * @param validatorValues An array of {@link Object}s that will be used to test against the {@code value}.
+	 */
+	public RequiredIf(@NotNull String key, @NotNull Object value, @Nullable String message, @Nullable Object[] validatorValues) {
+		super(key, value, message, validatorValues);
+	}
+
+	// PUBLIC METHOD
+
+	@Override
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * As this rule reads another field, it can only be run through a {@code ValidationSchema}.
+	 *
+	 * @throws IllegalStateException When run on its own.
+	 */
+	public int check() throws Exception {
+		return this.check(STATELESS);
+	}
+
+	// PROTECTED
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getFinalMessage() {
+		return MessageTemplate.compile(this.message, PLACEHOLDERS).render(this.key, this.value, this.validatorValues);
+	}
+}
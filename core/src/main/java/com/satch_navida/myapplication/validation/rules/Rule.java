@@ -0,0 +1,295 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * The very base of any rules that will be used in the {@link com.satch_navida.myapplication.validation.Validator Validator} class.
+ * This class is an abstract class as each instance of the {@code Rule} class' children has
+ * their own unique conditions and thus, the abstractness of the design implemented.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public abstract class Rule implements RuleInterface {
+	// PRIVATE VARIABLES
+	/**
+	 * Identifies whether the validation is a success or not.
+	 */
+	private boolean valid = false;
+	/**
+	 * Identifies whether {@link #check()} is currently adapting the result of {@link #validate()}.
+	 * Used to detect a subclass that implements neither of the two methods.
+	 */
+	private boolean adapting = false;
+	/**
+	 * The message returned by {@link #validate()} when a subclass only implements that method.
+	 */
+	private String adaptedMessage;
+
+	// PROTECTED VARIABLES
+	/**
+	 * Container for the name of the field that will be tested.
+	 */
+	protected String key;
+	/**
+	 * Container for the value that will be tested.
+	 */
+	protected Object value;
+	/**
+	 * Container for the message that will be displayed when the validation fails.
+	 */
+	protected String message = DEFAULT_MESSAGE;
+	/**
+	 * Contains values that will have a use for validation testing down the line.
+	 */
+	protected Object[] validatorValues;
+	/**
+	 * Identifies whether to run the other validations or stop at this specific one.
+	 */
+	protected boolean runOtherValidations = true;
+
+	// PUBLIC VARIABLES
+	/**
+	 * The message used when no custom message is provided.
+	 */
+	public static final String DEFAULT_MESSAGE = "The :key field is incorrect.";
+	/**
+	 * A constant array of strings containing the keys of what the deprecated {@link #validate()} method should return.
+	 */
+	public static final String[] VALIDATED_KEYS = new String[]{"valid", "message", "runOtherValidation"};
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link Rule}, containing all the necessary parameters: the
+	 * {@code key} and {@code value}, and optional parameters: {@code message} and {@code validatorValues}.<br>
+	 *
+	 * @param key A unique identifier (ID) of value being tested.
+	 * @param value The value that will be tested.
+	 * @param message A message that will be displayed when the test fails.
+	 * @param validatorValues An array of {@link Object}s that will be used to test against the {@code value}.
+	 */
+	public Rule(@NotNull String key, @NotNull Object value, @Nullable String message, @Nullable Object[] validatorValues) {
+		if (key == null)
+			throw new NullPointerException("\"key\" should not be null.");
+		if (value == null)
+			throw new NullPointerException("\"value\" should not be null.");
+
+		this.key = key;
+		this.value = value;
+		this.message = message == null ? this.message : message;
+		this.validatorValues = validatorValues;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * For subclasses that only implements the deprecated {@link #validate()}, this adapts its
+	 * returned map into a packed result.
+	 *
+	 * @throws AbstractMethodError When neither the {@code check()} nor the {@code validate()} method
+	 * is implemented within its child class, this error is thrown.
+	 */
+	@Override
+	public int check() throws Exception {
+		if (this.adapting)
+			throw new AbstractMethodError("Unimplemented method: check()");
+
+		this.adapting = true;
+		try {
+			HashMap<String, Object> response = this.validate();
+
+			boolean isValid = (boolean) response.get(VALIDATED_KEYS[0]);
+			this.setValid(isValid);
+			this.adaptedMessage = isValid ? null : (String) response.get(VALIDATED_KEYS[1]);
+
+			return RuleResult.of(isValid, (boolean) response.get(VALIDATED_KEYS[2]));
+		} finally {
+			this.adapting = false;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * This is an adapter over {@link #check()}, kept for the callers that still expects a map.
+	 *
+	 * @throws AbstractMethodError When neither the {@code check()} nor the {@code validate()} method
+	 * is implemented within its child class, this error is thrown.
+	 *
+	 * @deprecated Allocates a new map on every call. Use {@link #check()} instead.
+	 */
+	@Override
+	@Deprecated
+	public HashMap<String, Object> validate() throws Exception {
+		if (this.adapting)
+			throw new AbstractMethodError("Unimplemented method: validate()");
+
+		this.adapting = true;
+		int result;
+		try {
+			result = this.check();
+		} finally {
+			this.adapting = false;
+		}
+
+		HashMap<String, Object> response = new HashMap<String, Object>();
+		response.put(VALIDATED_KEYS[0], RuleResult.isValid(result));
+		response.put(VALIDATED_KEYS[1], RuleResult.isValid(result) ? "" : this.getMessage());
+		response.put(VALIDATED_KEYS[2], RuleResult.shouldRunOtherValidations(result));
+
+		return response;
+	}
+
+	/**
+	 * Fetches the message of this rule, with all the values injected to it. This is meant to be
+	 * called only when the validation failed, as building the message is the costly part of a rule.
+	 *
+	 * @return String The transformed message.
+	 */
+	public String getMessage() {
+		return this.adaptedMessage != null ? this.adaptedMessage : this.getFinalMessage();
+	}
+
+	/**
+	 * Identifies whether the validator test is valid or invalid.
+	 *
+	 * @return boolean Returns {@code true} if the test passes; {@code false} otherwise, and if validation
+	 * isn't run yet.
+	 */
+	public boolean isValid() {
+		return this.valid;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {key: \"%2$s\", value: \"%3$s\", message: \"%4$s\", validatorValues: \"%5$s\"}",
+				this.getClass().getSimpleName(),
+				this.key,
+				this.value,
+				this.message,
+				Arrays.toString(this.validatorValues)
+		);
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * Sets the validity value of this rule.<br>
+	 * <ul>
+	 *     <li><b>{@code true}</b> - If the validation succeeded.</li>
+	 *     <li><b>{@code false}</b> - If the validation failed.</li>
+	 * </ul>
+	 *
+	 * @param isValid
+	 */
+	protected void setValid(boolean isValid) {
+		this.valid = isValid;
+	}
+
+	/**
+	 * Injects the values for {@code :key}, {@code :val}, and other values like those at {@link #validatorValues}
+	 * to the message provided, which is then returned as a {@link String}.<br>
+	 * <br>
+	 * <i><b>NOTE:</b> Could be overridden to include custom pseudo-attributes such as {@code :min} and {@code :max},
+	 * by compiling the message into a {@link MessageTemplate} along with the names of those pseudo-attributes.</i>
+	 *
+	 * @return String The transformed message, containing the injected values.
+	 */
+	protected String getFinalMessage() {
+		return MessageTemplate.compile(this.message).render(this.key, this.value, this.validatorValues);
+	}
+
+	/**
+	 * Sets the value for the {@link #runOtherValidations} variable.
+	 *
+	 * @param shouldRun A boolean value which dictates whether to continue the validation or skip all the others.
+	 */
+	protected void setRunOtherValidations(boolean shouldRun) {
+		this.runOtherValidations = shouldRun;
+	}
+
+	/**
+	 * Fetches the value of the {@link Required#runOtherValidations}. The default value of the said variable
+	 * is set to {@code true}.
+	 *
+	 * @return boolean The value of the said variable.
+	 */
+	protected boolean getRunOtherValidations() {
+		return this.runOtherValidations;
+	}
+
+	/**
+	 * Identifies whether the given value is empty. Values that are already a {@link CharSequence}
+	 * (such as an {@code Editable}) are checked without being converted to a {@link String} first.
+	 *
+	 * @param value The value to check.
+	 *
+	 * @return boolean Returns {@code true} if the value is empty; {@code false} otherwise.
+	 */
+	protected static boolean isEmpty(Object value) {
+		if (value instanceof CharSequence)
+			return ((CharSequence) value).length() == 0;
+
+		return value.toString().isEmpty();
+	}
+
+	/**
+	 * Identifies whether the given values are written the same. Values that are already a
+	 * {@link CharSequence} (such as an {@code Editable}) are compared without being converted to a
+	 * {@link String} first.
+	 *
+	 * @param value The value to compare.
+	 * @param other The value to compare against. Could be {@code null}.
+	 *
+	 * @return boolean Returns {@code true} if both are written the same; {@code false} otherwise.
+	 */
+	protected static boolean isSameText(Object value, Object other) {
+		if (value == null || other == null)
+			return value == other;
+
+		CharSequence text = other instanceof CharSequence ? (CharSequence) other : other.toString();
+
+		return value.toString().contentEquals(text);
+	}
+
+	/**
+	 * Runs the given {@link StatelessRule} against the values of this rule, then keeps its outcome
+	 * on this instance. This allows a rule that has a stateless counterpart to share the same code.
+	 *
+	 * @param rule The stateless counterpart of this rule.
+	 *
+	 * @return int The packed result, as described by {@link RuleResult}.
+	 *
+	 * @throws Exception When the rule could not be evaluated.
+	 */
+	protected int check(StatelessRule rule) throws Exception {
+		RuleContext context = new RuleContext();
+		rule.evaluate(this.key, this.value, this.validatorValues, context);
+
+		this.setValid(context.isValid());
+		this.setRunOtherValidations(context.shouldRunOtherValidations());
+
+		return this.result();
+	}
+
+	/**
+	 * Packs the current validity and {@link #runOtherValidations} of this rule into a result.
+	 *
+	 * @return int The packed result, as described by {@link RuleResult}.
+	 */
+	protected int result() {
+		return RuleResult.of(this.isValid(), this.getRunOtherValidations());
+	}
+}
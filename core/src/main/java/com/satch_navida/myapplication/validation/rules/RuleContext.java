@@ -0,0 +1,250 @@
+package com.satch_navida.myapplication.validation.rules;
+
+/**
+ * A reusable container where a {@link StatelessRule} writes the outcome of its evaluation. Since the
+ * rule itself holds no state, a single context could be reused for every rule and every field of a
+ * validation run, so long as it is {@link #reset() reset} before each rule.<br>
+ * <br>
+ * The context also keeps the value of the field converted to a number, parsed only once however
+ * many numeric rules the field has. It must be {@link #clearValue() cleared} before each field.<br>
+ * <br>
+ * A {@link CrossFieldRule} reads the values of the other fields through the context, once the
+ * context is {@link #bind(Object[], long[]) bound} to the values of a run. The values are looked up
+ * once per run and shared by every rule that reads them.<br>
+ * <br>
+ * A {@code RuleContext} is not thread-safe; each thread running a validation should own its context.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class RuleContext {
+	// PRIVATE VARIABLES
+	/**
+	 * Identifies whether the validation is a success or not.
+	 */
+	private boolean valid = false;
+	/**
+	 * Identifies whether to run the other validations or stop at this specific one.
+	 */
+	private boolean runOtherValidations = true;
+	/**
+	 * The value last converted through {@link #isNumeric(Object)} or {@link #toDouble(Object)}.
+	 */
+	private Object value;
+	/**
+	 * Identifies whether {@link #value} is a number.
+	 */
+	private boolean numeric;
+	/**
+	 * The {@link #value} converted to a number.
+	 */
+	private double number;
+	/**
+	 * The values of every field of the run, as bound through {@link #bind(Object[], long[])}.
+	 */
+	private Object[] values;
+	/**
+	 * The failed rules of every field validated so far during the run.
+	 */
+	private long[] failures;
+	/**
+	 * The fields read by the rule being evaluated, as indices within {@link #values}.
+	 */
+	private int[] references;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an empty instance of {@code RuleContext}.
+	 */
+	public RuleContext() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Resets this context to the same defaults as a newly created {@link Rule}: not valid, and
+	 * allowing the other validations to run.
+	 *
+	 * @return RuleContext This instance of {@code RuleContext}.
+	 */
+	public RuleContext reset() {
+		this.valid = false;
+		this.runOtherValidations = true;
+
+		return this;
+	}
+
+	/**
+	 * Forgets the value converted to a number, such as before validating another field. Unlike
+	 * {@link #reset()}, this is not needed between the rules of the same field.
+	 *
+	 * @return RuleContext This instance of {@code RuleContext}.
+	 */
+	public RuleContext clearValue() {
+		this.value = null;
+
+		return this;
+	}
+
+	/**
+	 * Binds this context to the values of a run, so that a {@link CrossFieldRule} could read the
+	 * other fields. Both arrays are read as they are when a rule reads them, not copied.
+	 *
+	 * @param values The value of every field, indexed by the fields of the schema. An absent field is {@code null}.
+	 * @param failures The failed rules of every field with rules, indexed the same way as {@code values}.
+	 *
+	 * @return RuleContext This instance of {@code RuleContext}.
+	 */
+	public RuleContext bind(Object[] values, long[] failures) {
+		this.values = values;
+		this.failures = failures;
+
+		return this;
+	}
+
+	/**
+	 * Sets the fields read by the rule about to be evaluated, in the same order as returned by
+	 * {@link CrossFieldRule#getReferencedFields(Object[])}.
+	 *
+	 * @param references The indices of the fields within the bound values. Could be {@code null}.
+	 *
+	 * @return RuleContext This instance of {@code RuleContext}.
+	 */
+	public RuleContext setReferences(int[] references) {
+		this.references = references;
+
+		return this;
+	}
+
+	/**
+	 * Fetches the value of a field read by the rule being evaluated.
+	 *
+	 * @param index The index of the field, within the fields returned by {@link CrossFieldRule#getReferencedFields(Object[])}.
+	 *
+	 * @return Object The value of the field; or {@code null} if the field is absent.
+	 *
+	 * @throws IllegalStateException When this context is not bound to the values of a run.
+	 */
+	public Object getReference(int index) {
+		if (this.values == null || this.references == null)
+			throw new IllegalStateException("The rule reads other fields, and can only be run through a ValidationSchema.");
+
+		return this.values[this.references[index]];
+	}
+
+	/**
+	 * Identifies whether a field read by the rule being evaluated passed its own rules. The fields
+	 * are validated in the order of their dependencies; thus, a field read by a rule is always
+	 * validated before the rule is run. A field without rules, or not validated, always passes.
+	 *
+	 * @param index The index of the field, within the fields returned by {@link CrossFieldRule#getReferencedFields(Object[])}.
+	 *
+	 * @return boolean Returns {@code true} if the field passed; {@code false} otherwise.
+	 *
+	 * @throws IllegalStateException When this context is not bound to the values of a run.
+	 */
+	public boolean isReferenceValid(int index) {
+		if (this.values == null || this.references == null)
+			throw new IllegalStateException("The rule reads other fields, and can only be run through a ValidationSchema.");
+
+		int field = this.references[index];
+
+		return this.failures == null || field >= this.failures.length || this.failures[field] == 0;
+	}
+
+	/**
+	 * Identifies whether the given value is a finite number or can be converted to one. The value is
+	 * only parsed once until this context is {@link #clearValue() cleared}.
+	 *
+	 * @param value The value to test.
+	 *
+	 * @return boolean Returns {@code true} if the value is numeric; {@code false} otherwise.
+	 */
+	public boolean isNumeric(Object value) {
+		this.coerce(value);
+
+		return this.numeric;
+	}
+
+	/**
+	 * Converts the given value to a number. The value is only parsed once until this context is
+	 * {@link #clearValue() cleared}.
+	 *
+	 * @param value The value to convert.
+	 *
+	 * @return double The value as a number.
+	 *
+	 * @throws NumberFormatException When the value is not a finite number.
+	 */
+	public double toDouble(Object value) {
+		this.coerce(value);
+
+		if (!this.numeric)
+			throw new NumberFormatException("The value \"" + value + "\" is not a number.");
+
+		return this.number;
+	}
+
+	/**
+	 * Sets the validity value of the rule being evaluated.
+	 *
+	 * @param isValid {@code true} if the validation succeeded; {@code false} otherwise.
+	 */
+	public void setValid(boolean isValid) {
+		this.valid = isValid;
+	}
+
+	/**
+	 * Identifies whether the evaluated rule is valid or invalid.
+	 *
+	 * @return boolean Returns {@code true} if the test passes; {@code false} otherwise.
+	 */
+	public boolean isValid() {
+		return this.valid;
+	}
+
+	/**
+	 * Sets whether the other validations should continue or skip all the others.
+	 *
+	 * @param shouldRun A boolean value which dictates whether to continue the validation or skip all the others.
+	 */
+	public void setRunOtherValidations(boolean shouldRun) {
+		this.runOtherValidations = shouldRun;
+	}
+
+	/**
+	 * Identifies whether the other validations should continue after the evaluated rule.
+	 *
+	 * @return boolean The value of the said variable.
+	 */
+	public boolean shouldRunOtherValidations() {
+		return this.runOtherValidations;
+	}
+
+	/**
+	 * Packs the outcome written on this context into a result.
+	 *
+	 * @return int The packed result, as described by {@link RuleResult}.
+	 */
+	public int result() {
+		return RuleResult.of(this.valid, this.runOtherValidations);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Converts the given value to a number, unless it is the same value converted last.
+	 *
+	 * @param value The value to convert.
+	 */
+	private void coerce(Object value) {
+		if (value == this.value && value != null)
+			return;
+
+		this.value = value;
+		this.number = Numeric.parse(value);
+		// A number that overflows, such as 1e400, is not one that could be validated or converted.
+		this.numeric = Double.isFinite(this.number);
+	}
+}
@@ -0,0 +1,24 @@
+package com.satch_navida.myapplication.validation.rules;
+
+/**
+ * Creates a new instance of a {@link Rule}. Every rule class shipped within this package has a
+ * constructor matching this signature, and thus, a constructor reference such as
+ * {@code Required::new} can be used as a factory without going through reflection.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface RuleFactory {
+	/**
+	 * Creates the rule for the given field.
+	 *
+	 * @param key A unique identifier (ID) of value being tested.
+	 * @param value The value that will be tested.
+	 * @param message A message that will be displayed when the test fails.
+	 * @param validatorValues An array of {@link Object}s that will be used to test against the {@code value}.
+	 *
+	 * @return Rule A new instance of the rule, ready to be validated.
+	 */
+	public Rule create(String key, Object value, String message, Object[] validatorValues);
+}
@@ -3,6 +3,18 @@ package com.satch_navida.myapplication.validation.rules;
 import java.util.HashMap;
 
 public interface RuleInterface {
+	/**
+	 * Runs the validation of the rule without building any intermediate objects. The message of a
+	 * failed rule is only built when asked through {@link Rule#getMessage()}.
+	 *
+	 * @return int The result packed as the bits of {@link RuleResult}.
+	 * <ul>
+	 *     <li><b>{@link RuleResult#VALID}</b> - Identifies whether the test passes or not.</li>
+	 *     <li><b>{@link RuleResult#RUN_OTHER_VALIDATIONS}</b> - Identifies whether to continue running other validations or stop at that last rule.</li>
+	 * </ul>
+	 */
+	public int check() throws Exception;
+
 	/**
 	 *  Runs the validation of the rule.
 	 *
@@ -12,6 +24,9 @@ public interface RuleInterface {
 	 *     <li><b>{@code message}</b> - Provides the error message when the test failed. Otherwise, returns an empty string.</li>
 	 *     <li><b>{@code runOtherValidation}</b> - Identifies whether to continue running other validations or stop at that last rule.</li>
 	 * </ul>
+	 *
+	 * @deprecated Allocates a new map on every call. Use {@link #check()} instead.
 	 */
+	@Deprecated
 	public HashMap<String, Object> validate() throws Exception;
 }
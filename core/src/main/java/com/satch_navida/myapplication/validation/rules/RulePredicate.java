@@ -0,0 +1,23 @@
+package com.satch_navida.myapplication.validation.rules;
+
+/**
+ * A plain test of a value, allowing a rule to be written as a lambda instead of a new subclass of
+ * {@link Rule}. Predicates are registered through {@link com.satch_navida.myapplication.validation.RuleRegistry RuleRegistry}
+ * and are then wrapped into a {@link PredicateRule} when validated.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface RulePredicate {
+	/**
+	 * Tests the given value.
+	 *
+	 * @param value The value that will be tested.
+	 * @param validatorValues An array of {@link Object}s that will be used to test against the
+	 *                        {@code value}. Could be {@code null}.
+	 *
+	 * @return boolean Returns {@code true} if the test passes; {@code false} otherwise.
+	 */
+	public boolean test(Object value, Object[] validatorValues);
+}
@@ -0,0 +1,78 @@
+package com.satch_navida.myapplication.validation.rules;
+
+/**
+ * The packed result of a rule, as returned by {@link RuleInterface#check()}. Instead of building a
+ * map for each validation, the outcome is packed into the bits of a single {@code int}:
+ * <ul>
+ *     <li><b>{@link #VALID}</b> - Set when the test passes.</li>
+ *     <li><b>{@link #RUN_OTHER_VALIDATIONS}</b> - Set when the other validations should continue running.</li>
+ * </ul>
+ * The message of a failed rule is not part of the result and is only built when asked through
+ * {@link Rule#getMessage()}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class RuleResult {
+	// PUBLIC VARIABLES
+	/**
+	 * The bit identifying whether the test passes or not.
+	 */
+	public static final int VALID = 1;
+	/**
+	 * The bit identifying whether to continue running other validations or stop at that last rule.
+	 */
+	public static final int RUN_OTHER_VALIDATIONS = 1 << 1;
+	/**
+	 * A passing result that continues on with the other validations.
+	 */
+	public static final int PASSED = VALID | RUN_OTHER_VALIDATIONS;
+	/**
+	 * A failing result that continues on with the other validations.
+	 */
+	public static final int FAILED = RUN_OTHER_VALIDATIONS;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Prevents instantiation as this class only holds constants and static helpers.
+	 */
+	private RuleResult() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Packs the given values into a result.
+	 *
+	 * @param valid Identifies whether the test passes or not.
+	 * @param runOtherValidations Identifies whether to continue running other validations or not.
+	 *
+	 * @return int The packed result.
+	 */
+	public static int of(boolean valid, boolean runOtherValidations) {
+		return (valid ? VALID : 0) | (runOtherValidations ? RUN_OTHER_VALIDATIONS : 0);
+	}
+
+	/**
+	 * Identifies whether the given result passed.
+	 *
+	 * @param result The packed result.
+	 *
+	 * @return boolean Returns {@code true} if the test passes; {@code false} otherwise.
+	 */
+	public static boolean isValid(int result) {
+		return (result & VALID) != 0;
+	}
+
+	/**
+	 * Identifies whether the other validations should still run after the given result.
+	 *
+	 * @param result The packed result.
+	 *
+	 * @return boolean Returns {@code true} if the other validations should run; {@code false} otherwise.
+	 */
+	public static boolean shouldRunOtherValidations(int result) {
+		return (result & RUN_OTHER_VALIDATIONS) != 0;
+	}
+}
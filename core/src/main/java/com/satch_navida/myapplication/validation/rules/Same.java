@@ -0,0 +1,107 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tests whether the {@code value} provided is written the same as the value of another field;
+ * such as {@code Same:password} on a confirmation field.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Same extends Rule implements RuleInterface {
+
+	// PRIVATE VARIABLES
+	/**
+	 * The names of the placeholders of the validator values.
+	 */
+	private static final String[] PLACEHOLDERS = {"other"};
+
+	// PUBLIC VARIABLES
+	/**
+	 * The shared, stateless counterpart of this rule.
+	 */
+	public static final StatelessRule STATELESS = new CrossFieldRule() {
+		@Override
+		public void evaluate(String field, Object value, Object[] params, RuleContext context) {
+			// A field that failed its own rules is already reported there.
+			if (!context.isReferenceValid(0)) {
+				context.setValid(true);
+				return;
+			}
+
+			context.setValid(isSameText(value, context.getReference(0)));
+		}
+
+		@Override
+		public String[] getReferencedFields(Object[] validatorValues) {
+			if (validatorValues == null || validatorValues.length < 1)
+				throw new IllegalArgumentException("Not enough validator value passed:\tNeeds 1, only 0 is passed.");
+
+			return new String[] {validatorValues[0].toString()};
+		}
+
+		@Override
+		public String[] getPlaceholders() {
+			return PLACEHOLDERS;
+		}
+
+		@Override
+		public int getCost() {
+			return COST_CHEAP;
+		}
+
+		@Override
+		public boolean canStopValidation() {
+			return false;
+		}
+
+		@Override
+		public String getDefaultMessage() {
+			return "The :key and :other must match";
+		}
+	};
+
+	// OVERRIDE VARIABLES
+	protected String message = "The :key and :other must match";
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link Rule}, containing all the necessary parameters: the
+	 * {@code key} and {@code value}, and optional parameters: {@code message} and {@code validatorValues}.<br>
+	 *
+	 * @param key A unique identifier (ID) of value being tested.
+	 * @param value The value that will be tested.
+	 * @param message A message that will be displayed when the test fails.
+	 * @param validatorValues An array of {@link Object}s that will be used to test against the {@code value}.
+	 */
+	public Same(@NotNull String key, @NotNull Object value, @Nullable String message, @Nullable Object[] validatorValues) {
+		super(key, value, message, validatorValues);
+	}
+
+	// PUBLIC METHOD
+
+	@Override
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * As this rule reads another field, it can only be run through a {@code ValidationSchema}.
+	 *
+	 * @throws IllegalStateException When run on its own.
+	 */
+	public int check() throws Exception {
+		return this.check(STATELESS);
+	}
+
+	// PROTECTED
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getFinalMessage() {
+		return MessageTemplate.compile(this.message, PLACEHOLDERS).render(this.key, this.value, this.validatorValues);
+	}
+}
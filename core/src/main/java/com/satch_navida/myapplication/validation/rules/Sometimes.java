@@ -3,7 +3,6 @@ package com.satch_navida.myapplication.validation.rules;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 
 /**
  * Works similar as the {@link Required} rule but only works if the value is present.
@@ -13,6 +12,31 @@ import java.util.HashMap;
  */
 public class Sometimes extends Rule implements RuleInterface {
 
+	// PUBLIC VARIABLES
+	/**
+	 * The shared, stateless counterpart of this rule.
+	 */
+	public static final StatelessRule STATELESS = new StatelessRule() {
+		@Override
+		public void evaluate(String field, Object value, Object[] params, RuleContext context) {
+			context.setRunOtherValidations(false);
+			context.setValid(true);
+
+			if (!isEmpty(value) || value != null)
+				context.setRunOtherValidations(true);
+		}
+
+		@Override
+		public int getCost() {
+			return COST_CHEAP;
+		}
+
+		@Override
+		public boolean canStopValidation() {
+			return false;
+		}
+	};
+
 	// OVERRIDE VARIABLES
 	protected String message = "The :key field is required to have a value, or leave it as blank";
 
@@ -37,20 +61,7 @@ public class Sometimes extends Rule implements RuleInterface {
 	/**
 	 * {@inheritDoc}
 	 */
-	public HashMap<String, Object> validate() {
-		this.setRunOtherValidations(false);
-		this.setValid(true);
-
-		if (!this.value.toString().isEmpty() || this.value != null)
-			this.setRunOtherValidations(true);
-
-
-		return new HashMap<String, Object>() {
-			{
-				this.put(Rule.VALIDATED_KEYS[0], isValid());
-				this.put(Rule.VALIDATED_KEYS[1], isValid() ? "" : getFinalMessage());
-				this.put(Rule.VALIDATED_KEYS[2], getRunOtherValidations());
-			}
-		};
+	public int check() throws Exception {
+		return this.check(STATELESS);
 	}
 }
@@ -0,0 +1,100 @@
+package com.satch_navida.myapplication.validation.rules;
+
+/**
+ * A rule that holds no state of its own. Unlike a {@link Rule}, which is created for every field,
+ * value and run, a single instance of a {@code StatelessRule} is shared by every validation; the
+ * field, value and validator values are passed on each evaluation, and the outcome is written on a
+ * reusable {@link RuleContext}.<br>
+ * <br>
+ * Implementations must not keep any mutable state, as the same instance could be evaluated by
+ * many threads at once.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public interface StatelessRule {
+	// PUBLIC VARIABLES
+	/**
+	 * The cost of a rule that only checks the value as it is, such as {@code Required}.
+	 */
+	public static final int COST_CHEAP = 1;
+	/**
+	 * The cost of a rule that parses the value, such as {@code Numeric}. This is the default cost.
+	 */
+	public static final int COST_MODERATE = 10;
+	/**
+	 * The cost of a rule that does heavy work, such as matching a pattern or looking something up.
+	 */
+	public static final int COST_EXPENSIVE = 100;
+
+	/**
+	 * Evaluates the rule against the given value, writing the outcome on the {@code context}. The
+	 * {@code context} is expected to be {@link RuleContext#reset() reset} before this is called.
+	 *
+	 * @param field A unique identifier (ID) of value being tested.
+	 * @param value The value that will be tested.
+	 * @param params An array of {@link Object}s that will be used to test against the {@code value}. Could be {@code null}.
+	 * @param context The context where the outcome will be written on.
+	 *
+	 * @throws Exception When the rule could not be evaluated, such as having incorrect {@code params}.
+	 */
+	public void evaluate(String field, Object value, Object[] params, RuleContext context) throws Exception;
+
+	/**
+	 * Prepares the validator values of this rule once, when the rules are compiled, such as parsing
+	 * the numeric ones through {@link NumberParameter#parseAll(Object[])}. The returned values are the
+	 * ones given to every {@link #evaluate(String, Object, Object[], RuleContext) evaluation}.
+	 *
+	 * @param validatorValues The validator values, as written on the rules. Could be {@code null}.
+	 *
+	 * @return Object[] The prepared validator values. Could be {@code null}.
+	 */
+	public default Object[] compileValidatorValues(Object[] validatorValues) {
+		return validatorValues;
+	}
+
+	/**
+	 * Fetches the names of the placeholders of the validator values, without the colon, in the same
+	 * order as the validator values; such as {@code {"min", "max"}}. The placeholders {@code :key} and
+	 * {@code :value} are always available and need not be included.
+	 *
+	 * @return String[] The names of the placeholders.
+	 *
+	 * @see MessageTemplate
+	 */
+	public default String[] getPlaceholders() {
+		return null;
+	}
+
+	/**
+	 * Fetches the relative cost of evaluating this rule. Within a field, cheaper rules are run first,
+	 * so that an expensive rule could be skipped once a cheap one already failed.
+	 *
+	 * @return int The cost; such as {@link #COST_CHEAP}, {@link #COST_MODERATE} or {@link #COST_EXPENSIVE}.
+	 */
+	public default int getCost() {
+		return COST_MODERATE;
+	}
+
+	/**
+	 * Identifies whether this rule could stop the other rules of a field from running, by failing
+	 * while not allowing the other validations to run. Such a rule is never reordered, and no rule is
+	 * moved across it, as that could change which rules are run.<br>
+	 * <br>
+	 * Defaults to {@code true}, as it is the only safe assumption for an unknown rule.
+	 *
+	 * @return boolean Returns {@code true} if the rule could stop the field; {@code false} otherwise.
+	 */
+	public default boolean canStopValidation() {
+		return true;
+	}
+
+	/**
+	 * Fetches the message used when no custom message is provided for this rule.
+	 *
+	 * @return String The default message.
+	 */
+	public default String getDefaultMessage() {
+		return Rule.DEFAULT_MESSAGE;
+	}
+}
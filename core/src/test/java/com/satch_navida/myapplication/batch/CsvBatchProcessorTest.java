@@ -0,0 +1,67 @@
+package com.satch_navida.myapplication.batch;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the rows of a CSV file are validated and computed the same way as the form.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class CsvBatchProcessorTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void process_writesBmiOfValidRows() throws IOException {
+		List<String> lines = this.process("70,kg,175,cm\n");
+
+		assertEquals(1, lines.size());
+		assertTrue(lines.get(0), lines.get(0).startsWith("1,22.8"));
+	}
+
+	@Test
+	public void process_failsNonFiniteValues() throws IOException {
+		List<String> lines = this.process("1e400,kg,175,cm\n70,kg,1e400,cm\n1e308,kg,1,cm\n");
+
+		assertEquals(3, lines.size());
+		for (String line : lines)
+			assertTrue(line, !line.contains("Infinity") && line.matches("\\d+,,,\".+\"$"));
+	}
+
+	@Test
+	public void process_appliesMinimumInTheUnitOfTheRow() throws IOException {
+		List<String> lines = this.process("500,g,175,cm\n2500,g,1750,mm\n70,kg,0.5,cm\n");
+
+		assertEquals(3, lines.size());
+		assertTrue(lines.get(0), lines.get(0).matches("1,,,\".+\"$"));
+		assertTrue(lines.get(1), lines.get(1).startsWith("2,0.8"));
+		assertTrue(lines.get(2), lines.get(2).matches("3,,,\".+\"$"));
+	}
+
+	private List<String> process(String csv) throws IOException {
+		Path input = this.folder.newFile("input.csv").toPath();
+		Path output = this.folder.getRoot().toPath().resolve("output.csv");
+		Files.write(input, csv.getBytes(StandardCharsets.US_ASCII));
+
+		BatchReport report = new CsvBatchProcessor().process(input, output, false);
+		List<String> lines = Files.readAllLines(output, StandardCharsets.US_ASCII);
+
+		// Skips the header of the output.
+		assertEquals("line,bmi,category,errors", lines.get(0));
+		assertEquals(lines.size() - 1, report.rows());
+
+		return lines.subList(1, lines.size());
+	}
+}
@@ -0,0 +1,156 @@
+package com.satch_navida.myapplication.bmi;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the search of a {@link BmiClassifier} finds the number of cutoffs a BMI reached, on
+ * and around every cutoff and whatever the size of the table, and that the unrolled categories of
+ * {@link BmiEngine} are exactly those of {@link BmiClassifier#WHO}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class BmiClassifierTest {
+	@Test
+	public void classify_whoOnAndAroundEveryCutoff() {
+		BmiClassifier who = BmiClassifier.WHO;
+
+		assertEquals(0, who.classify(Math.nextDown(18.5)));
+		assertEquals(1, who.classify(18.5));
+		assertEquals(1, who.classify(Math.nextUp(18.5)));
+		assertEquals(1, who.classify(Math.nextDown(25.0)));
+		assertEquals(2, who.classify(25.0));
+		assertEquals(2, who.classify(Math.nextDown(30.0)));
+		assertEquals(3, who.classify(30.0));
+		assertEquals(3, who.classify(Math.nextUp(30.0)));
+	}
+
+	@Test
+	public void classify_asiaPacificOnAndAroundEveryCutoff() {
+		// Four cutoffs, padded up to seven.
+		BmiClassifier asia = BmiClassifier.ASIA_PACIFIC;
+		double[] cutoffs = asia.getCutoffs();
+
+		for (int i = 0; i < cutoffs.length; i++) {
+			assertEquals(i, asia.classify(Math.nextDown(cutoffs[i])));
+			assertEquals(i + 1, asia.classify(cutoffs[i]));
+			assertEquals(i + 1, asia.classify(Math.nextUp(cutoffs[i])));
+		}
+
+		assertEquals("Obese I", asia.nameOf(asia.classify(27.5)));
+		assertEquals("Obese II", asia.nameOf(asia.classify(31)));
+	}
+
+	@Test
+	public void classify_edgesOfTheDoubles() {
+		for (BmiClassifier classifier : new BmiClassifier[] {BmiClassifier.WHO, BmiClassifier.ASIA_PACIFIC}) {
+			int last = classifier.getCutoffs().length;
+
+			// An infinite BMI goes past the padding, yet still falls into the last category.
+			assertEquals(last, classifier.classify(Double.POSITIVE_INFINITY));
+			assertEquals(last, classifier.classify(Double.MAX_VALUE));
+			assertEquals(0, classifier.classify(Double.NEGATIVE_INFINITY));
+			assertEquals(0, classifier.classify(0.0));
+			assertEquals(0, classifier.classify(-0.0));
+			// A NaN reaches no cutoff.
+			assertEquals(0, classifier.classify(Double.NaN));
+		}
+	}
+
+	@Test
+	public void classify_matchesALinearCountForEverySize() {
+		for (int size = 0; size <= 9; size++) {
+			double[] cutoffs = new double[size];
+			String[] categories = new String[size + 1];
+			for (int i = 0; i < size; i++)
+				cutoffs[i] = 10 + i * 2.5;
+			for (int i = 0; i <= size; i++)
+				categories[i] = "C" + i;
+
+			BmiClassifier classifier = new BmiClassifier("Size " + size, cutoffs, categories);
+
+			for (double bmi : probesOf(cutoffs))
+				assertEquals("BMI " + bmi + " of " + size + " cutoffs", countReached(cutoffs, bmi), classifier.classify(bmi));
+		}
+	}
+
+	@Test
+	public void classify_batchMatchesSingle() {
+		double[] bmi = probesOf(BmiClassifier.ASIA_PACIFIC.getCutoffs());
+		byte[] categories = new byte[bmi.length + 2];
+
+		BmiClassifier.ASIA_PACIFIC.classify(bmi, categories, 1, bmi.length - 1);
+
+		assertEquals(0, categories[0]);
+		for (int i = 1; i < bmi.length; i++)
+			assertEquals(BmiClassifier.ASIA_PACIFIC.classify(bmi[i]), categories[i]);
+	}
+
+	@Test
+	public void engine_agreesWithWho() {
+		BmiClassifier who = BmiClassifier.WHO;
+
+		for (double bmi : probesOf(who.getCutoffs()))
+			assertEquals("BMI " + bmi, who.classify(bmi), BmiEngine.classify(bmi));
+
+		for (double bmi = 10; bmi <= 45; bmi += 0.01)
+			assertEquals("BMI " + bmi, who.classify(bmi), BmiEngine.classify(bmi));
+
+		String[] names = who.getCategories();
+		assertEquals(BmiEngine.OBESE + 1, names.length);
+		for (byte category = BmiEngine.UNDERWEIGHT; category <= BmiEngine.OBESE; category++)
+			assertEquals(names[category], BmiEngine.nameOf(category));
+
+		assertArrayEquals(new byte[] {BmiEngine.UNDERWEIGHT, BmiEngine.HEALTHY_WEIGHT, BmiEngine.OVERWEIGHT, BmiEngine.OBESE},
+				new byte[] {who.classify(17), who.classify(22), who.classify(27), who.classify(35)});
+	}
+
+	@Test
+	public void nameOf_rejectsAnUnknownCategory() {
+		for (byte category : new byte[] {-1, 4}) {
+			try {
+				BmiEngine.nameOf(category);
+				fail("The name of the category " + category + " was found.");
+			} catch (IllegalArgumentException expected) {
+			}
+		}
+	}
+
+	/**
+	 * Lists the BMIs worth probing around the given cutoffs: each cutoff, the doubles right next to
+	 * it, and the edges of the doubles.
+	 */
+	private static double[] probesOf(double[] cutoffs) {
+		double[] probes = new double[cutoffs.length * 3 + 6];
+		int count = 0;
+
+		for (double cutoff : cutoffs) {
+			probes[count++] = Math.nextDown(cutoff);
+			probes[count++] = cutoff;
+			probes[count++] = Math.nextUp(cutoff);
+		}
+
+		probes[count++] = Double.NEGATIVE_INFINITY;
+		probes[count++] = -1;
+		probes[count++] = 0;
+		probes[count++] = 100;
+		probes[count++] = Double.MAX_VALUE;
+		probes[count] = Double.POSITIVE_INFINITY;
+
+		return probes;
+	}
+
+	private static int countReached(double[] cutoffs, double bmi) {
+		int reached = 0;
+		for (double cutoff : cutoffs) {
+			if (cutoff <= bmi)
+				reached++;
+		}
+
+		return reached;
+	}
+}
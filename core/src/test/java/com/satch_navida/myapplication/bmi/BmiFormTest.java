@@ -0,0 +1,95 @@
+package com.satch_navida.myapplication.bmi;
+
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.validation.IncrementalValidator;
+import com.satch_navida.myapplication.validation.Validator;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the minimum weight and height of the form apply to the value in the Metric System,
+ * rather than to the number as written in whatever unit is selected.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class BmiFormTest {
+	@Test
+	public void weight_minimumAppliesInKilograms() {
+		assertTrue(passes("1", "kg", "175", "cm"));
+		assertFalse(passes("0.9", "kg", "175", "cm"));
+		assertFalse(passes("500", "g", "175", "cm"));
+		assertTrue(passes("1000", "g", "175", "cm"));
+		assertTrue(passes("0.5", "st", "175", "cm"));
+		assertFalse(passes("2", "lb", "175", "cm"));
+		assertTrue(passes("2.5", "lbs", "175", "cm"));
+	}
+
+	@Test
+	public void height_minimumAppliesInMeters() {
+		assertTrue(passes("70", "kg", "1.75", "m"));
+		assertTrue(passes("70", "kg", "0.01", "m"));
+		assertFalse(passes("70", "kg", "0.005", "m"));
+		assertTrue(passes("70", "kg", "1750", "mm"));
+		assertFalse(passes("70", "kg", "5", "mm"));
+		assertTrue(passes("70", "kg", "1", "cm"));
+		assertFalse(passes("70", "kg", "0.5", "cm"));
+		assertTrue(passes("70", "kg", "5'11\"", "ft/in"));
+	}
+
+	@Test
+	public void minimum_messageNamesTheUnitOfTheRule() {
+		Validator validator = BmiForm.schema().bind(valuesOf("500", "g", "0.5", "cm"));
+
+		assertTrue(validator.fails());
+
+		assertEquals("The value should be no less than 1 kg.", validator.first(BmiForm.WEIGHT_VALUE));
+		assertEquals("The value should be no less than 1 cm.", validator.first(BmiForm.HEIGHT_VALUE));
+	}
+
+	@Test
+	public void minimum_leavesAnUnknownUnitToItsOwnField() {
+		Validator validator = BmiForm.schema().bind(valuesOf("0.1", "oz", "175", "cm"));
+
+		assertTrue(validator.fails());
+
+		assertArrayEquals(new String[] {BmiForm.WEIGHT_UNIT}, validator.invalidFields());
+		assertEquals("The weight type is not supported.", validator.first(BmiForm.WEIGHT_UNIT));
+	}
+
+	@Test
+	public void minimum_isCheckedAgainWhenTheUnitChanges() {
+		IncrementalValidator validator = BmiForm.schema().incremental();
+
+		assertTrue(validator.validate(BmiForm.WEIGHT_UNIT, "kg"));
+		assertTrue(validator.validate(BmiForm.WEIGHT_VALUE, "500"));
+
+		validator.validate(BmiForm.WEIGHT_UNIT, "g");
+		assertFalse(validator.passes(BmiForm.WEIGHT_VALUE));
+
+		validator.validate(BmiForm.WEIGHT_UNIT, "kg");
+		assertTrue(validator.passes(BmiForm.WEIGHT_VALUE));
+	}
+
+	private static boolean passes(String weight, String weightUnit, String height, String heightUnit) {
+		return !BmiForm.schema().bind(valuesOf(weight, weightUnit, height, heightUnit)).fails();
+	}
+
+	private static Map<String, Object> valuesOf(String weight, String weightUnit, String height, String heightUnit) {
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put(BmiForm.WEIGHT_VALUE, weight);
+		values.put(BmiForm.WEIGHT_UNIT, weightUnit);
+		values.put(BmiForm.HEIGHT_VALUE, BmiForm.heightOf(height, HeightUnit.find(heightUnit)));
+		values.put(BmiForm.HEIGHT_UNIT, heightUnit);
+
+		return values;
+	}
+}
@@ -0,0 +1,110 @@
+package com.satch_navida.myapplication.history;
+
+import com.satch_navida.myapplication.stats.BmiStatistics;
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that a {@link HistoryRecorder} loads the history once in the background, keeps its
+ * statistics up to date with every measurement it records, and saves them to the file.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class HistoryRecorderTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void whenLoaded_completesWithTheHistoryInTheStatistics() throws Exception {
+		Path file = this.folder.getRoot().toPath().resolve("history.bin");
+		try (HistoryStore store = HistoryStore.open(file)) {
+			append(store, 1_000L, 20);
+			append(store, 2_000L, 22);
+			append(store, 3_000L, 24);
+		}
+
+		HistoryRecorder recorder = HistoryRecorder.open(file);
+		try {
+			recorder.whenLoaded().get(10, TimeUnit.SECONDS);
+
+			BmiStatistics.Snapshot snapshot = recorder.snapshot(HistoryStore.DEFAULT_PROFILE).get(10, TimeUnit.SECONDS);
+			assertEquals(3, snapshot.getCount());
+			assertEquals(22, snapshot.getMean(), 1e-12);
+		} finally {
+			recorder.close();
+		}
+	}
+
+	@Test
+	public void record_addsToTheStatisticsAndTheFile() throws Exception {
+		Path file = this.folder.getRoot().toPath().resolve("history.bin");
+
+		HistoryRecorder recorder = HistoryRecorder.open(file);
+		try {
+			// Recorded right away, even while the history could still be loading.
+			CompletableFuture<BmiStatistics.Snapshot> first = record(recorder, 1_000L, 20);
+			CompletableFuture<BmiStatistics.Snapshot> second = record(recorder, 2_000L, 30);
+
+			assertEquals(1, first.get(10, TimeUnit.SECONDS).getCount());
+			assertEquals(2, second.get(10, TimeUnit.SECONDS).getCount());
+			assertEquals(25, second.get().getMean(), 1e-12);
+		} finally {
+			recorder.close();
+		}
+
+		// Each measurement was flushed as it was recorded.
+		try (HistoryStore store = HistoryStore.open(file)) {
+			assertEquals(2, store.size());
+		}
+	}
+
+	@Test
+	public void record_keepsTheStatisticsWhenTheFileCannotBeOpened() throws Exception {
+		Path file = this.folder.getRoot().toPath().resolve("notes.txt");
+		byte[] text = "Not a BMI history".getBytes(StandardCharsets.US_ASCII);
+		Files.write(file, text);
+
+		HistoryRecorder recorder = HistoryRecorder.open(file);
+		try {
+			recorder.whenLoaded().get(10, TimeUnit.SECONDS);
+
+			assertEquals(1, record(recorder, 1_000L, 20).get(10, TimeUnit.SECONDS).getCount());
+		} finally {
+			recorder.close();
+		}
+
+		// Left as it was.
+		assertArrayEquals(text, Files.readAllBytes(file));
+	}
+
+	@Test
+	public void close_canBeCalledTwice() {
+		HistoryRecorder recorder = HistoryRecorder.open(this.folder.getRoot().toPath().resolve("history.bin"));
+
+		recorder.close();
+		recorder.close();
+	}
+
+	private static void append(HistoryStore store, long timestamp, double bmi) throws IOException {
+		store.append(HistoryStore.DEFAULT_PROFILE, timestamp, 70, 1.75, bmi, (byte) 1, WeightUnit.KILOGRAM, HeightUnit.CENTIMETER);
+	}
+
+	private static CompletableFuture<BmiStatistics.Snapshot> record(HistoryRecorder recorder, long timestamp, double bmi) {
+		return recorder.record(HistoryStore.DEFAULT_PROFILE, timestamp, 70, 1.75, bmi, (byte) 1, WeightUnit.KILOGRAM, HeightUnit.CENTIMETER);
+	}
+}
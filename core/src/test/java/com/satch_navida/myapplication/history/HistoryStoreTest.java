@@ -0,0 +1,246 @@
+package com.satch_navida.myapplication.history;
+
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the measurements appended to a {@link HistoryStore} are scanned back as they were,
+ * and that a file that died while being written is recovered up to its last whole record.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class HistoryStoreTest {
+	/**
+	 * The size of the header, as laid out by the store.
+	 */
+	private static final int HEADER_SIZE = 16;
+	/**
+	 * The size of a record, as laid out by the store.
+	 */
+	private static final int RECORD_SIZE = 48;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void scan_readsBackWhatWasAppended() throws IOException {
+		Path file = this.folder.getRoot().toPath().resolve("history.bin");
+		Measurement first = new Measurement(0, 1_000L, 70.5, 1.75, 23.02, (byte) 1, WeightUnit.KILOGRAM, HeightUnit.CENTIMETER);
+		Measurement second = new Measurement(3, 2_000L, 100, 1.8, 30.86, (byte) 3, WeightUnit.POUND, HeightUnit.FEET_AND_INCHES);
+
+		try (HistoryStore store = HistoryStore.open(file)) {
+			store.append(first).append(second);
+
+			assertEquals(2, store.size());
+			assertMeasurements(store.scan(Long.MIN_VALUE, Long.MAX_VALUE), first, second);
+		}
+
+		// Read again from the file, once closed.
+		try (HistoryStore store = HistoryStore.open(file)) {
+			assertEquals(2, store.size());
+			assertMeasurements(store.scan(Long.MIN_VALUE, Long.MAX_VALUE), first, second);
+		}
+	}
+
+	@Test
+	public void scan_filtersByProfileAndTime() throws IOException {
+		try (HistoryStore store = HistoryStore.open(this.folder.getRoot().toPath().resolve("history.bin"))) {
+			for (int i = 0; i < 100; i++)
+				append(store, i % 3, i * 10L);
+
+			assertArrayEquals(new long[] {300, 330, 360, 390}, timestampsOf(store.scan(0, 300, 400)));
+			assertArrayEquals(new long[] {310, 340, 370}, timestampsOf(store.scan(1, 300, 400)));
+			assertArrayEquals(new long[] {300, 310, 320, 330, 340, 350, 360, 370, 380, 390}, timestampsOf(store.scan(300, 400)));
+			assertArrayEquals(new long[0], timestampsOf(store.scan(7, Long.MIN_VALUE, Long.MAX_VALUE)));
+			assertArrayEquals(new long[0], timestampsOf(store.scan(400, 400)));
+		}
+	}
+
+	@Test
+	public void scan_crossesMappedWindows() throws IOException {
+		// More records than a single window of 1 << 18 records.
+		int records = (1 << 18) + 1_000;
+
+		try (HistoryStore store = HistoryStore.open(this.folder.getRoot().toPath().resolve("history.bin"))) {
+			for (int i = 0; i < records; i++)
+				append(store, i & 1, i);
+
+			HistoryStore.Cursor cursor = store.scan(Long.MIN_VALUE, Long.MAX_VALUE);
+			long expected = 0;
+			while (cursor.next()) {
+				assertEquals(expected, cursor.getTimestamp());
+				assertEquals(expected & 1, cursor.getProfile());
+				expected++;
+			}
+			assertEquals(records, expected);
+
+			// Only the profile 1, across the end of the first window.
+			cursor = store.scan(1, (1 << 18) - 10, (1 << 18) + 10);
+			expected = (1 << 18) - 9;
+			while (cursor.next()) {
+				assertEquals(expected, cursor.getTimestamp());
+				expected += 2;
+			}
+			assertEquals((1 << 18) + 11, expected);
+		}
+	}
+
+	@Test
+	public void open_dropsATruncatedRecord() throws IOException {
+		Path file = this.write(3);
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.truncate(HEADER_SIZE + 2 * RECORD_SIZE + RECORD_SIZE / 2);
+		}
+
+		try (HistoryStore store = HistoryStore.open(file)) {
+			assertEquals(2, store.size());
+			assertArrayEquals(new long[] {0, 1}, timestampsOf(store.scan(Long.MIN_VALUE, Long.MAX_VALUE)));
+
+			// Appends after the last whole record.
+			append(store, 0, 5);
+			assertArrayEquals(new long[] {0, 1, 5}, timestampsOf(store.scan(Long.MIN_VALUE, Long.MAX_VALUE)));
+		}
+
+		assertEquals(HEADER_SIZE + 3 * RECORD_SIZE, Files.size(file));
+	}
+
+	@Test
+	public void open_dropsARecordWithABadChecksum() throws IOException {
+		Path file = this.write(3);
+
+		// Changes the BMI of the last record, leaving its checksum as it was.
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}), HEADER_SIZE + 2 * RECORD_SIZE + 28);
+		}
+
+		try (HistoryStore store = HistoryStore.open(file)) {
+			assertEquals(2, store.size());
+			assertArrayEquals(new long[] {0, 1}, timestampsOf(store.scan(Long.MIN_VALUE, Long.MAX_VALUE)));
+		}
+
+		assertEquals(HEADER_SIZE + 2 * RECORD_SIZE, Files.size(file));
+	}
+
+	@Test
+	public void open_completesAPartialHeader() throws IOException {
+		Path file = this.write(0);
+		byte[] header = Files.readAllBytes(file);
+		Files.write(file, new byte[] {header[0], header[1], header[2], header[3], header[4]});
+
+		try (HistoryStore store = HistoryStore.open(file)) {
+			assertEquals(0, store.size());
+		}
+
+		assertArrayEquals(header, Files.readAllBytes(file));
+	}
+
+	@Test
+	public void open_rejectsAShortFileThatIsNotAHistory() throws IOException {
+		Path file = this.folder.getRoot().toPath().resolve("notes.txt");
+		byte[] text = "Not BMI".getBytes(StandardCharsets.US_ASCII);
+		Files.write(file, text);
+
+		try {
+			HistoryStore.open(file).close();
+			fail("A short file that is not a history file was opened.");
+		} catch (IOException e) {
+			assertEquals("Not a history file.", e.getMessage());
+		}
+
+		// Left as it was.
+		assertArrayEquals(text, Files.readAllBytes(file));
+	}
+
+	@Test
+	public void cursor_throwsWhenNotOnAMeasurement() throws IOException {
+		try (HistoryStore store = HistoryStore.open(this.write(1))) {
+			HistoryStore.Cursor cursor = store.scan(Long.MIN_VALUE, Long.MAX_VALUE);
+
+			try {
+				cursor.getBmi();
+				fail("The cursor was read before its first measurement.");
+			} catch (IllegalStateException expected) {
+			}
+
+			assertTrue(cursor.next());
+			assertFalse(cursor.next());
+
+			try {
+				cursor.getBmi();
+				fail("The cursor was read after its last measurement.");
+			} catch (IllegalStateException expected) {
+			}
+		}
+	}
+
+	/**
+	 * Writes a history file with the given number of records, timestamped from {@code 0}.
+	 */
+	private Path write(int records) throws IOException {
+		Path file = this.folder.getRoot().toPath().resolve("history.bin");
+
+		try (HistoryStore store = HistoryStore.open(file)) {
+			for (int i = 0; i < records; i++)
+				append(store, 0, i);
+		}
+
+		return file;
+	}
+
+	private static void append(HistoryStore store, int profile, long timestamp) throws IOException {
+		store.append(profile, timestamp, 70, 1.75, 22.86, (byte) 1, WeightUnit.KILOGRAM, HeightUnit.CENTIMETER);
+	}
+
+	private static long[] timestampsOf(HistoryStore.Cursor cursor) throws IOException {
+		long[] timestamps = new long[16];
+		int count = 0;
+
+		while (cursor.next()) {
+			if (count == timestamps.length)
+				timestamps = Arrays.copyOf(timestamps, count * 2);
+
+			timestamps[count++] = cursor.getTimestamp();
+		}
+
+		return Arrays.copyOf(timestamps, count);
+	}
+
+	private static void assertMeasurements(HistoryStore.Cursor cursor, Measurement... expected) throws IOException {
+		for (Measurement measurement : expected) {
+			assertTrue(cursor.next());
+
+			Measurement actual = cursor.toMeasurement();
+			assertEquals(measurement.getProfile(), actual.getProfile());
+			assertEquals(measurement.getTimestamp(), actual.getTimestamp());
+			assertEquals(measurement.getWeightKg(), actual.getWeightKg(), 0);
+			assertEquals(measurement.getHeightM(), actual.getHeightM(), 0);
+			assertEquals(measurement.getBmi(), actual.getBmi(), 0);
+			assertEquals(measurement.getCategory(), actual.getCategory());
+			assertEquals(measurement.getWeightUnit(), actual.getWeightUnit());
+			assertEquals(measurement.getHeightUnit(), actual.getHeightUnit());
+		}
+
+		assertFalse(cursor.next());
+	}
+}
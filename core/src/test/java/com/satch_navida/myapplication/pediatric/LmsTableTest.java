@@ -0,0 +1,88 @@
+package com.satch_navida.myapplication.pediatric;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that a table of the layout of the CDC {@code bmiagerev.csv} file is read and scored by the
+ * LMS method. The values are made up so that every z-score is easy to work out by hand; they are
+ * not a reference table.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class LmsTableTest {
+	private static final double DELTA = 1e-9;
+
+	private static final String TABLE = "Sex,Agemos,L,M,S,P50\n"
+			+ "1,24,1,16,0.1,16\n"
+			+ "1,36,1,18,0.1,18\n"
+			+ "1,48,0,20,0.1,20\n"
+			+ "Sex,Agemos,L,M,S,P50\n"
+			+ "2,48,-1,20,0.2,20\n"
+			+ "2,24,-1,16,0.2,16\n";
+
+	@Test
+	public void zScore_atAnAgeOfTheTable() throws IOException {
+		LmsTable table = parse(TABLE);
+
+		assertEquals(0, table.zScore(LmsTable.MALE, 24, 16), DELTA);
+		assertEquals(1, table.zScore(LmsTable.MALE, 24, 17.6), DELTA);
+		assertEquals(-1, table.zScore(LmsTable.MALE, 36, 16.2), DELTA);
+		// Where L is zero, the z-score is ln(BMI / M) / S.
+		assertEquals(Math.log(22.0 / 20) / 0.1, table.zScore(LmsTable.MALE, 48, 22), DELTA);
+		// (1 - (BMI / M)^L) / (L * S), with L = -1.
+		assertEquals((Math.pow(25.0 / 20, -1) - 1) / (-1 * 0.2), table.zScore(LmsTable.FEMALE, 48, 25), DELTA);
+	}
+
+	@Test
+	public void zScore_interpolatesBetweenAges() throws IOException {
+		LmsTable table = parse(TABLE);
+
+		// Halfway between 24 and 36 months, M is 17.
+		assertEquals(0, table.zScore(LmsTable.MALE, 30, 17), DELTA);
+		assertEquals(1, table.zScore(LmsTable.MALE, 30, 18.7), DELTA);
+		// A quarter of the way between 24 and 48 months, M is 17.
+		assertEquals(0, table.zScore(LmsTable.FEMALE, 30, 17), DELTA);
+	}
+
+	@Test
+	public void zScore_isNaNOutsideTheTable() throws IOException {
+		LmsTable table = parse(TABLE);
+
+		assertTrue(Double.isNaN(table.zScore(LmsTable.MALE, 23.9, 16)));
+		assertTrue(Double.isNaN(table.zScore(LmsTable.MALE, 48.1, 16)));
+		assertTrue(Double.isNaN(table.zScore(LmsTable.MALE, Double.NaN, 16)));
+		assertTrue(Double.isNaN(table.zScore(LmsTable.MALE, 30, 0)));
+		assertTrue(Double.isNaN(table.zScore((byte) 3, 30, 16)));
+	}
+
+	@Test
+	public void parse_readsTheColumnsInAnyOrderAndCase() throws IOException {
+		LmsTable table = parse("s,m,l,agemos,sex\n0.1,16,1,24,1\n0.1,18,1,36,1\n0.2,16,-1,24,2\n0.2,20,-1,48,2\n");
+
+		assertEquals(24, table.getMinimumAge(LmsTable.MALE), 0);
+		assertEquals(36, table.getMaximumAge(LmsTable.MALE), 0);
+		assertEquals(48, table.getMaximumAge(LmsTable.FEMALE), 0);
+		assertEquals(1, table.zScore(LmsTable.MALE, 24, 17.6), DELTA);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parse_rejectsAMissingColumn() throws IOException {
+		parse("Sex,Agemos,L,M\n1,24,1,16\n2,24,1,16\n");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parse_rejectsASexWithoutRows() throws IOException {
+		parse("Sex,Agemos,L,M,S\n1,24,1,16,0.1\n");
+	}
+
+	private static LmsTable parse(String csv) throws IOException {
+		return LmsTable.parse(new StringReader(csv));
+	}
+}
@@ -0,0 +1,91 @@
+package com.satch_navida.myapplication.stats;
+
+import com.satch_navida.myapplication.history.HistoryStore;
+import com.satch_navida.myapplication.units.HeightUnit;
+import com.satch_navida.myapplication.units.WeightUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that {@link BmiStatistics} keeps the statistics of each profile apart, and the quantiles
+ * across all of them, the same whether the BMIs were added one by one or loaded from the history.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class BmiStatisticsTest {
+	/**
+	 * The number of milliseconds in a day.
+	 */
+	private static final long DAY = 24 * 60 * 60 * 1000L;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void snapshot_keepsTheProfilesApart() {
+		BmiStatistics statistics = new BmiStatistics(1, TDigest.DEFAULT_COMPRESSION)
+				.add(0, 0, 20)
+				.add(1, 0, 30)
+				.add(0, DAY, 22)
+				.add(0, 2 * DAY, Double.NaN)
+				.add(0, 2 * DAY, 24);
+
+		BmiStatistics.Snapshot first = statistics.snapshot(0);
+		assertEquals(3, first.getCount());
+		assertEquals(22, first.getMean(), 1e-12);
+		assertEquals(2, first.getStandardDeviation(), 1e-12);
+		assertEquals(20, first.getMin(), 0);
+		assertEquals(24, first.getMax(), 0);
+		// A span of one follows the latest BMI.
+		assertEquals(24, first.getMovingAverage(), 0);
+		assertEquals(2, first.getTrendPerDay(), 1e-12);
+
+		BmiStatistics.Snapshot second = statistics.snapshot(1);
+		assertEquals(1, second.getCount());
+		assertTrue(Double.isNaN(second.getTrendPerDay()));
+
+		assertSame(BmiStatistics.Snapshot.EMPTY, statistics.snapshot(7));
+		assertEquals(4, statistics.population().getCount());
+		assertEquals(24, statistics.population().getMean(), 1e-12);
+		assertTrue(Double.isNaN(statistics.population().getMovingAverage()));
+	}
+
+	@Test
+	public void quantile_spansEveryProfile() {
+		BmiStatistics statistics = new BmiStatistics();
+		for (int i = 0; i < 1_000; i++)
+			statistics.add(i % 4, i * DAY, 18 + i / 100.0);
+
+		assertEquals(18, statistics.quantile(0), 0);
+		assertEquals(18 + 999 / 100.0, statistics.quantile(1), 0);
+		assertEquals(23, statistics.quantile(0.5), 0.05);
+	}
+
+	@Test
+	public void addAll_matchesAddingOneByOne() throws IOException {
+		BmiStatistics expected = new BmiStatistics();
+
+		try (HistoryStore store = HistoryStore.open(this.folder.getRoot().toPath().resolve("history.bin"))) {
+			for (int i = 0; i < 200; i++) {
+				double bmi = 20 + (i % 13) * 0.5;
+				store.append(i % 2, i * DAY, 70, 1.75, bmi, (byte) 1, WeightUnit.KILOGRAM, HeightUnit.CENTIMETER);
+				expected.add(i % 2, i * DAY, bmi);
+			}
+
+			BmiStatistics loaded = new BmiStatistics().addAll(store.scan(Long.MIN_VALUE, Long.MAX_VALUE));
+
+			for (int profile = 0; profile < 2; profile++)
+				assertEquals(expected.snapshot(profile).toString(), loaded.snapshot(profile).toString());
+			assertEquals(expected.quantile(0.9), loaded.quantile(0.9), 0);
+		}
+	}
+}
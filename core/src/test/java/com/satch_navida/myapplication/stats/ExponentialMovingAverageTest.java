@@ -0,0 +1,49 @@
+package com.satch_navida.myapplication.stats;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that an {@link ExponentialMovingAverage} starts at its first value, then weighs each new
+ * value by its smoothing factor.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class ExponentialMovingAverageTest {
+	@Test
+	public void add_weighsEachValueByAlpha() {
+		ExponentialMovingAverage average = new ExponentialMovingAverage(0.25);
+		assertTrue(Double.isNaN(average.getValue()));
+
+		average.add(20);
+		assertEquals(20, average.getValue(), 0);
+		average.add(28).add(Double.NaN);
+		assertEquals(22, average.getValue(), 1e-12);
+		average.add(14);
+		assertEquals(20, average.getValue(), 1e-12);
+	}
+
+	@Test
+	public void ofSpan_usesTwoOverSpanPlusOne() {
+		assertEquals(0.25, ExponentialMovingAverage.ofSpan(7).getAlpha(), 1e-15);
+		assertEquals(1, ExponentialMovingAverage.ofSpan(1).getAlpha(), 0);
+
+		// With a span of one, only the latest value counts.
+		assertEquals(30, ExponentialMovingAverage.ofSpan(1).add(20).add(30).getValue(), 0);
+	}
+
+	@Test
+	public void constructor_rejectsAnAlphaOutOfRange() {
+		for (double alpha : new double[] {0, -0.5, 1.5, Double.NaN}) {
+			try {
+				new ExponentialMovingAverage(alpha);
+				fail("An average of alpha " + alpha + " was created.");
+			} catch (IllegalArgumentException expected) {
+			}
+		}
+	}
+}
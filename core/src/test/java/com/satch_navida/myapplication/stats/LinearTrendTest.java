@@ -0,0 +1,53 @@
+package com.satch_navida.myapplication.stats;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that a {@link LinearTrend} finds the exact slope of points on a line, and the least-squares
+ * slope of points around it.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class LinearTrendTest {
+	@Test
+	public void getSlope_ofAnExactLine() {
+		LinearTrend trend = new LinearTrend();
+		// Far from the origin, as the days since the epoch are.
+		for (int day = 0; day < 30; day++)
+			trend.add(19_000 + day, 24.5 - 0.05 * day);
+
+		assertEquals(30, trend.getCount());
+		assertEquals(-0.05, trend.getSlope(), 1e-12);
+		assertEquals(24.5 - 0.05 * 40, trend.predict(19_040), 1e-9);
+	}
+
+	@Test
+	public void getSlope_ofPointsAroundALine() {
+		// The least-squares line of (0, 1), (1, 3), (2, 2), (3, 5) has a slope of 1.1.
+		LinearTrend trend = new LinearTrend()
+				.add(0, 1)
+				.add(1, 3)
+				.add(2, 2)
+				.add(3, 5);
+
+		assertEquals(1.1, trend.getSlope(), 1e-12);
+		assertEquals(2.75 + 1.1 * (4 - 1.5), trend.predict(4), 1e-12);
+	}
+
+	@Test
+	public void getSlope_isNaNWithoutTwoDistinctTimes() {
+		LinearTrend trend = new LinearTrend();
+		assertTrue(Double.isNaN(trend.getSlope()));
+
+		trend.add(5, 22).add(5, 23).add(Double.NaN, 24);
+		assertEquals(2, trend.getCount());
+		assertTrue(Double.isNaN(trend.getSlope()));
+
+		trend.add(6, 24);
+		assertEquals(1.5, trend.getSlope(), 1e-12);
+	}
+}
@@ -0,0 +1,102 @@
+package com.satch_navida.myapplication.stats;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that a {@link RunningStats} matches the two-pass statistics of the same values, and that
+ * merging two of them is the same as adding every value to a single one.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class RunningStatsTest {
+	@Test
+	public void add_matchesTwoPassStatistics() {
+		double[] values = {22.1, 19.4, 31.8, 25.0, 27.3, 18.2, 24.9};
+		RunningStats stats = addAll(new RunningStats(), values, 0, values.length);
+
+		double mean = 0;
+		for (double value : values)
+			mean += value;
+		mean /= values.length;
+
+		double squares = 0;
+		for (double value : values)
+			squares += (value - mean) * (value - mean);
+
+		assertEquals(values.length, stats.getCount());
+		assertEquals(mean, stats.getMean(), 1e-12);
+		assertEquals(squares / (values.length - 1), stats.getVariance(), 1e-12);
+		assertEquals(Math.sqrt(squares / (values.length - 1)), stats.getStandardDeviation(), 1e-12);
+		assertEquals(18.2, stats.getMin(), 0);
+		assertEquals(31.8, stats.getMax(), 0);
+	}
+
+	@Test
+	public void add_staysAccurateOnLargeCloseValues() {
+		// The sum of the squares would lose every digit of such a variance.
+		RunningStats stats = new RunningStats();
+		for (double value : new double[] {1e9 + 4, 1e9 + 7, 1e9 + 13, 1e9 + 16})
+			stats.add(value);
+
+		assertEquals(1e9 + 10, stats.getMean(), 0);
+		assertEquals(30, stats.getVariance(), 0);
+	}
+
+	@Test
+	public void add_ignoresNaNAndStartsEmpty() {
+		RunningStats stats = new RunningStats().add(Double.NaN);
+
+		assertEquals(0, stats.getCount());
+		assertTrue(Double.isNaN(stats.getMean()));
+		assertTrue(Double.isNaN(stats.getMin()));
+
+		stats.add(20);
+		assertEquals(20, stats.getMean(), 0);
+		assertTrue(Double.isNaN(stats.getVariance()));
+	}
+
+	@Test
+	public void merge_matchesSequentialAdds() {
+		Random random = new Random(11);
+		double[] values = new double[1_000];
+		for (int i = 0; i < values.length; i++)
+			values[i] = 22 + 4 * random.nextGaussian();
+
+		RunningStats sequential = addAll(new RunningStats(), values, 0, values.length);
+
+		for (int split : new int[] {0, 1, 2, 333, 999, 1_000}) {
+			RunningStats first = addAll(new RunningStats(), values, 0, split);
+			RunningStats second = addAll(new RunningStats(), values, split, values.length);
+
+			assertSame(first, first.merge(second));
+			assertEquals("split " + split, sequential.getCount(), first.getCount());
+			assertEquals("split " + split, sequential.getMean(), first.getMean(), 1e-12);
+			assertEquals("split " + split, sequential.getVariance(), first.getVariance(), 1e-10);
+			assertEquals("split " + split, sequential.getMin(), first.getMin(), 0);
+			assertEquals("split " + split, sequential.getMax(), first.getMax(), 0);
+		}
+
+		// Merged from many parts, unevenly.
+		RunningStats parts = new RunningStats();
+		for (int start = 0, size = 1; start < values.length; start += size, size = size * 2 + 1)
+			parts.merge(addAll(new RunningStats(), values, start, Math.min(values.length, start + size)));
+
+		assertEquals(sequential.getCount(), parts.getCount());
+		assertEquals(sequential.getMean(), parts.getMean(), 1e-12);
+		assertEquals(sequential.getVariance(), parts.getVariance(), 1e-10);
+	}
+
+	private static RunningStats addAll(RunningStats stats, double[] values, int from, int to) {
+		for (int i = from; i < to; i++)
+			stats.add(values[i]);
+
+		return stats;
+	}
+}
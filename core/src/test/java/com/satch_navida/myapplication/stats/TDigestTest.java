@@ -0,0 +1,211 @@
+package com.satch_navida.myapplication.stats;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the quantiles estimated by a {@link TDigest} are close to the exact quantiles of the
+ * same values once sorted, whatever their distribution or the order they were added in, and that
+ * its centroids never outgrow the arrays kept for them.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class TDigestTest {
+	/**
+	 * The fractions checked, denser at the extremes where the digest is the most accurate.
+	 */
+	private static final double[] QUANTILES = {0.001, 0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999};
+
+	@Test
+	public void quantile_matchesAUniformSample() {
+		Random random = new Random(42);
+		double[] values = new double[100_000];
+		for (int i = 0; i < values.length; i++)
+			values[i] = 15 + random.nextDouble() * 25;
+
+		assertQuantiles(values, new TDigest());
+	}
+
+	@Test
+	public void quantile_matchesASkewedSample() {
+		// Log-normal, with a long tail of high values.
+		Random random = new Random(7);
+		double[] values = new double[100_000];
+		for (int i = 0; i < values.length; i++)
+			values[i] = Math.exp(3.1 + 0.25 * random.nextGaussian());
+
+		assertQuantiles(values, new TDigest());
+	}
+
+	@Test
+	public void quantile_matchesRepeatedValues() {
+		double[] values = new double[30_000];
+		for (int i = 0; i < values.length; i++)
+			values[i] = i < 10_000 ? 20 : i < 20_000 ? 22.5 : 30;
+
+		TDigest digest = assertQuantiles(shuffle(values, new Random(3)), new TDigest());
+
+		// Well within a run of the same value, the estimate is that value.
+		assertEquals(20, digest.quantile(0.15), 0);
+		assertEquals(22.5, digest.quantile(0.5), 0);
+		assertEquals(30, digest.quantile(0.85), 0);
+	}
+
+	@Test
+	public void quantile_endsAtTheSmallestAndLargestValue() {
+		TDigest digest = new TDigest();
+		for (int i = 1; i <= 1_000; i++)
+			digest.add(i);
+
+		assertEquals(1, digest.quantile(0), 0);
+		assertEquals(1_000, digest.quantile(1), 0);
+		assertEquals(1, digest.getMin(), 0);
+		assertEquals(1_000, digest.getMax(), 0);
+		assertEquals(1_000, digest.getCount());
+	}
+
+	@Test
+	public void quantile_ofAFewValues() {
+		TDigest digest = new TDigest();
+		assertTrue(Double.isNaN(digest.quantile(0.5)));
+		assertTrue(Double.isNaN(digest.getMin()));
+
+		digest.add(22).add(Double.NaN);
+		assertEquals(1, digest.getCount());
+		assertEquals(22, digest.quantile(0), 0);
+		assertEquals(22, digest.quantile(0.5), 0);
+		assertEquals(22, digest.quantile(1), 0);
+
+		// Each value is its own centroid; thus, the median lies between the two middle ones.
+		digest.add(18).add(26).add(30);
+		assertEquals(24, digest.quantile(0.5), 1e-12);
+		assertEquals(18, digest.quantile(0), 0);
+		assertEquals(30, digest.quantile(1), 0);
+	}
+
+	@Test
+	public void quantile_rejectsAFractionOutOfRange() {
+		for (double q : new double[] {-0.1, 1.1, Double.NaN}) {
+			try {
+				new TDigest().add(1).quantile(q);
+				fail("The quantile " + q + " was estimated.");
+			} catch (IllegalArgumentException expected) {
+			}
+		}
+	}
+
+	@Test
+	public void merge_staysWithinTheCapacityOfTheCompression() {
+		// The centroids are written into arrays of ceil(compression) + 2 without any bounds check;
+		// the orders below merge the most centroids at once.
+		for (double compression : new double[] {10, 10.5, 17, 100}) {
+			for (int order = 0; order < 4; order++) {
+				TDigest digest = new TDigest(compression);
+
+				for (int i = 0; i < 50_000; i++) {
+					switch (order) {
+						case 0:
+							digest.add(i);
+							break;
+						case 1:
+							digest.add(-i);
+							break;
+						case 2:
+							digest.add((i & 1) == 0 ? i : -i);
+							break;
+						default:
+							digest.add(25);
+							break;
+					}
+
+					// Merges after a partial buffer as well.
+					if (i % 997 == 0)
+						digest.quantile(0.5);
+				}
+
+				assertEquals(50_000, digest.getCount());
+				assertTrue(digest.toString(), centroidsOf(digest) <= (int) Math.ceil(compression) + 2);
+			}
+		}
+	}
+
+	@Test
+	public void constructor_rejectsASmallCompression() {
+		for (double compression : new double[] {9.9, Double.NaN, Double.POSITIVE_INFINITY}) {
+			try {
+				new TDigest(compression);
+				fail("A digest of compression " + compression + " was created.");
+			} catch (IllegalArgumentException expected) {
+			}
+		}
+	}
+
+	/**
+	 * Adds the values to the digest in the given order, then checks every quantile of
+	 * {@link #QUANTILES} against the sorted values. The error is measured on the fraction of values
+	 * below the estimate, which is how a t-digest bounds it: tighter at the extremes than at the
+	 * median.
+	 */
+	private static TDigest assertQuantiles(double[] values, TDigest digest) {
+		for (double value : values)
+			digest.add(value);
+
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		for (double q : QUANTILES) {
+			double estimate = digest.quantile(q);
+			double exact = sorted[(int) Math.min(sorted.length - 1, Math.floor(q * sorted.length))];
+			double reached = rankOf(sorted, estimate) / sorted.length;
+			double tolerance = 0.005 + 0.04 * q * (1 - q);
+
+			assertTrue("q = " + q + ": " + estimate + " against " + exact + ", at " + reached, Math.abs(reached - q) <= tolerance || estimate == exact);
+		}
+
+		return digest;
+	}
+
+	/**
+	 * Fetches the rank of the given value within the sorted values, counting the values equal to it
+	 * as half below it.
+	 */
+	private static double rankOf(double[] sorted, double value) {
+		int below = 0, equal = 0;
+		for (double v : sorted) {
+			if (v < value)
+				below++;
+			else if (v == value)
+				equal++;
+		}
+
+		return below + equal / 2.0;
+	}
+
+	private static double[] shuffle(double[] values, Random random) {
+		for (int i = values.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			double swap = values[i];
+			values[i] = values[j];
+			values[j] = swap;
+		}
+
+		return values;
+	}
+
+	/**
+	 * Reads the number of centroids through {@link TDigest#toString()}, which merges the buffer first.
+	 */
+	private static int centroidsOf(TDigest digest) {
+		String text = digest.toString();
+		int start = text.indexOf("centroids: ") + "centroids: ".length();
+
+		return Integer.parseInt(text.substring(start, text.indexOf('}', start)));
+	}
+}
@@ -0,0 +1,245 @@
+package com.satch_navida.myapplication.validation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that a validation run through {@link ValidationSchema#validateAsync(Map, ValidationPolicy,
+ * Executor)} is abandoned once cancelled, whether before it started or while a rule is running, and
+ * that an {@link AsyncValidator} only completes its latest input.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class AsyncValidationTest {
+	/**
+	 * Lets the {@code Block} rule enter, then holds it until released.
+	 */
+	private CountDownLatch entered, release;
+	/**
+	 * The number of times the {@code Count} rule was run.
+	 */
+	private AtomicInteger counted;
+	/**
+	 * The fields {@code a}, blocking before it is counted, and {@code b}, only counted.
+	 */
+	private ValidationSchema schema;
+	/**
+	 * Runs the validations on a single thread, one after another.
+	 */
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		this.entered = new CountDownLatch(1);
+		this.release = new CountDownLatch(1);
+		this.counted = new AtomicInteger();
+		this.executor = Executors.newSingleThreadExecutor();
+
+		RuleRegistry registry = RuleRegistry.withDefaults()
+				.register("Block", (value, validatorValues) -> {
+					this.entered.countDown();
+					try {
+						return this.release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return false;
+					}
+				})
+				.register("Count", (value, validatorValues) -> {
+					this.counted.incrementAndGet();
+					return true;
+				})
+				.freeze();
+
+		// Both rules are of the same cost, and thus run in the declared order.
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		rules.put("a", new String[] {"Block", "Count"});
+		rules.put("b", new String[] {"Count"});
+		this.schema = ValidationSchema.compile(rules, null, registry);
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		this.release.countDown();
+		this.executor.shutdown();
+		assertTrue(this.executor.awaitTermination(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void validateAsync_cancelledBeforeItStarts() {
+		GatedExecutor gate = new GatedExecutor();
+		this.release.countDown();
+
+		CompletableFuture<ValidationResult> future = this.schema.validateAsync(values(), ValidationPolicy.FULL, gate);
+		assertFalse(future.isDone());
+		assertTrue(future.cancel(false));
+
+		gate.runAll();
+
+		assertTrue(future.isCancelled());
+		assertEquals(1, this.entered.getCount());
+		assertEquals(0, this.counted.get());
+	}
+
+	@Test
+	public void validateAsync_cancelledMidFieldRunsNoOtherRule() throws InterruptedException {
+		CompletableFuture<ValidationResult> future = this.schema.validateAsync(values(), ValidationPolicy.FULL, this.executor);
+		AtomicBoolean completed = watch(future);
+
+		assertTrue(this.entered.await(10, TimeUnit.SECONDS));
+		assertTrue(future.cancel(false));
+		this.release.countDown();
+		this.drain();
+
+		// The blocked rule was let to finish, but neither the rest of its field nor the next field ran.
+		assertEquals(0, this.counted.get());
+		assertTrue(future.isCancelled());
+		assertFalse(completed.get());
+		assertCancelled(future);
+	}
+
+	@Test
+	public void validateAsync_completesWhenNotCancelled() throws Exception {
+		this.release.countDown();
+
+		ValidationResult result = this.schema.validateAsync(values(), ValidationPolicy.FULL, this.executor).get(10, TimeUnit.SECONDS);
+
+		assertTrue(result.passes());
+		assertEquals(2, this.counted.get());
+		assertEquals(RuleStatus.PASSED, result.status("a", "Count"));
+	}
+
+	@Test
+	public void submit_cancelsTheOlderInput() throws Exception {
+		GatedExecutor gate = new GatedExecutor();
+		AsyncValidator validator = new AsyncValidator(this.schema, gate);
+		this.release.countDown();
+
+		CompletableFuture<ValidationResult> first = validator.submit(values());
+		AtomicBoolean firstCompleted = watch(first);
+		CompletableFuture<ValidationResult> second = validator.submit(values());
+
+		assertTrue(first.isCancelled());
+		assertFalse(second.isDone());
+
+		gate.runAll();
+
+		assertTrue(second.isDone());
+		assertTrue(second.get().passes());
+		// Only the second input was validated.
+		assertEquals(2, this.counted.get());
+		assertTrue(first.isCancelled());
+		assertFalse(firstCompleted.get());
+	}
+
+	@Test
+	public void submit_cancelsTheOlderInputWhileItRuns() throws Exception {
+		AsyncValidator validator = new AsyncValidator(this.schema, this.executor);
+
+		CompletableFuture<ValidationResult> first = validator.submit(values());
+		AtomicBoolean firstCompleted = watch(first);
+		assertTrue(this.entered.await(10, TimeUnit.SECONDS));
+
+		CompletableFuture<ValidationResult> second = validator.submit(values());
+		assertTrue(first.isCancelled());
+		this.release.countDown();
+
+		// Run after the first gave up, on the same thread.
+		assertTrue(second.get(10, TimeUnit.SECONDS).passes());
+		assertEquals(2, this.counted.get());
+		assertFalse(firstCompleted.get());
+		assertCancelled(first);
+	}
+
+	@Test
+	public void cancel_onlyCancelsTheLatestRunOnce() {
+		GatedExecutor gate = new GatedExecutor();
+		AsyncValidator validator = new AsyncValidator(this.schema, gate);
+		this.release.countDown();
+
+		assertFalse(validator.cancel());
+
+		CompletableFuture<ValidationResult> run = validator.submit(values());
+		assertTrue(validator.cancel());
+		assertFalse(validator.cancel());
+
+		gate.runAll();
+		assertTrue(run.isCancelled());
+		assertEquals(0, this.counted.get());
+	}
+
+	/**
+	 * Waits until every validation submitted so far is done.
+	 */
+	private void drain() throws InterruptedException {
+		CountDownLatch drained = new CountDownLatch(1);
+		this.executor.execute(drained::countDown);
+		assertTrue(drained.await(10, TimeUnit.SECONDS));
+	}
+
+	private static Map<String, Object> values() {
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put("a", "1");
+		values.put("b", "2");
+
+		return values;
+	}
+
+	/**
+	 * Flags whether the given future ever completed with a result.
+	 */
+	private static AtomicBoolean watch(CompletableFuture<ValidationResult> future) {
+		AtomicBoolean completed = new AtomicBoolean();
+		future.thenAccept(result -> completed.set(true));
+
+		return completed;
+	}
+
+	private static void assertCancelled(CompletableFuture<ValidationResult> future) {
+		try {
+			future.join();
+			fail("A cancelled validation completed.");
+		} catch (CancellationException expected) {
+		}
+	}
+
+	/**
+	 * Holds every task until told to run them; thus, a task could be cancelled before it starts.
+	 */
+	private static final class GatedExecutor implements Executor {
+		private final Queue<Runnable> tasks = new ArrayDeque<Runnable>();
+
+		@Override
+		public void execute(Runnable task) {
+			this.tasks.add(task);
+		}
+
+		void runAll() {
+			Runnable task;
+			while ((task = this.tasks.poll()) != null)
+				task.run();
+		}
+	}
+}
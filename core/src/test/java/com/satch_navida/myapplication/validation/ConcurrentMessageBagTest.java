@@ -0,0 +1,204 @@
+package com.satch_navida.myapplication.validation;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that a {@link ConcurrentMessageBag} filled by many threads at once loses none of their
+ * messages, keeps or overwrites the message of a rule as a single thread would, and that its
+ * snapshots are left as they were taken.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class ConcurrentMessageBagTest {
+	/**
+	 * The threads filling the bag at once.
+	 */
+	private static final int PRODUCERS = 8;
+	/**
+	 * The messages added by each thread, to each key.
+	 */
+	private static final int MESSAGES = 500;
+
+	@Test
+	public void add_losesNoMessage() throws InterruptedException {
+		ConcurrentMessageBag bag = new ConcurrentMessageBag();
+
+		race(producer -> {
+			for (int i = 0; i < MESSAGES; i++) {
+				bag.add("shared", ruleOf(producer, i), messageOf(producer, i));
+				bag.add("field" + producer, "Rule" + i, messageOf(producer, i));
+			}
+		});
+
+		Map<String, String> shared = bag.get("shared");
+		assertEquals(PRODUCERS * MESSAGES, shared.size());
+		assertEquals(PRODUCERS + 1, bag.keys().length);
+
+		for (int producer = 0; producer < PRODUCERS; producer++) {
+			Map<String, String> own = bag.get("field" + producer);
+			assertEquals(MESSAGES, own.size());
+
+			// A thread alone on its key sees its messages in the order it added them, and so does
+			// its share of the shared key.
+			int i = 0, next = 0;
+			for (Map.Entry<String, String> entry : own.entrySet()) {
+				assertEquals("Rule" + i, entry.getKey());
+				assertEquals(messageOf(producer, i), entry.getValue());
+				assertEquals(messageOf(producer, i), bag.get("field" + producer, i));
+				i++;
+			}
+
+			for (Map.Entry<String, String> entry : shared.entrySet()) {
+				if (entry.getKey().startsWith("P" + producer + "_")) {
+					assertEquals(ruleOf(producer, next), entry.getKey());
+					assertEquals(messageOf(producer, next), entry.getValue());
+					next++;
+				}
+			}
+			assertEquals(MESSAGES, next);
+		}
+
+		// The first message of the shared key could only be the first of one of the threads.
+		Set<String> firsts = new HashSet<String>();
+		for (int producer = 0; producer < PRODUCERS; producer++)
+			firsts.add(messageOf(producer, 0));
+
+		assertTrue(bag.first("shared"), firsts.contains(bag.first("shared")));
+		assertEquals(bag.first("shared"), bag.get("shared", 0));
+	}
+
+	@Test
+	public void add_keepsTheFirstMessageAcrossThreads() throws InterruptedException {
+		ConcurrentMessageBag bag = new ConcurrentMessageBag();
+		String[] seen = new String[PRODUCERS];
+
+		race(producer -> {
+			bag.add("weight.Required", messageOf(producer, 0));
+			seen[producer] = bag.get("weight", "Required");
+		});
+
+		// Whichever message landed first, no thread saw it replaced afterwards.
+		String kept = bag.first("weight");
+		assertTrue(kept, kept.matches("M\\d+_0"));
+		for (String message : seen)
+			assertEquals(kept, message);
+
+		assertEquals(1, bag.get("weight").size());
+	}
+
+	@Test
+	public void merge_overwritesAcrossThreads() throws InterruptedException {
+		ConcurrentMessageBag bag = new ConcurrentMessageBag();
+		bag.add("weight.Required", "original");
+
+		race(producer -> {
+			for (int i = 0; i < MESSAGES; i++)
+				bag.merge(new MessageBag().add("weight.Required", messageOf(producer, i)));
+		});
+
+		// Every merge overwrote the message, yet the rule is still only present once.
+		String last = bag.first("weight");
+		assertTrue(last, last.matches("M\\d+_" + (MESSAGES - 1)));
+		assertEquals(1, bag.get("weight").size());
+	}
+
+	@Test
+	public void snapshot_doesNotSeeLaterMessages() throws InterruptedException {
+		ConcurrentMessageBag bag = new ConcurrentMessageBag();
+		bag.add("shared.Before", "before");
+		AbstractMessageBag before = bag.snapshot();
+		AtomicReference<AbstractMessageBag> during = new AtomicReference<AbstractMessageBag>();
+		AtomicReference<String> duringText = new AtomicReference<String>();
+
+		race(producer -> {
+			for (int i = 0; i < MESSAGES; i++) {
+				bag.add("shared", ruleOf(producer, i), messageOf(producer, i));
+				bag.add("field" + producer, "Rule" + i, messageOf(producer, i));
+
+				// One of the threads takes a snapshot halfway through.
+				if (producer == 0 && i == MESSAGES / 2) {
+					AbstractMessageBag snapshot = bag.snapshot();
+					duringText.set(snapshot.toString());
+					during.set(snapshot);
+				}
+			}
+		});
+
+		// Taken before the threads started.
+		assertEquals(1, before.keys().length);
+		assertEquals(1, before.get("shared").size());
+		assertEquals("before", before.first("shared"));
+		assertNull(before.get("field0"));
+
+		// Taken while the threads were adding, yet left as it was once they are done.
+		assertEquals(duringText.get(), during.get().toString());
+		assertTrue(during.get().get("shared").size() < bag.get("shared").size());
+		// Its own key, taken by the thread adding to it, is exactly as far as it went.
+		assertEquals(MESSAGES / 2 + 1, during.get().get("field0").size());
+
+		try {
+			during.get().add("shared.After", "after");
+			fail("A snapshot was modified.");
+		} catch (UnsupportedOperationException expected) {
+		}
+	}
+
+	/**
+	 * Runs the given producer on every thread at once, then waits for all of them to finish.
+	 */
+	private static void race(Producer producer) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(PRODUCERS);
+		AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+		for (int i = 0; i < PRODUCERS; i++) {
+			int index = i;
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+					producer.run(index);
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				} finally {
+					done.countDown();
+				}
+			});
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		start.countDown();
+		assertTrue("The producers did not finish in time.", done.await(30, TimeUnit.SECONDS));
+
+		if (failure.get() != null)
+			throw new AssertionError("A producer failed.", failure.get());
+	}
+
+	private static String ruleOf(int producer, int index) {
+		return "P" + producer + "_" + index;
+	}
+
+	private static String messageOf(int producer, int index) {
+		return "M" + producer + "_" + index;
+	}
+
+	/**
+	 * The work of a single producer, told which of the threads it runs on.
+	 */
+	private interface Producer {
+		void run(int producer) throws Exception;
+	}
+}
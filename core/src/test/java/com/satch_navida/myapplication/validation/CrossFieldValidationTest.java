@@ -0,0 +1,204 @@
+package com.satch_navida.myapplication.validation;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the fields read by cross-field rules are validated before the fields reading them,
+ * that only the fields reading a changed field are validated again, and how the cross-field rules
+ * treat a field that failed its own rules.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class CrossFieldValidationTest {
+	@Test
+	public void evaluationOrder_placesReadFieldsFirst() {
+		// Compiled in the reverse order of their dependencies.
+		ValidationSchema schema = compile(
+				"confirm", "Same:waist",
+				"waist", "Numeric", "LessThanField:height",
+				"height", "Required", "Numeric",
+				"weight", "Numeric"
+		);
+
+		assertArrayEquals(new String[] {"height", "waist", "confirm", "weight"}, evaluationOrderOf(schema));
+	}
+
+	@Test
+	public void evaluationOrder_keepsTheCompiledOrderOfIndependentFields() {
+		ValidationSchema schema = compile(
+				"weight", "Numeric",
+				"height", "Numeric",
+				"unit", "Required"
+		);
+
+		assertArrayEquals(new String[] {"weight", "height", "unit"}, evaluationOrderOf(schema));
+	}
+
+	@Test
+	public void dependentsOf_followsTheReadsTransitively() {
+		ValidationSchema schema = compile(
+				"confirm", "Same:waist",
+				"waist", "Numeric", "LessThanField:height",
+				"height", "Required", "Numeric",
+				"hip", "RequiredIf:unit:cm"
+		);
+
+		assertArrayEquals(new String[] {"waist", "confirm"}, schema.dependentsOf("height"));
+		assertArrayEquals(new String[] {"confirm"}, schema.dependentsOf("waist"));
+		assertArrayEquals(new String[0], schema.dependentsOf("confirm"));
+		// A field without rules of its own, only read by another.
+		assertArrayEquals(new String[] {"hip"}, schema.dependentsOf("unit"));
+		assertArrayEquals(new String[0], schema.dependentsOf("missing"));
+	}
+
+	@Test
+	public void compile_rejectsACycle() {
+		try {
+			compile(
+					"a", "Same:b",
+					"b", "LessThanField:c",
+					"c", "Same:a",
+					"d", "Numeric"
+			);
+			fail("A cycle of cross-field rules was compiled.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("The fields [a, b, c] read each other in a cycle.", e.getMessage());
+		}
+	}
+
+	@Test
+	public void compile_ignoresAFieldReadingItself() {
+		ValidationSchema schema = compile("a", "Same:a");
+
+		assertArrayEquals(new String[] {"a"}, evaluationOrderOf(schema));
+		assertArrayEquals(new String[0], schema.dependentsOf("a"));
+	}
+
+	@Test
+	public void incremental_checksAgainOnlyTheCheckedDependents() {
+		IncrementalValidator validator = compile(
+				"confirm", "Same:waist",
+				"waist", "Numeric", "LessThanField:height",
+				"height", "Required", "Numeric"
+		).incremental();
+
+		assertTrue(validator.validate("waist", "80"));
+		assertFalse(validator.isChecked("confirm"));
+
+		// The waist is checked again against the new height; the confirmation is still left alone.
+		assertTrue(validator.validate("height", "70"));
+		assertFalse(validator.passes("waist"));
+		assertFalse(validator.isChecked("confirm"));
+		assertFalse(validator.passes("confirm"));
+
+		assertTrue(validator.validate("height", "175"));
+		assertTrue(validator.passes("waist"));
+
+		assertFalse(validator.validate("confirm", "81"));
+
+		// Checked by now; thus, a new waist checks the confirmation again.
+		validator.validate("waist", "81");
+		assertTrue(validator.passes("confirm"));
+
+		// Through the waist, a new height checks the confirmation again as well. Once the waist
+		// fails, the confirmation no longer compares against it.
+		validator.validate("confirm", "82");
+		assertFalse(validator.passes("confirm"));
+		validator.validate("height", "80");
+		assertFalse(validator.passes("waist"));
+		assertTrue(validator.passes("confirm"));
+	}
+
+	@Test
+	public void lessThanField_passesWhenTheOtherFieldIsInvalid() {
+		ValidationSchema schema = compile(
+				"waist", "Numeric", "LessThanField:height",
+				"height", "Numeric", "Min:50"
+		);
+
+		assertArrayEquals(new String[] {"height"}, invalidFieldsOf(schema, "waist", "80", "height", "40"));
+		assertArrayEquals(new String[] {"height"}, invalidFieldsOf(schema, "waist", "80", "height", "abc"));
+		assertArrayEquals(new String[] {"waist"}, invalidFieldsOf(schema, "waist", "80", "height", "70"));
+		assertArrayEquals(new String[0], invalidFieldsOf(schema, "waist", "60", "height", "70"));
+	}
+
+	@Test
+	public void same_passesWhenTheOtherFieldIsInvalid() {
+		ValidationSchema schema = compile(
+				"pin", "Required", "Numeric",
+				"confirm", "Same:pin"
+		);
+
+		assertArrayEquals(new String[] {"pin"}, invalidFieldsOf(schema, "pin", "abc", "confirm", "xyz"));
+		assertArrayEquals(new String[] {"confirm"}, invalidFieldsOf(schema, "pin", "1234", "confirm", "1243"));
+		assertArrayEquals(new String[0], invalidFieldsOf(schema, "pin", "1234", "confirm", "1234"));
+	}
+
+	@Test
+	public void requiredIf_readsTheOtherFieldEvenWhenInvalid() {
+		ValidationSchema schema = compile(
+				"unit", "Required", "Boolean",
+				"hip", "RequiredIf:unit:cm:mm"
+		);
+
+		// The condition is read from the value as written, whether the other field passed or not.
+		assertArrayEquals(new String[] {"unit", "hip"}, invalidFieldsOf(schema, "unit", "cm", "hip", ""));
+		assertArrayEquals(new String[] {"unit"}, invalidFieldsOf(schema, "unit", "mm", "hip", "90"));
+		assertArrayEquals(new String[] {"unit"}, invalidFieldsOf(schema, "unit", "in", "hip", ""));
+	}
+
+	/**
+	 * Compiles a schema out of the given fields, each followed by its rules, in order.
+	 */
+	private static ValidationSchema compile(String... fieldsAndRules) {
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+
+		int start = 0;
+		for (int i = 1; i <= fieldsAndRules.length; i++) {
+			if (i == fieldsAndRules.length || isFieldName(fieldsAndRules[i])) {
+				String[] fieldRules = new String[i - start - 1];
+				System.arraycopy(fieldsAndRules, start + 1, fieldRules, 0, fieldRules.length);
+				rules.put(fieldsAndRules[start], fieldRules);
+				start = i;
+			}
+		}
+
+		return ValidationSchema.compile(rules);
+	}
+
+	private static boolean isFieldName(String text) {
+		return Character.isLowerCase(text.charAt(0));
+	}
+
+	private static String[] evaluationOrderOf(ValidationSchema schema) {
+		int[] order = schema.evaluationOrder();
+		String[] fields = new String[order.length];
+
+		for (int i = 0; i < order.length; i++)
+			fields[i] = schema.fieldAt(order[i]);
+
+		return fields;
+	}
+
+	private static String[] invalidFieldsOf(ValidationSchema schema, String... fieldsAndValues) {
+		Map<String, Object> values = new HashMap<String, Object>();
+		for (int i = 0; i < fieldsAndValues.length; i += 2)
+			values.put(fieldsAndValues[i], fieldsAndValues[i + 1]);
+
+		Validator validator = schema.bind(values);
+		validator.fails();
+
+		return validator.invalidFields();
+	}
+}
@@ -0,0 +1,168 @@
+package com.satch_navida.myapplication.validation;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that a {@link MessageBag} keeps its fields, and the rules within each field, in the order
+ * their first message was added, and how its messages are overwritten.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class MessageBagTest {
+	@Test
+	public void keys_areInInsertionOrder() {
+		MessageBag bag = new MessageBag()
+				.add("weight.Required", "a")
+				.add("height.Numeric", "b")
+				.add("weight.Min", "c")
+				.add("unit.Required", "d");
+
+		assertArrayEquals(new String[] {"weight", "height", "unit"}, bag.keys());
+		assertEquals(3, bag.size());
+		assertEquals("weight", bag.key(0));
+		assertEquals("height", bag.key(1));
+		assertEquals("unit", bag.key(2));
+
+		// A key added later is still appended last.
+		bag.add("age", "Min", "e");
+		assertArrayEquals(new String[] {"weight", "height", "unit", "age"}, bag.keys());
+	}
+
+	@Test
+	public void keys_isACopy() {
+		MessageBag bag = new MessageBag().add("weight.Required", "a").add("height.Required", "b");
+
+		String[] keys = bag.keys();
+		Arrays.fill(keys, null);
+
+		assertArrayEquals(new String[] {"weight", "height"}, bag.keys());
+		assertTrue(bag.keys() != bag.keys());
+	}
+
+	@Test
+	public void key_throwsOutsideTheKeys() {
+		MessageBag bag = new MessageBag().add("weight.Required", "a");
+
+		for (int index : new int[] {-1, 1}) {
+			try {
+				bag.key(index);
+				fail("The key at " + index + " was fetched out of a bag of one key.");
+			} catch (IndexOutOfBoundsException expected) {
+			}
+		}
+	}
+
+	@Test
+	public void get_readsTheMessagesOfAField() {
+		MessageBag bag = new MessageBag()
+				.add("weight.Required", "The weight is required.")
+				.add("weight.Numeric", "The weight should be a number.")
+				.add("weight.Min", "The weight should be at least 1.");
+
+		assertEquals("The weight is required.", bag.first("weight"));
+		assertEquals("The weight is required.", bag.get("weight", 0));
+		assertEquals("The weight should be a number.", bag.get("weight", 1));
+		assertEquals("The weight should be at least 1.", bag.get("weight", 2));
+		assertEquals("The weight should be a number.", bag.get("weight", "Numeric"));
+		assertNull(bag.get("weight", "Max"));
+		assertArrayEquals(new String[] {"Required", "Numeric", "Min"}, bag.get("weight").keySet().toArray(new String[0]));
+
+		// A missing field.
+		assertEquals("", bag.first("height"));
+		assertEquals("", bag.get("height", 0));
+		assertNull(bag.get("height", "Required"));
+		assertNull(bag.get("height"));
+
+		try {
+			bag.get("weight", 3);
+			fail("The fourth message was fetched out of a field of three.");
+		} catch (IndexOutOfBoundsException expected) {
+		}
+	}
+
+	@Test
+	public void add_keepsTheFirstMessageOfARule() {
+		MessageBag bag = new MessageBag()
+				.add("weight.Required", "first")
+				.add("weight.Required", "second")
+				.add("height.Required", "")
+				.add("height.Required", "filled");
+
+		assertEquals("first", bag.first("weight"));
+		// An empty message is replaced.
+		assertEquals("filled", bag.first("height"));
+	}
+
+	@Test
+	public void add_splitsTheKeyAtTheFirstDot() {
+		MessageBag bag = new MessageBag().add("weight.Min.kg", "a");
+
+		assertEquals("a", bag.get("weight", "Min.kg"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void add_rejectsAKeyWithoutARule() {
+		new MessageBag().add("nodot", "a");
+	}
+
+	@Test
+	public void merge_overwritesWithTheLastBag() {
+		MessageBag bag = new MessageBag()
+				.add("weight.Required", "kept")
+				.add("weight.Numeric", "replaced");
+		MessageBag other = new MessageBag()
+				.add("height.Required", "added")
+				.add("weight.Numeric", "replacement")
+				.add("weight.Min", "appended");
+		MessageBag last = new MessageBag().add("weight.Numeric", "last");
+
+		assertSame(bag, bag.merge(other, last));
+		assertArrayEquals(new String[] {"weight", "height"}, bag.keys());
+		assertEquals("kept", bag.get("weight", 0));
+		assertEquals("last", bag.get("weight", 1));
+		assertEquals("appended", bag.get("weight", 2));
+		assertEquals("added", bag.first("height"));
+
+		// The merged bags are left as they were.
+		assertEquals("replacement", other.get("weight", "Numeric"));
+	}
+
+	@Test
+	public void merge_readsARawMap() {
+		Map<String, String> weight = new LinkedHashMap<String, String>();
+		weight.put("Numeric", "replacement");
+		HashMap<String, Map<String, String>> raw = new HashMap<String, Map<String, String>>();
+		raw.put("weight", weight);
+
+		MessageBag bag = new MessageBag().add("weight.Numeric", "replaced").merge(raw);
+
+		assertEquals("replacement", bag.first("weight"));
+		assertEquals(1, bag.size());
+	}
+
+	@Test
+	public void merge_readsAConcurrentBag() {
+		ConcurrentMessageBag concurrent = new ConcurrentMessageBag();
+		concurrent.add("weight.Required", "a");
+		concurrent.add("weight.Numeric", "b");
+
+		MessageBag bag = new MessageBag().merge(concurrent, concurrent.snapshot());
+
+		assertArrayEquals(new String[] {"weight"}, bag.keys());
+		assertEquals("a", bag.get("weight", 0));
+		assertEquals("b", bag.get("weight", 1));
+	}
+}
@@ -0,0 +1,128 @@
+package com.satch_navida.myapplication.validation;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the parallel bulk validations return exactly the same failures as the sequential
+ * ones, for sizes on both sides of the smallest chunk a single task validates.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class ParallelValidationTest {
+	/**
+	 * The sizes validated, around the smallest parallel chunk of 1024 records.
+	 */
+	private static final int[] SIZES = {0, 1, 1023, 1024, 1025, 4096, 50_000};
+
+	private static ForkJoinPool pool;
+	private static ValidationSchema schema;
+
+	@BeforeClass
+	public static void setUp() {
+		pool = new ForkJoinPool(4);
+
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		rules.put("weight", new String[] {"Required", "Numeric", "Min:1"});
+		rules.put("height", new String[] {"Required", "Numeric", "Between:30:275"});
+		rules.put("unit", new String[] {"Required"});
+		schema = ValidationSchema.compile(rules);
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void validateAllParallel_matchesSequential() {
+		for (int size : SIZES) {
+			List<Map<String, Object>> records = recordsOf(size);
+
+			assertSame(size, schema.validateAll(records), schema.validateAll(records, pool));
+		}
+	}
+
+	@Test
+	public void validateColumnsParallel_matchesSequential() {
+		for (int size : SIZES) {
+			Map<String, Object[]> columns = columnsOf(recordsOf(size));
+
+			assertSame(size, schema.validateColumns(columns), schema.validateColumns(columns, pool));
+		}
+	}
+
+	private static void assertSame(int size, BulkValidationResult expected, BulkValidationResult actual) {
+		assertEquals(size, actual.size());
+		assertEquals("failed records of " + size, expected.failedCount(), actual.failedCount());
+		assertEquals(expected.fails(), actual.fails());
+
+		for (int record = 0; record < size; record++) {
+			assertEquals("record " + record + " of " + size, expected.fails(record), actual.fails(record));
+
+			for (String field : new String[] {"weight", "height", "unit"})
+				assertEquals("record " + record + "." + field, expected.fails(record, field), actual.fails(record, field));
+		}
+
+		assertEquals(expected.errors().toString(), actual.errors().toString());
+	}
+
+	/**
+	 * Builds records mixing passing values, every kind of failure and absent fields.
+	 */
+	private static List<Map<String, Object>> recordsOf(int size) {
+		List<Map<String, Object>> records = new ArrayList<Map<String, Object>>(size);
+
+		for (int i = 0; i < size; i++) {
+			Map<String, Object> record = new HashMap<String, Object>();
+
+			switch (i % 7) {
+				case 0: record.put("weight", ""); break;
+				case 1: record.put("weight", "abc"); break;
+				case 2: record.put("weight", "0.5"); break;
+				default: record.put("weight", String.valueOf(40 + i % 60));
+			}
+
+			record.put("height", i % 11 == 0 ? "300" : String.valueOf(150 + i % 40));
+
+			if (i % 13 != 0)
+				record.put("unit", i % 17 == 0 ? "" : "cm");
+
+			records.add(record);
+		}
+
+		return records;
+	}
+
+	/**
+	 * Turns the records into columns. A field absent from a record is written as an empty value, as
+	 * a column cannot leave a single record out.
+	 */
+	private static Map<String, Object[]> columnsOf(List<Map<String, Object>> records) {
+		Map<String, Object[]> columns = new HashMap<String, Object[]>();
+
+		for (String field : new String[] {"weight", "height", "unit"}) {
+			Object[] column = new Object[records.size()];
+
+			for (int i = 0; i < column.length; i++) {
+				Object value = records.get(i).get(field);
+				column[i] = value == null ? "" : value;
+			}
+
+			columns.put(field, column);
+		}
+
+		return columns;
+	}
+}
@@ -0,0 +1,140 @@
+package com.satch_navida.myapplication.validation;
+
+import com.satch_navida.myapplication.validation.rules.PredicateRule;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that a {@link ValidationSchema} bound to a {@link ValidationMetrics} counts every run and
+ * failure per rule and per field, along with the resolution of the rules, and that the same schema
+ * without metrics records nothing.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class ValidationMetricsTest {
+	@Test
+	public void withMetrics_countsEveryRuleAndField() {
+		ValidationSchema schema = ValidationSchema.compile(rules());
+		ValidationMetrics metrics = new ValidationMetrics();
+		ValidationSchema measured = schema.withMetrics(metrics);
+
+		assertSame(metrics, measured.getMetrics());
+		assertNull(schema.getMetrics());
+
+		// The weight fails both Numeric and Min, which does not stop the other rules.
+		for (int i = 0; i < 3; i++)
+			assertTrue(measured.bind(values("abc", "175")).fails());
+
+		ValidationMetrics.Snapshot snapshot = metrics.snapshot();
+		assertStats(snapshot.getRules(), "Required", 6, 0);
+		assertStats(snapshot.getRules(), "Numeric", 6, 3);
+		assertStats(snapshot.getRules(), "Min", 3, 3);
+		assertStats(snapshot.getFields(), "weight", 3, 3);
+		assertStats(snapshot.getFields(), "height", 3, 0);
+
+		// Every rule of the defaults is stateless; thus, none was resolved while validating.
+		assertStats(snapshot.getResolutions(), "Required", 0, 0);
+		assertStats(snapshot.getResolutions(), "Min", 0, 0);
+
+		for (ValidationMetrics.Stats stats : snapshot.getRules().values())
+			assertHistogram(stats);
+	}
+
+	@Test
+	public void withMetrics_leavesTheOriginalSchemaAlone() {
+		ValidationSchema schema = ValidationSchema.compile(rules());
+		ValidationMetrics metrics = new ValidationMetrics();
+		schema.withMetrics(metrics).bind(values("70", "175")).fails();
+
+		String before = metrics.dump();
+		for (int i = 0; i < 3; i++)
+			schema.bind(values("abc", "")).fails();
+
+		assertEquals(before, metrics.dump());
+		assertStats(metrics.snapshot().getRules(), "Required", 2, 0);
+		assertStats(metrics.snapshot().getFields(), "weight", 1, 0);
+	}
+
+	@Test
+	public void compile_recordsTheResolutionOfEveryRule() {
+		RuleRegistry registry = RuleRegistry.withDefaults()
+				// Without a stateless counterpart; thus, it is created again on every validation.
+				.register("Legacy", (key, value, message, validatorValues) -> new PredicateRule(key, value, message, validatorValues, (v, p) -> false))
+				.freeze();
+		Map<String, String[]> rules = rules();
+		rules.put("age", new String[] {"Numeric", "Legacy"});
+
+		ValidationMetrics metrics = new ValidationMetrics();
+		ValidationSchema schema = ValidationSchema.compile(rules, null, registry, metrics);
+
+		ValidationMetrics.Snapshot compiled = metrics.snapshot();
+		assertStats(compiled.getResolutions(), "Required", 2, 0);
+		assertStats(compiled.getResolutions(), "Numeric", 3, 0);
+		assertStats(compiled.getResolutions(), "Min", 1, 0);
+		assertStats(compiled.getResolutions(), "Legacy", 1, 0);
+		assertSame(metrics, schema.getMetrics());
+		assertStats(compiled.getRules(), "Legacy", 0, 0);
+
+		Map<String, Object> values = values("70", "175");
+		values.put("age", "30");
+		schema.bind(values).fails();
+		schema.bind(values).fails();
+
+		ValidationMetrics.Snapshot validated = metrics.snapshot();
+		assertStats(validated.getResolutions(), "Legacy", 3, 0);
+		assertStats(validated.getResolutions(), "Numeric", 3, 0);
+		assertStats(validated.getRules(), "Legacy", 2, 2);
+		assertStats(validated.getFields(), "age", 2, 2);
+		assertHistogram(validated.getResolutions().get("Legacy"));
+
+		metrics.reset();
+		assertStats(metrics.snapshot().getRules(), "Legacy", 0, 0);
+		assertStats(metrics.snapshot().getResolutions(), "Required", 0, 0);
+	}
+
+	private static Map<String, String[]> rules() {
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		rules.put("weight", new String[] {"Required", "Numeric", "Min:1"});
+		rules.put("height", new String[] {"Required", "Numeric"});
+
+		return rules;
+	}
+
+	private static Map<String, Object> values(String weight, String height) {
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put("weight", weight);
+		values.put("height", height);
+
+		return values;
+	}
+
+	private static void assertStats(Map<String, ValidationMetrics.Stats> stats, String name, long invocations, long failures) {
+		ValidationMetrics.Stats value = stats.get(name);
+
+		assertEquals(name + " invocations", invocations, value.getInvocations());
+		assertEquals(name + " failures", failures, value.getFailures());
+	}
+
+	/**
+	 * Checks that the histogram of the latencies holds every run.
+	 */
+	private static void assertHistogram(ValidationMetrics.Stats stats) {
+		long runs = 0;
+		for (long bucket : stats.getBuckets())
+			runs += bucket;
+
+		assertEquals(stats.getInvocations(), runs);
+		assertTrue(stats.getMaxNanos() <= stats.getTotalNanos());
+		assertTrue(stats.getPercentileNanos(0.99) <= stats.getMaxNanos());
+	}
+}
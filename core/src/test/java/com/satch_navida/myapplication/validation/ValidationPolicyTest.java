@@ -0,0 +1,146 @@
+package com.satch_navida.myapplication.validation;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests how much of the rules each {@link ValidationPolicy} runs once a rule failed, and that the
+ * cheaper rules of a field are run first while their messages are still in the declared order.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class ValidationPolicyTest {
+	@Test
+	public void full_reportsEveryFailure() {
+		Validator validator = schema().bind(values("abc", "", "abc")).policy(ValidationPolicy.FULL);
+
+		assertTrue(validator.fails());
+		assertEquals(Arrays.asList("The weight should be a number.", "The weight should be at least 1."), validator.get("weight"));
+		assertEquals(RuleStatus.FAILED, validator.status("weight", "Min"));
+		assertArrayEquals(new String[] {"weight", "height", "age"}, validator.invalidFields());
+	}
+
+	@Test
+	public void bail_reportsOneFailurePerField() {
+		Validator validator = schema().bind(values("abc", "", "abc")).policy(ValidationPolicy.BAIL);
+
+		assertTrue(validator.fails());
+		// Every field is still validated.
+		assertArrayEquals(new String[] {"weight", "height", "age"}, validator.invalidFields());
+
+		for (String field : new String[] {"weight", "height", "age"})
+			assertEquals(field, 1, validator.get(field).size());
+
+		assertEquals("The weight should be a number.", validator.first("weight"));
+		assertEquals(RuleStatus.FAILED, validator.status("weight", "Numeric"));
+		assertEquals(RuleStatus.NOT_EVALUATED, validator.status("weight", "Min"));
+		assertEquals("The height is required.", validator.first("height"));
+		assertEquals(RuleStatus.NOT_EVALUATED, validator.status("height", "Numeric"));
+	}
+
+	@Test
+	public void failFast_leavesTheLaterFieldsNotEvaluated() {
+		Validator validator = schema().bind(values("abc", "", "abc")).policy(ValidationPolicy.FAIL_FAST);
+
+		assertTrue(validator.fails());
+		assertArrayEquals(new String[] {"weight"}, validator.invalidFields());
+		assertEquals(1, validator.get("weight").size());
+
+		for (String rule : new String[] {"Required", "Numeric", "Between"})
+			assertEquals(rule, RuleStatus.NOT_EVALUATED, validator.status("height", rule));
+		assertEquals(RuleStatus.NOT_EVALUATED, validator.status("age", "Numeric"));
+
+		List<String> notEvaluated = Arrays.asList(validator.notEvaluated());
+		assertTrue(notEvaluated.toString(), notEvaluated.containsAll(Arrays.asList(
+				"weight.Min", "height.Required", "height.Numeric", "height.Between", "age.Numeric"
+		)));
+	}
+
+	@Test
+	public void failFast_runsEverythingWhenNothingFails() {
+		Validator validator = schema().bind(values("70", "175", "30")).policy(ValidationPolicy.FAIL_FAST);
+
+		assertFalse(validator.fails());
+		assertArrayEquals(new String[0], validator.notEvaluated());
+		assertEquals(RuleStatus.PASSED, validator.status("age", "Numeric"));
+	}
+
+	@Test
+	public void evaluate_runsTheCheaperRuleFirst() {
+		List<String> run = new ArrayList<String>();
+		RuleRegistry registry = RuleRegistry.withDefaults()
+				.register("Moderate", (value, validatorValues) -> {
+					run.add("Moderate");
+					return false;
+				}, "The :key is not moderate.")
+				.freeze();
+
+		// The moderate rule is declared ahead of the cheap Required.
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		rules.put("weight", new String[] {"Moderate", "Required"});
+		ValidationSchema schema = ValidationSchema.compile(rules, null, registry);
+
+		// Stopping at the first failure shows which rule ran first.
+		Validator bail = schema.bind(values("", null, null)).policy(ValidationPolicy.BAIL);
+		assertTrue(bail.fails());
+		assertEquals(RuleStatus.FAILED, bail.status("weight", "Required"));
+		assertEquals(RuleStatus.NOT_EVALUATED, bail.status("weight", "Moderate"));
+		assertTrue(run.isEmpty());
+
+		// Once both are run, their messages are still in the declared order.
+		Validator full = schema.bind(values("", null, null));
+		assertTrue(full.fails());
+		assertEquals(Arrays.asList("Moderate"), run);
+		assertEquals(RuleStatus.FAILED, full.status("weight", "Moderate"));
+		assertEquals(RuleStatus.FAILED, full.status("weight", "Required"));
+		assertArrayEquals(
+				new String[] {"Moderate", "Required"},
+				full.errors().get("weight").keySet().toArray(new String[0])
+		);
+		assertEquals("The weight is not moderate.", full.first("weight"));
+	}
+
+	/**
+	 * Compiles a schema of three fields, each failing more than a single rule on a bad value.
+	 */
+	private static ValidationSchema schema() {
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		rules.put("weight", new String[] {"Required", "Numeric", "Min:1"});
+		rules.put("height", new String[] {"Required", "Numeric", "Between:30:275"});
+		rules.put("age", new String[] {"Numeric", "Min:1"});
+
+		Map<String, String> messages = new HashMap<String, String>();
+		messages.put("weight.Numeric", "The weight should be a number.");
+		messages.put("weight.Min", "The weight should be at least 1.");
+		messages.put("height.Required", "The height is required.");
+
+		return ValidationSchema.compile(rules, messages);
+	}
+
+	/**
+	 * Maps the given values to the fields of the {@link #schema()}, leaving out the {@code null} ones.
+	 */
+	private static Map<String, Object> values(String weight, String height, String age) {
+		Map<String, Object> values = new HashMap<String, Object>();
+		if (weight != null)
+			values.put("weight", weight);
+		if (height != null)
+			values.put("height", height);
+		if (age != null)
+			values.put("age", age);
+
+		return values;
+	}
+}
@@ -0,0 +1,107 @@
+package com.satch_navida.myapplication.validation.rules;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that {@link NumberScanner} agrees with {@link Double#parseDouble(String)} on every number it
+ * accepts, and rejects the inputs outside of its format.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class NumberScannerTest {
+	/**
+	 * Inputs that must parse to exactly the same value as the JDK.
+	 */
+	private static final String[] NUMBERS = {
+			// Plain
+			"0", "1", "42", "007", "65.5", "170.25", "0.1", "0.3", "123456789",
+			// Whitespace
+			" 1", "1 ", "\t70.5\n", "  -3  ",
+			// Sign
+			"+1", "-1", "-0", "+0", "-0.0", "-65.5",
+			// Missing integer or fractional part
+			".5", "5.", "-.5", "+5.", "0.", ".0",
+			// Exponents
+			"1e3", "1E3", "1e+3", "1e-3", "2.5e-7", "-1.5E10", "5.e2", ".5e1", "1e22", "1e23", "9007199254740993e-5",
+			"1e-22", "1e-23", "4.9e-324", "1e-400", "2.2250738585072014E-308",
+			// More than 18 digits
+			"1234567890123456789", "12345678901234567890123", "0.12345678901234567890123",
+			"9007199254740993", "9007199254740992.5", "1.0000000000000000000000001",
+			"100000000000000000000000000000", "0.000000000000000000000000000012345",
+			"000000000000000000000000001.5",
+			// Overflow
+			"1e400", "-1e400", "1e99999999", "1e-99999999", "179769313486231580793728971405303415079934132710037826936173778980444968292764750946649017977587207096330286416692887910946555547851940402630657488671505820681908902000708383676273854845817711531764475730270069855571366959622842914819860834936475292719074168444365510704342711559699508093042880177904174497791.9"
+	};
+
+	/**
+	 * Inputs outside of the accepted format, including some that the JDK does accept.
+	 */
+	private static final String[] INVALID = {
+			"", " ", "-", "+", ".", "-.", "e5", ".e5", "1e", "1e+", "1e-", "1.2.3", "--1", "+-1", "1-",
+			"abc", "1a", "a1", "1 2", "1,5", "0x1p3", "0x10", "NaN", "-NaN", "Infinity", "-Infinity",
+			"1d", "1f", "1.5D", "2F", "1e5.5", "1ee5", "\u0661\u0662"
+	};
+
+	@Test
+	public void parse_agreesWithJdk() {
+		for (String number : NUMBERS)
+			assertAgrees(number);
+	}
+
+	@Test
+	public void parse_rejectsInvalidInput() {
+		for (String text : INVALID) {
+			assertTrue("\"" + text + "\" should not be a number", Double.isNaN(NumberScanner.parse(text)));
+			assertTrue("\"" + text + "\" should not be a number", !NumberScanner.isNumber(text));
+		}
+	}
+
+	@Test
+	public void parse_readsCharSequenceRange() {
+		StringBuilder text = new StringBuilder(" 65.5 ");
+
+		assertEquals(65.5, NumberScanner.parse(text), 0);
+	}
+
+	@Test
+	public void parse_agreesWithJdkOnRandomNumbers() {
+		Random random = new Random(42);
+
+		for (int i = 0; i < 200_000; i++) {
+			StringBuilder text = new StringBuilder();
+
+			if (random.nextInt(4) == 0)
+				text.append(random.nextBoolean() ? '-' : '+');
+
+			int integer = random.nextInt(22);
+			for (int d = 0; d < integer; d++)
+				text.append((char) ('0' + random.nextInt(10)));
+
+			if (random.nextBoolean() || integer == 0) {
+				text.append('.');
+
+				int fraction = integer == 0 ? 1 + random.nextInt(22) : random.nextInt(22);
+				for (int d = 0; d < fraction; d++)
+					text.append((char) ('0' + random.nextInt(10)));
+			}
+
+			if (random.nextInt(3) == 0)
+				text.append('e').append(random.nextInt(700) - 350);
+
+			assertAgrees(text.toString());
+		}
+	}
+
+	private static void assertAgrees(String text) {
+		double expected = Double.parseDouble(text);
+		double actual = NumberScanner.parse(text);
+
+		assertEquals("\"" + text + "\"", Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+	}
+}